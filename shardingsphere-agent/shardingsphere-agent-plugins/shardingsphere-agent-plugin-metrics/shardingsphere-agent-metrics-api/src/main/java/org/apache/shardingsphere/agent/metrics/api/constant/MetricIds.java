@@ -49,6 +49,10 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String STORAGE_NODE_BULKHEAD_INFO = "storage_node_bulkhead_info";
+    
+    public static final String SQL_FINGERPRINT_INFO = "sql_fingerprint_info";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
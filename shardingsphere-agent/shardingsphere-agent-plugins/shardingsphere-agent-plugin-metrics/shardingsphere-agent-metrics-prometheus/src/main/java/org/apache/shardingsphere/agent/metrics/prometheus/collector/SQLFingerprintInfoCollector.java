@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprintRegistry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL fingerprint information collector.
+ */
+public final class SQLFingerprintInfoCollector extends Collector {
+    
+    private static final String LOOKUP_COUNT = "lookup_count";
+    
+    private static final String HIT_COUNT = "hit_count";
+    
+    private static final String HIT_RATIO = "hit_ratio";
+    
+    private static final String SAVED_PARSE_MILLIS = "saved_parse_millis";
+    
+    private static final String FINGERPRINT_REGISTRY_CLASS = "org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprintRegistry";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        if (!MetricsUtil.isClassExisted(FINGERPRINT_REGISTRY_CLASS)) {
+            return Collections.emptyList();
+        }
+        Optional<GaugeMetricFamily> fingerprintInfo = FACTORY.createGaugeMetricFamily(MetricIds.SQL_FINGERPRINT_INFO);
+        if (!fingerprintInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        long lookupCount = SQLFingerprintRegistry.getLookupCount();
+        long hitCount = SQLFingerprintRegistry.getHitCount();
+        fingerprintInfo.get().addMetric(Collections.singletonList(LOOKUP_COUNT), lookupCount);
+        fingerprintInfo.get().addMetric(Collections.singletonList(HIT_COUNT), hitCount);
+        fingerprintInfo.get().addMetric(Collections.singletonList(HIT_RATIO), 0 == lookupCount ? 0D : (double) hitCount / lookupCount);
+        fingerprintInfo.get().addMetric(Collections.singletonList(SAVED_PARSE_MILLIS), TimeUnit.NANOSECONDS.toMillis(SQLFingerprintRegistry.getSavedParseNanos()));
+        return Collections.singletonList(fingerprintInfo.get());
+    }
+}
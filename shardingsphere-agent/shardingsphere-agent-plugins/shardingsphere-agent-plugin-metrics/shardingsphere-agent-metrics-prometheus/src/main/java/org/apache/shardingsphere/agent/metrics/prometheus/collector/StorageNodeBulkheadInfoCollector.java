@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkhead;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkheadRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage node bulkhead information collector.
+ */
+public final class StorageNodeBulkheadInfoCollector extends Collector {
+    
+    private static final String MAX_CONCURRENCY = "max_concurrency";
+    
+    private static final String ACTIVE_COUNT = "active_count";
+    
+    private static final String WAITING_COUNT = "waiting_count";
+    
+    private static final String REJECTED_COUNT = "rejected_count";
+    
+    private static final String BULKHEAD_REGISTRY_CLASS = "org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkheadRegistry";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        if (!MetricsUtil.isClassExisted(BULKHEAD_REGISTRY_CLASS)) {
+            return Collections.emptyList();
+        }
+        Optional<GaugeMetricFamily> bulkheadInfo = FACTORY.createGaugeMetricFamily(MetricIds.STORAGE_NODE_BULKHEAD_INFO);
+        if (!bulkheadInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        for (StorageNodeBulkhead each : StorageNodeBulkheadRegistry.getAllBulkheads()) {
+            bulkheadInfo.get().addMetric(Arrays.asList(each.getStorageNode(), MAX_CONCURRENCY), each.getMaxConcurrency());
+            bulkheadInfo.get().addMetric(Arrays.asList(each.getStorageNode(), ACTIVE_COUNT), each.getActiveCount());
+            bulkheadInfo.get().addMetric(Arrays.asList(each.getStorageNode(), WAITING_COUNT), each.getWaitingCount());
+            bulkheadInfo.get().addMetric(Arrays.asList(each.getStorageNode(), REJECTED_COUNT), each.getRejectedCount());
+        }
+        return Collections.singletonList(bulkheadInfo.get());
+    }
+}
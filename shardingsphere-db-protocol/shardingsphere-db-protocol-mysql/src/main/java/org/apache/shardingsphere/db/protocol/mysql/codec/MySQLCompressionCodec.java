@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageCodec;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed packet codec for MySQL, which is added before packet codec once {@code CLIENT_COMPRESS} is negotiated.
+ * 
+ * <p>Payload of compressed packet is one or more MySQL packets, it is deflated with zlib if it is not shorter than the minimum compress length,
+ * and sent as it is if deflated payload does not get shorter.</p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-packet-header.html">Compressed Packet Header</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressionCodec extends ByteToMessageCodec<ByteBuf> {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private final int minCompressLength;
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final Inflater inflater = new Inflater();
+    
+    private int sequenceId;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) throws DataFormatException {
+        if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+        }
+        in.markReaderIndex();
+        int compressedLength = in.readUnsignedMediumLE();
+        int compressedSequenceId = in.readUnsignedByte();
+        int uncompressedLength = in.readUnsignedMediumLE();
+        if (in.readableBytes() < compressedLength) {
+            in.resetReaderIndex();
+            return;
+        }
+        sequenceId = compressedSequenceId + 1;
+        out.add(0 == uncompressedLength ? in.readRetainedSlice(compressedLength) : inflate(in, compressedLength, uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ByteBuf in, final int compressedLength, final int uncompressedLength) throws DataFormatException {
+        byte[] input = new byte[compressedLength];
+        in.readBytes(input);
+        byte[] result = new byte[uncompressedLength];
+        inflater.reset();
+        inflater.setInput(input);
+        int length = 0;
+        while (length < uncompressedLength && !inflater.finished()) {
+            int inflatedLength = inflater.inflate(result, length, uncompressedLength - length);
+            if (0 == inflatedLength && (inflater.needsInput() || inflater.needsDictionary())) {
+                break;
+            }
+            length += inflatedLength;
+        }
+        if (length != uncompressedLength) {
+            throw new DataFormatException(String.format("Compressed packet is inflated to %d bytes, but %d bytes expected", length, uncompressedLength));
+        }
+        return Unpooled.wrappedBuffer(result);
+    }
+    
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext context, final ByteBuf message, final boolean preferDirect) {
+        int length = message.readableBytes();
+        return context.alloc().heapBuffer(length + HEADER_LENGTH * (length / MAX_PAYLOAD_LENGTH + 1));
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext context, final ByteBuf message, final ByteBuf out) {
+        while (message.isReadable()) {
+            encodePayload(message.readSlice(Math.min(message.readableBytes(), MAX_PAYLOAD_LENGTH)), out);
+        }
+    }
+    
+    private void encodePayload(final ByteBuf payload, final ByteBuf out) {
+        int length = payload.readableBytes();
+        out.ensureWritable(HEADER_LENGTH + length);
+        if (length >= minCompressLength) {
+            int deflatedLength = deflate(payload, out.array(), out.arrayOffset() + out.writerIndex() + HEADER_LENGTH, length);
+            if (deflatedLength < length) {
+                writeHeader(out, deflatedLength, length);
+                out.writerIndex(out.writerIndex() + deflatedLength);
+                return;
+            }
+        }
+        writeHeader(out, length, 0);
+        out.writeBytes(payload);
+    }
+    
+    private int deflate(final ByteBuf payload, final byte[] output, final int offset, final int maxLength) {
+        deflater.reset();
+        deflater.setInput(ByteBufUtil.getBytes(payload));
+        deflater.finish();
+        int result = 0;
+        while (!deflater.finished() && result < maxLength) {
+            result += deflater.deflate(output, offset + result, maxLength - result);
+        }
+        return deflater.finished() ? result : maxLength;
+    }
+    
+    private void writeHeader(final ByteBuf out, final int compressedLength, final int uncompressedLength) {
+        out.writeMediumLE(compressedLength);
+        out.writeByte(sequenceId++);
+        out.writeMediumLE(uncompressedLength);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        try {
+            super.handlerRemoved(context);
+        } finally {
+            deflater.end();
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Batch encoder for MySQL packets.
+ * 
+ * <p>Consecutive packets are encoded with their headers into one pooled buffer, which is written to channel as a whole instead of one buffer per packet.
+ * Packet which can not be encoded is replaced by an error packet, as {@link MySQLPacketCodecEngine} does.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLPacketBatchEncoder {
+    
+    private static final int PAYLOAD_LENGTH = 3;
+    
+    private static final int SEQUENCE_LENGTH = 1;
+    
+    private final ByteBufAllocator allocator;
+    
+    private final Charset charset;
+    
+    private final int batchSize;
+    
+    private ByteBuf buffer;
+    
+    private MySQLPacketPayload payload;
+    
+    private int packetStartIndex;
+    
+    /**
+     * Begin packet.
+     * 
+     * @return payload to write packet body
+     */
+    public MySQLPacketPayload beginPacket() {
+        if (null == buffer) {
+            buffer = allocator.ioBuffer(batchSize + batchSize / 4);
+            payload = new MySQLPacketPayload(buffer, charset);
+        }
+        packetStartIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+        return payload;
+    }
+    
+    /**
+     * End packet.
+     * 
+     * @param sequenceId sequence ID of packet
+     */
+    public void endPacket(final int sequenceId) {
+        buffer.setMediumLE(packetStartIndex, buffer.writerIndex() - packetStartIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
+        buffer.setByte(packetStartIndex + PAYLOAD_LENGTH, sequenceId);
+    }
+    
+    /**
+     * Encode packet.
+     * 
+     * @param packet packet to be encoded
+     */
+    public void encode(final MySQLPacket packet) {
+        MySQLPacketPayload payload = beginPacket();
+        try {
+            packet.write(payload);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            replaceWithErrPacket(ex);
+        } finally {
+            endPacket(packet.getSequenceId());
+        }
+    }
+    
+    /**
+     * Replace body of current packet with error packet.
+     * 
+     * @param cause cause of current packet can not be encoded
+     */
+    public void replaceWithErrPacket(final Exception cause) {
+        buffer.writerIndex(packetStartIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH);
+        new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, cause.getMessage()).write(payload);
+    }
+    
+    /**
+     * Judge whether encoded packets reach batch size.
+     * 
+     * @return encoded packets reach batch size or not
+     */
+    public boolean isFull() {
+        return null != buffer && buffer.readableBytes() >= batchSize;
+    }
+    
+    /**
+     * Judge whether there is no encoded packet.
+     * 
+     * @return there is no encoded packet or not
+     */
+    public boolean isEmpty() {
+        return null == buffer || 0 == buffer.readableBytes();
+    }
+    
+    /**
+     * Take encoded packets, ownership of the returned buffer is transferred to caller.
+     * 
+     * @return buffer of encoded packets
+     */
+    public ByteBuf take() {
+        ByteBuf result = buffer;
+        buffer = null;
+        payload = null;
+        return result;
+    }
+    
+    /**
+     * Release buffer of packets which are not taken.
+     */
+    public void release() {
+        if (null != buffer) {
+            buffer.release();
+            buffer = null;
+            payload = null;
+        }
+    }
+}
@@ -77,7 +77,11 @@ public enum MySQLCapabilityFlag {
     
     CLIENT_SESSION_TRACK(0x00800000),
     
-    CLIENT_DEPRECATE_EOF(0x01000000);
+    CLIENT_DEPRECATE_EOF(0x01000000),
+    
+    CLIENT_OPTIONAL_RESULTSET_METADATA(0x02000000),
+    
+    CLIENT_ZSTD_COMPRESSION_ALGORITHM(0x04000000);
     
     private final int value;
     
@@ -87,7 +91,7 @@ public enum MySQLCapabilityFlag {
      * @return handshake capability flags lower bit
      */
     public static int calculateHandshakeCapabilityFlagsLower() {
-        return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_FOUND_ROWS, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_ODBC, CLIENT_IGNORE_SPACE,
+        return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_FOUND_ROWS, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_COMPRESS, CLIENT_ODBC, CLIENT_IGNORE_SPACE,
                 CLIENT_PROTOCOL_41, CLIENT_INTERACTIVE, CLIENT_IGNORE_SIGPIPE, CLIENT_TRANSACTIONS, CLIENT_SECURE_CONNECTION) & 0x0000ffff;
     }
     
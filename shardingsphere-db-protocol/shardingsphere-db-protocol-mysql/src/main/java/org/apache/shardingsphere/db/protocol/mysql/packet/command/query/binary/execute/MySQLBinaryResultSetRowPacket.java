@@ -22,9 +22,12 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.List;
+
 /**
  * Binary result set row packet for MySQL.
  * 
@@ -75,4 +78,33 @@ public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
             }
         }
     }
+    
+    /**
+     * Write binary row with binary protocol values resolved by column index.
+     *
+     * @param payload packet payload
+     * @param protocolValues binary protocol values of columns, only required for columns whose value is not null
+     * @param values values of columns
+     */
+    public static void writeRow(final MySQLPacketPayload payload, final MySQLBinaryProtocolValue[] protocolValues, final List<Object> values) {
+        payload.writeInt1(PACKET_HEADER);
+        MySQLNullBitmap nullBitmap = new MySQLNullBitmap(values.size(), NULL_BITMAP_OFFSET);
+        int index = 0;
+        for (Object each : values) {
+            if (null == each) {
+                nullBitmap.setNullBit(index);
+            }
+            index++;
+        }
+        for (int each : nullBitmap.getNullBitmap()) {
+            payload.writeInt1(each);
+        }
+        index = 0;
+        for (Object each : values) {
+            if (null != each) {
+                protocolValues[index].write(payload, each);
+            }
+            index++;
+        }
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressionCodecTest {
+    
+    @Test
+    public void assertEncodeAndDecodeCompressedPayload() {
+        byte[] expected = new byte[1000];
+        Arrays.fill(expected, (byte) 'a');
+        EmbeddedChannel server = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        server.writeOutbound(Unpooled.wrappedBuffer(expected));
+        ByteBuf compressedPacket = server.readOutbound();
+        int compressedLength = compressedPacket.getUnsignedMediumLE(0);
+        assertTrue(compressedLength < expected.length);
+        assertThat(compressedPacket.readableBytes(), is(7 + compressedLength));
+        assertThat(compressedPacket.getUnsignedByte(3), is((short) 0));
+        assertThat(compressedPacket.getUnsignedMediumLE(4), is(expected.length));
+        EmbeddedChannel client = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        client.writeInbound(compressedPacket);
+        ByteBuf actual = client.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(expected));
+        actual.release();
+    }
+    
+    @Test
+    public void assertEncodeShortPayloadUncompressed() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{5, 0, 0, 0, 0, 0, 0, 1, 0, 0, 1, 0}));
+        actual.release();
+    }
+    
+    @Test
+    public void assertSequenceIdFollowsDecodedPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{5, 0, 0, 3, 0, 0, 0, 1, 0, 0, 0, 0x0e}));
+        ByteBuf decoded = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(decoded), is(new byte[]{1, 0, 0, 0, 0x0e}));
+        decoded.release();
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{7, 0, 0, 1, 0, 0, 0, 2, 0, 0, 0}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.getUnsignedByte(3), is((short) 4));
+        actual.release();
+    }
+    
+    @Test
+    public void assertDecodeIncompletePacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{5, 0, 0, 0, 0, 0, 0, 1, 0}));
+        assertNull(channel.readInbound());
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{0, 0, 0x0e}));
+        ByteBuf actual = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{1, 0, 0, 0, 0x0e}));
+        actual.release();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLPacketBatchEncoderTest {
+    
+    @Test
+    public void assertEncode() {
+        MySQLPacketBatchEncoder batchEncoder = new MySQLPacketBatchEncoder(UnpooledByteBufAllocator.DEFAULT, StandardCharsets.UTF_8, 1024);
+        assertTrue(batchEncoder.isEmpty());
+        batchEncoder.encode(new MySQLTextResultSetRowPacket(1, Arrays.asList("foo", null)));
+        MySQLPacketPayload payload = batchEncoder.beginPacket();
+        MySQLTextResultSetRowPacket.writeValue(payload, "bar");
+        batchEncoder.endPacket(2);
+        assertFalse(batchEncoder.isEmpty());
+        assertFalse(batchEncoder.isFull());
+        ByteBuf actual = batchEncoder.take();
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{5, 0, 0, 1, 3, 'f', 'o', 'o', (byte) 0xfb, 4, 0, 0, 2, 3, 'b', 'a', 'r'}));
+        assertTrue(batchEncoder.isEmpty());
+        actual.release();
+    }
+    
+    @Test
+    public void assertIsFull() {
+        MySQLPacketBatchEncoder batchEncoder = new MySQLPacketBatchEncoder(UnpooledByteBufAllocator.DEFAULT, StandardCharsets.UTF_8, 8);
+        batchEncoder.encode(new MySQLTextResultSetRowPacket(1, Arrays.asList("foo", "bar")));
+        assertTrue(batchEncoder.isFull());
+        batchEncoder.release();
+        assertTrue(batchEncoder.isEmpty());
+    }
+    
+    @Test
+    public void assertEncodeOccursException() {
+        MySQLPacketBatchEncoder batchEncoder = new MySQLPacketBatchEncoder(UnpooledByteBufAllocator.DEFAULT, StandardCharsets.UTF_8, 1024);
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doThrow(new IllegalArgumentException("error")).when(packet).write(any(MySQLPacketPayload.class));
+        when(packet.getSequenceId()).thenReturn(2);
+        batchEncoder.encode(packet);
+        ByteBuf actual = batchEncoder.take();
+        ByteBuf expected = UnpooledByteBufAllocator.DEFAULT.buffer();
+        new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, "error").write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        assertThat(actual.getMediumLE(0), is(expected.readableBytes()));
+        assertThat(actual.getByte(3), is((byte) 2));
+        assertThat(ByteBufUtil.getBytes(actual, 4, actual.readableBytes() - 4), is(ByteBufUtil.getBytes(expected)));
+        actual.release();
+        expected.release();
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -48,4 +50,13 @@ public final class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    public void assertWriteRow() {
+        MySQLBinaryProtocolValue[] protocolValues = {MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.MYSQL_TYPE_STRING), null};
+        MySQLBinaryResultSetRowPacket.writeRow(payload, protocolValues, Arrays.asList("value", null));
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x08);
+        verify(payload).writeStringLenenc("value");
+    }
 }
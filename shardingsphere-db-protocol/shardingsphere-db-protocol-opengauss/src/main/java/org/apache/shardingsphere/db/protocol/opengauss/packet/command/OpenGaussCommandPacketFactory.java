@@ -24,6 +24,9 @@ import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.admin.PostgreSQLUnsupportedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
@@ -86,6 +89,12 @@ public final class OpenGaussCommandPacketFactory {
                 return new PostgreSQLComSyncPacket(payload);
             case CLOSE_COMMAND:
                 return new PostgreSQLComClosePacket(payload);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataPacket(payload);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDonePacket(payload);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailPacket(payload);
             case TERMINATE:
                 return new PostgreSQLComTerminationPacket(payload);
             default:
@@ -65,6 +65,8 @@ public enum PostgreSQLErrorCode {
     
     FEATURE_NOT_SUPPORTED("0A000", "feature_not_supported"),
     
+    QUERY_CANCELED("57014", "query_canceled"),
+    
     DUPLICATE_DATABASE("42P04", "Database '%s' already exists"),
     
     INVALID_AUTHORIZATION_SPECIFICATION("28000", "invalid_authorization_specification"),
@@ -81,6 +83,8 @@ public enum PostgreSQLErrorCode {
     
     UNDEFINED_COLUMN("42703", "undefined_column"),
     
+    UNDEFINED_TABLE("42P01", "undefined_table"),
+    
     SYSTEM_ERROR("58000", "system_error");
     
     private final String errorCode;
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+/**
+ * Copy done packet for PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyDonePacket implements PostgreSQLPacket {
+    
+    private static final byte[] VALUE = new byte[]{(byte) PostgreSQLMessagePacketType.COPY_COMPLETE.getValue(), 0, 0, 0, 4};
+    
+    private static final PostgreSQLCopyDonePacket INSTANCE = new PostgreSQLCopyDonePacket();
+    
+    /**
+     * Get instance of {@link PostgreSQLCopyDonePacket}.
+     *
+     * @return instance of {@link PostgreSQLCopyDonePacket}
+     */
+    public static PostgreSQLCopyDonePacket getInstance() {
+        return INSTANCE;
+    }
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(VALUE);
+    }
+}
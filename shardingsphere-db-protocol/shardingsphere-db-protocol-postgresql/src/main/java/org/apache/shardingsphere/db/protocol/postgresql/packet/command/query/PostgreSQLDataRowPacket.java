@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder.PostgreSQLColumnValueEncoder;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder.PostgreSQLDataRowEncodingPlan;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder.PostgreSQLTextColumnValueEncoder;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -27,22 +29,36 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
-import java.sql.SQLException;
-import java.sql.SQLXML;
 import java.util.Collection;
 
 /**
  * Data row packet for PostgreSQL.
  */
-@RequiredArgsConstructor
 @Getter
 public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket {
     
+    private static final PostgreSQLColumnValueEncoder TEXT_ENCODER = new PostgreSQLTextColumnValueEncoder();
+    
     private final Collection<Object> data;
     
+    private final PostgreSQLDataRowEncodingPlan encodingPlan;
+    
+    public PostgreSQLDataRowPacket(final Collection<Object> data) {
+        this(data, null);
+    }
+    
+    public PostgreSQLDataRowPacket(final Collection<Object> data, final PostgreSQLDataRowEncodingPlan encodingPlan) {
+        this.data = data;
+        this.encodingPlan = encodingPlan;
+    }
+    
     @Override
     public void write(final PostgreSQLPacketPayload payload) {
         payload.writeInt2(data.size());
+        if (null != encodingPlan) {
+            encodingPlan.write(payload, data);
+            return;
+        }
         for (Object each : data) {
             if (each instanceof BinaryCell) {
                 writeBinaryValue(payload, (BinaryCell) each);
@@ -66,25 +82,8 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
     private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
-        } else if (each instanceof byte[]) {
-            payload.writeInt4(((byte[]) each).length);
-            payload.writeBytes((byte[]) each);
-        } else if (each instanceof SQLXML) {
-            writeSQLXMLData(payload, each);
         } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
-        }
-    }
-    
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
-        try {
-            byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
-            payload.writeInt4(dataBytes.length);
-            payload.writeBytes(dataBytes);
-        } catch (final SQLException ex) {
-            throw new RuntimeException(ex.getMessage());
+            TEXT_ENCODER.write(payload, each);
         }
     }
     
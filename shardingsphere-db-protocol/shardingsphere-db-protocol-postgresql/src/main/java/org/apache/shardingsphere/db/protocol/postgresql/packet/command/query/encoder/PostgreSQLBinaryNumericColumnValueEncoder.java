@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLByteConverter;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLNumericBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.math.BigDecimal;
+
+/**
+ * Column value encoder for PostgreSQL binary format of numeric, which converts decimal to bytes only once.
+ */
+public final class PostgreSQLBinaryNumericColumnValueEncoder implements PostgreSQLColumnValueEncoder {
+    
+    private final PostgreSQLColumnValueEncoder binaryEncoder = new PostgreSQLBinaryColumnValueEncoder(new PostgreSQLNumericBinaryProtocolValue());
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload, final Object value) {
+        if (!(value instanceof BigDecimal)) {
+            binaryEncoder.write(payload, value);
+            return;
+        }
+        byte[] columnData = PostgreSQLByteConverter.numeric((BigDecimal) value);
+        payload.writeInt4(columnData.length);
+        payload.writeBytes(columnData);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Data row encoding plan for PostgreSQL.
+ * 
+ * <p>Column value encoders are resolved once by column types of row description and result formats, and reused by every data row of the result.</p>
+ */
+public final class PostgreSQLDataRowEncodingPlan {
+    
+    private static final PostgreSQLColumnValueEncoder TEXT_ENCODER = new PostgreSQLTextColumnValueEncoder();
+    
+    private static final PostgreSQLColumnValueEncoder TEXT_INTEGER_ENCODER = new PostgreSQLTextIntegerColumnValueEncoder();
+    
+    private static final PostgreSQLColumnValueEncoder TEXT_NUMERIC_ENCODER = new PostgreSQLTextNumericColumnValueEncoder();
+    
+    private static final PostgreSQLColumnValueEncoder TEXT_TIMESTAMP_ENCODER = new PostgreSQLTextTimestampColumnValueEncoder();
+    
+    private static final PostgreSQLColumnValueEncoder BINARY_NUMERIC_ENCODER = new PostgreSQLBinaryNumericColumnValueEncoder();
+    
+    private final PostgreSQLColumnValueEncoder[] encoders;
+    
+    public PostgreSQLDataRowEncodingPlan(final PostgreSQLRowDescriptionPacket rowDescription, final List<PostgreSQLValueFormat> resultFormats) {
+        encoders = new PostgreSQLColumnValueEncoder[rowDescription.getColumnDescriptions().size()];
+        int columnIndex = 0;
+        for (PostgreSQLColumnDescription each : rowDescription.getColumnDescriptions()) {
+            encoders[columnIndex] = PostgreSQLValueFormat.BINARY == determineValueFormat(resultFormats, columnIndex) ? createBinaryEncoder(each.getTypeOID()) : createTextEncoder(each.getTypeOID());
+            columnIndex++;
+        }
+    }
+    
+    private PostgreSQLValueFormat determineValueFormat(final List<PostgreSQLValueFormat> resultFormats, final int columnIndex) {
+        return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
+    }
+    
+    private PostgreSQLColumnValueEncoder createBinaryEncoder(final int typeOID) {
+        PostgreSQLColumnType columnType = PostgreSQLColumnType.valueOf(typeOID);
+        return PostgreSQLColumnType.POSTGRESQL_TYPE_NUMERIC == columnType
+                ? BINARY_NUMERIC_ENCODER
+                : new PostgreSQLBinaryColumnValueEncoder(PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnType));
+    }
+    
+    private PostgreSQLColumnValueEncoder createTextEncoder(final int typeOID) {
+        if (PostgreSQLColumnType.POSTGRESQL_TYPE_INT2.getValue() == typeOID || PostgreSQLColumnType.POSTGRESQL_TYPE_INT4.getValue() == typeOID
+                || PostgreSQLColumnType.POSTGRESQL_TYPE_INT8.getValue() == typeOID) {
+            return TEXT_INTEGER_ENCODER;
+        }
+        if (PostgreSQLColumnType.POSTGRESQL_TYPE_NUMERIC.getValue() == typeOID) {
+            return TEXT_NUMERIC_ENCODER;
+        }
+        if (PostgreSQLColumnType.POSTGRESQL_TYPE_TIMESTAMP.getValue() == typeOID) {
+            return TEXT_TIMESTAMP_ENCODER;
+        }
+        return TEXT_ENCODER;
+    }
+    
+    /**
+     * Write column values of data row.
+     *
+     * @param payload payload operation for PostgreSQL packet
+     * @param data column values of data row
+     */
+    public void write(final PostgreSQLPacketPayload payload, final Collection<Object> data) {
+        int columnIndex = 0;
+        for (Object each : data) {
+            if (null == each) {
+                payload.writeInt4(0xFFFFFFFF);
+            } else {
+                encoders[columnIndex].write(payload, each);
+            }
+            columnIndex++;
+        }
+    }
+}
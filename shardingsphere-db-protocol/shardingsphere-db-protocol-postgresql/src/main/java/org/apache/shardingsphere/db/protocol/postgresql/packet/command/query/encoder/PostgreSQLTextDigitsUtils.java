@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utils for writing numbers as ASCII digits of PostgreSQL text format.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLTextDigitsUtils {
+    
+    /**
+     * Reserve 4 bytes for length of value to be written.
+     *
+     * @param byteBuf byte buf
+     * @return index of reserved length
+     */
+    public static int reserveLength(final ByteBuf byteBuf) {
+        int result = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        return result;
+    }
+    
+    /**
+     * Fill length of value written after reserved length.
+     *
+     * @param byteBuf byte buf
+     * @param lengthIndex index of reserved length
+     */
+    public static void fillLength(final ByteBuf byteBuf, final int lengthIndex) {
+        byteBuf.setInt(lengthIndex, byteBuf.writerIndex() - lengthIndex - 4);
+    }
+    
+    /**
+     * Write long value as decimal digits.
+     *
+     * @param byteBuf byte buf
+     * @param value value to be written
+     */
+    public static void writeLong(final ByteBuf byteBuf, final long value) {
+        if (value < 0) {
+            byteBuf.writeByte('-');
+        }
+        writeNegative(byteBuf, value < 0 ? value : -value, 1);
+    }
+    
+    /**
+     * Write non-negative long value as decimal digits, left padded with zeros.
+     *
+     * @param byteBuf byte buf
+     * @param value non-negative value to be written
+     * @param minWidth minimum count of digits
+     */
+    public static void writePadded(final ByteBuf byteBuf, final long value, final int minWidth) {
+        writeNegative(byteBuf, -value, minWidth);
+    }
+    
+    private static void writeNegative(final ByteBuf byteBuf, final long negativeValue, final int minWidth) {
+        int length = Math.max(countDigits(negativeValue), minWidth);
+        byteBuf.ensureWritable(length);
+        int writerIndex = byteBuf.writerIndex();
+        long remaining = negativeValue;
+        for (int i = writerIndex + length - 1; i >= writerIndex; i--) {
+            byteBuf.setByte(i, '0' - (int) (remaining % 10));
+            remaining /= 10;
+        }
+        byteBuf.writerIndex(writerIndex + length);
+    }
+    
+    private static int countDigits(final long negativeValue) {
+        int result = 1;
+        for (long each = negativeValue; each <= -10; each /= 10) {
+            result++;
+        }
+        return result;
+    }
+}
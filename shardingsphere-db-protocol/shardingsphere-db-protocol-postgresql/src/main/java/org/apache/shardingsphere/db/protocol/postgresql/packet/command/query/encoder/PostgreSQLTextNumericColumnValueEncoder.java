@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.math.BigDecimal;
+
+/**
+ * Column value encoder for PostgreSQL text format of numeric.
+ * 
+ * <p>Decimal whose unscaled value fits in long and whose {@link BigDecimal#toString()} is in plain notation is written as digits directly,
+ * others are written by their string representation.</p>
+ */
+public final class PostgreSQLTextNumericColumnValueEncoder implements PostgreSQLColumnValueEncoder {
+    
+    private static final int MAX_COMPACT_PRECISION = 18;
+    
+    private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_PRECISION + 1];
+    
+    private final PostgreSQLColumnValueEncoder textEncoder = new PostgreSQLTextColumnValueEncoder();
+    
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload, final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeDecimal(payload.getByteBuf(), ((Number) value).longValue(), 0);
+            return;
+        }
+        if (!(value instanceof BigDecimal) || !isPlainCompact((BigDecimal) value)) {
+            textEncoder.write(payload, value);
+            return;
+        }
+        writeDecimal(payload.getByteBuf(), ((BigDecimal) value).unscaledValue().longValue(), ((BigDecimal) value).scale());
+    }
+    
+    private boolean isPlainCompact(final BigDecimal value) {
+        int scale = value.scale();
+        int precision = value.precision();
+        return scale >= 0 && scale <= MAX_COMPACT_PRECISION && precision <= MAX_COMPACT_PRECISION && precision - 1 - scale >= -6;
+    }
+    
+    private void writeDecimal(final ByteBuf byteBuf, final long unscaledValue, final int scale) {
+        int lengthIndex = PostgreSQLTextDigitsUtils.reserveLength(byteBuf);
+        if (0 == scale) {
+            PostgreSQLTextDigitsUtils.writeLong(byteBuf, unscaledValue);
+        } else {
+            if (unscaledValue < 0) {
+                byteBuf.writeByte('-');
+            }
+            long absoluteValue = Math.abs(unscaledValue);
+            PostgreSQLTextDigitsUtils.writeLong(byteBuf, absoluteValue / POWERS_OF_TEN[scale]);
+            byteBuf.writeByte('.');
+            PostgreSQLTextDigitsUtils.writePadded(byteBuf, absoluteValue % POWERS_OF_TEN[scale], scale);
+        }
+        PostgreSQLTextDigitsUtils.fillLength(byteBuf, lengthIndex);
+    }
+}
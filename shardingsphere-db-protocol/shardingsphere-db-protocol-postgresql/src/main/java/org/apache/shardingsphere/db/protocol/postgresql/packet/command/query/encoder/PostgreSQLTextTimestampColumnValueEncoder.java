@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Column value encoder for PostgreSQL text format of timestamp.
+ * 
+ * <p>Timestamp is written in the same format as {@link Timestamp#toString()}, timestamp before Gregorian calendar is written by its string representation.</p>
+ */
+public final class PostgreSQLTextTimestampColumnValueEncoder implements PostgreSQLColumnValueEncoder {
+    
+    private static final long MIN_GREGORIAN_MILLIS = -12212553600000L;
+    
+    private static final int NANOS_DIGITS = 9;
+    
+    private final PostgreSQLColumnValueEncoder textEncoder = new PostgreSQLTextColumnValueEncoder();
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload, final Object value) {
+        if (!(value instanceof Timestamp) || ((Timestamp) value).getTime() < MIN_GREGORIAN_MILLIS) {
+            textEncoder.write(payload, value);
+            return;
+        }
+        ByteBuf byteBuf = payload.getByteBuf();
+        int lengthIndex = PostgreSQLTextDigitsUtils.reserveLength(byteBuf);
+        writeDateTime(byteBuf, ((Timestamp) value).toLocalDateTime());
+        PostgreSQLTextDigitsUtils.fillLength(byteBuf, lengthIndex);
+    }
+    
+    private void writeDateTime(final ByteBuf byteBuf, final LocalDateTime dateTime) {
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, dateTime.getYear(), 4);
+        byteBuf.writeByte('-');
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, dateTime.getMonthValue(), 2);
+        byteBuf.writeByte('-');
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, dateTime.getDayOfMonth(), 2);
+        byteBuf.writeByte(' ');
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, dateTime.getHour(), 2);
+        byteBuf.writeByte(':');
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, dateTime.getMinute(), 2);
+        byteBuf.writeByte(':');
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, dateTime.getSecond(), 2);
+        byteBuf.writeByte('.');
+        writeNanos(byteBuf, dateTime.getNano());
+    }
+    
+    private void writeNanos(final ByteBuf byteBuf, final int nanos) {
+        if (0 == nanos) {
+            byteBuf.writeByte('0');
+            return;
+        }
+        int value = nanos;
+        int width = NANOS_DIGITS;
+        while (0 == value % 10) {
+            value /= 10;
+            width--;
+        }
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, value, width);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder.PostgreSQLDataRowEncodingPlan;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -35,6 +36,7 @@ import java.util.Collections;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -114,6 +116,15 @@ public final class PostgreSQLDataRowPacketTest {
         verify(payload).writeInt4(value);
     }
     
+    @Test
+    public void assertWriteWithEncodingPlan() {
+        PostgreSQLDataRowEncodingPlan encodingPlan = mock(PostgreSQLDataRowEncodingPlan.class);
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(1), encodingPlan);
+        actual.write(payload);
+        verify(payload).writeInt2(1);
+        verify(encodingPlan).write(payload, Collections.singletonList(1));
+    }
+    
     @Test
     public void assertGetIdentifier() {
         assertThat(new PostgreSQLDataRowPacket(Collections.emptyList()).getIdentifier(), is(PostgreSQLMessagePacketType.DATA_ROW));
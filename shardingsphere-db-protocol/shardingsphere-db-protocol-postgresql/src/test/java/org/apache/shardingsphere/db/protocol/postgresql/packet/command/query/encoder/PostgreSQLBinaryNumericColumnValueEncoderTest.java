@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLBinaryNumericColumnValueEncoderTest {
+    
+    @Test
+    public void assertWriteBigDecimal() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new PostgreSQLBinaryNumericColumnValueEncoder().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new BigDecimal("9999.9999"));
+        assertThat(byteBuf.readInt(), is(12));
+        assertThat(ByteBufUtil.getBytes(byteBuf), is(new byte[]{0, 2, 0, 0, 0, 0, 0, 4, 39, 15, 39, 15}));
+    }
+    
+    @Test
+    public void assertWriteOtherValue() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new PostgreSQLBinaryNumericColumnValueEncoder().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), "1.5");
+        assertThat(byteBuf.readInt(), is(3));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("1.5"));
+    }
+}
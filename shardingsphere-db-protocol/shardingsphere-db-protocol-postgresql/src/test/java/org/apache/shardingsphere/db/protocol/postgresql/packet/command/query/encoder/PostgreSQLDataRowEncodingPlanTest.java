@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLDataRowEncodingPlanTest {
+    
+    private final ByteBuf byteBuf = Unpooled.buffer();
+    
+    private final PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+    
+    @Test
+    public void assertWriteTextValues() {
+        PostgreSQLDataRowEncodingPlan plan = new PostgreSQLDataRowEncodingPlan(createRowDescription(), Collections.emptyList());
+        Timestamp timestamp = Timestamp.valueOf("2022-01-02 03:04:05.6");
+        plan.write(payload, Arrays.asList(1, new BigDecimal("1.50"), timestamp, "foo", null));
+        assertThat(readText(), is("1"));
+        assertThat(readText(), is("1.50"));
+        assertThat(readText(), is(timestamp.toString()));
+        assertThat(readText(), is("foo"));
+        assertThat(byteBuf.readInt(), is(0xFFFFFFFF));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    private String readText() {
+        return byteBuf.readCharSequence(byteBuf.readInt(), StandardCharsets.UTF_8).toString();
+    }
+    
+    @Test
+    public void assertWriteBinaryValues() {
+        PostgreSQLDataRowEncodingPlan plan = new PostgreSQLDataRowEncodingPlan(createRowDescription(), Collections.singletonList(PostgreSQLValueFormat.BINARY));
+        plan.write(payload, Arrays.asList(1, new BigDecimal("9999"), null, "foo", null));
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readInt(), is(10));
+        byteBuf.skipBytes(10);
+        assertThat(byteBuf.readInt(), is(0xFFFFFFFF));
+        assertThat(readText(), is("foo"));
+        assertThat(byteBuf.readInt(), is(0xFFFFFFFF));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    @Test
+    public void assertWriteMixedFormatValues() {
+        PostgreSQLDataRowEncodingPlan plan = new PostgreSQLDataRowEncodingPlan(createRowDescription(), Arrays.asList(PostgreSQLValueFormat.BINARY, PostgreSQLValueFormat.TEXT));
+        plan.write(payload, Arrays.asList(1, new BigDecimal("2"), null, null, null));
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(readText(), is("2"));
+    }
+    
+    private PostgreSQLRowDescriptionPacket createRowDescription() {
+        Collection<PostgreSQLColumnDescription> columnDescriptions = Arrays.asList(
+                new PostgreSQLColumnDescription("id", 1, Types.INTEGER, 4, "int4"),
+                new PostgreSQLColumnDescription("amount", 2, Types.NUMERIC, -1, "numeric"),
+                new PostgreSQLColumnDescription("created_at", 3, Types.TIMESTAMP, 8, "timestamp"),
+                new PostgreSQLColumnDescription("name", 4, Types.VARCHAR, -1, "varchar"),
+                new PostgreSQLColumnDescription("data", 5, Types.VARCHAR, -1, "varchar"));
+        return new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLTextColumnValueEncoderTest {
+    
+    private final ByteBuf byteBuf = Unpooled.buffer();
+    
+    private final PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+    
+    @Test
+    public void assertWriteBytes() {
+        new PostgreSQLTextColumnValueEncoder().write(payload, new byte[]{'a'});
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readByte(), is((byte) 'a'));
+    }
+    
+    @Test
+    public void assertWriteSQLXML() throws SQLException {
+        SQLXML sqlxml = mock(SQLXML.class);
+        when(sqlxml.getString()).thenReturn("<a/>");
+        new PostgreSQLTextColumnValueEncoder().write(payload, sqlxml);
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("<a/>"));
+    }
+    
+    @Test(expected = RuntimeException.class)
+    public void assertWriteSQLXMLWithError() throws SQLException {
+        SQLXML sqlxml = mock(SQLXML.class);
+        when(sqlxml.getString()).thenThrow(new SQLException("mock"));
+        new PostgreSQLTextColumnValueEncoder().write(payload, sqlxml);
+    }
+    
+    @Test
+    public void assertWriteString() {
+        new PostgreSQLTextColumnValueEncoder().write(payload, "数据");
+        assertThat(byteBuf.readInt(), is(6));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("数据"));
+    }
+}
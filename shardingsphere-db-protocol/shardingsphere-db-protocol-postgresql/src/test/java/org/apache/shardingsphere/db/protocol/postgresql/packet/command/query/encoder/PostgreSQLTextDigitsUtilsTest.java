@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLTextDigitsUtilsTest {
+    
+    @Test
+    public void assertWriteLong() {
+        assertThat(writeLong(0L), is("0"));
+        assertThat(writeLong(-10L), is("-10"));
+        assertThat(writeLong(Long.MAX_VALUE), is(String.valueOf(Long.MAX_VALUE)));
+        assertThat(writeLong(Long.MIN_VALUE), is(String.valueOf(Long.MIN_VALUE)));
+    }
+    
+    private String writeLong(final long value) {
+        ByteBuf byteBuf = Unpooled.buffer(1);
+        PostgreSQLTextDigitsUtils.writeLong(byteBuf, value);
+        return byteBuf.toString(StandardCharsets.US_ASCII);
+    }
+    
+    @Test
+    public void assertWritePadded() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, 7L, 3);
+        PostgreSQLTextDigitsUtils.writePadded(byteBuf, 12345L, 2);
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("00712345"));
+    }
+    
+    @Test
+    public void assertReserveAndFillLength() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeByte(1);
+        int lengthIndex = PostgreSQLTextDigitsUtils.reserveLength(byteBuf);
+        PostgreSQLTextDigitsUtils.writeLong(byteBuf, 123L);
+        PostgreSQLTextDigitsUtils.fillLength(byteBuf, lengthIndex);
+        assertThat(lengthIndex, is(1));
+        assertThat(byteBuf.getInt(lengthIndex), is(3));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLTextIntegerColumnValueEncoderTest {
+    
+    @Test
+    public void assertWriteIntegers() {
+        assertThat(write(0), is("0"));
+        assertThat(write((short) -32768), is("-32768"));
+        assertThat(write(Integer.MAX_VALUE), is("2147483647"));
+        assertThat(write(Long.MIN_VALUE), is("-9223372036854775808"));
+    }
+    
+    @Test
+    public void assertWriteOtherNumber() {
+        assertThat(write(new BigInteger("18446744073709551616")), is("18446744073709551616"));
+    }
+    
+    private String write(final Object value) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new PostgreSQLTextIntegerColumnValueEncoder().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), value);
+        assertThat(byteBuf.readInt(), is(byteBuf.readableBytes()));
+        return byteBuf.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class PostgreSQLTextNumericColumnValueEncoderTest {
+    
+    private final Object value;
+    
+    @Parameters(name = "{0}")
+    public static Iterable<Object[]> values() {
+        return Arrays.asList(
+                new Object[]{new BigDecimal("0")},
+                new Object[]{new BigDecimal("0.00")},
+                new Object[]{new BigDecimal("-0.0001")},
+                new Object[]{new BigDecimal("0.000001")},
+                new Object[]{new BigDecimal("0.0000001")},
+                new Object[]{new BigDecimal("9999.9999")},
+                new Object[]{new BigDecimal("-123456789012345.678")},
+                new Object[]{new BigDecimal("1E+3")},
+                new Object[]{new BigDecimal("12345678901234567890.12345")},
+                new Object[]{-42L},
+                new Object[]{1.5D});
+    }
+    
+    @Test
+    public void assertWrite() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new PostgreSQLTextNumericColumnValueEncoder().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), value);
+        assertThat(byteBuf.readInt(), is(byteBuf.readableBytes()));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is(value.toString()));
+    }
+}
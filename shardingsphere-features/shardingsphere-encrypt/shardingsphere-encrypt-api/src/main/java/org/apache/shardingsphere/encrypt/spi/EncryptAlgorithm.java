@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  * 
@@ -45,4 +48,34 @@ public interface EncryptAlgorithm<I, O> extends ShardingSphereAlgorithm {
      * @return plain value
      */
     I decrypt(O cipherValue, EncryptContext encryptContext);
+    
+    /**
+     * Encode in batch.
+     *
+     * @param plainValues plain values
+     * @param encryptContext encrypt context
+     * @return cipher values, in the same order as plain values
+     */
+    default List<O> batchEncrypt(List<I> plainValues, EncryptContext encryptContext) {
+        List<O> result = new ArrayList<>(plainValues.size());
+        for (I each : plainValues) {
+            result.add(encrypt(each, encryptContext));
+        }
+        return result;
+    }
+    
+    /**
+     * Decode in batch.
+     *
+     * @param cipherValues cipher values
+     * @param encryptContext encrypt context
+     * @return plain values, in the same order as cipher values
+     */
+    default List<I> batchDecrypt(List<O> cipherValues, EncryptContext encryptContext) {
+        List<I> result = new ArrayList<>(cipherValues.size());
+        for (O each : cipherValues) {
+            result.add(decrypt(each, encryptContext));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.spi.cipher;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+
+/**
+ * Thread local cipher context.
+ * 
+ * <p>Initialized ciphers are reused by the same thread, because {@link Cipher#doFinal(byte[])} resets cipher to the state after initialization.</p>
+ */
+@RequiredArgsConstructor
+public final class ThreadLocalCipherContext {
+    
+    private final CipherFactory cipherFactory;
+    
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
+    
+    /**
+     * Encrypt or decrypt data with cipher of current thread.
+     * 
+     * @param mode operation mode of cipher, {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param input input data
+     * @return output data
+     * @throws GeneralSecurityException general security exception
+     */
+    public byte[] doFinal(final int mode, final byte[] input) throws GeneralSecurityException {
+        ThreadLocal<Cipher> cipherHolder = Cipher.ENCRYPT_MODE == mode ? encryptCipher : decryptCipher;
+        Cipher cipher = cipherHolder.get();
+        if (null == cipher) {
+            cipher = cipherFactory.create(mode);
+            cipherHolder.set(cipher);
+        }
+        try {
+            return cipher.doFinal(input);
+            // CHECKSTYLE:OFF
+        } catch (final GeneralSecurityException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cipherHolder.remove();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Cipher factory.
+     */
+    @FunctionalInterface
+    public interface CipherFactory {
+        
+        /**
+         * Create initialized cipher.
+         * 
+         * @param mode operation mode of cipher
+         * @return initialized cipher
+         * @throws GeneralSecurityException general security exception
+         */
+        Cipher create(int mode) throws GeneralSecurityException;
+    }
+}
@@ -22,15 +22,13 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.cipher.ThreadLocalCipherContext;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Properties;
@@ -45,12 +43,13 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     @Getter
     private Properties props;
     
-    private byte[] secretKey;
+    private ThreadLocalCipherContext cipherContext;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
-        secretKey = createSecretKey(props);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(createSecretKey(props), getType());
+        cipherContext = new ThreadLocalCipherContext(mode -> createCipher(mode, secretKeySpec));
     }
     
     private byte[] createSecretKey(final Properties props) {
@@ -64,7 +63,7 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = cipherContext.doFinal(Cipher.ENCRYPT_MODE, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -74,13 +73,13 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue));
+        byte[] result = cipherContext.doFinal(Cipher.DECRYPT_MODE, Base64.getDecoder().decode(cipherValue));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    private Cipher createCipher(final int mode, final SecretKeySpec secretKeySpec) throws GeneralSecurityException {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(mode, secretKeySpec);
         return result;
     }
     
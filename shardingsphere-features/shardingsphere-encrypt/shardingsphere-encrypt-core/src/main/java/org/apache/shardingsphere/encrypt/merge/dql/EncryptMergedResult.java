@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,24 +39,32 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<ColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<ColumnDecryptor> columnDecryptor = columnDecryptors.computeIfAbsent(columnIndex, this::findColumnDecryptor);
+        if (!columnDecryptor.isPresent()) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        return null == cipherValue ? null : columnDecryptor.get().encryptAlgorithm.decrypt(cipherValue, columnDecryptor.get().encryptContext);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
         Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
         if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        return encryptAlgorithm.map(optional -> new ColumnDecryptor(optional, encryptContext.get()));
     }
     
     @Override
@@ -71,4 +81,18 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    @SuppressWarnings("rawtypes")
+    private static final class ColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptAlgorithm;
+        
+        private final EncryptContext encryptContext;
+    }
 }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.encrypt.rule.aware.EncryptRuleAware;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
@@ -33,7 +34,6 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
@@ -73,24 +73,50 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext,
-                                     final EncryptAlgorithm<?, ?> encryptAlgorithm, final EncryptAlgorithm<?, ?> assistEncryptAlgorithm, final EncryptContext encryptContext) {
+                                     final EncryptAlgorithm encryptAlgorithm, final EncryptAlgorithm assistEncryptAlgorithm, final EncryptContext encryptContext) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptContext.getColumnName());
+        List<Integer> groupIndexes = new ArrayList<>();
+        List<Object> originalValues = new ArrayList<>();
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
             if (!each.isEmpty()) {
-                StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    encryptInsertValue(
-                            encryptAlgorithm, assistEncryptAlgorithm, parameterIndex, insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex)
-                                    .orElseThrow(() -> new ShardingSphereException("Not support for encrypt!")),
-                            standardParameterBuilder, encryptContext);
+                InsertValueContext insertValueContext = insertStatementContext.getInsertValueContexts().get(count);
+                if (insertValueContext.getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                    groupIndexes.add(count);
+                    originalValues.add(insertValueContext.getValue(columnIndex).orElseThrow(() -> new ShardingSphereException("Not support for encrypt!")));
                 }
             }
             count++;
         }
+        if (originalValues.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = encryptAlgorithm.batchEncrypt(originalValues, encryptContext);
+        List<Object> assistedQueryValues = null;
+        if (null != assistEncryptAlgorithm) {
+            Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName());
+            Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
+            assistedQueryValues = assistEncryptAlgorithm.batchEncrypt(originalValues, encryptContext);
+        }
+        boolean plainColumnPresent = encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent();
+        for (int i = 0; i < groupIndexes.size(); i++) {
+            int groupIndex = groupIndexes.get(i);
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(groupIndex).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(groupIndex);
+            standardParameterBuilder.addReplacedParameters(parameterIndex, cipherValues.get(i));
+            Collection<Object> addedParameters = new LinkedList<>();
+            if (null != assistedQueryValues) {
+                addedParameters.add(assistedQueryValues.get(i));
+            }
+            if (plainColumnPresent) {
+                addedParameters.add(originalValues.get(i));
+            }
+            if (!addedParameters.isEmpty()) {
+                standardParameterBuilder.getAddedIndexAndParameters().computeIfAbsent(parameterIndex, key -> new LinkedList<>()).addAll(addedParameters);
+            }
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -103,25 +129,4 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
         return columnNames.indexOf(encryptLogicColumnName);
     }
-    
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final EncryptAlgorithm assistEncryptor, final int parameterIndex,
-                                    final Object originalValue, final StandardParameterBuilder parameterBuilder, final EncryptContext encryptContext) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue, encryptContext));
-        Collection<Object> addedParameters = new LinkedList<>();
-        if (null != assistEncryptor) {
-            Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName());
-            Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
-            addedParameters.add(assistEncryptor.encrypt(originalValue, encryptContext));
-        }
-        if (encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent()) {
-            addedParameters.add(originalValue);
-        }
-        if (!addedParameters.isEmpty()) {
-            if (!parameterBuilder.getAddedIndexAndParameters().containsKey(parameterIndex)) {
-                parameterBuilder.getAddedIndexAndParameters().put(parameterIndex, new LinkedList<>());
-            }
-            parameterBuilder.getAddedIndexAndParameters().get(parameterIndex).addAll(addedParameters);
-        }
-    }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -72,4 +73,15 @@ public final class AESEncryptAlgorithmTest {
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
     }
+    
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test"), mock(EncryptContext.class)), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA=="), mock(EncryptContext.class)),
+                is(Arrays.<Object>asList("test", null, "test")));
+    }
 }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -81,4 +82,14 @@ public final class RC4EncryptAlgorithmTest {
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
     }
+    
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test"), mock(EncryptContext.class)), is(Arrays.asList("4Tn7lQ==", null, "4Tn7lQ==")));
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("4Tn7lQ==", null, "4Tn7lQ=="), mock(EncryptContext.class)), is(Arrays.<Object>asList("test", null, "test")));
+    }
 }
@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.cipher.ThreadLocalCipherContext;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.pqc.math.linearalgebra.ByteUtils;
@@ -29,10 +30,10 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Security;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 
@@ -70,6 +71,8 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private String sm4ModePadding;
     
+    private ThreadLocalCipherContext cipherContext;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -78,6 +81,7 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key(props);
         sm4Iv = createSm4Iv(props, sm4Mode);
+        cipherContext = new ThreadLocalCipherContext(this::createCipher);
     }
     
     private String createSm4Mode(final Properties props) {
@@ -131,17 +135,20 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return handle(cipherValue, Cipher.DECRYPT_MODE);
     }
     
-    @SneakyThrows
+    @SneakyThrows(GeneralSecurityException.class)
     private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+        return cipherContext.doFinal(mode, input);
+    }
+    
+    private Cipher createCipher(final int mode) throws GeneralSecurityException {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
-        Optional<byte[]> sm4Iv = Optional.ofNullable(this.sm4Iv);
-        if (sm4Iv.isPresent()) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
+        if (null == sm4Iv) {
+            result.init(mode, secretKeySpec);
         } else {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv));
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     @Override
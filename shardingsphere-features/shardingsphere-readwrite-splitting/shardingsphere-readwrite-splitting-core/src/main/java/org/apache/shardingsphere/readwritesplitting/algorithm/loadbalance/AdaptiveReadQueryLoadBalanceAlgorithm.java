@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.transaction.TransactionHolder;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptive read query load-balance algorithm.
+ * 
+ * <p>Pick two random replicas and route to the one with lower load score,
+ * which is calculated by moving average response time and in flight executions.
+ * Replicas whose replication delay exceeds threshold are excluded unless all replicas exceed it.</p>
+ */
+public final class AdaptiveReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private static final String MAX_REPLICATION_DELAY_MILLISECONDS_KEY = "max-replication-delay-milliseconds";
+    
+    @Getter
+    private Properties props;
+    
+    private long maxReplicationDelayMilliseconds;
+    
+    @Setter
+    private volatile String databaseName;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxReplicationDelayMilliseconds = Long.parseLong(props.getProperty(MAX_REPLICATION_DELAY_MILLISECONDS_KEY, "0"));
+        ReplicaStatisticsRegistry.enable();
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        if (TransactionHolder.isTransaction()) {
+            return writeDataSourceName;
+        }
+        List<String> candidates = getCandidates(readDataSourceNames);
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(candidates.size());
+        int secondIndex = random.nextInt(candidates.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = candidates.get(firstIndex);
+        String second = candidates.get(secondIndex);
+        return getScore(first) <= getScore(second) ? first : second;
+    }
+    
+    private List<String> getCandidates(final List<String> readDataSourceNames) {
+        if (maxReplicationDelayMilliseconds <= 0L) {
+            return readDataSourceNames;
+        }
+        List<String> result = readDataSourceNames.stream().filter(each -> getReplicationDelayMilliseconds(each) <= maxReplicationDelayMilliseconds).collect(Collectors.toList());
+        return result.isEmpty() ? readDataSourceNames : result;
+    }
+    
+    private long getReplicationDelayMilliseconds(final String dataSourceName) {
+        return ReplicaStatisticsRegistry.findStatistics(databaseName, dataSourceName).map(ReplicaStatistics::getReplicationDelayMilliseconds).orElse(0L);
+    }
+    
+    private double getScore(final String dataSourceName) {
+        return ReplicaStatisticsRegistry.findStatistics(databaseName, dataSourceName).map(ReplicaStatistics::getScore).orElse(0D);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
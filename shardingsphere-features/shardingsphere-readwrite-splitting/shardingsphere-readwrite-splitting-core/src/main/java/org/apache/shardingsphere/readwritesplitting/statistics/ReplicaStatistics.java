@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of replica data source.
+ * 
+ * <p>Response time is tracked as exponentially weighted moving average of succeeded executions, so recent executions dominate the estimation.
+ * Failed executions are only counted, their elapsed time may be a fast connection error or a long timeout and tells nothing about replica load.</p>
+ */
+public final class ReplicaStatistics {
+    
+    private static final double DECAY_FACTOR = 0.2D;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong executedCount = new AtomicLong();
+    
+    private final AtomicLong failedCount = new AtomicLong();
+    
+    private volatile double averageResponseNanos;
+    
+    private long sampledCount;
+    
+    @Getter
+    @Setter
+    private volatile long replicationDelayMilliseconds;
+    
+    /**
+     * Handle when execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Handle when execution finished.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     * @param isSuccess whether execution succeeded
+     */
+    public void finish(final long elapsedNanos, final boolean isSuccess) {
+        inFlightCount.decrementAndGet();
+        executedCount.incrementAndGet();
+        if (isSuccess) {
+            updateAverageResponseNanos(elapsedNanos);
+        } else {
+            failedCount.incrementAndGet();
+        }
+    }
+    
+    private synchronized void updateAverageResponseNanos(final long elapsedNanos) {
+        averageResponseNanos = 0L == sampledCount++ ? elapsedNanos : averageResponseNanos + DECAY_FACTOR * (elapsedNanos - averageResponseNanos);
+    }
+    
+    /**
+     * Get load score, lower score means replica is preferable.
+     *
+     * @return load score
+     */
+    public double getScore() {
+        return (averageResponseNanos + 1D) * (inFlightCount.get() + 1);
+    }
+    
+    /**
+     * Get in flight count.
+     *
+     * @return in flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get executed count.
+     *
+     * @return executed count
+     */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+    
+    /**
+     * Get failed count.
+     *
+     * @return failed count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+    
+    /**
+     * Get average response milliseconds.
+     *
+     * @return average response milliseconds
+     */
+    public double getAverageResponseMilliseconds() {
+        return averageResponseNanos / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+}
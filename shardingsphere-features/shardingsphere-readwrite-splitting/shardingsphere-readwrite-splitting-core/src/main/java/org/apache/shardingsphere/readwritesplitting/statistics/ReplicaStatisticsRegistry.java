@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica statistics registry.
+ * 
+ * <p>Statistics are keyed by logic database name and data source name, so same named data sources of different databases do not share statistics.
+ * Statistics are collected only after an adaptive load balancer has been created, other deployments pay nothing for it.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicaStatisticsRegistry {
+    
+    private static final Map<String, Map<String, ReplicaStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static volatile boolean enabled;
+    
+    /**
+     * Enable statistics collection.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+    
+    /**
+     * Judge whether statistics collection is enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get statistics of data source, create it if absent.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return statistics of data source
+     */
+    public static ReplicaStatistics getStatistics(final String databaseName, final String dataSourceName) {
+        Map<String, ReplicaStatistics> databaseStatistics = STATISTICS.get(databaseName);
+        if (null == databaseStatistics) {
+            databaseStatistics = STATISTICS.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        }
+        ReplicaStatistics result = databaseStatistics.get(dataSourceName);
+        return null == result ? databaseStatistics.computeIfAbsent(dataSourceName, key -> new ReplicaStatistics()) : result;
+    }
+    
+    /**
+     * Find statistics of data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return statistics of data source
+     */
+    public static Optional<ReplicaStatistics> findStatistics(final String databaseName, final String dataSourceName) {
+        Map<String, ReplicaStatistics> databaseStatistics = STATISTICS.get(databaseName);
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(dataSourceName));
+    }
+    
+    /**
+     * Update replication delay of data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param replicationDelayMilliseconds replication delay milliseconds
+     */
+    public static void updateReplicationDelay(final String databaseName, final String dataSourceName, final long replicationDelayMilliseconds) {
+        getStatistics(databaseName, dataSourceName).setReplicationDelayMilliseconds(replicationDelayMilliseconds);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replica statistics SQL execution hook.
+ */
+public final class ReplicaStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private static final ThreadLocal<ReplicaStatistics> STATISTICS = new ThreadLocal<>();
+    
+    private static final ThreadLocal<Long> START_TIME = new ThreadLocal<>();
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Object databaseName = shardingExecuteDataMap.get(ExecuteProcessConstants.DATABASE_NAME.name());
+        if (!ReplicaStatisticsRegistry.isEnabled() || null == databaseName) {
+            return;
+        }
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getStatistics(databaseName.toString(), dataSourceName);
+        statistics.start();
+        STATISTICS.set(statistics);
+        START_TIME.set(System.nanoTime());
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish(true);
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish(false);
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return ReplicaStatisticsRegistry.isEnabled();
+    }
+    
+    private void finish(final boolean isSuccess) {
+        ReplicaStatistics statistics = STATISTICS.get();
+        if (null != statistics) {
+            statistics.finish(System.nanoTime() - START_TIME.get(), isSuccess);
+            STATISTICS.remove();
+            START_TIME.remove();
+        }
+    }
+}
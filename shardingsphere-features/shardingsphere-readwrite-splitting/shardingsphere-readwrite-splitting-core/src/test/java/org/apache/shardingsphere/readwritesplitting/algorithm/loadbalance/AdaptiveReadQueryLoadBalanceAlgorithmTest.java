@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+import org.apache.shardingsphere.transaction.TransactionHolder;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveReadQueryLoadBalanceAlgorithmTest {
+    
+    @Test
+    public void assertInit() {
+        createAlgorithm(new Properties());
+        assertTrue(ReplicaStatisticsRegistry.isEnabled());
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLowerScore() {
+        AdaptiveReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createAlgorithm(new Properties());
+        record("adaptive_db", "adaptive_fast_ds", 1000L);
+        record("adaptive_db", "adaptive_slow_ds", 1000000L);
+        List<String> readDataSourceNames = Arrays.asList("adaptive_slow_ds", "adaptive_fast_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("adaptive_fast_ds"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithStatisticsOfOwnDatabase() {
+        AdaptiveReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createAlgorithm(new Properties());
+        record("adaptive_db", "adaptive_shared_ds_0", 1000L);
+        record("adaptive_db", "adaptive_shared_ds_1", 1000000L);
+        record("adaptive_other_db", "adaptive_shared_ds_0", 1000000000L);
+        List<String> readDataSourceNames = Arrays.asList("adaptive_shared_ds_1", "adaptive_shared_ds_0");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("adaptive_shared_ds_0"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutDelayedReplica() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-delay-milliseconds", "100");
+        AdaptiveReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createAlgorithm(props);
+        ReplicaStatisticsRegistry.updateReplicationDelay("adaptive_db", "adaptive_delayed_ds", 1000L);
+        ReplicaStatisticsRegistry.updateReplicationDelay("adaptive_db", "adaptive_synced_ds_0", 10L);
+        List<String> readDataSourceNames = Arrays.asList("adaptive_delayed_ds", "adaptive_synced_ds_0", "adaptive_synced_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), not("adaptive_delayed_ds"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWhenAllReplicasDelayed() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-delay-milliseconds", "100");
+        AdaptiveReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createAlgorithm(props);
+        ReplicaStatisticsRegistry.updateReplicationDelay("adaptive_db", "adaptive_all_delayed_ds", 1000L);
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("adaptive_all_delayed_ds")), is("adaptive_all_delayed_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceInTransaction() {
+        AdaptiveReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createAlgorithm(new Properties());
+        TransactionHolder.setInTransaction();
+        try {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("test_read_ds_1", "test_read_ds_2")), is("test_write_ds"));
+        } finally {
+            TransactionHolder.clear();
+        }
+    }
+    
+    private AdaptiveReadQueryLoadBalanceAlgorithm createAlgorithm(final Properties props) {
+        AdaptiveReadQueryLoadBalanceAlgorithm result = new AdaptiveReadQueryLoadBalanceAlgorithm();
+        result.init(props);
+        result.setDatabaseName("adaptive_db");
+        return result;
+    }
+    
+    private void record(final String databaseName, final String dataSourceName, final long elapsedNanos) {
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getStatistics(databaseName, dataSourceName);
+        statistics.start();
+        statistics.finish(elapsedNanos, true);
+    }
+}
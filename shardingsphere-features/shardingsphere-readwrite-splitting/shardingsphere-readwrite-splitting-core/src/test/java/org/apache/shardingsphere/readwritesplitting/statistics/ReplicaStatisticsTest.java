@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicaStatisticsTest {
+    
+    @Test
+    public void assertFinish() {
+        ReplicaStatistics statistics = new ReplicaStatistics();
+        statistics.start();
+        assertThat(statistics.getInFlightCount(), is(1));
+        statistics.finish(1000000L, true);
+        statistics.start();
+        statistics.finish(2000000L, false);
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertThat(statistics.getExecutedCount(), is(2L));
+        assertThat(statistics.getFailedCount(), is(1L));
+        assertThat(statistics.getAverageResponseMilliseconds(), is(1D));
+    }
+    
+    @Test
+    public void assertFinishWithFailureOnly() {
+        ReplicaStatistics statistics = new ReplicaStatistics();
+        statistics.start();
+        statistics.finish(2000000L, false);
+        assertThat(statistics.getExecutedCount(), is(1L));
+        assertThat(statistics.getFailedCount(), is(1L));
+        assertThat(statistics.getAverageResponseMilliseconds(), is(0D));
+    }
+    
+    @Test
+    public void assertGetScoreWithInFlightExecutions() {
+        ReplicaStatistics statistics = new ReplicaStatistics();
+        statistics.start();
+        statistics.finish(1000L, true);
+        double idleScore = statistics.getScore();
+        statistics.start();
+        assertTrue(statistics.getScore() > idleScore);
+    }
+}
@@ -18,9 +18,9 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.complex;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionCompiler;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionEvaluator;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
@@ -49,7 +49,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Getter
     private Properties props;
     
-    private String algorithmExpression;
+    private InlineExpressionEvaluator algorithmExpressionEvaluator;
     
     private Collection<String> shardingColumns;
     
@@ -58,7 +58,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Override
     public void init(final Properties props) {
         this.props = props;
-        algorithmExpression = getAlgorithmExpression(props);
+        algorithmExpressionEvaluator = InlineExpressionCompiler.compile(getAlgorithmExpression(props));
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
     }
@@ -95,11 +95,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     }
     
     private String doSharding(final Map<String, Comparable<?>> shardingValues) {
-        Closure<?> closure = createClosure();
-        for (Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
-            closure.setProperty(entry.getKey(), entry.getValue());
-        }
-        return closure.call().toString();
+        return algorithmExpressionEvaluator.evaluate(shardingValues);
     }
     
     private static <K, V> Collection<Map<K, V>> combine(final Map<K, Collection<V>> map) {
@@ -127,12 +123,6 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return result;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "COMPLEX_INLINE";
@@ -18,17 +18,18 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
 import groovy.lang.MissingMethodException;
-import groovy.util.Expando;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionCompiler;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionEvaluator;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Properties;
 
 /**
@@ -45,12 +46,15 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private InlineExpressionEvaluator algorithmExpressionEvaluator;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
         algorithmExpression = getAlgorithmExpression(props);
+        algorithmExpressionEvaluator = InlineExpressionCompiler.compile(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -66,13 +70,11 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
         Comparable<?> value = shardingValue.getValue();
         if (value instanceof Number) {
             value = Math.abs(((Number) value).intValue());
         }
-        closure.setProperty(shardingValue.getColumnName(), value);
-        return getTargetShardingNode(closure, shardingValue.getColumnName());
+        return getTargetShardingNode(shardingValue.getColumnName(), value);
     }
     
     @Override
@@ -83,15 +85,9 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         throw new UnsupportedOperationException("Since the property of `" + ALLOW_RANGE_QUERY_KEY + "` is false, inline sharding algorithm can not tackle with range query.");
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
-    private String getTargetShardingNode(final Closure<?> closure, final String columnName) {
+    private String getTargetShardingNode(final String columnName, final Comparable<?> value) {
         try {
-            return closure.call().toString();
+            return algorithmExpressionEvaluator.evaluate(Collections.singletonMap(columnName, value));
         } catch (final MissingMethodException | NullPointerException ex) {
             throw new ShardingSphereException("Inline sharding algorithms expression `%s` and sharding column `%s` not match.", algorithmExpression, columnName);
         }
@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.sharding.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -31,7 +32,9 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.LoserTreeOrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
@@ -40,19 +43,41 @@ import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
  * DQL result merger for Sharding.
  */
-@RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
+    private static final String LOSER_TREE_ORDER_BY_STREAM_MERGE_TYPE = "LOSER_TREE";
+    
     private final DatabaseType databaseType;
     
+    private final boolean loserTreeOrderByStreamMerge;
+    
+    private final long groupByMemoryMergeMaxBytes;
+    
+    private final Path groupByMemoryMergeSpillDirectory;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, new ConfigurationProperties(new Properties()));
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType, final ConfigurationProperties props) {
+        this.databaseType = databaseType;
+        loserTreeOrderByStreamMerge = LOSER_TREE_ORDER_BY_STREAM_MERGE_TYPE.equalsIgnoreCase(props.getValue(ConfigurationPropertyKey.ORDER_BY_STREAM_MERGE_TYPE));
+        groupByMemoryMergeMaxBytes = props.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_BYTES);
+        String spillDirectory = props.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_SPILL_DIRECTORY);
+        groupByMemoryMergeSpillDirectory = Paths.get(spillDirectory.isEmpty() ? System.getProperty("java.io.tmpdir") : spillDirectory);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereDatabase database) throws SQLException {
         if (1 == queryResults.size() && !isNeedAggregateRewrite(sqlStatementContext)) {
@@ -90,7 +115,9 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return loserTreeOrderByStreamMerge
+                    ? new LoserTreeOrderByStreamMergedResult(queryResults, selectStatementContext, schema)
+                    : new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -113,11 +140,18 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        return isNeedSpillGroupBy(selectStatementContext)
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, groupByMemoryMergeMaxBytes, groupByMemoryMergeSpillDirectory)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
+    private boolean isNeedSpillGroupBy(final SelectStatementContext selectStatementContext) {
+        return groupByMemoryMergeMaxBytes > 0 && !selectStatementContext.getGroupByContext().getItems().isEmpty();
+    }
+    
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
         return !selectStatementContext.getOrderByContext().getItems().isEmpty();
     }
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Group by aggregation table.
+ * 
+ * <p>Groups are stored in an open addressing hash table with linear probing. Each group holds the first row of the group and an array of aggregation units,
+ * which are in the same order as aggregation projections. The memory held by groups is estimated when a group is created.</p>
+ */
+public final class GroupByAggregationTable {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private static final int GROUP_OVERHEAD_BYTES = 96;
+    
+    private static final int CELL_OVERHEAD_BYTES = 24;
+    
+    private static final int AGGREGATION_UNIT_BYTES = 48;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private int[] hashes;
+    
+    private GroupByValue[] keys;
+    
+    private GroupByAggregationRow[] rows;
+    
+    private int size;
+    
+    @Getter
+    private long estimatedBytes;
+    
+    public GroupByAggregationTable(final SelectStatementContext selectStatementContext) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        reset();
+    }
+    
+    private void reset() {
+        hashes = new int[INITIAL_CAPACITY];
+        keys = new GroupByValue[INITIAL_CAPACITY];
+        rows = new GroupByAggregationRow[INITIAL_CAPACITY];
+        size = 0;
+        estimatedBytes = 0L;
+    }
+    
+    /**
+     * Create group by value of current row.
+     *
+     * @param queryResult query result
+     * @return group by value
+     * @throws SQLException SQL exception
+     */
+    public GroupByValue createGroupByValue(final QueryResult queryResult) throws SQLException {
+        return new GroupByValue(queryResult, groupByItems);
+    }
+    
+    /**
+     * Get group size.
+     *
+     * @return group size
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Aggregate current row of query result into its group.
+     *
+     * @param groupByValue group by value of current row
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final GroupByValue groupByValue, final QueryResult queryResult) throws SQLException {
+        aggregate(groupByValue, queryResult, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Aggregate current row of query result into its group, a new group is only created when estimated bytes of the table are less than max bytes.
+     *
+     * @param groupByValue group by value of current row
+     * @param queryResult query result
+     * @param maxBytes max bytes
+     * @return aggregated or not
+     * @throws SQLException SQL exception
+     */
+    public boolean aggregate(final GroupByValue groupByValue, final QueryResult queryResult, final long maxBytes) throws SQLException {
+        int hash = spread(groupByValue.hashCode());
+        int index = indexOf(hash, groupByValue);
+        GroupByAggregationRow row = rows[index];
+        if (null == row) {
+            if (estimatedBytes >= maxBytes) {
+                return false;
+            }
+            row = new GroupByAggregationRow(new MemoryQueryResultRow(queryResult), createAggregationUnits());
+            put(index, hash, groupByValue, row);
+            estimatedBytes += estimateBytes(row.memoryQueryResultRow, queryResult.getMetaData().getColumnCount());
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            row.aggregationUnits[i].merge(getAggregationValues(queryResult, aggregationProjections[i]));
+        }
+        return true;
+    }
+    
+    private int spread(final int hashCode) {
+        return hashCode ^ hashCode >>> 16;
+    }
+    
+    private int indexOf(final int hash, final GroupByValue groupByValue) {
+        int mask = keys.length - 1;
+        int result = hash & mask;
+        while (null != keys[result] && (hash != hashes[result] || !groupByValue.equals(keys[result]))) {
+            result = (result + 1) & mask;
+        }
+        return result;
+    }
+    
+    private void put(final int index, final int hash, final GroupByValue groupByValue, final GroupByAggregationRow row) {
+        hashes[index] = hash;
+        keys[index] = groupByValue;
+        rows[index] = row;
+        size++;
+        if (size * 4 > keys.length * 3) {
+            resize();
+        }
+    }
+    
+    private void resize() {
+        int[] oldHashes = hashes;
+        GroupByValue[] oldKeys = keys;
+        GroupByAggregationRow[] oldRows = rows;
+        hashes = new int[oldKeys.length << 1];
+        keys = new GroupByValue[oldKeys.length << 1];
+        rows = new GroupByAggregationRow[oldKeys.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (null != oldKeys[i]) {
+                int index = indexOf(oldHashes[i], oldKeys[i]);
+                hashes[index] = oldHashes[i];
+                keys[index] = oldKeys[i];
+                rows[index] = oldRows[i];
+            }
+        }
+    }
+    
+    private long estimateBytes(final MemoryQueryResultRow row, final int columnCount) {
+        long result = GROUP_OVERHEAD_BYTES + (long) aggregationProjections.length * AGGREGATION_UNIT_BYTES;
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateBytes(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final Object value) {
+        if (null == value) {
+            return 8L;
+        }
+        if (value instanceof String) {
+            return CELL_OVERHEAD_BYTES + 16L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return CELL_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return CELL_OVERHEAD_BYTES + 32L + ((BigDecimal) value).unscaledValue().bitLength() / Byte.SIZE;
+        }
+        if (value instanceof BigInteger) {
+            return CELL_OVERHEAD_BYTES + 16L + ((BigInteger) value).bitLength() / Byte.SIZE;
+        }
+        return CELL_OVERHEAD_BYTES;
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        List<Comparable<?>> result = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(getAggregationValue(queryResult, aggregationProjection));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(getAggregationValue(queryResult, each));
+            }
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get aggregated rows and clear the table.
+     *
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> getAggregatedRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(size);
+        for (GroupByAggregationRow each : rows) {
+            if (null == each) {
+                continue;
+            }
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                each.memoryQueryResultRow.setCell(aggregationProjections[i].getIndex(), each.aggregationUnits[i].getResult());
+            }
+            result.add(each.memoryQueryResultRow);
+        }
+        reset();
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class GroupByAggregationRow {
+        
+        private final MemoryQueryResultRow memoryQueryResultRow;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
+}
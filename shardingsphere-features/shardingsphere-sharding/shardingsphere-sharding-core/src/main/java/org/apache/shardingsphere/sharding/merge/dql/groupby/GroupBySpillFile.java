@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Group by spill file, which stores rows in local temporary file of spill directory.
+ * 
+ * <p>The file is deleted once all rows are read or it is closed.</p>
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private final Path file;
+    
+    private final int columnCount;
+    
+    private final DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private boolean closed;
+    
+    public GroupBySpillFile(final Path directory, final int columnCount) throws SQLException {
+        this.columnCount = columnCount;
+        try {
+            file = Files.createTempFile(Files.createDirectories(directory), "shardingsphere-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        } catch (final IOException ex) {
+            deleteQuietly();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Write current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void write(final QueryResult queryResult) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        write(row);
+    }
+    
+    /**
+     * Write memory query result row.
+     *
+     * @param memoryQueryResultRow memory query result row
+     * @throws SQLException SQL exception
+     */
+    public void write(final MemoryQueryResultRow memoryQueryResultRow) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = memoryQueryResultRow.getCell(i + 1);
+        }
+        write(row);
+    }
+    
+    private void write(final Object[] row) throws SQLException {
+        try {
+            output.writeBoolean(true);
+            for (Object each : row) {
+                GroupBySpillValueCodec.write(output, each);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Finish writing and read rows as query result, the spill file will be deleted after all rows read.
+     *
+     * @param metaData query result meta data
+     * @return query result
+     * @throws SQLException SQL exception
+     */
+    public QueryResult read(final QueryResultMetaData metaData) throws SQLException {
+        try {
+            output.writeBoolean(false);
+            output.close();
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            return new SpilledQueryResult(metaData);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Finish writing and read rows as memory query result rows, the spill file will be deleted after all rows read.
+     *
+     * @param metaData query result meta data
+     * @return memory query result rows
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> iterator(final QueryResultMetaData metaData) throws SQLException {
+        return new SpilledRowIterator(read(metaData));
+    }
+    
+    /**
+     * Close streams and delete the spill file.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            output.close();
+            if (null != input) {
+                input.close();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            deleteQuietly();
+        }
+    }
+    
+    private void deleteQuietly() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class SpilledQueryResult implements QueryResult {
+        
+        private final QueryResultMetaData metaData;
+        
+        private Object[] currentRow;
+        
+        private boolean wasNull;
+        
+        @Override
+        public boolean next() throws SQLException {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!input.readBoolean()) {
+                    close();
+                    return false;
+                }
+                currentRow = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    currentRow[i] = GroupBySpillValueCodec.read(input);
+                }
+                return true;
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            Object result = currentRow[columnIndex - 1];
+            wasNull = null == result;
+            return result;
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return getValue(columnIndex, type);
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+            throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return wasNull;
+        }
+        
+        @Override
+        public QueryResultMetaData getMetaData() {
+            return metaData;
+        }
+        
+        @Override
+        public void close() throws SQLException {
+            GroupBySpillFile.this.close();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpilledRowIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final QueryResult queryResult;
+        
+        private MemoryQueryResultRow nextRow;
+        
+        private boolean isNextRowLoaded;
+        
+        @SneakyThrows(SQLException.class)
+        @Override
+        public boolean hasNext() {
+            if (!isNextRowLoaded) {
+                nextRow = queryResult.next() ? new MemoryQueryResultRow(queryResult) : null;
+                isNextRowLoaded = true;
+            }
+            return null != nextRow;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            isNextRowLoaded = false;
+            return nextRow;
+        }
+    }
+}
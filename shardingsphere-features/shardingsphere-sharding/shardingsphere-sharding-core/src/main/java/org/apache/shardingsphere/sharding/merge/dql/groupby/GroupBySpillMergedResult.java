@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Merged result for group by, which spills groups beyond memory limitation to local temporary files.
+ * 
+ * <p>Rows of groups already in memory are always aggregated in memory, rows of other groups are spilled to partition files by hash of group by values
+ * once estimated bytes of groups in memory reach the limitation. Each partition is aggregated separately later and stored as a sorted run,
+ * all sorted runs are merged when iterating.</p>
+ * 
+ * <p>Spill files are created in spill directory, and deleted when all rows are iterated or the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = Integer.SIZE / PARTITION_BITS - 1;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long maxBytesInMemory;
+    
+    private final Path spillDirectory;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long maxBytesInMemory, final Path spillDirectory) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxBytesInMemory = maxBytesInMemory;
+        this.spillDirectory = spillDirectory;
+        metaData = queryResults.get(0).getMetaData();
+        comparator = new GroupByRowComparator(selectStatementContext, GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT, (o1, o2) -> comparator.compare(o1.currentRow, o2.currentRow));
+        try {
+            init(queryResults);
+        } catch (final SQLException ex) {
+            closeSpillFilesQuietly();
+            throw ex;
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException {
+        Collection<Iterator<MemoryQueryResultRow>> runs = new LinkedList<>();
+        aggregate(queryResults, 0, runs);
+        for (Iterator<MemoryQueryResultRow> each : runs) {
+            SortedRun sortedRun = new SortedRun(each);
+            if (sortedRun.next()) {
+                sortedRuns.offer(sortedRun);
+            }
+        }
+    }
+    
+    private void aggregate(final Collection<QueryResult> queryResults, final int depth, final Collection<Iterator<MemoryQueryResultRow>> runs) throws SQLException {
+        GroupByAggregationTable aggregationTable = new GroupByAggregationTable(selectStatementContext);
+        GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_COUNT];
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = aggregationTable.createGroupByValue(each);
+                if (!aggregationTable.aggregate(groupByValue, each, MAX_SPILL_DEPTH == depth ? Long.MAX_VALUE : maxBytesInMemory)) {
+                    getPartition(partitions, groupByValue, depth).write(each);
+                }
+            }
+        }
+        List<MemoryQueryResultRow> aggregatedRows = aggregationTable.getAggregatedRows();
+        aggregatedRows.sort(comparator);
+        runs.add(0 == depth ? aggregatedRows.iterator() : spill(aggregatedRows));
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                aggregate(Collections.singletonList(each.read(metaData)), depth + 1, runs);
+            }
+        }
+    }
+    
+    private GroupBySpillFile getPartition(final GroupBySpillFile[] partitions, final GroupByValue groupByValue, final int depth) throws SQLException {
+        int index = (groupByValue.hashCode() >>> (depth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+        if (null == partitions[index]) {
+            partitions[index] = createSpillFile();
+        }
+        return partitions[index];
+    }
+    
+    private Iterator<MemoryQueryResultRow> spill(final List<MemoryQueryResultRow> aggregatedRows) throws SQLException {
+        if (aggregatedRows.isEmpty()) {
+            return Collections.emptyIterator();
+        }
+        GroupBySpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : aggregatedRows) {
+            result.write(each);
+        }
+        aggregatedRows.clear();
+        return result.iterator(metaData);
+    }
+    
+    private GroupBySpillFile createSpillFile() throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile(spillDirectory, metaData.getColumnCount());
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private void closeSpillFilesQuietly() {
+        try {
+            close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        SortedRun sortedRun = sortedRuns.poll();
+        if (null == sortedRun) {
+            close();
+            return false;
+        }
+        currentRow = sortedRun.currentRow;
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCalendarCell(columnIndex, calendar);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        sortedRuns.clear();
+        SQLException ex = null;
+        for (GroupBySpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final SQLException closeException) {
+                if (null == ex) {
+                    ex = closeException;
+                } else {
+                    ex.setNextException(closeException);
+                }
+            }
+        }
+        spillFiles.clear();
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        private boolean next() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            currentRow = rows.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+/**
+ * Group by spill value codec, which encodes values with a type tag followed by a compact binary form.
+ * 
+ * <p>Values of other types can not be spilled.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupBySpillValueCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INTEGER = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte BOOLEAN = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BIG_INTEGER = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte TIMESTAMP = 12;
+    
+    private static final byte SQL_DATE = 13;
+    
+    private static final byte SQL_TIME = 14;
+    
+    private static final byte DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    /**
+     * Write value.
+     *
+     * @param output data output
+     * @param value value
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception when value can not be spilled
+     */
+    public static void write(final DataOutput output, final Object value) throws IOException, SQLException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else {
+            writeTemporal(output, value);
+        }
+    }
+    
+    private static void writeTemporal(final DataOutput output, final Object value) throws IOException, SQLException {
+        if (Timestamp.class == value.getClass()) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (java.sql.Date.class == value.getClass()) {
+            output.writeByte(SQL_DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            output.writeByte(SQL_TIME);
+            output.writeLong(((Date) value).getTime());
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else {
+            throw new SQLFeatureNotSupportedException(String.format("Can not spill value of type `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    /**
+     * Read value.
+     *
+     * @param input data input
+     * @return value
+     * @throws IOException IO exception
+     */
+    public static Object read(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            default:
+                return readTemporal(input, type);
+        }
+    }
+    
+    private static Object readTemporal(final DataInput input, final byte type) throws IOException {
+        switch (type) {
+            case TIMESTAMP:
+                Timestamp result = new Timestamp(input.readLong());
+                result.setNanos(input.readInt());
+                return result;
+            case SQL_DATE:
+                return new java.sql.Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case DATE:
+                return new Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                LocalDate localDate = LocalDate.ofEpochDay(input.readLong());
+                return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(input.readLong()));
+            default:
+                throw new IOException(String.format("Unknown spill value type `%s`", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by, which merges query results with loser tree.
+ * 
+ * <p>Each next only replays the path from the winner leaf to root, so it costs log(k) comparisons without re-inserting order by value.</p>
+ */
+public final class LoserTreeOrderByStreamMergedResult extends StreamMergedResult {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private boolean isFirstNext;
+    
+    public LoserTreeOrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        int size = queryResults.size();
+        orderByValues = new OrderByValue[size];
+        exhausted = new boolean[size];
+        losers = new int[size];
+        for (int i = 0; i < size; i++) {
+            orderByValues[i] = new OrderByValue(queryResults.get(i), orderByItems, selectStatementContext, schema);
+            exhausted[i] = !orderByValues[i].next();
+        }
+        buildLoserTree();
+        setCurrentQueryResult(isAllExhausted() ? queryResults.get(0) : orderByValues[losers[0]].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    private void buildLoserTree() {
+        // index equals to size means a virtual leaf which wins all others, and it will be replaced during building
+        for (int i = 0; i < losers.length; i++) {
+            losers[i] = losers.length;
+        }
+        for (int i = losers.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    private void adjust(final int leafIndex) {
+        int winner = leafIndex;
+        for (int parent = (winner + losers.length) / 2; parent > 0; parent /= 2) {
+            if (isLoser(winner, losers[parent])) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isLoser(final int index, final int otherIndex) {
+        if (otherIndex == losers.length) {
+            return true;
+        }
+        if (index == losers.length || exhausted[otherIndex]) {
+            return false;
+        }
+        if (exhausted[index]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result > 0 || 0 == result && index > otherIndex;
+    }
+    
+    private boolean isAllExhausted() {
+        return 0 == losers.length || exhausted[losers[0]];
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (isAllExhausted()) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        int winner = losers[0];
+        exhausted[winner] = !orderByValues[winner].next();
+        adjust(winner);
+        if (isAllExhausted()) {
+            return false;
+        }
+        setCurrentQueryResult(orderByValues[losers[0]].getQueryResult());
+        return true;
+    }
+}
@@ -25,15 +25,17 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -49,13 +51,20 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<Boolean> orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    private final long[] longOrderValues;
+    
+    private final boolean[] longOrderValueFlags;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        orderValues = new Comparable<?>[orderByItems.size()];
+        longOrderValues = new long[orderByItems.size()];
+        longOrderValueFlags = new boolean[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -99,26 +108,37 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            fillOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void fillOrderValues() throws SQLException {
+        int i = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            longOrderValueFlags[i] = isLongComparable(value);
+            if (longOrderValueFlags[i]) {
+                longOrderValues[i] = value instanceof Date ? ((Date) value).getTime() : ((Number) value).longValue();
+            }
+            i++;
         }
-        return result;
+    }
+    
+    private boolean isLongComparable(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof Date && !(value instanceof Timestamp);
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
         int i = 0;
         for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+            int result = longOrderValueFlags[i] && o.longOrderValueFlags[i]
+                    ? compareLongValues(longOrderValues[i], o.longOrderValues[i], each.getSegment().getOrderDirection())
+                    : CompareUtil.compareTo(orderValues[i], o.orderValues[i], each.getSegment().getOrderDirection(), each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
             if (0 != result) {
                 return result;
             }
@@ -126,4 +146,9 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         }
         return 0;
     }
+    
+    private int compareLongValues(final long thisValue, final long otherValue, final OrderDirection orderDirection) {
+        int result = Long.compare(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
 }
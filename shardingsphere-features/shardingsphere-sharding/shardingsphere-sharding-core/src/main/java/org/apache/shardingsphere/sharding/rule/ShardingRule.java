@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -74,6 +75,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -114,6 +116,12 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> allActualTables;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Collection<String> dataSourceNames, final InstanceContext instanceContext) {
         configuration = config;
         this.dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceNames);
@@ -132,6 +140,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
+        allActualTables = createAllActualTables(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms, config.getBindingTableGroups(),
                 broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 "Invalid binding table configuration in ShardingRuleConfiguration.");
@@ -159,6 +169,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
+        allActualTables = createAllActualTables(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms, config.getBindingTableGroups(),
                 broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 "Invalid binding table configuration in ShardingRuleConfiguration.");
@@ -176,6 +188,20 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
+    private Map<String, Collection<TableRule>> createActualTableRules(final Map<String, TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.computeIfAbsent(dataNode.getTableName(), unused -> new LinkedHashSet<>()).add(each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Collection<String> createAllActualTables(final Map<String, TableRule> tableRules) {
+        return Collections.unmodifiableSet(tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet()));
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -315,7 +341,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     @Override
     public Collection<String> getAllTables() {
         Collection<String> result = new HashSet<>(getTables());
-        result.addAll(getAllActualTables());
+        result.addAll(allActualTables);
         return result;
     }
     
@@ -356,7 +382,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        return Optional.ofNullable(tableRules.get(logicTableName.toLowerCase()));
+        return Optional.ofNullable(getByLowerCaseKey(tableRules, logicTableName));
     }
     
     /**
@@ -366,12 +392,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        Collection<TableRule> result = actualTableRules.get(actualTableName);
+        return null == result ? Optional.empty() : Optional.of(result.iterator().next());
     }
     
     /**
@@ -461,7 +483,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return Optional.ofNullable(bindingTableRules.get(logicTableName.toLowerCase()));
+        return Optional.ofNullable(getByLowerCaseKey(bindingTableRules, logicTableName));
     }
     
     /**
@@ -499,7 +521,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return whether logic table is sharding table or not
      */
     public boolean isShardingTable(final String logicTableName) {
-        return tableRules.containsKey(logicTableName.toLowerCase());
+        return null != getByLowerCaseKey(tableRules, logicTableName);
     }
     
     /**
@@ -519,7 +541,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return whether all tables are in same data source or not
      */
     public boolean isAllTablesInSameDataSource(final Collection<String> logicTableNames) {
-        Collection<String> dataSourceNames = logicTableNames.stream().map(each -> tableRules.get(each.toLowerCase()))
+        Collection<String> dataSourceNames = logicTableNames.stream().map(each -> getByLowerCaseKey(tableRules, each))
                 .filter(Objects::nonNull).flatMap(each -> each.getActualDataSourceNames().stream()).collect(Collectors.toSet());
         return 1 == dataSourceNames.size();
     }
@@ -547,7 +569,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return sharding column
      */
     public Optional<String> findShardingColumn(final String columnName, final String tableName) {
-        return Optional.ofNullable(tableRules.get(tableName.toLowerCase())).flatMap(optional -> findShardingColumn(optional, columnName));
+        return Optional.ofNullable(getByLowerCaseKey(tableRules, tableName)).flatMap(optional -> findShardingColumn(optional, columnName));
     }
     
     private Optional<String> findShardingColumn(final TableRule tableRule, final String columnName) {
@@ -584,7 +606,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return whether given logic table column is generate key column or not
      */
     public boolean isGenerateKeyColumn(final String columnName, final String tableName) {
-        return Optional.ofNullable(tableRules.get(tableName.toLowerCase())).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
+        return Optional.ofNullable(getByLowerCaseKey(tableRules, tableName)).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
     }
     
     private boolean isGenerateKeyColumn(final TableRule tableRule, final String columnName) {
@@ -599,7 +621,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return Optional.ofNullable(tableRules.get(logicTableName.toLowerCase())).filter(each -> each.getGenerateKeyColumn().isPresent()).flatMap(TableRule::getGenerateKeyColumn);
+        return Optional.ofNullable(getByLowerCaseKey(tableRules, logicTableName)).filter(each -> each.getGenerateKeyColumn().isPresent()).flatMap(TableRule::getGenerateKeyColumn);
     }
     
     /**
@@ -676,7 +698,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return logic tables
      */
     public Collection<String> getLogicTablesByActualTable(final String actualTable) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTable)).map(TableRule::getLogicTable).collect(Collectors.toSet());
+        return actualTableRules.getOrDefault(actualTable, Collections.emptyList()).stream().map(TableRule::getLogicTable).collect(Collectors.toSet());
     }
     
     @Override
@@ -686,11 +708,13 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     @Override
     public Collection<DataNode> getDataNodesByTableName(final String tableName) {
-        return shardingTableDataNodes.getOrDefault(tableName.toLowerCase(), Collections.emptyList());
+        Collection<DataNode> result = getByLowerCaseKey(shardingTableDataNodes, tableName);
+        return null == result ? Collections.emptyList() : result;
     }
     
-    private Collection<String> getAllActualTables() {
-        return tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet());
+    private <T> T getByLowerCaseKey(final Map<String, T> lowerCaseKeyMap, final String key) {
+        T result = lowerCaseKeyMap.get(key);
+        return null == result ? lowerCaseKeyMap.get(key.toLowerCase()) : result;
     }
     
     @Override
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class GroupBySpillMergedResultTest {
+    
+    @Rule
+    public TemporaryFolder spillDirectory = new TemporaryFolder();
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(createQueryResult(), createQueryResult()), createSelectStatementContext(), database);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithGroupsSpilled() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 0, 1, 2, 20}, new Object[]{1, 0, 2, 1, 10});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 0, 3, 1, 30}, new Object[]{1, 0, 1, 1, 40});
+        QueryResult queryResult3 = createQueryResult(new Object[]{3, 0, 2, 3, 30});
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database);
+        assertTrue(actual.next());
+        assertRow(actual, 1, 30, 3, 1, 30);
+        assertTrue(actual.next());
+        assertRow(actual, 4, 10, 2, 4, 40);
+        assertTrue(actual.next());
+        assertRow(actual, 3, 20, 1, 3, 60);
+        assertFalse(actual.next());
+        assertThat(spillDirectory.getRoot().list().length, is(0));
+    }
+    
+    @Test
+    public void assertCloseWithGroupsSpilled() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 0, 1, 2, 20}, new Object[]{1, 0, 2, 1, 10});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 0, 3, 1, 30});
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database);
+        assertTrue(actual.next());
+        assertTrue(spillDirectory.getRoot().list().length > 0);
+        actual.close();
+        assertThat(spillDirectory.getRoot().list().length, is(0));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        QueryResult queryResult = createQueryResult(new Object[]{1, 0, 1, 1, 10});
+        MergedResult actual = createResultMerger(1).merge(Collections.singletonList(queryResult), createSelectStatementContext(), database);
+        assertTrue(actual.next());
+        assertThat(actual.getCalendarValue(3, Object.class, Calendar.getInstance()), is(1));
+    }
+    
+    @Test
+    public void assertNextWithoutGroupsSpilled() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 0, 1, 2, 20}, new Object[]{1, 0, 2, 1, 10});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 0, 1, 1, 40});
+        MergedResult actual = createResultMerger(1024 * 1024).merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database);
+        assertTrue(actual.next());
+        assertRow(actual, 1, 10, 2, 1, 10);
+        assertTrue(actual.next());
+        assertRow(actual, 3, 20, 1, 3, 60);
+        assertFalse(actual.next());
+    }
+    
+    private void assertRow(final MergedResult actual, final int count, final int avg, final int id, final int derivedCount, final int derivedSum) throws SQLException {
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(avg));
+        assertThat(actual.getValue(3, Object.class), is(id));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(derivedCount)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(derivedSum)));
+    }
+    
+    private ShardingDQLResultMerger createResultMerger(final long maxBytes) {
+        when(database.getName()).thenReturn("db_schema");
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_BYTES.getKey(), String.valueOf(maxBytes));
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_SPILL_DIRECTORY.getKey(), spillDirectory.getRoot().getAbsolutePath());
+        return new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), new ConfigurationProperties(props));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), any())).thenAnswer(invocation -> rows[cursor.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+}
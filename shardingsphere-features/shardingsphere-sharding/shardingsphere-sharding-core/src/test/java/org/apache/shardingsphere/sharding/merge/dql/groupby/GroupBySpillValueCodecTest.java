@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class GroupBySpillValueCodecTest {
+    
+    @Test
+    public void assertWriteAndReadNull() throws IOException, SQLException {
+        assertThat(writeAndRead(null), nullValue());
+    }
+    
+    @Test
+    public void assertWriteAndReadNumbers() throws IOException, SQLException {
+        assertThat(writeAndRead(1), is(1));
+        assertThat(writeAndRead(1L), is(1L));
+        assertThat(writeAndRead((short) 1), is((short) 1));
+        assertThat(writeAndRead((byte) 1), is((byte) 1));
+        assertThat(writeAndRead(1.5F), is(1.5F));
+        assertThat(writeAndRead(1.5D), is(1.5D));
+        assertThat(writeAndRead(new BigDecimal("-12345678901234567890.0123")), is(new BigDecimal("-12345678901234567890.0123")));
+        assertThat(writeAndRead(new BigInteger("12345678901234567890")), is(new BigInteger("12345678901234567890")));
+    }
+    
+    @Test
+    public void assertWriteAndReadCharactersAndBytes() throws IOException, SQLException {
+        assertThat(writeAndRead(Boolean.TRUE), is(Boolean.TRUE));
+        assertThat(writeAndRead("foo_value"), is("foo_value"));
+        assertThat(writeAndRead(new byte[]{1, 2}), is(new byte[]{1, 2}));
+    }
+    
+    @Test
+    public void assertWriteAndReadTemporalValues() throws IOException, SQLException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        assertThat(writeAndRead(timestamp), is(timestamp));
+        assertThat(writeAndRead(new Date(1000L)), is(new Date(1000L)));
+        assertThat(writeAndRead(new Time(1000L)), is(new Time(1000L)));
+        assertThat(writeAndRead(new java.util.Date(1000L)), is(new java.util.Date(1000L)));
+        assertThat(writeAndRead(LocalDate.of(2022, 1, 1)), is(LocalDate.of(2022, 1, 1)));
+        assertThat(writeAndRead(LocalTime.of(1, 2, 3, 4)), is(LocalTime.of(1, 2, 3, 4)));
+        assertThat(writeAndRead(LocalDateTime.of(2022, 1, 1, 1, 2, 3, 4)), is(LocalDateTime.of(2022, 1, 1, 1, 2, 3, 4)));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertWriteSerializableValue() throws IOException, SQLException {
+        writeAndRead(UUID.randomUUID());
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertWriteUnsupportedValue() throws IOException, SQLException {
+        writeAndRead(new Object());
+    }
+    
+    private Object writeAndRead(final Object value) throws IOException, SQLException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            GroupBySpillValueCodec.write(output, value);
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return GroupBySpillValueCodec.read(input);
+        }
+    }
+}
@@ -119,6 +119,13 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<TableRule> actual = createMaximumShardingRule().findTableRuleByActualTable("SUB_TABLE_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("SUB_LOGIC_TABLE"));
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -47,21 +47,87 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The type of worker group to execute SQL, supports FIXED, FORK_JOIN and VIRTUAL_THREAD.
+     * VIRTUAL_THREAD creates one thread per task and ignores kernel-executor-size.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", ExecutorServiceType.FIXED.name(), ExecutorServiceType.class, true),
+    
+    /**
+     * The max concurrent SQL executions on each storage node, zero means unlimited.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_NODE("kernel-executor-max-concurrency-per-storage-node", String.valueOf(0), int.class, false),
+    
+    /**
+     * The max milliseconds to wait when concurrent SQL executions on one storage node reach max concurrency.
+     */
+    KERNEL_EXECUTOR_STORAGE_NODE_QUEUE_TIMEOUT_MILLISECONDS("kernel-executor-storage-node-queue-timeout-milliseconds", String.valueOf(0), long.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * The strategy to choose connection size and connection mode for each query, supports STATIC and ADAPTIVE.
+     */
+    CONNECTION_MODE_STRATEGY("connection-mode-strategy", "STATIC", String.class, false),
+    
+    /**
+     * Max rows coalesced into one multi-values INSERT statement when adding batch of prepared statement.
+     * Rows are routed and rewritten once for each coalescing size of added rows, and each actual table gets one statement with its rows.
+     * Update count of each row is 1 if the statement updates as many rows as it carries, otherwise SUCCESS_NO_INFO.
+     * If the statement fails, all of its rows fail together.
+     * Less than or equal to 1 means no coalescing.
+     */
+    BATCH_INSERT_COALESCING_SIZE("batch-insert-coalescing-size", String.valueOf(0), int.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max connections used to load table meta data from each data source when application startup or reloaded.
+     */
+    METADATA_LOAD_MAX_CONNECTIONS_PER_DATA_SOURCE("metadata-load-max-connections-per-data-source", String.valueOf(1), int.class, false),
+    
+    /**
+     * Whether serve with the persisted meta data snapshot when application startup, and reconcile it with actual tables in background.
+     */
+    METADATA_SNAPSHOT_STARTUP_ENABLED("metadata-snapshot-startup-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether persist schema meta data as one compact node per schema instead of one node per table.
+     */
+    METADATA_PERSIST_COMPACT_SCHEMA_ENABLED("metadata-persist-compact-schema-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max parse tree templates of SQL fingerprints cached to rebind SQL with inlined literals instead of parsing, less than or equal to 0 means disabled.
+     */
+    SQL_FINGERPRINT_CACHE_SIZE("sql-fingerprint-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Whether enable SQL federation.
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Available options of order by stream merge type: PRIORITY_QUEUE(default), LOSER_TREE. The LOSER_TREE option may reduce comparisons when merging lots of query results.
+     */
+    ORDER_BY_STREAM_MERGE_TYPE("order-by-stream-merge-type", "PRIORITY_QUEUE", String.class, false),
+    
+    /**
+     * Max estimated bytes of groups kept in memory for group by memory merge, groups beyond it will be spilled to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MEMORY_MERGE_MAX_BYTES("group-by-memory-merge-max-bytes", "0", long.class, false),
+    
+    /**
+     * Directory of local temporary files spilled by group by memory merge, empty means temporary directory of system.
+     */
+    GROUP_BY_MEMORY_MERGE_SPILL_DIRECTORY("group-by-memory-merge-spill-directory", "", String.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -99,6 +165,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Min length of payload to be compressed for MySQL clients which negotiated compression with ShardingSphere-Proxy, shorter payload is sent uncompressed.
+     */
+    PROXY_FRONTEND_MYSQL_COMPRESSION_MIN_LENGTH("proxy-frontend-mysql-compression-min-length", String.valueOf(50), int.class, false),
+    
     /**
      * Proxy backend driver type..
      */
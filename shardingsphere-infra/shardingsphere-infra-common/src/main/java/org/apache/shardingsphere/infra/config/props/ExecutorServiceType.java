@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.config.props;
+
+/**
+ * Executor service type.
+ */
+public enum ExecutorServiceType {
+    
+    /**
+     * Fixed thread pool, or cached thread pool if executor size is zero.
+     */
+    FIXED,
+    
+    /**
+     * Work stealing fork join pool.
+     */
+    FORK_JOIN,
+    
+    /**
+     * Virtual thread per task executor, only available on JDK which supports virtual threads, otherwise fall back to {@link #FIXED}.
+     * Executor size is ignored because virtual threads are not pooled, it only applies to the fallback thread pool.
+     */
+    VIRTUAL_THREAD
+}
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.infra.datasource.pool.metadata;
 import org.apache.shardingsphere.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.spi.type.typed.TypedSPI;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Data source pool meta data.
@@ -63,4 +65,14 @@ public interface DataSourcePoolMetaData extends TypedSPI {
      * @return data source pool field meta data
      */
     DataSourcePoolFieldMetaData getFieldMetaData();
+    
+    /**
+     * Find available connection count, which is max pool size minus active connection count.
+     *
+     * @param dataSource data source pool
+     * @return available connection count, empty if pool does not expose occupancy or pool size is unlimited
+     */
+    default Optional<Integer> findAvailableConnectionCount(final DataSource dataSource) {
+        return Optional.empty();
+    }
 }
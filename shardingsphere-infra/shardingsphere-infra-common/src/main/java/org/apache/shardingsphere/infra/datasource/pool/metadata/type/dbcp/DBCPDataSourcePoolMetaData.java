@@ -19,11 +19,15 @@ package org.apache.shardingsphere.infra.datasource.pool.metadata.type.dbcp;
 
 import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
 
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DBCP data source pool meta data.
@@ -32,6 +36,8 @@ public final class DBCPDataSourcePoolMetaData implements DataSourcePoolMetaData
     
     private static final Collection<String> TRANSIENT_FIELD_NAMES = new LinkedList<>();
     
+    private static final Map<Class<?>, Map<String, Method>> METHODS = new ConcurrentHashMap<>();
+    
     static {
         buildTransientFieldNames();
     }
@@ -65,6 +71,30 @@ public final class DBCPDataSourcePoolMetaData implements DataSourcePoolMetaData
         return new DBCPDataSourcePoolFieldMetaData();
     }
     
+    @Override
+    public Optional<Integer> findAvailableConnectionCount(final DataSource dataSource) {
+        try {
+            int maxTotal = (int) getMethod(dataSource.getClass(), "getMaxTotal").invoke(dataSource);
+            if (maxTotal < 0) {
+                return Optional.empty();
+            }
+            int numActive = (int) getMethod(dataSource.getClass(), "getNumActive").invoke(dataSource);
+            return Optional.of(Math.max(maxTotal - numActive, 0));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private static Method getMethod(final Class<?> clazz, final String methodName) throws NoSuchMethodException {
+        Map<String, Method> methods = METHODS.computeIfAbsent(clazz, key -> new ConcurrentHashMap<>(2, 1));
+        Method result = methods.get(methodName);
+        if (null == result) {
+            result = clazz.getMethod(methodName);
+            methods.put(methodName, result);
+        }
+        return result;
+    }
+    
     @Override
     public String getType() {
         return "org.apache.commons.dbcp2.BasicDataSource";
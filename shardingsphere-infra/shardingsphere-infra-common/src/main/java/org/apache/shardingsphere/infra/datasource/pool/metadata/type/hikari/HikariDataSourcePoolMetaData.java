@@ -19,10 +19,14 @@ package org.apache.shardingsphere.infra.datasource.pool.metadata.type.hikari;
 
 import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
 
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Hikari data source pool meta data.
@@ -37,6 +41,8 @@ public final class HikariDataSourcePoolMetaData implements DataSourcePoolMetaDat
     
     private static final Collection<String> TRANSIENT_FIELD_NAMES = new LinkedList<>();
     
+    private static final Map<Class<?>, Map<String, Method>> METHODS = new ConcurrentHashMap<>();
+    
     static {
         buildDefaultProperties();
         buildInvalidProperties();
@@ -97,6 +103,28 @@ public final class HikariDataSourcePoolMetaData implements DataSourcePoolMetaDat
         return new HikariDataSourcePoolFieldMetaData();
     }
     
+    @Override
+    public Optional<Integer> findAvailableConnectionCount(final DataSource dataSource) {
+        try {
+            int maxPoolSize = (int) getMethod(dataSource.getClass(), "getMaximumPoolSize").invoke(dataSource);
+            Object hikariPoolMXBean = getMethod(dataSource.getClass(), "getHikariPoolMXBean").invoke(dataSource);
+            int activeConnections = null == hikariPoolMXBean ? 0 : (int) getMethod(hikariPoolMXBean.getClass(), "getActiveConnections").invoke(hikariPoolMXBean);
+            return Optional.of(Math.max(maxPoolSize - activeConnections, 0));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private static Method getMethod(final Class<?> clazz, final String methodName) throws NoSuchMethodException {
+        Map<String, Method> methods = METHODS.computeIfAbsent(clazz, key -> new ConcurrentHashMap<>(2, 1));
+        Method result = methods.get(methodName);
+        if (null == result) {
+            result = clazz.getMethod(methodName);
+            methods.put(methodName, result);
+        }
+        return result;
+    }
+    
     @Override
     public String getType() {
         return "com.zaxxer.hikari.HikariDataSource";
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
+import org.apache.shardingsphere.infra.instance.traffic.TrafficDataSourceRegistry;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
 import org.apache.shardingsphere.infra.lock.LockContext;
 
@@ -52,6 +53,8 @@ public final class InstanceContext {
     
     private final Collection<ComputeNodeInstance> allClusterInstances = new LinkedList<>();
     
+    private final TrafficDataSourceRegistry trafficDataSourceRegistry = new TrafficDataSourceRegistry();
+    
     public InstanceContext(final ComputeNodeInstance instance, final WorkerIdGenerator workerIdGenerator,
                            final ModeConfiguration modeConfiguration, final LockContext lockContext, final EventBusContext eventBusContext) {
         this.instance = instance;
@@ -123,7 +126,9 @@ public final class InstanceContext {
      * @param instance compute node instance
      */
     public void addComputeNodeInstance(final ComputeNodeInstance instance) {
-        allClusterInstances.removeIf(each -> each.getMetaData().getId().equalsIgnoreCase(instance.getMetaData().getId()));
+        if (allClusterInstances.removeIf(each -> each.getMetaData().getId().equalsIgnoreCase(instance.getMetaData().getId()))) {
+            trafficDataSourceRegistry.retire(instance.getMetaData().getId());
+        }
         allClusterInstances.add(instance);
     }
     
@@ -134,6 +139,7 @@ public final class InstanceContext {
      */
     public void deleteComputeNodeInstance(final ComputeNodeInstance instance) {
         allClusterInstances.removeIf(each -> each.getMetaData().getId().equalsIgnoreCase(instance.getMetaData().getId()));
+        trafficDataSourceRegistry.retire(instance.getMetaData().getId());
     }
     
     /**
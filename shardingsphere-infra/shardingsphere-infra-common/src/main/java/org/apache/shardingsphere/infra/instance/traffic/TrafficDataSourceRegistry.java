@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.instance.traffic;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyer;
+import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Traffic data source registry.
+ * 
+ * <p>Traffic data source pools are shared by all connections of the process, and keyed by database name and compute node instance id.
+ * Pool of an instance which goes offline or registers again, or of a database whose data sources or users changed, is destroyed after its last borrower releases it.</p>
+ */
+public final class TrafficDataSourceRegistry {
+    
+    private final Map<String, Map<String, TrafficDataSource>> databaseDataSources = new ConcurrentHashMap<>();
+    
+    private final Map<DataSource, TrafficDataSource> createdDataSources = new ConcurrentHashMap<>();
+    
+    /**
+     * Borrow traffic data sources.
+     * 
+     * @param databaseName database name
+     * @param instances instances which traffic routes to
+     * @param dataSourcePropsCreator creator of data source properties for instances without pool, key of returned map is instance id
+     * @return borrowed data sources, key is instance id
+     */
+    public Map<String, DataSource> borrow(final String databaseName, final Collection<InstanceMetaData> instances,
+                                          final Function<Collection<InstanceMetaData>, Map<String, DataSourceProperties>> dataSourcePropsCreator) {
+        Map<String, DataSourceProperties> absentDataSourcePropsMap = createAbsentDataSourcePropertiesMap(databaseName, instances, dataSourcePropsCreator);
+        Map<String, DataSource> result = new LinkedHashMap<>(instances.size(), 1);
+        for (InstanceMetaData each : instances) {
+            TrafficDataSource trafficDataSource = borrowTrafficDataSource(databaseName, each, absentDataSourcePropsMap, dataSourcePropsCreator);
+            if (null != trafficDataSource) {
+                result.put(each.getId(), trafficDataSource.dataSource);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, DataSourceProperties> createAbsentDataSourcePropertiesMap(final String databaseName, final Collection<InstanceMetaData> instances,
+                                                                                  final Function<Collection<InstanceMetaData>, Map<String, DataSourceProperties>> dataSourcePropsCreator) {
+        Map<String, TrafficDataSource> dataSources = databaseDataSources.getOrDefault(databaseName, Collections.emptyMap());
+        Collection<InstanceMetaData> absentInstances = new LinkedList<>();
+        for (InstanceMetaData each : instances) {
+            if (!dataSources.containsKey(each.getId())) {
+                absentInstances.add(each);
+            }
+        }
+        return absentInstances.isEmpty() ? Collections.emptyMap() : dataSourcePropsCreator.apply(absentInstances);
+    }
+    
+    private TrafficDataSource borrowTrafficDataSource(final String databaseName, final InstanceMetaData instance, final Map<String, DataSourceProperties> absentDataSourcePropsMap,
+                                                      final Function<Collection<InstanceMetaData>, Map<String, DataSourceProperties>> dataSourcePropsCreator) {
+        while (true) {
+            TrafficDataSource result = databaseDataSources.computeIfAbsent(databaseName, unused -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(instance.getId(), unused -> createTrafficDataSource(absentDataSourcePropsMap.containsKey(instance.getId())
+                            ? absentDataSourcePropsMap.get(instance.getId())
+                            : dataSourcePropsCreator.apply(Collections.singletonList(instance)).get(instance.getId())));
+            if (null == result) {
+                return null;
+            }
+            synchronized (result) {
+                if (!result.retired) {
+                    result.borrowedCount++;
+                    return result;
+                }
+            }
+        }
+    }
+    
+    private TrafficDataSource createTrafficDataSource(final DataSourceProperties dataSourceProps) {
+        if (null == dataSourceProps) {
+            return null;
+        }
+        TrafficDataSource result = new TrafficDataSource(DataSourcePoolCreator.create(dataSourceProps));
+        createdDataSources.put(result.dataSource, result);
+        return result;
+    }
+    
+    /**
+     * Release borrowed traffic data sources.
+     * 
+     * @param dataSources borrowed data sources
+     */
+    public void release(final Collection<DataSource> dataSources) {
+        for (DataSource each : dataSources) {
+            TrafficDataSource trafficDataSource = createdDataSources.get(each);
+            if (null == trafficDataSource) {
+                continue;
+            }
+            synchronized (trafficDataSource) {
+                trafficDataSource.borrowedCount--;
+                destroyIfUnused(trafficDataSource);
+            }
+        }
+    }
+    
+    /**
+     * Retire traffic data sources of instance.
+     * 
+     * @param instanceId instance id
+     */
+    public void retire(final String instanceId) {
+        for (Map<String, TrafficDataSource> each : databaseDataSources.values()) {
+            TrafficDataSource trafficDataSource = each.remove(instanceId);
+            if (null != trafficDataSource) {
+                retireTrafficDataSource(trafficDataSource);
+            }
+        }
+    }
+    
+    /**
+     * Retire traffic data sources of database, after data sources of database changed.
+     * 
+     * @param databaseName database name
+     */
+    public void retireDatabase(final String databaseName) {
+        Map<String, TrafficDataSource> dataSources = databaseDataSources.remove(databaseName);
+        if (null != dataSources) {
+            dataSources.values().forEach(this::retireTrafficDataSource);
+        }
+    }
+    
+    /**
+     * Retire all traffic data sources, after users changed.
+     */
+    public void retireAll() {
+        databaseDataSources.keySet().forEach(this::retireDatabase);
+    }
+    
+    private void retireTrafficDataSource(final TrafficDataSource trafficDataSource) {
+        synchronized (trafficDataSource) {
+            trafficDataSource.retired = true;
+            destroyIfUnused(trafficDataSource);
+        }
+    }
+    
+    private void destroyIfUnused(final TrafficDataSource trafficDataSource) {
+        if (trafficDataSource.retired && 0 == trafficDataSource.borrowedCount) {
+            createdDataSources.remove(trafficDataSource.dataSource);
+            new DataSourcePoolDestroyer(trafficDataSource.dataSource).asyncDestroy();
+        }
+    }
+    
+    /**
+     * Close all traffic data sources.
+     */
+    public void close() {
+        databaseDataSources.clear();
+        for (TrafficDataSource each : createdDataSources.values()) {
+            synchronized (each) {
+                each.retired = true;
+            }
+            new DataSourcePoolDestroyer(each.dataSource).asyncDestroy();
+        }
+        createdDataSources.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class TrafficDataSource {
+        
+        private final DataSource dataSource;
+        
+        private int borrowedCount;
+        
+        private boolean retired;
+    }
+}
@@ -91,6 +91,24 @@ public final class ShardingSphereDatabase {
         return create(name, protocolType, databaseConfig, databaseRules, schemas);
     }
     
+    /**
+     * Create database meta data with persisted schemas.
+     *
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param databaseConfig database configuration
+     * @param instanceContext instance context
+     * @param persistedSchemas persisted schemas
+     * @return database meta data
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
+                                                final InstanceContext instanceContext, final Map<String, ShardingSphereSchema> persistedSchemas) {
+        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, databaseConfig, instanceContext);
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(persistedSchemas);
+        schemas.putAll(SystemSchemaBuilder.build(name, protocolType));
+        return create(name, protocolType, databaseConfig, databaseRules, schemas);
+    }
+    
     /**
      * Create system database meta data.
      * 
@@ -90,7 +90,8 @@ public final class GenericSchemaBuilder {
         if (schemaMetaDataLoaderMaterials.isEmpty()) {
             return Collections.emptyMap();
         }
-        return SchemaMetaDataLoaderEngine.load(schemaMetaDataLoaderMaterials, materials.getStorageType());
+        return SchemaMetaDataLoaderEngine.load(schemaMetaDataLoaderMaterials, materials.getStorageType(),
+                materials.getProps().<Integer>getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONNECTIONS_PER_DATA_SOURCE));
     }
     
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterials materials) {
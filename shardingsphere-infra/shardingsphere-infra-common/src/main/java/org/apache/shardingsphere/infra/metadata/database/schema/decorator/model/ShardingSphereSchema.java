@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Collection;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -34,6 +36,9 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereTable> tables;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -71,6 +76,7 @@ public final class ShardingSphereSchema {
      */
     public void put(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        version.incrementAndGet();
     }
     
     /**
@@ -91,6 +97,16 @@ public final class ShardingSphereSchema {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Get version, which increases whenever table meta data is added or removed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
     }
     
     /**
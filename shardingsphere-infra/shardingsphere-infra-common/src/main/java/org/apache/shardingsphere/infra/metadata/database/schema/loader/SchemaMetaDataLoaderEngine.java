@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.loader;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -29,7 +30,9 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.Tab
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectSchemaMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectSchemaMetaDataLoaderFactory;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -59,47 +62,89 @@ public final class SchemaMetaDataLoaderEngine {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType) throws SQLException {
+        return load(materials, databaseType, 1);
+    }
+    
+    /**
+     * Load schema meta data.
+     *
+     * @param materials schema meta data loader materials
+     * @param databaseType database type
+     * @param maxConnectionsPerDataSource max connections used to load table meta data from each data source
+     * @return schema meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType,
+                                                   final int maxConnectionsPerDataSource) throws SQLException {
         Optional<DialectSchemaMetaDataLoader> dialectTableMetaDataLoader = DialectSchemaMetaDataLoaderFactory.findInstance(databaseType);
         if (dialectTableMetaDataLoader.isPresent()) {
             try {
-                return loadByDialect(dialectTableMetaDataLoader.get(), materials);
+                return loadByDialect(dialectTableMetaDataLoader.get(), materials, maxConnectionsPerDataSource);
             } catch (final SQLException | ShardingSphereException ex) {
                 log.error("Dialect load table meta data error.", ex);
-                return loadByDefault(materials, databaseType);
+                return loadByDefault(materials, databaseType, maxConnectionsPerDataSource);
             }
         }
-        return loadByDefault(materials, databaseType);
+        return loadByDefault(materials, databaseType, maxConnectionsPerDataSource);
     }
     
-    private static Map<String, SchemaMetaData> loadByDefault(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType) throws SQLException {
-        Collection<TableMetaData> result = new LinkedList<>();
+    private static Map<String, SchemaMetaData> loadByDefault(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType,
+                                                             final int maxConnectionsPerDataSource) throws SQLException {
+        Collection<Future<Collection<TableMetaData>>> futures = new LinkedList<>();
         String defaultSchemaName = null;
         for (SchemaMetaDataLoaderMaterials each : materials) {
             defaultSchemaName = each.getDefaultSchemaName();
-            for (String tableName : each.getActualTableNames()) {
-                TableMetaDataLoader.load(each.getDataSource(), tableName, databaseType).ifPresent(result::add);
+            for (Collection<String> tableNames : partitionActualTableNames(each.getActualTableNames(), maxConnectionsPerDataSource)) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> loadTableMetaData(each.getDataSource(), tableNames, databaseType)));
             }
         }
+        Collection<TableMetaData> result = new LinkedList<>();
+        for (Future<Collection<TableMetaData>> each : futures) {
+            result.addAll(getFutureResult(each));
+        }
         return Collections.singletonMap(defaultSchemaName, new SchemaMetaData(defaultSchemaName, result));
     }
     
-    private static Map<String, SchemaMetaData> loadByDialect(final DialectSchemaMetaDataLoader loader, final Collection<SchemaMetaDataLoaderMaterials> materials) throws SQLException {
+    private static Collection<TableMetaData> loadTableMetaData(final DataSource dataSource, final Collection<String> tableNames, final DatabaseType databaseType) throws SQLException {
+        Collection<TableMetaData> result = new LinkedList<>();
+        for (String each : tableNames) {
+            TableMetaDataLoader.load(dataSource, each, databaseType).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private static Map<String, SchemaMetaData> loadByDialect(final DialectSchemaMetaDataLoader loader, final Collection<SchemaMetaDataLoaderMaterials> materials,
+                                                             final int maxConnectionsPerDataSource) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>();
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterials each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> loader.load(each.getDataSource(), each.getActualTableNames(), each.getDefaultSchemaName())));
+            for (Collection<String> tableNames : partitionActualTableNames(each.getActualTableNames(), maxConnectionsPerDataSource)) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> loader.load(each.getDataSource(), tableNames, each.getDefaultSchemaName())));
+            }
+        }
+        for (Future<Collection<SchemaMetaData>> each : futures) {
+            mergeSchemaMetaDataMap(result, getFutureResult(each));
+        }
+        return result;
+    }
+    
+    private static Collection<Collection<String>> partitionActualTableNames(final Collection<String> actualTableNames, final int maxConnectionsPerDataSource) {
+        if (maxConnectionsPerDataSource <= 1 || actualTableNames.size() <= 1) {
+            return Collections.singletonList(actualTableNames);
         }
+        int partitionSize = (actualTableNames.size() + maxConnectionsPerDataSource - 1) / maxConnectionsPerDataSource;
+        return new LinkedList<>(Lists.partition(new ArrayList<>(actualTableNames), partitionSize));
+    }
+    
+    private static <T> T getFutureResult(final Future<T> future) throws SQLException {
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                mergeSchemaMetaDataMap(result, each.get());
-            }
+            return future.get();
         } catch (final InterruptedException | ExecutionException ex) {
             if (ex.getCause() instanceof SQLException) {
                 throw (SQLException) ex.getCause();
             }
             throw new ShardingSphereException(ex);
         }
-        return result;
     }
     
     private static void mergeSchemaMetaDataMap(final Map<String, SchemaMetaData> schemaMetaDataMap, final Collection<SchemaMetaData> addedSchemaMetaDataList) {
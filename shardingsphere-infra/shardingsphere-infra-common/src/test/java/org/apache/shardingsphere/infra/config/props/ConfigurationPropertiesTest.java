@@ -34,9 +34,13 @@ public final class ConfigurationPropertiesTest {
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), is(ExecutorServiceType.FORK_JOIN));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ORDER_BY_STREAM_MERGE_TYPE), is("LOSER_TREE"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_BYTES), is(20L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_SPILL_DIRECTORY), is("/tmp/spill"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is("PostgreSQL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
@@ -44,6 +48,7 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is("OLTP"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MYSQL_COMPRESSION_MIN_LENGTH), is(100));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is("JDBC"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
@@ -55,9 +60,13 @@ public final class ConfigurationPropertiesTest {
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE.getKey(), "fork_join");
         result.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.ORDER_BY_STREAM_MERGE_TYPE.getKey(), "LOSER_TREE");
+        result.setProperty(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_BYTES.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_SPILL_DIRECTORY.getKey(), "/tmp/spill");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
@@ -65,6 +74,7 @@ public final class ConfigurationPropertiesTest {
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE.getKey(), "OLTP");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_MYSQL_COMPRESSION_MIN_LENGTH.getKey(), "100");
         result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE.getKey(), "JDBC");
         result.setProperty(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION.getKey(), "5.7.22");
         result.setProperty(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308");
@@ -78,9 +88,13 @@ public final class ConfigurationPropertiesTest {
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), is(ExecutorServiceType.FIXED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ORDER_BY_STREAM_MERGE_TYPE), is("PRIORITY_QUEUE"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_BYTES), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_SPILL_DIRECTORY), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
@@ -88,6 +102,7 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is("OLAP"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MYSQL_COMPRESSION_MIN_LENGTH), is(50));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is("JDBC"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
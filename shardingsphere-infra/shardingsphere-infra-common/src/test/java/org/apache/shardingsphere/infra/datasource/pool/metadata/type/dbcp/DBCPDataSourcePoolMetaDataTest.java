@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.metadata.type.dbcp;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class DBCPDataSourcePoolMetaDataTest {
+    
+    @Test
+    public void assertFindAvailableConnectionCount() {
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxTotal(8);
+        assertThat(new DBCPDataSourcePoolMetaData().findAvailableConnectionCount(dataSource), is(Optional.of(8)));
+    }
+    
+    @Test
+    public void assertFindAvailableConnectionCountWithUnlimitedPoolSize() {
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxTotal(-1);
+        assertFalse(new DBCPDataSourcePoolMetaData().findAvailableConnectionCount(dataSource).isPresent());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.instance.traffic;
+
+import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
+import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
+import org.apache.shardingsphere.test.mock.MockedDataSource;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TrafficDataSourceRegistryTest {
+    
+    private final Collection<InstanceMetaData> instances = Collections.singletonList(new ProxyInstanceMetaData("foo_id", "127.0.0.1@3307"));
+    
+    private final AtomicInteger createdCount = new AtomicInteger();
+    
+    @Test
+    public void assertBorrowSharedDataSource() {
+        TrafficDataSourceRegistry registry = new TrafficDataSourceRegistry();
+        DataSource expected = registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id");
+        assertThat(registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id"), sameInstance(expected));
+        assertThat(createdCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertRetireAfterRelease() throws InterruptedException {
+        TrafficDataSourceRegistry registry = new TrafficDataSourceRegistry();
+        MockedDataSource borrowed = (MockedDataSource) registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id");
+        registry.retire("foo_id");
+        assertThat(registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id"), not(sameInstance(borrowed)));
+        assertFalse(borrowed.isClosed());
+        registry.release(Collections.singletonList(borrowed));
+        assertTrue(awaitClosed(borrowed));
+    }
+    
+    @Test
+    public void assertRetireDatabase() throws InterruptedException {
+        TrafficDataSourceRegistry registry = new TrafficDataSourceRegistry();
+        MockedDataSource borrowed = (MockedDataSource) registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id");
+        MockedDataSource otherDatabaseDataSource = (MockedDataSource) registry.borrow("bar_db", instances, this::createDataSourcePropertiesMap).get("foo_id");
+        registry.retireDatabase("foo_db");
+        assertThat(registry.borrow("bar_db", instances, this::createDataSourcePropertiesMap).get("foo_id"), sameInstance(otherDatabaseDataSource));
+        registry.release(Collections.singletonList(borrowed));
+        assertTrue(awaitClosed(borrowed));
+        assertFalse(otherDatabaseDataSource.isClosed());
+    }
+    
+    @Test
+    public void assertRetireAll() throws InterruptedException {
+        TrafficDataSourceRegistry registry = new TrafficDataSourceRegistry();
+        MockedDataSource borrowed = (MockedDataSource) registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id");
+        registry.retireAll();
+        assertThat(registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id"), not(sameInstance(borrowed)));
+        registry.release(Collections.singletonList(borrowed));
+        assertTrue(awaitClosed(borrowed));
+    }
+    
+    @Test
+    public void assertClose() throws InterruptedException {
+        TrafficDataSourceRegistry registry = new TrafficDataSourceRegistry();
+        MockedDataSource borrowed = (MockedDataSource) registry.borrow("foo_db", instances, this::createDataSourcePropertiesMap).get("foo_id");
+        registry.close();
+        assertTrue(awaitClosed(borrowed));
+    }
+    
+    private Map<String, DataSourceProperties> createDataSourcePropertiesMap(final Collection<InstanceMetaData> absentInstances) {
+        createdCount.incrementAndGet();
+        Map<String, DataSourceProperties> result = new LinkedHashMap<>(absentInstances.size(), 1);
+        for (InstanceMetaData each : absentInstances) {
+            Map<String, Object> props = new LinkedHashMap<>(1, 1);
+            props.put("url", "jdbc:mock://127.0.0.1:3307/foo_db");
+            result.put(each.getId(), new DataSourceProperties(MockedDataSource.class.getName(), props));
+        }
+        return result;
+    }
+    
+    private boolean awaitClosed(final MockedDataSource dataSource) throws InterruptedException {
+        for (int i = 0; i < 100 && !dataSource.isClosed(); i++) {
+            Thread.sleep(10L);
+        }
+        return dataSource.isClosed();
+    }
+}
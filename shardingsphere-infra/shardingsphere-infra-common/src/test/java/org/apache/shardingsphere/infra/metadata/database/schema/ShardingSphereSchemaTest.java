@@ -60,6 +60,16 @@ public final class ShardingSphereSchemaTest {
         assertNull(actual.get("tbl"));
     }
     
+    @Test
+    public void assertGetVersionAfterTablesChanged() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        assertThat(actual.getVersion(), is(0L));
+        actual.put("tbl", mock(ShardingSphereTable.class));
+        assertThat(actual.getVersion(), is(1L));
+        actual.remove("tbl");
+        assertThat(actual.getVersion(), is(2L));
+    }
+    
     @Test
     public void assertContainsTable() {
         assertTrue(new ShardingSphereSchema(Collections.singletonMap("tbl", mock(ShardingSphereTable.class))).containsTable("tbl"));
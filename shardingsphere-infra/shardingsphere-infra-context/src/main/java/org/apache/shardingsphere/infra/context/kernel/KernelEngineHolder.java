@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Kernel engine holder.
+ * 
+ * <p>Holds route engine and rewrite entry which only depend on rules and properties, so that they are reused by executions until rules or properties changed.</p>
+ * 
+ * <p>Route results are not held, since they also depend on parameters, hints, transaction state and load balance of replicas.
+ * Rewrite entry holds rewrite templates of prepared statements, which are reused for same route results.</p>
+ */
+public final class KernelEngineHolder {
+    
+    private final ShardingSphereRule[] rules;
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    @Getter
+    private final SQLRouteEngine routeEngine;
+    
+    @Getter
+    private final SQLRewriteEntry rewriteEntry;
+    
+    public KernelEngineHolder(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        Collection<ShardingSphereRule> rules = database.getRuleMetaData().getRules();
+        this.rules = rules.toArray(new ShardingSphereRule[0]);
+        this.globalRuleMetaData = globalRuleMetaData;
+        this.props = props;
+        routeEngine = new SQLRouteEngine(rules, props);
+        rewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+    }
+    
+    /**
+     * Judge whether engines are up to date with rules and properties.
+     * 
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return engines are up to date or not
+     */
+    public boolean isUpToDate(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        return this.globalRuleMetaData == globalRuleMetaData && this.props == props && isSameRules(database.getRuleMetaData().getRules());
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> rules) {
+        if (this.rules.length != rules.size()) {
+            return false;
+        }
+        Iterator<ShardingSphereRule> iterator = rules.iterator();
+        for (ShardingSphereRule each : this.rules) {
+            if (each != iterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
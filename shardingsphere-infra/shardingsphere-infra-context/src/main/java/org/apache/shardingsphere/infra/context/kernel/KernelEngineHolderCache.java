@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+
+import java.util.Map.Entry;
+
+/**
+ * Kernel engine holder cache.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KernelEngineHolderCache {
+    
+    private static final Cache<ShardingSphereDatabase, KernelEngineHolder> CACHE = Caffeine.newBuilder().weakKeys().softValues().maximumSize(1024L).build();
+    
+    /**
+     * Get kernel engine holder.
+     * 
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return kernel engine holder
+     */
+    public static KernelEngineHolder get(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        KernelEngineHolder result = CACHE.getIfPresent(database);
+        if (null == result || !result.isUpToDate(database, globalRuleMetaData, props)) {
+            result = new KernelEngineHolder(database, globalRuleMetaData, props);
+            CACHE.put(database, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate prepared templates of database.
+     * 
+     * @param databaseName database name, null means all databases
+     */
+    public static void invalidatePreparedTemplates(final String databaseName) {
+        for (Entry<ShardingSphereDatabase, KernelEngineHolder> entry : CACHE.asMap().entrySet()) {
+            if (null == databaseName || databaseName.equalsIgnoreCase(entry.getKey().getName())) {
+                entry.getValue().getRewriteEntry().invalidatePreparedTemplates();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.metadata.database.schema.event.MetaDataRefreshedEvent;
+import org.apache.shardingsphere.infra.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+
+/**
+ * Prepared template subscriber, which invalidates rewrite templates of prepared statements after meta data changed or refreshed.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public final class PreparedTemplateSubscriber {
+    
+    public PreparedTemplateSubscriber(final EventBusContext eventBusContext) {
+        eventBusContext.register(this);
+    }
+    
+    /**
+     * Invalidate prepared templates of changed database.
+     *
+     * @param event meta data changed event
+     */
+    @Subscribe
+    public void invalidate(final MetaDataChangedEvent event) {
+        KernelEngineHolderCache.invalidatePreparedTemplates(event.getDatabaseName());
+    }
+    
+    /**
+     * Invalidate prepared templates after schema refreshed.
+     *
+     * @param event meta data refreshed event
+     */
+    @Subscribe
+    public void invalidate(final MetaDataRefreshedEvent event) {
+        KernelEngineHolderCache.invalidatePreparedTemplates(null);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class KernelEngineHolderCacheTest {
+    
+    private ShardingSphereDatabase database;
+    
+    private ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    private ConfigurationProperties props;
+    
+    @Before
+    public void setUp() {
+        database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(mock(ShardingSphereRule.class))), Collections.emptyMap());
+        globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class)));
+        props = new ConfigurationProperties(new Properties());
+    }
+    
+    @Test
+    public void assertGetWithSameRulesAndProperties() {
+        KernelEngineHolder expected = KernelEngineHolderCache.get(database, globalRuleMetaData, props);
+        assertThat(KernelEngineHolderCache.get(database, globalRuleMetaData, props), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetAfterRulesChanged() {
+        KernelEngineHolder expected = KernelEngineHolderCache.get(database, globalRuleMetaData, props);
+        database.getRuleMetaData().getRules().add(mock(ShardingSphereRule.class));
+        KernelEngineHolder actual = KernelEngineHolderCache.get(database, globalRuleMetaData, props);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.isUpToDate(database, globalRuleMetaData, props), is(true));
+    }
+    
+    @Test
+    public void assertGetAfterPropertiesChanged() {
+        KernelEngineHolder expected = KernelEngineHolderCache.get(database, globalRuleMetaData, props);
+        ConfigurationProperties newProps = new ConfigurationProperties(new Properties());
+        assertThat(expected.isUpToDate(database, globalRuleMetaData, newProps), is(false));
+        assertThat(KernelEngineHolderCache.get(database, globalRuleMetaData, newProps), not(sameInstance(expected)));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ExecutorServiceType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -32,6 +33,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -49,6 +51,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final ExecutorServiceType executorServiceType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorServiceType);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -59,6 +65,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and executor service type.
+     *
+     * @param executorSize executor size
+     * @param executorServiceType executor service type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSizeAndType(final int executorSize, final ExecutorServiceType executorServiceType) {
+        return new ExecutorEngine(executorSize, executorServiceType);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -126,40 +143,136 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+        CompletableFuture<List<O>> resultFuture = parallelExecuteAsync(executionGroups, firstCallback, callback);
+        try {
+            return resultFuture.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            resultFuture.cancel(true);
+            return throwException(ex);
+        }
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback) {
+        return executeAsync(executionGroupContext, null, callback);
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>The first execution group is executed on caller thread as trunk thread, the other groups are executed by executor service and complete independently,
+     * so a slow group does not hold executor threads of other groups. The returned future is completed with results in execution group order
+     * after all groups completed, or completed exceptionally as soon as any group failed, and the unfinished groups are cancelled then.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        try {
+            return parallelExecuteAsync(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            CompletableFuture<List<O>> result = new CompletableFuture<>();
+            result.completeExceptionally(ex);
+            return result;
+        }
+    }
+    
+    private <I, O> CompletableFuture<List<O>> parallelExecuteAsync(final Iterator<ExecutionGroup<I>> executionGroups,
+                                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        List<CompletableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel(restResultFutures);
+            throw ex;
+        }
+        return getGroupResults(firstResults, restResultFutures);
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+    private <I, O> List<CompletableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        List<CompletableFuture<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            result.add(asyncExecute(executionGroups.next(), callback, dataMap));
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) {
+        CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+        Future<?> task = executorServiceManager.getExecutorService().submit(() -> {
+            try {
+                result.complete(callback.execute(executionGroup.getInputs(), false, dataMap));
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(ex);
+            }
+        });
+        result.whenComplete((unused, ex) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
+    private <O> CompletableFuture<List<O>> getGroupResults(final Collection<O> firstResults, final List<CompletableFuture<Collection<O>>> restFutures) {
+        CompletableFuture<List<O>> result = CompletableFuture.allOf(restFutures.toArray(new CompletableFuture[0])).thenApply(unused -> mergeGroupResults(firstResults, restFutures));
+        for (CompletableFuture<Collection<O>> each : restFutures) {
+            each.whenComplete((groupResults, ex) -> {
+                if (null != ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        }
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                cancel(restFutures);
             }
+        });
+        return result;
+    }
+    
+    private <O> List<O> mergeGroupResults(final Collection<O> firstResults, final List<CompletableFuture<Collection<O>>> restFutures) {
+        List<O> result = new LinkedList<>(firstResults);
+        for (CompletableFuture<Collection<O>> each : restFutures) {
+            result.addAll(each.join());
         }
         return result;
     }
     
+    private <O> void cancel(final List<CompletableFuture<Collection<O>>> futures) {
+        for (CompletableFuture<Collection<O>> each : futures) {
+            each.cancel(true);
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -28,6 +31,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -41,14 +45,43 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, ExecutorServiceType.FIXED);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    public ExecutorServiceManager(final int executorSize, final ExecutorServiceType executorServiceType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorServiceType);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorServiceType executorServiceType) {
+        executorService = getExecutorService(executorSize, nameFormat, executorServiceType);
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final ExecutorServiceType executorServiceType) {
+        switch (executorServiceType) {
+            case FORK_JOIN:
+                return new ForkJoinPool(0 == executorSize ? Runtime.getRuntime().availableProcessors() : executorSize,
+                        ExecutorThreadFactoryBuilder.buildForkJoinWorkerThreadFactory(nameFormat), null, true);
+            case VIRTUAL_THREAD:
+                return createVirtualThreadExecutorService().orElseGet(() -> getThreadPoolExecutorService(executorSize, nameFormat));
+            default:
+                return getThreadPoolExecutorService(executorSize, nameFormat);
+        }
+    }
+    
+    private ExecutorService getThreadPoolExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private Optional<ExecutorService> createVirtualThreadExecutorService() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            log.warn("Virtual threads are not supported by current JVM, fall back to thread pool executor.");
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -21,6 +21,9 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -51,4 +54,18 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build fork join worker thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return fork join worker thread factory
+     */
+    public static ForkJoinWorkerThreadFactory buildForkJoinWorkerThreadFactory(final String nameFormat) {
+        return pool -> {
+            ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, result.getPoolIndex()));
+            return result;
+        };
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead;
+
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Storage node bulkhead, limits concurrent executions on one storage node.
+ */
+public final class StorageNodeBulkhead {
+    
+    @Getter
+    private final String storageNode;
+    
+    @Getter
+    private final int maxConcurrency;
+    
+    private final long queueTimeoutMilliseconds;
+    
+    private final Semaphore permits;
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    public StorageNodeBulkhead(final String storageNode, final int maxConcurrency, final long queueTimeoutMilliseconds) {
+        this.storageNode = storageNode;
+        this.maxConcurrency = maxConcurrency;
+        this.queueTimeoutMilliseconds = queueTimeoutMilliseconds;
+        permits = new Semaphore(maxConcurrency);
+    }
+    
+    /**
+     * Acquire execution permits, wait at most queue timeout.
+     *
+     * @param permitCount count of permits to acquire
+     * @throws StorageNodeBulkheadFullException storage node bulkhead full exception
+     */
+    public void acquire(final int permitCount) throws StorageNodeBulkheadFullException {
+        if (permits.tryAcquire(permitCount)) {
+            return;
+        }
+        try {
+            if (queueTimeoutMilliseconds > 0 && permits.tryAcquire(permitCount, queueTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCount.incrementAndGet();
+        throw new StorageNodeBulkheadFullException(storageNode, maxConcurrency, queueTimeoutMilliseconds);
+    }
+    
+    /**
+     * Release execution permits.
+     *
+     * @param permitCount count of permits to release
+     */
+    public void release(final int permitCount) {
+        permits.release(permitCount);
+    }
+    
+    /**
+     * Get active count.
+     *
+     * @return count of executions holding permits
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+    
+    /**
+     * Get waiting count.
+     *
+     * @return estimated count of executions waiting for permits
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+    
+    /**
+     * Get rejected count.
+     *
+     * @return count of rejected executions
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
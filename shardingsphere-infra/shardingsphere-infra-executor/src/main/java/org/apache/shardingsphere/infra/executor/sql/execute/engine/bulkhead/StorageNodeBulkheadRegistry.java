@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Storage node bulkhead registry.
+ * 
+ * <p>Bulkheads are keyed by storage node instance (hostname and port). Permits are acquired by the caller thread before execution groups are submitted,
+ * so executions waiting for a degraded instance never occupy executor threads, they wait for queue timeout and are rejected then.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StorageNodeBulkheadRegistry {
+    
+    private static final Map<String, StorageNodeBulkhead> BULKHEADS = new ConcurrentHashMap<>();
+    
+    private static final Map<String, String> CACHED_STORAGE_NODES = new ConcurrentHashMap<>();
+    
+    private static volatile int maxConcurrency;
+    
+    private static volatile long queueTimeoutMilliseconds;
+    
+    /**
+     * Initialize storage node bulkheads, bulkheads are disabled if max concurrency is not positive.
+     *
+     * @param maxConcurrency max concurrency per storage node
+     * @param queueTimeoutMilliseconds queue timeout milliseconds
+     */
+    public static synchronized void init(final int maxConcurrency, final long queueTimeoutMilliseconds) {
+        if (StorageNodeBulkheadRegistry.maxConcurrency == maxConcurrency && StorageNodeBulkheadRegistry.queueTimeoutMilliseconds == queueTimeoutMilliseconds) {
+            return;
+        }
+        StorageNodeBulkheadRegistry.maxConcurrency = maxConcurrency;
+        StorageNodeBulkheadRegistry.queueTimeoutMilliseconds = queueTimeoutMilliseconds;
+        BULKHEADS.clear();
+    }
+    
+    /**
+     * Judge whether storage node bulkheads are enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return maxConcurrency > 0;
+    }
+    
+    /**
+     * Get storage node of data source, the hostname and port are parsed once per data source URL.
+     *
+     * @param databaseMetaData database meta data of data source connection
+     * @param databaseType database type
+     * @return storage node
+     * @throws SQLException SQL exception
+     */
+    public static String getStorageNode(final DatabaseMetaData databaseMetaData, final DatabaseType databaseType) throws SQLException {
+        String url = databaseMetaData.getURL();
+        String result = CACHED_STORAGE_NODES.get(url);
+        if (null == result) {
+            DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(url, databaseMetaData.getUserName());
+            result = dataSourceMetaData.getHostname() + ":" + dataSourceMetaData.getPort();
+            CACHED_STORAGE_NODES.put(url, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Acquire execution permits of storage nodes.
+     * 
+     * <p>Storage nodes are acquired in key order to avoid executions waiting for each other, permits of one storage node are capped by max concurrency.
+     * Permits already acquired are released if any storage node is full.</p>
+     *
+     * @param storageNodePermitCounts permit counts of storage nodes
+     * @return acquired permit counts of bulkheads
+     * @throws StorageNodeBulkheadFullException storage node bulkhead full exception
+     */
+    public static Map<StorageNodeBulkhead, Integer> acquire(final SortedMap<String, Integer> storageNodePermitCounts) throws StorageNodeBulkheadFullException {
+        Map<StorageNodeBulkhead, Integer> result = new LinkedHashMap<>(storageNodePermitCounts.size(), 1F);
+        try {
+            for (Entry<String, Integer> entry : storageNodePermitCounts.entrySet()) {
+                StorageNodeBulkhead bulkhead = BULKHEADS.computeIfAbsent(entry.getKey(), key -> new StorageNodeBulkhead(key, maxConcurrency, queueTimeoutMilliseconds));
+                int permitCount = Math.min(entry.getValue(), bulkhead.getMaxConcurrency());
+                bulkhead.acquire(permitCount);
+                result.put(bulkhead, permitCount);
+            }
+        } catch (final StorageNodeBulkheadFullException ex) {
+            release(result);
+            throw ex;
+        }
+        return result;
+    }
+    
+    /**
+     * Release execution permits.
+     *
+     * @param bulkheadPermitCounts acquired permit counts of bulkheads
+     */
+    public static void release(final Map<StorageNodeBulkhead, Integer> bulkheadPermitCounts) {
+        bulkheadPermitCounts.forEach(StorageNodeBulkhead::release);
+    }
+    
+    /**
+     * Get all bulkheads.
+     *
+     * @return all bulkheads
+     */
+    public static Collection<StorageNodeBulkhead> getAllBulkheads() {
+        return Collections.unmodifiableCollection(BULKHEADS.values());
+    }
+}
@@ -18,13 +18,20 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkhead;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkheadRegistry;
 
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * JDBC executor.
@@ -62,10 +69,32 @@ public final class JDBCExecutor {
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
         try {
-            return executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
+            return StorageNodeBulkheadRegistry.isEnabled()
+                    ? executeWithBulkheads(executionGroupContext, firstCallback, callback)
+                    : executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    private <T> List<T> executeWithBulkheads(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                             final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        Map<StorageNodeBulkhead, Integer> bulkheadPermitCounts = StorageNodeBulkheadRegistry.acquire(getStorageNodePermitCounts(executionGroupContext, callback.getDatabaseType()));
+        try {
+            return executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
+        } finally {
+            StorageNodeBulkheadRegistry.release(bulkheadPermitCounts);
+        }
+    }
+    
+    private SortedMap<String, Integer> getStorageNodePermitCounts(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final DatabaseType databaseType) throws SQLException {
+        SortedMap<String, Integer> result = new TreeMap<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            if (!each.getInputs().isEmpty()) {
+                result.merge(StorageNodeBulkheadRegistry.getStorageNode(each.getInputs().iterator().next().getStorageResource().getConnection().getMetaData(), databaseType), 1, Integer::sum);
+            }
+        }
+        return result;
+    }
 }
@@ -27,8 +27,10 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
-import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHookFactory;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeStrategy;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -50,7 +52,9 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCExecutionUnit, T> {
     
-    private static final Map<String, DataSourceMetaData> CACHED_DATASOURCE_METADATA = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, DataSourceMetaData>> CACHED_DATASOURCE_METADATA = new ConcurrentHashMap<>();
+    
+    private static final Map<String, DataSourceMetaData> CACHED_URL_DATASOURCE_METADATA = new ConcurrentHashMap<>();
     
     private final DatabaseType protocolType;
     
@@ -67,6 +71,15 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         this(databaseType, databaseType, sqlStatement, isExceptionThrown, eventBusContext);
     }
     
+    /**
+     * Clear cached data source meta data of database, after data sources of database changed.
+     *
+     * @param databaseName database name
+     */
+    public static void clearCachedDataSourceMetaData(final String databaseName) {
+        CACHED_DATASOURCE_METADATA.keySet().removeIf(databaseName::equalsIgnoreCase);
+    }
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
@@ -87,12 +100,15 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
      */
     private T execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
         SQLExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(jdbcExecutionUnit.getStorageResource().getConnection().getMetaData());
-        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        SQLExecutionHook sqlExecutionHook = SQLExecutionHookFactory.getInstance();
+        DataSourceMetaData dataSourceMetaData = sqlExecutionHook.isEnabled() ? getDataSourceMetaData(jdbcExecutionUnit, dataMap) : null;
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            if (AdaptiveConnectionModeStrategy.isEnabled() && result instanceof QueryResult) {
+                AdaptiveConnectionModeStrategy.recordResultSize(sqlUnit.getSql(), (QueryResult) result);
+            }
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
@@ -100,6 +116,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (!databaseType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
+                    sqlExecutionHook.finishSuccess();
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
@@ -109,13 +126,28 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private DataSourceMetaData getDataSourceMetaData(final JDBCExecutionUnit jdbcExecutionUnit, final Map<String, Object> dataMap) throws SQLException {
+        Object databaseName = dataMap.get(ExecuteProcessConstants.DATABASE_NAME.name());
+        if (null == databaseName) {
+            return getDataSourceMetaData(jdbcExecutionUnit.getStorageResource().getConnection().getMetaData());
+        }
+        Map<String, DataSourceMetaData> dataSourceMetaDataMap = CACHED_DATASOURCE_METADATA.computeIfAbsent(databaseName.toString(), key -> new ConcurrentHashMap<>());
+        String dataSourceName = jdbcExecutionUnit.getExecutionUnit().getDataSourceName();
+        DataSourceMetaData result = dataSourceMetaDataMap.get(dataSourceName);
+        if (null == result) {
+            result = getDataSourceMetaData(jdbcExecutionUnit.getStorageResource().getConnection().getMetaData());
+            dataSourceMetaDataMap.put(dataSourceName, result);
+        }
+        return result;
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData databaseMetaData) throws SQLException {
         String url = databaseMetaData.getURL();
-        if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
-            return CACHED_DATASOURCE_METADATA.get(url);
+        DataSourceMetaData result = CACHED_URL_DATASOURCE_METADATA.get(url);
+        if (null == result) {
+            result = databaseType.getDataSourceMetaData(url, databaseMetaData.getUserName());
+            CACHED_URL_DATASOURCE_METADATA.put(url, result);
         }
-        DataSourceMetaData result = databaseType.getDataSourceMetaData(url, databaseMetaData.getUserName());
-        CACHED_DATASOURCE_METADATA.put(url, result);
         return result;
     }
     
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeStrategy;
 
 import java.io.InputStream;
 import java.math.BigDecimal;
@@ -41,6 +43,11 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     @Getter
     private final ResultSet resultSet;
     
+    @Setter
+    private String resultSizeRecordSQL;
+    
+    private long rowCount;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -48,7 +55,15 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (resultSet.next()) {
+            rowCount++;
+            return true;
+        }
+        if (null != resultSizeRecordSQL) {
+            AdaptiveConnectionModeStrategy.recordResultSize(resultSizeRecordSQL, rowCount);
+            resultSizeRecordSQL = null;
+        }
+        return false;
     }
     
     @Override
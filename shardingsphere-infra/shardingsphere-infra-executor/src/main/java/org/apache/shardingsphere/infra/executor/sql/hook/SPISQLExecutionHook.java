@@ -19,7 +19,6 @@ package org.apache.shardingsphere.infra.executor.sql.hook;
 
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -28,13 +27,15 @@ import java.util.Map;
  */
 public final class SPISQLExecutionHook implements SQLExecutionHook {
     
-    private final Collection<SQLExecutionHook> sqlExecutionHooks = SQLExecutionHookFactory.getAllInstances();
+    private final SQLExecutionHook[] sqlExecutionHooks = SQLExecutionHookFactory.getAllInstances().toArray(new SQLExecutionHook[0]);
     
     @Override
     public void start(final String dataSourceName, final String sql, final List<Object> parameters,
                       final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
         for (SQLExecutionHook each : sqlExecutionHooks) {
-            each.start(dataSourceName, sql, parameters, dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
+            if (each.isEnabled()) {
+                each.start(dataSourceName, sql, parameters, dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
+            }
         }
     }
     
@@ -51,4 +52,14 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
             each.finishFailure(cause);
         }
     }
+    
+    @Override
+    public boolean isEnabled() {
+        for (SQLExecutionHook each : sqlExecutionHooks) {
+            if (each.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -24,6 +24,9 @@ import java.util.Map;
 
 /**
  * SQL Execution hook.
+ * 
+ * <p>Hook instance is shared by all executions, state between start and finish should be kept per thread.
+ * Finish is called even if start is skipped because hook is disabled.</p>
  */
 public interface SQLExecutionHook {
     
@@ -50,4 +53,13 @@ public interface SQLExecutionHook {
      * @param cause failure cause
      */
     void finishFailure(Exception cause);
+    
+    /**
+     * Judge whether SQL execution hook is enabled.
+     * 
+     * @return is enabled or not
+     */
+    default boolean isEnabled() {
+        return true;
+    }
 }
@@ -33,6 +33,19 @@ public final class SQLExecutionHookFactory {
         ShardingSphereServiceLoader.register(SQLExecutionHook.class);
     }
     
+    private static final SQLExecutionHook INSTANCE = new SPISQLExecutionHook();
+    
+    /**
+     * Get instance of SQL execution hook.
+     * 
+     * <p>Registered hooks are composed once and shared by all executions.</p>
+     *
+     * @return instance of SQL execution hook
+     */
+    public static SQLExecutionHook getInstance() {
+        return INSTANCE;
+    }
+    
     /**
      * Get all instances of SQL Execution hook.
      *
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.infra.executor.sql.prepare;
 
 import com.google.common.collect.Lists;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeStrategy;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
@@ -33,6 +35,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Abstract execution prepare engine.
@@ -53,24 +56,42 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     
     @Override
     public final ExecutionGroupContext<T> prepare(final RouteContext routeContext, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        return prepare(routeContext, executionUnits, null);
+    }
+    
+    @Override
+    public final ExecutionGroupContext<T> prepare(final RouteContext routeContext, final Collection<ExecutionUnit> executionUnits,
+                                                  final SQLStatementContext<?> sqlStatementContext) throws SQLException {
         Collection<ExecutionGroup<T>> result = new LinkedList<>();
+        boolean largeResultExpected = AdaptiveConnectionModeStrategy.isEnabled() && AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, sqlStatementContext);
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int connectionSize = getConnectionSize(dataSourceName, sqlUnits.size(), largeResultExpected);
+            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits, connectionSize);
+            ConnectionMode connectionMode = connectionSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, sqlUnitGroups, connectionMode));
         }
         return decorate(routeContext, result);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private int getConnectionSize(final String dataSourceName, final int sqlUnitCount, final boolean largeResultExpected) {
+        return AdaptiveConnectionModeStrategy.isEnabled()
+                ? AdaptiveConnectionModeStrategy.getConnectionSize(maxConnectionsSizePerQuery, sqlUnitCount, findAvailableConnectionCount(dataSourceName), largeResultExpected)
+                : Math.min(maxConnectionsSizePerQuery, sqlUnitCount);
+    }
+    
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int connectionSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
     protected abstract List<ExecutionGroup<T>> group(String dataSourceName, List<List<SQLUnit>> sqlUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
+    protected Optional<Integer> findAvailableConnectionCount(final String dataSourceName) {
+        return Optional.empty();
+    }
+    
     private Map<String, List<SQLUnit>> aggregateSQLUnitGroups(final Collection<ExecutionUnit> executionUnits) {
         Map<String, List<SQLUnit>> result = new LinkedHashMap<>(executionUnits.size(), 1);
         for (ExecutionUnit each : executionUnits) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.prepare;
 
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -40,4 +41,17 @@ public interface ExecutionPrepareEngine<T> {
      * @throws SQLException SQL exception
      */
     ExecutionGroupContext<T> prepare(RouteContext routeContext, Collection<ExecutionUnit> executionUnits) throws SQLException;
+    
+    /**
+     * Prepare to execute with SQL statement context, which helps to choose connection mode.
+     *
+     * @param routeContext route context
+     * @param executionUnits execution units
+     * @param sqlStatementContext SQL statement context
+     * @return execution group context
+     * @throws SQLException SQL exception
+     */
+    default ExecutionGroupContext<T> prepare(RouteContext routeContext, Collection<ExecutionUnit> executionUnits, SQLStatementContext<?> sqlStatementContext) throws SQLException {
+        return prepare(routeContext, executionUnits);
+    }
 }
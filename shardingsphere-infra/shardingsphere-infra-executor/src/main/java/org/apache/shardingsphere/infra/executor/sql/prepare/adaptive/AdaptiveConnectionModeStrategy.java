@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Adaptive connection mode strategy.
+ * 
+ * <p>Connection size of one data source is limited by available connections of its pool, so that a query does not wait for connections it can not get.
+ * Using fewer connections than SQL units loads results into memory, so the limit is not applied if large results are expected,
+ * which are judged once per statement by result size history of the SQL, then by pagination of the statement.
+ * Result size history is keyed by actual SQL, so executions of one prepared statement share history whatever their parameters are.
+ * History is bounded and the least recently used SQLs are evicted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AdaptiveConnectionModeStrategy {
+    
+    private static final String ADAPTIVE_STRATEGY = "ADAPTIVE";
+    
+    private static final long LARGE_RESULT_ROW_COUNT = 1000L;
+    
+    private static final int MAX_HISTORY_SIZE = 4096;
+    
+    private static final double DECAY = 0.2D;
+    
+    private static final Cache<String, Long> RESULT_SIZE_HISTORY = Caffeine.newBuilder().maximumSize(MAX_HISTORY_SIZE).build();
+    
+    private static volatile boolean enabled;
+    
+    /**
+     * Initialize connection mode strategy.
+     *
+     * @param strategy connection mode strategy, STATIC or ADAPTIVE
+     */
+    public static void init(final String strategy) {
+        enabled = ADAPTIVE_STRATEGY.equalsIgnoreCase(strategy);
+        if (!enabled) {
+            RESULT_SIZE_HISTORY.invalidateAll();
+        }
+    }
+    
+    /**
+     * Judge whether adaptive connection mode strategy is enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Judge whether large results are expected.
+     *
+     * @param executionUnits execution units of statement
+     * @param sqlStatementContext SQL statement context, null if absent
+     * @return large results are expected or not
+     */
+    public static boolean isLargeResultExpected(final Collection<ExecutionUnit> executionUnits, final SQLStatementContext<?> sqlStatementContext) {
+        if (executionUnits.isEmpty() || null != sqlStatementContext && !(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        Long averageRowCount = RESULT_SIZE_HISTORY.getIfPresent(executionUnits.iterator().next().getSqlUnit().getSql());
+        if (null != averageRowCount) {
+            return averageRowCount > LARGE_RESULT_ROW_COUNT;
+        }
+        if (null == sqlStatementContext) {
+            return true;
+        }
+        PaginationContext paginationContext = ((SelectStatementContext) sqlStatementContext).getPaginationContext();
+        if (!paginationContext.isHasPagination() || !paginationContext.getActualRowCount().isPresent()) {
+            return true;
+        }
+        return paginationContext.getActualOffset() + paginationContext.getActualRowCount().get() > LARGE_RESULT_ROW_COUNT;
+    }
+    
+    /**
+     * Get connection size of one data source.
+     *
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @param sqlUnitCount SQL unit count of data source
+     * @param availableConnectionCount available connection count of data source
+     * @param largeResultExpected large results are expected or not
+     * @return connection size
+     */
+    public static int getConnectionSize(final int maxConnectionsSizePerQuery, final int sqlUnitCount, final Optional<Integer> availableConnectionCount, final boolean largeResultExpected) {
+        int result = Math.min(maxConnectionsSizePerQuery, sqlUnitCount);
+        if (!availableConnectionCount.isPresent() || availableConnectionCount.get() >= result || largeResultExpected) {
+            return result;
+        }
+        return Math.max(availableConnectionCount.get(), 1);
+    }
+    
+    /**
+     * Record result size of SQL.
+     * 
+     * <p>Size of memory loaded result is recorded at once, size of stream result is recorded after all rows are read.</p>
+     *
+     * @param sql SQL
+     * @param queryResult query result
+     */
+    public static void recordResultSize(final String sql, final QueryResult queryResult) {
+        if (queryResult instanceof AbstractMemoryQueryResult) {
+            recordResultSize(sql, ((AbstractMemoryQueryResult) queryResult).getRowCount());
+        } else if (queryResult instanceof JDBCStreamQueryResult) {
+            ((JDBCStreamQueryResult) queryResult).setResultSizeRecordSQL(sql);
+        }
+    }
+    
+    /**
+     * Record result size of SQL.
+     *
+     * @param sql SQL
+     * @param rowCount row count of result
+     */
+    public static void recordResultSize(final String sql, final long rowCount) {
+        RESULT_SIZE_HISTORY.asMap().merge(sql, rowCount, (oldValue, currentValue) -> Math.round(oldValue * (1 - DECAY) + currentValue * DECAY));
+    }
+}
@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -76,6 +77,11 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    @Override
+    protected Optional<Integer> findAvailableConnectionCount(final String dataSourceName) {
+        return connectionManager.findAvailableConnectionCount(dataSourceName);
+    }
+    
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final List<List<SQLUnit>> sqlUnitGroups, final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new LinkedList<>();
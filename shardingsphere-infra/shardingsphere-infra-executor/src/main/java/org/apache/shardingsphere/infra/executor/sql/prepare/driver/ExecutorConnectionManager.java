@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Executor connection manager.
@@ -39,4 +40,14 @@ public interface ExecutorConnectionManager<C> {
      * @throws SQLException SQL exception
      */
     List<C> getConnections(String dataSourceName, int connectionSize, ConnectionMode connectionMode) throws SQLException;
+    
+    /**
+     * Find available connection count, including connections already held by this manager.
+     *
+     * @param dataSourceName data source name
+     * @return available connection count, empty if unknown
+     */
+    default Optional<Integer> findAvailableConnectionCount(final String dataSourceName) {
+        return Optional.empty();
+    }
 }
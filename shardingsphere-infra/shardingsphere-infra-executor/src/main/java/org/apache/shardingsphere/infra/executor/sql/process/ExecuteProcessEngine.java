@@ -47,6 +47,9 @@ public final class ExecuteProcessEngine {
      * @param eventBusContext event bus context             
      */
     public static void initialize(final LogicSQL logicSQL, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final EventBusContext eventBusContext) {
+        if (null != executionGroupContext.getDatabaseName()) {
+            ExecutorDataMap.getValue().put(ExecuteProcessConstants.DATABASE_NAME.name(), executionGroupContext.getDatabaseName());
+        }
         SQLStatementContext<?> context = logicSQL.getSqlStatementContext();
         Optional<ExecuteProcessReporter> reporter = ExecuteProcessReporterFactory.getInstance();
         if (reporter.isPresent() && (context.getSqlStatement() instanceof DDLStatement || context.getSqlStatement() instanceof DMLStatement)) {
@@ -64,6 +67,7 @@ public final class ExecuteProcessEngine {
             reporter.get().reportClean(ExecutorDataMap.getValue().get(ExecuteProcessConstants.EXECUTE_ID.name()).toString());
         }
         ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        ExecutorDataMap.getValue().remove(ExecuteProcessConstants.DATABASE_NAME.name());
     }
     
     /**
@@ -17,20 +17,29 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.ExecutorServiceType;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -103,4 +112,117 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertExecuteAsyncWithoutFirstCallback() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, callback).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithFirstCallback() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithEmptyExecutionGroup() throws InterruptedException, ExecutionException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(new ExecutionGroupContext<>(new LinkedList<>()), callback);
+        assertTrue(actual.isDone());
+        assertTrue(actual.get().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithFirstGroupOnCallerThread() throws InterruptedException, ExecutionException {
+        Thread callerThread = Thread.currentThread();
+        List<Boolean> actual = executorEngine.<Object, Boolean>executeAsync(executionGroupContext,
+                (inputs, isTrunkThread, dataMap) -> Collections.singletonList(isTrunkThread == (callerThread == Thread.currentThread()))).get();
+        assertThat(actual, is(Arrays.asList(true, true)));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithSkewedLatency() throws InterruptedException, ExecutionException {
+        ExecutionGroupContext<Object> executionGroupContext = new ExecutionGroupContext<>(Arrays.asList(new ExecutionGroup<>(Collections.<Object>singletonList("fast_0")),
+                new ExecutionGroup<>(Collections.<Object>singletonList("slow")), new ExecutionGroup<>(Collections.<Object>singletonList("fast_1"))));
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CountDownLatch fastGroupsLatch = new CountDownLatch(2);
+        ExecutorCallback<Object, String> skewedCallback = (inputs, isTrunkThread, dataMap) -> {
+            String input = String.valueOf(inputs.iterator().next());
+            if ("slow".equals(input)) {
+                awaitQuietly(slowGroupLatch);
+            } else {
+                fastGroupsLatch.countDown();
+            }
+            return Collections.singletonList(input);
+        };
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, skewedCallback);
+        assertTrue(fastGroupsLatch.await(5L, TimeUnit.SECONDS));
+        assertFalse(actual.isDone());
+        slowGroupLatch.countDown();
+        assertThat(actual.get(), is(Arrays.asList("fast_0", "slow", "fast_1")));
+    }
+    
+    @Test
+    public void assertExecuteAsyncCancelRestGroupsWhenFirstGroupFailed() throws InterruptedException {
+        CountDownLatch restGroupStartedLatch = new CountDownLatch(1);
+        CountDownLatch restGroupInterruptedLatch = new CountDownLatch(1);
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+            if (isTrunkThread) {
+                awaitQuietly(restGroupStartedLatch);
+                throw new SQLException("failed");
+            }
+            restGroupStartedLatch.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException ex) {
+                restGroupInterruptedLatch.countDown();
+            }
+            return Collections.emptyList();
+        });
+        assertTrue(actual.isCompletedExceptionally());
+        assertTrue(restGroupInterruptedLatch.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertExecuteAsyncFailure() throws InterruptedException {
+        SQLException expected = new SQLException("failed");
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+            throw expected;
+        });
+        try {
+            actual.get();
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+            return;
+        }
+        throw new AssertionError("Expected execution failure.");
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithForkJoinExecutor() throws InterruptedException, ExecutionException {
+        try (ExecutorEngine forkJoinExecutorEngine = ExecutorEngine.createExecutorEngineWithSizeAndType(2, ExecutorServiceType.FORK_JOIN)) {
+            List<String> actual = forkJoinExecutorEngine.executeAsync(executionGroupContext, callback).get();
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithVirtualThreadExecutor() throws InterruptedException, ExecutionException {
+        try (ExecutorEngine virtualThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithSizeAndType(0, ExecutorServiceType.VIRTUAL_THREAD)) {
+            List<String> actual = virtualThreadExecutorEngine.executeAsync(executionGroupContext, callback).get();
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
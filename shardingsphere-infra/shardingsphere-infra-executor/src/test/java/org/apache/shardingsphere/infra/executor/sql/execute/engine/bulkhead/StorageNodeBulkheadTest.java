@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StorageNodeBulkheadTest {
+    
+    @Test
+    public void assertAcquireAndRelease() throws StorageNodeBulkheadFullException {
+        StorageNodeBulkhead bulkhead = new StorageNodeBulkhead("127.0.0.1:3306", 2, 0L);
+        bulkhead.acquire(2);
+        assertThat(bulkhead.getActiveCount(), is(2));
+        bulkhead.release(1);
+        assertThat(bulkhead.getActiveCount(), is(1));
+        assertThat(bulkhead.getRejectedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertAcquireWhenFull() throws StorageNodeBulkheadFullException {
+        StorageNodeBulkhead bulkhead = new StorageNodeBulkhead("127.0.0.1:3306", 1, 10L);
+        bulkhead.acquire(1);
+        try {
+            bulkhead.acquire(1);
+        } catch (final StorageNodeBulkheadFullException ex) {
+            assertThat(ex.getMessage(), is("Storage node `127.0.0.1:3306` reached max concurrency `1`, rejected after waiting `10` milliseconds."));
+            assertThat(bulkhead.getRejectedCount(), is(1L));
+            return;
+        }
+        throw new AssertionError("Expected storage node bulkhead full.");
+    }
+}
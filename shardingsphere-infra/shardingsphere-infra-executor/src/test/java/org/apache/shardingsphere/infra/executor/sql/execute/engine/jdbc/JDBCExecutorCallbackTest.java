@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Before;
@@ -46,8 +47,10 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -77,20 +80,8 @@ public final class JDBCExecutorCallbackTest {
     @SuppressWarnings("unchecked")
     @Test
     public void assertExecute() throws SQLException, NoSuchFieldException, IllegalAccessException {
-        JDBCExecutorCallback<?> jdbcExecutorCallback = new JDBCExecutorCallback<Integer>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true,
-                new EventBusContext()) {
-            
-            @Override
-            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
-                return ((PreparedStatement) statement).executeUpdate();
-            }
-            
-            @Override
-            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
-                return Optional.empty();
-            }
-        };
-        Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
+        JDBCExecutorCallback<?> jdbcExecutorCallback = createExecuteUpdateCallback();
+        Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_URL_DATASOURCE_METADATA");
         field.setAccessible(true);
         Map<String, DataSourceMetaData> cachedDataSourceMetaData = (Map<String, DataSourceMetaData>) field.get(jdbcExecutorCallback);
         jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
@@ -99,6 +90,23 @@ public final class JDBCExecutorCallbackTest {
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWithDatabaseName() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        JDBCExecutorCallback<?> jdbcExecutorCallback = createExecuteUpdateCallback();
+        Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
+        field.setAccessible(true);
+        JDBCExecutorCallback.clearCachedDataSourceMetaData("foo_db");
+        Map<String, Object> dataMap = Collections.singletonMap(ExecuteProcessConstants.DATABASE_NAME.name(), "foo_db");
+        jdbcExecutorCallback.execute(units, true, dataMap);
+        jdbcExecutorCallback.execute(units, true, dataMap);
+        Map<String, Map<String, DataSourceMetaData>> cachedDataSourceMetaData = (Map<String, Map<String, DataSourceMetaData>>) field.get(jdbcExecutorCallback);
+        assertThat(cachedDataSourceMetaData.get("foo_db").size(), is(1));
+        verify(connection).getMetaData();
+        JDBCExecutorCallback.clearCachedDataSourceMetaData("FOO_DB");
+        assertFalse(cachedDataSourceMetaData.containsKey("foo_db"));
+    }
+    
     @Test
     public void assertExecuteFailedAndProtocolTypeDifferentWithDatabaseType() throws SQLException {
         Object saneResult = new Object();
@@ -136,4 +144,19 @@ public final class JDBCExecutorCallbackTest {
         };
         callback.execute(units, true, Collections.emptyMap());
     }
+    
+    private JDBCExecutorCallback<Integer> createExecuteUpdateCallback() {
+        return new JDBCExecutorCallback<Integer>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true, new EventBusContext()) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                return ((PreparedStatement) statement).executeUpdate();
+            }
+            
+            @Override
+            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                return Optional.empty();
+            }
+        };
+    }
 }
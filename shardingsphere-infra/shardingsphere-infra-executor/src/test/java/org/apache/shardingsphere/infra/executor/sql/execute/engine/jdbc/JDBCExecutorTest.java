@@ -17,24 +17,36 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkhead;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkheadFullException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkheadRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class JDBCExecutorTest {
@@ -73,4 +85,52 @@ public final class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList()), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWithStorageNodeBulkheads() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Arrays.asList(createExecutionGroup(), createExecutionGroup()));
+        JDBCExecutorCallback<String> callback = mock(JDBCExecutorCallback.class);
+        when(callback.getDatabaseType()).thenReturn(DatabaseTypeFactory.getInstance("MySQL"));
+        AtomicInteger activeCount = new AtomicInteger();
+        when(executorEngine.execute(any(), any(), any(), anyBoolean())).thenAnswer(invocation -> {
+            activeCount.set(StorageNodeBulkheadRegistry.getAllBulkheads().iterator().next().getActiveCount());
+            return Collections.singletonList("test");
+        });
+        StorageNodeBulkheadRegistry.init(2, 0L);
+        try {
+            assertThat(new JDBCExecutor(executorEngine, false).execute(context, callback), is(Collections.singletonList("test")));
+            assertThat(activeCount.get(), is(2));
+            assertThat(StorageNodeBulkheadRegistry.getAllBulkheads().iterator().next().getActiveCount(), is(0));
+        } finally {
+            StorageNodeBulkheadRegistry.init(0, 0L);
+        }
+    }
+    
+    @Test(expected = StorageNodeBulkheadFullException.class)
+    public void assertExecuteWhenStorageNodeBulkheadFull() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(createExecutionGroup()));
+        JDBCExecutorCallback<?> callback = mock(JDBCExecutorCallback.class);
+        when(callback.getDatabaseType()).thenReturn(DatabaseTypeFactory.getInstance("MySQL"));
+        StorageNodeBulkheadRegistry.init(1, 0L);
+        StorageNodeBulkhead bulkhead = StorageNodeBulkheadRegistry.acquire(new TreeMap<>(Collections.singletonMap("localhost:3306", 1))).keySet().iterator().next();
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        try {
+            new JDBCExecutor(executorEngine, false).execute(context, callback);
+        } finally {
+            verify(executorEngine, never()).execute(any(), any(), any(), anyBoolean());
+            bulkhead.release(1);
+            StorageNodeBulkheadRegistry.init(0, 0L);
+        }
+    }
+    
+    private ExecutionGroup<JDBCExecutionUnit> createExecutionGroup() throws SQLException {
+        Statement statement = mock(Statement.class, RETURNS_DEEP_STUBS);
+        when(statement.getConnection().getMetaData().getURL()).thenReturn("jdbc:mysql://localhost:3306/test");
+        JDBCExecutionUnit executionUnit = mock(JDBCExecutionUnit.class);
+        when(executionUnit.getStorageResource()).thenReturn(statement);
+        return new ExecutionGroup<>(Collections.singletonList(executionUnit));
+    }
 }
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.infra.executor.sql.hook;
 
 import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHookFixture;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public final class SPISQLExecutionHookTest {
@@ -35,12 +37,25 @@ public final class SPISQLExecutionHookTest {
         spiSQLExecutionHook = new SPISQLExecutionHook();
     }
     
+    @After
+    public void tearDown() {
+        SQLExecutionHookFixture.setEnabled(true);
+    }
+    
     @Test
     public void assertStart() {
         spiSQLExecutionHook.start("ds", "SELECT 1", Collections.emptyList(), null, true, null);
         assertTrue(SQLExecutionHookFixture.containsAction("start"));
     }
     
+    @Test
+    public void assertStartWithoutEnabledHook() {
+        SQLExecutionHookFixture.setEnabled(false);
+        spiSQLExecutionHook.start("ds", "SELECT 1", Collections.emptyList(), null, true, null);
+        assertFalse(SQLExecutionHookFixture.containsAction("start"));
+        assertFalse(spiSQLExecutionHook.isEnabled());
+    }
+    
     @Test
     public void assertFinishSuccess() {
         spiSQLExecutionHook.finishSuccess();
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hook;
+
+import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHookFixture;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLExecutionHookFactoryTest {
+    
+    @After
+    public void tearDown() {
+        SQLExecutionHookFixture.setEnabled(true);
+    }
+    
+    @Test
+    public void assertGetInstanceWithEnabledHook() {
+        SQLExecutionHook actual = SQLExecutionHookFactory.getInstance();
+        assertThat(actual, instanceOf(SPISQLExecutionHook.class));
+        assertTrue(actual.isEnabled());
+    }
+    
+    @Test
+    public void assertGetInstanceWithoutEnabledHook() {
+        SQLExecutionHook expected = SQLExecutionHookFactory.getInstance();
+        SQLExecutionHookFixture.setEnabled(false);
+        SQLExecutionHook actual = SQLExecutionHookFactory.getInstance();
+        assertThat(actual, is(sameInstance(expected)));
+        assertFalse(actual.isEnabled());
+    }
+}
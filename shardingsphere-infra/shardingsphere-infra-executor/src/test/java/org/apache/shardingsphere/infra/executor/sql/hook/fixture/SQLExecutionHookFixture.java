@@ -29,6 +29,8 @@ public final class SQLExecutionHookFixture implements SQLExecutionHook {
     
     private static final Collection<String> ACTIONS = new LinkedList<>();
     
+    private static volatile boolean enabled = true;
+    
     @Override
     public void start(final String dataSourceName, final String sql, final List<Object> parameters,
                       final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
@@ -45,6 +47,20 @@ public final class SQLExecutionHookFixture implements SQLExecutionHook {
         ACTIONS.add("finishFailure");
     }
     
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Set enabled.
+     * 
+     * @param enabled enabled
+     */
+    public static void setEnabled(final boolean enabled) {
+        SQLExecutionHookFixture.enabled = enabled;
+    }
+    
     /**
      * Contains action or not.
      * 
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class AdaptiveConnectionModeStrategyTest {
+    
+    private final Collection<ExecutionUnit> executionUnits = Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_0 WHERE user_id = ?", Collections.singletonList(1))),
+            new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_1 WHERE user_id = ?", Collections.singletonList(1))));
+    
+    @Before
+    public void setUp() {
+        AdaptiveConnectionModeStrategy.init("ADAPTIVE");
+    }
+    
+    @After
+    public void tearDown() {
+        AdaptiveConnectionModeStrategy.init("STATIC");
+    }
+    
+    @Test
+    public void assertIsEnabled() {
+        assertTrue(AdaptiveConnectionModeStrategy.isEnabled());
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithoutAvailableConnectionCount() {
+        assertThat(AdaptiveConnectionModeStrategy.getConnectionSize(10, 3, Optional.empty(), false), is(3));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithEnoughAvailableConnections() {
+        assertThat(AdaptiveConnectionModeStrategy.getConnectionSize(2, 3, Optional.of(5), false), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithInsufficientAvailableConnections() {
+        assertThat(AdaptiveConnectionModeStrategy.getConnectionSize(10, 3, Optional.of(1), false), is(1));
+        assertThat(AdaptiveConnectionModeStrategy.getConnectionSize(10, 3, Optional.of(0), false), is(1));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithLargeResultExpected() {
+        assertThat(AdaptiveConnectionModeStrategy.getConnectionSize(10, 3, Optional.of(1), true), is(3));
+    }
+    
+    @Test
+    public void assertIsLargeResultExpectedForNonQuery() {
+        assertFalse(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, mock(SQLStatementContext.class)));
+    }
+    
+    @Test
+    public void assertIsLargeResultExpectedWithoutSQLStatementContext() {
+        assertTrue(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, null));
+    }
+    
+    @Test
+    public void assertIsLargeResultExpectedForQueryWithoutPagination() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getPaginationContext().isHasPagination()).thenReturn(false);
+        assertTrue(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, sqlStatementContext));
+    }
+    
+    @Test
+    public void assertIsLargeResultExpectedForQueryWithSmallPagination() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getPaginationContext().isHasPagination()).thenReturn(true);
+        when(sqlStatementContext.getPaginationContext().getActualOffset()).thenReturn(0L);
+        when(sqlStatementContext.getPaginationContext().getActualRowCount()).thenReturn(Optional.of(10L));
+        assertFalse(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, sqlStatementContext));
+    }
+    
+    @Test
+    public void assertIsLargeResultExpectedWithSmallResultSizeHistory() {
+        AdaptiveConnectionModeStrategy.recordResultSize("SELECT * FROM t_order_0 WHERE user_id = ?", 10L);
+        assertFalse(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, null));
+    }
+    
+    @Test
+    public void assertIsLargeResultExpectedWithLargeResultSizeHistory() {
+        AdaptiveConnectionModeStrategy.recordResultSize("SELECT * FROM t_order_0 WHERE user_id = ?", 100000L);
+        assertTrue(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, mock(SelectStatementContext.class)));
+    }
+    
+    @Test
+    public void assertRecordResultSizeOfMemoryQueryResult() {
+        AbstractMemoryQueryResult queryResult = mock(AbstractMemoryQueryResult.class);
+        when(queryResult.getRowCount()).thenReturn(10L);
+        AdaptiveConnectionModeStrategy.recordResultSize("SELECT * FROM t_order_0 WHERE user_id = ?", queryResult);
+        assertFalse(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, null));
+    }
+    
+    @Test
+    public void assertRecordResultSizeOfStreamQueryResult() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(resultSet.next()).thenReturn(true, true, false);
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        AdaptiveConnectionModeStrategy.recordResultSize("SELECT * FROM t_order_0 WHERE user_id = ?", queryResult);
+        assertTrue(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, null));
+        while (queryResult.next()) {
+            assertTrue(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, null));
+        }
+        assertFalse(AdaptiveConnectionModeStrategy.isLargeResultExpected(executionUnits, null));
+    }
+}
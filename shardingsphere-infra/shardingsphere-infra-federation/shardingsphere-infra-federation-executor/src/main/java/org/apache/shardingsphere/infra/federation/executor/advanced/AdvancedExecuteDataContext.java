@@ -24,6 +24,9 @@ import org.apache.calcite.linq4j.QueryProvider;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.federation.optimizer.executor.TableScanExecutor;
+
+import java.util.List;
 
 /**
  * Advanced execute data context.
@@ -35,6 +38,10 @@ public final class AdvancedExecuteDataContext implements DataContext {
     
     private final SqlToRelConverter converter;
     
+    private final TableScanExecutor executor;
+    
+    private final List<Object> parameters;
+    
     @Override
     public SchemaPlus getRootSchema() {
         return validator.getCatalogReader().getRootSchema().plus();
@@ -52,6 +59,9 @@ public final class AdvancedExecuteDataContext implements DataContext {
     
     @Override
     public Object get(final String name) {
-        return null;
+        if (TableScanExecutor.DATA_CONTEXT_VARIABLE_NAME.equals(name)) {
+            return executor;
+        }
+        return name.startsWith("?") ? parameters.get(Integer.parseInt(name.substring(1))) : null;
     }
 }
@@ -27,14 +27,21 @@ import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.calcite.prepare.CalciteCatalogReader;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
 import org.apache.calcite.runtime.Bindable;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -42,6 +49,10 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
+import org.apache.shardingsphere.infra.federation.executor.advanced.plan.FederationExecutionPlan;
+import org.apache.shardingsphere.infra.federation.executor.advanced.plan.FederationExecutionPlanCache;
+import org.apache.shardingsphere.infra.federation.executor.advanced.plan.FederationExecutionPlanCacheKey;
+import org.apache.shardingsphere.infra.federation.executor.advanced.plan.FederationLiteralParameterizer;
 import org.apache.shardingsphere.infra.federation.executor.advanced.resultset.FederationResultSet;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.filter.FilterableSchema;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
@@ -49,6 +60,8 @@ import org.apache.shardingsphere.infra.federation.executor.original.table.Filter
 import org.apache.shardingsphere.infra.federation.optimizer.ShardingSphereOptimizer;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
+import org.apache.shardingsphere.infra.federation.optimizer.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.executor.TableScanExecutor;
 import org.apache.shardingsphere.infra.federation.optimizer.planner.QueryOptimizePlannerFactory;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
@@ -58,6 +71,10 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Advanced federation executor.
@@ -98,30 +115,72 @@ public final class AdvancedFederationExecutor implements FederationExecutor {
         SQLStatementContext<?> sqlStatementContext = federationContext.getLogicSQL().getSqlStatementContext();
         Preconditions.checkArgument(sqlStatementContext instanceof SelectStatementContext, "SQL statement context must be select statement context.");
         ShardingSphereSchema schema = federationContext.getDatabases().get(databaseName.toLowerCase()).getSchema(schemaName);
-        FilterableSchema filterableSchema = createFilterableSchema(prepareEngine, schema, callback, federationContext);
-        Enumerator<Object[]> enumerator = execute(sqlStatementContext.getSqlStatement(), filterableSchema).enumerator();
-        resultSet = new FederationResultSet(enumerator, schema, filterableSchema, sqlStatementContext);
+        List<Object> logicParameters = federationContext.getLogicSQL().getParameters();
+        SqlNode parameterizedSQLNode = convertToSQLNode(sqlStatementContext.getSqlStatement());
+        List<Object> literalValues = FederationLiteralParameterizer.parameterize(parameterizedSQLNode, logicParameters.size());
+        FederationExecutionPlanCacheKey cacheKey = new FederationExecutionPlanCacheKey(databaseName.toLowerCase(), schemaName, parameterizedSQLNode.toString());
+        FederationExecutionPlan cachedExecutionPlan = FederationExecutionPlanCache.get(cacheKey, schema, () -> compile(parameterizedSQLNode, schema));
+        Optional<List<Object>> boundParameters = cachedExecutionPlan.bindParameters(logicParameters, literalValues);
+        FederationExecutionPlan executionPlan = boundParameters.isPresent() ? cachedExecutionPlan : compile(convertToSQLNode(sqlStatementContext.getSqlStatement()), schema);
+        List<Object> parameters = boundParameters.orElse(logicParameters);
+        TableScanExecutor executor = createTableScanExecutor(prepareEngine, callback, federationContext, parameters);
+        Enumerator<Object[]> enumerator = execute(executionPlan, executor, parameters).enumerator();
+        resultSet = new FederationResultSet(enumerator, schema, executionPlan.getFilterableSchema(), sqlStatementContext);
         return resultSet;
     }
     
-    private FilterableSchema createFilterableSchema(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final ShardingSphereSchema schema,
-                                                    final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) {
-        FilterableTableScanExecutorContext executorContext = new FilterableTableScanExecutorContext(databaseName, schemaName, props, federationContext);
-        FilterableTableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, eventBusContext);
-        return new FilterableSchema(schemaName, schema, executor);
+    private TableScanExecutor createTableScanExecutor(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
+                                                      final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext, final List<Object> parameters) {
+        FilterableTableScanExecutorContext executorContext = new FilterableTableScanExecutorContext(databaseName, schemaName, props, federationContext, parameters);
+        return new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, eventBusContext);
+    }
+    
+    private static SqlNode convertToSQLNode(final SQLStatement sqlStatement) {
+        try {
+            return SQLNodeConverterEngine.convertToSQLNode(sqlStatement);
+        } catch (final UnsupportedOperationException ex) {
+            throw new ShardingSphereException(ex);
+        }
     }
     
     @SuppressWarnings("unchecked")
-    private Enumerable<Object[]> execute(final SQLStatement sqlStatement, final FilterableSchema filterableSchema) {
+    private FederationExecutionPlan compile(final SqlNode sqlNode, final ShardingSphereSchema schema) {
+        long schemaVersion = schema.getVersion();
+        FilterableSchema filterableSchema = new FilterableSchema(schemaName, schema, null);
         // TODO remove OptimizerPlannerContextFactory call and use setup executor to handle this logic
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(OptimizerPlannerContextFactory.createConnectionProperties());
         RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
         CalciteCatalogReader catalogReader = OptimizerPlannerContextFactory.createCatalogReader(schemaName, filterableSchema, relDataTypeFactory, connectionConfig);
         SqlValidator validator = OptimizerPlannerContextFactory.createValidator(catalogReader, relDataTypeFactory, connectionConfig);
         SqlToRelConverter converter = OptimizerPlannerContextFactory.createConverter(catalogReader, validator, relDataTypeFactory);
-        RelNode bestPlan = new ShardingSphereOptimizer(converter, QueryOptimizePlannerFactory.createHepPlanner()).optimize(sqlStatement);
-        Bindable<Object[]> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) bestPlan, EnumerableRel.Prefer.ARRAY);
-        return executablePlan.bind(new AdvancedExecuteDataContext(validator, converter));
+        RelNode bestPlan = new ShardingSphereOptimizer(converter, QueryOptimizePlannerFactory.createHepPlanner()).optimize(sqlNode);
+        Bindable<Object[]> bindable = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) bestPlan, EnumerableRel.Prefer.ARRAY);
+        return new FederationExecutionPlan(schema, schemaVersion, filterableSchema, validator, converter, bindable, getParameterTypes(bestPlan));
+    }
+    
+    private static Map<Integer, SqlTypeName> getParameterTypes(final RelNode bestPlan) {
+        Map<Integer, SqlTypeName> result = new HashMap<>();
+        RexShuttle dynamicParamCollector = new RexShuttle() {
+            
+            @Override
+            public RexNode visitDynamicParam(final RexDynamicParam dynamicParam) {
+                result.put(dynamicParam.getIndex(), dynamicParam.getType().getSqlTypeName());
+                return dynamicParam;
+            }
+        };
+        new RelVisitor() {
+            
+            @Override
+            public void visit(final RelNode node, final int ordinal, final RelNode parent) {
+                node.accept(dynamicParamCollector);
+                super.visit(node, ordinal, parent);
+            }
+        }.go(bestPlan);
+        return result;
+    }
+    
+    private Enumerable<Object[]> execute(final FederationExecutionPlan executionPlan, final TableScanExecutor executor, final List<Object> parameters) {
+        return executionPlan.getBindable().bind(new AdvancedExecuteDataContext(executionPlan.getValidator(), executionPlan.getConverter(), executor, parameters));
     }
     
     @Override
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.filter.FilterableSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Federation execution plan.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class FederationExecutionPlan {
+    
+    private final ShardingSphereSchema schema;
+    
+    private final long schemaVersion;
+    
+    private final FilterableSchema filterableSchema;
+    
+    private final SqlValidator validator;
+    
+    private final SqlToRelConverter converter;
+    
+    private final Bindable<Object[]> bindable;
+    
+    private final Map<Integer, SqlTypeName> parameterTypes;
+    
+    /**
+     * Judge whether execution plan is compiled with current meta data of schema.
+     *
+     * @param currentSchema current schema
+     * @return is up to date or not
+     */
+    public boolean isUpToDate(final ShardingSphereSchema currentSchema) {
+        return schema == currentSchema && schemaVersion == currentSchema.getVersion();
+    }
+    
+    /**
+     * Bind parameters of logic SQL and parameterized literals.
+     *
+     * @param parameters parameters of logic SQL
+     * @param literalValues parameterized literal values
+     * @return bound parameters, empty if any literal value can not be converted to its parameter type losslessly
+     */
+    public Optional<List<Object>> bindParameters(final List<Object> parameters, final List<Object> literalValues) {
+        List<Object> result = new ArrayList<>(parameters.size() + literalValues.size());
+        result.addAll(parameters);
+        for (Object each : literalValues) {
+            Optional<Object> value = convertLiteral(each, parameterTypes.get(result.size()));
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(value.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<Object> convertLiteral(final Object literalValue, final SqlTypeName type) {
+        if (null == type) {
+            return Optional.of(literalValue);
+        }
+        if (literalValue instanceof String) {
+            return SqlTypeName.CHAR_TYPES.contains(type) ? Optional.of(literalValue) : Optional.empty();
+        }
+        return convertNumericLiteral((BigDecimal) literalValue, type);
+    }
+    
+    private static Optional<Object> convertNumericLiteral(final BigDecimal literalValue, final SqlTypeName type) {
+        Object result;
+        try {
+            switch (type) {
+                case TINYINT:
+                    result = literalValue.byteValueExact();
+                    break;
+                case SMALLINT:
+                    result = literalValue.shortValueExact();
+                    break;
+                case INTEGER:
+                    result = literalValue.intValueExact();
+                    break;
+                case BIGINT:
+                    result = literalValue.longValueExact();
+                    break;
+                case DECIMAL:
+                    result = literalValue;
+                    break;
+                case REAL:
+                    result = literalValue.floatValue();
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    result = literalValue.doubleValue();
+                    break;
+                default:
+                    return Optional.empty();
+            }
+        } catch (final ArithmeticException ignored) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.util.function.Supplier;
+
+/**
+ * Federation execution plan cache.
+ * 
+ * <p>Cached plans are compiled without any table scan executor, and they are recompiled once when meta data of schema changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederationExecutionPlanCache {
+    
+    private static final int INITIAL_CAPACITY = 128;
+    
+    private static final long MAXIMUM_SIZE = 1024L;
+    
+    private static final Cache<FederationExecutionPlanCacheKey, FederationExecutionPlan> CACHE = Caffeine.newBuilder()
+            .softValues().initialCapacity(INITIAL_CAPACITY).maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get execution plan, compile and cache it if absent or out of date.
+     *
+     * @param key cache key
+     * @param schema current schema
+     * @param compiler execution plan compiler
+     * @return execution plan
+     */
+    public static FederationExecutionPlan get(final FederationExecutionPlanCacheKey key, final ShardingSphereSchema schema, final Supplier<FederationExecutionPlan> compiler) {
+        FederationExecutionPlan result = CACHE.get(key, unused -> compiler.get());
+        if (result.isUpToDate(schema)) {
+            return result;
+        }
+        return CACHE.asMap().compute(key, (unused, cached) -> null != cached && cached.isUpToDate(schema) ? cached : compiler.get());
+    }
+}
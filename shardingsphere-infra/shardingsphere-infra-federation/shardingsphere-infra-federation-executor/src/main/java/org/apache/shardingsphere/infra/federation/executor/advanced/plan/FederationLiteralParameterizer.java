@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced.plan;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.util.SqlShuttle;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Federation literal parameterizer.
+ * 
+ * <p>Numeric and character literals compared with columns are replaced by dynamic parameters in place,
+ * so that statements only differing in these literals share the same execution plan.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederationLiteralParameterizer extends SqlShuttle {
+    
+    private final int parameterCount;
+    
+    private final List<Object> literalValues = new ArrayList<>();
+    
+    /**
+     * Parameterize literals of SQL node.
+     *
+     * @param sqlNode SQL node to be parameterized
+     * @param parameterCount parameter count of logic SQL, dynamic parameters of literals are indexed after them
+     * @return literal values in order of dynamic parameter index
+     */
+    public static List<Object> parameterize(final SqlNode sqlNode, final int parameterCount) {
+        FederationLiteralParameterizer parameterizer = new FederationLiteralParameterizer(parameterCount);
+        sqlNode.accept(parameterizer);
+        return parameterizer.literalValues;
+    }
+    
+    @Override
+    public SqlNode visit(final SqlCall call) {
+        if (call instanceof SqlBasicCall && call.getKind().belongsTo(SqlKind.BINARY_COMPARISON)) {
+            replaceLiteral((SqlBasicCall) call, 0, 1);
+            replaceLiteral((SqlBasicCall) call, 1, 0);
+        }
+        return super.visit(call);
+    }
+    
+    private void replaceLiteral(final SqlBasicCall call, final int literalIndex, final int columnIndex) {
+        SqlNode literal = call.getOperandList().get(literalIndex);
+        if (!(call.getOperandList().get(columnIndex) instanceof SqlIdentifier) || !(literal instanceof SqlNumericLiteral || literal instanceof SqlCharStringLiteral)) {
+            return;
+        }
+        literalValues.add(literal instanceof SqlCharStringLiteral ? ((SqlLiteral) literal).getValueAs(String.class) : ((SqlLiteral) literal).getValueAs(BigDecimal.class));
+        call.setOperand(literalIndex, new SqlDynamicParam(parameterCount + literalValues.size() - 1, literal.getParserPosition()));
+    }
+}
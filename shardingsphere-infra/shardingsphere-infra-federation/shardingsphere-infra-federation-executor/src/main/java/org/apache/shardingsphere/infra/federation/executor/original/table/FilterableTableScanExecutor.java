@@ -237,7 +237,7 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
         }
         List<Object> result = new ArrayList<>();
         for (Integer each : parameterIndexes) {
-            result.add(executorContext.getFederationContext().getLogicSQL().getParameters().get(each));
+            result.add(executorContext.getParameters().get(each));
         }
         return result;
     }
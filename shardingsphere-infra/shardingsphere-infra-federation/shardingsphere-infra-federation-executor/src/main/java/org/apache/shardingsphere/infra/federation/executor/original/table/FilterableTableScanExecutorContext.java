@@ -22,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 
+import java.util.List;
+
 /**
  * Filterable table scan executor context.
  */
@@ -36,4 +38,6 @@ public final class FilterableTableScanExecutorContext {
     private final ConfigurationProperties props;
     
     private final FederationContext federationContext;
+    
+    private final List<Object> parameters;
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced.plan;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class FederationExecutionPlanCacheTest {
+    
+    @Test
+    public void assertGetCachedExecutionPlan() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.emptyMap());
+        FederationExecutionPlanCacheKey key = new FederationExecutionPlanCacheKey("foo_db", "foo_schema", "SELECT * FROM t_cached");
+        FederationExecutionPlan expected = FederationExecutionPlanCache.get(key, schema, () -> createExecutionPlan(schema));
+        assertThat(FederationExecutionPlanCache.get(key, schema, () -> createExecutionPlan(schema)), is(expected));
+    }
+    
+    @Test
+    public void assertGetRecompiledExecutionPlanAfterSchemaChanged() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.emptyMap());
+        FederationExecutionPlanCacheKey key = new FederationExecutionPlanCacheKey("foo_db", "foo_schema", "SELECT * FROM t_changed");
+        FederationExecutionPlan stale = FederationExecutionPlanCache.get(key, schema, () -> createExecutionPlan(schema));
+        schema.put("t_changed", mock(ShardingSphereTable.class));
+        FederationExecutionPlan actual = FederationExecutionPlanCache.get(key, schema, () -> createExecutionPlan(schema));
+        assertThat(actual, not(stale));
+        assertThat(actual.getSchemaVersion(), is(schema.getVersion()));
+    }
+    
+    @Test
+    public void assertGetRecompiledExecutionPlanAfterSchemaReplaced() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.emptyMap());
+        FederationExecutionPlanCacheKey key = new FederationExecutionPlanCacheKey("foo_db", "foo_schema", "SELECT * FROM t_replaced");
+        FederationExecutionPlan stale = FederationExecutionPlanCache.get(key, schema, () -> createExecutionPlan(schema));
+        ShardingSphereSchema replacedSchema = new ShardingSphereSchema(Collections.emptyMap());
+        assertThat(FederationExecutionPlanCache.get(key, replacedSchema, () -> createExecutionPlan(replacedSchema)), not(stale));
+    }
+    
+    private FederationExecutionPlan createExecutionPlan(final ShardingSphereSchema schema) {
+        return new FederationExecutionPlan(schema, schema.getVersion(), null, null, null, null, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced.plan;
+
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationExecutionPlanTest {
+    
+    @Test
+    public void assertBindParameters() {
+        Map<Integer, SqlTypeName> parameterTypes = new HashMap<>(2, 1);
+        parameterTypes.put(1, SqlTypeName.INTEGER);
+        parameterTypes.put(2, SqlTypeName.VARCHAR);
+        Optional<List<Object>> actual = createExecutionPlan(parameterTypes).bindParameters(Collections.<Object>singletonList(10L), Arrays.<Object>asList(new BigDecimal("1"), "PAID"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Arrays.<Object>asList(10L, 1, "PAID")));
+    }
+    
+    @Test
+    public void assertBindParametersWithoutParameterType() {
+        Optional<List<Object>> actual = createExecutionPlan(Collections.emptyMap()).bindParameters(Collections.emptyList(), Collections.<Object>singletonList(new BigDecimal("1.5")));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Collections.<Object>singletonList(new BigDecimal("1.5"))));
+    }
+    
+    @Test
+    public void assertBindParametersWithLossyLiteral() {
+        FederationExecutionPlan executionPlan = createExecutionPlan(Collections.singletonMap(0, SqlTypeName.INTEGER));
+        assertFalse(executionPlan.bindParameters(Collections.emptyList(), Collections.<Object>singletonList(new BigDecimal("1.5"))).isPresent());
+    }
+    
+    @Test
+    public void assertBindParametersWithMismatchedLiteral() {
+        assertFalse(createExecutionPlan(Collections.singletonMap(0, SqlTypeName.INTEGER)).bindParameters(Collections.emptyList(), Collections.<Object>singletonList("1")).isPresent());
+    }
+    
+    private FederationExecutionPlan createExecutionPlan(final Map<Integer, SqlTypeName> parameterTypes) {
+        return new FederationExecutionPlan(null, 0L, null, null, null, null, parameterTypes);
+    }
+}
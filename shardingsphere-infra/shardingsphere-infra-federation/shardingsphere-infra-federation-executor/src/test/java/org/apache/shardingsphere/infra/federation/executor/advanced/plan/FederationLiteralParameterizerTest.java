@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced.plan;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationLiteralParameterizerTest {
+    
+    @Test
+    public void assertParameterize() throws SqlParseException {
+        SqlNode sqlNode = parse("SELECT * FROM t_order WHERE order_id > ? AND user_id = 1 AND 'PAID' = status");
+        List<Object> actual = FederationLiteralParameterizer.parameterize(sqlNode, 1);
+        assertThat(actual, is(Arrays.asList(new BigDecimal("1"), "PAID")));
+        assertThat(sqlNode.toString(), is(parse("SELECT * FROM t_order WHERE order_id > ? AND user_id = ? AND ? = status").toString()));
+    }
+    
+    @Test
+    public void assertParameterizeWithDifferentLiterals() throws SqlParseException {
+        SqlNode sqlNode = parse("SELECT * FROM t_order WHERE user_id = 1");
+        SqlNode otherSQLNode = parse("SELECT  *  FROM t_order WHERE user_id = 2");
+        FederationLiteralParameterizer.parameterize(sqlNode, 0);
+        FederationLiteralParameterizer.parameterize(otherSQLNode, 0);
+        assertThat(sqlNode.toString(), is(otherSQLNode.toString()));
+    }
+    
+    @Test
+    public void assertParameterizeWithoutComparedColumn() throws SqlParseException {
+        assertTrue(FederationLiteralParameterizer.parameterize(parse("SELECT user_id + 1 FROM t_order WHERE 1 = 1"), 0).isEmpty());
+    }
+    
+    private SqlNode parse(final String sql) throws SqlParseException {
+        return SqlParser.create(sql).parseQuery();
+    }
+}
@@ -45,7 +45,20 @@ public final class ShardingSphereOptimizer {
      */
     public RelNode optimize(final SQLStatement sqlStatement) {
         try {
-            SqlNode sqlNode = SQLNodeConverterEngine.convertToSQLNode(sqlStatement);
+            return optimize(SQLNodeConverterEngine.convertToSQLNode(sqlStatement));
+        } catch (final UnsupportedOperationException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Optimize query execution plan.
+     * 
+     * @param sqlNode SQL node converted from SQL statement
+     * @return optimized relational node
+     */
+    public RelNode optimize(final SqlNode sqlNode) {
+        try {
             RelNode logicPlan = converter.convertQuery(sqlNode, true, true).rel;
             RelNode bestPlan = optimizeWithRBO(logicPlan, hepPlanner);
             return optimizeWithCBO(bestPlan, converter);
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.event.MetaDataRefreshedEvent;
+import org.apache.shardingsphere.infra.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Optimizer context holder.
+ * 
+ * <p>Optimizer context is shared by statements of the same instance, and only rebuilt after meta data changed or refreshed events are posted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OptimizerContextHolder {
+    
+    private static final Map<EventBusContext, OptimizerContextHolder> HOLDERS = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final AtomicLong metaDataVersion = new AtomicLong();
+    
+    private volatile OptimizerContextSnapshot snapshot;
+    
+    /**
+     * Get optimizer context.
+     *
+     * @param eventBusContext event bus context which meta data events are posted to
+     * @param metaDataSupplier current meta data supplier
+     * @return optimizer context
+     */
+    public static OptimizerContext getOptimizerContext(final EventBusContext eventBusContext, final Supplier<ShardingSphereMetaData> metaDataSupplier) {
+        return HOLDERS.computeIfAbsent(eventBusContext, OptimizerContextHolder::register).loadOptimizerContext(metaDataSupplier);
+    }
+    
+    private static OptimizerContextHolder register(final EventBusContext eventBusContext) {
+        OptimizerContextHolder result = new OptimizerContextHolder();
+        eventBusContext.register(result);
+        return result;
+    }
+    
+    private OptimizerContext loadOptimizerContext(final Supplier<ShardingSphereMetaData> metaDataSupplier) {
+        long currentVersion = metaDataVersion.get();
+        OptimizerContextSnapshot currentSnapshot = snapshot;
+        if (null != currentSnapshot && currentSnapshot.getVersion() >= currentVersion) {
+            return currentSnapshot.getOptimizerContext();
+        }
+        synchronized (this) {
+            currentSnapshot = snapshot;
+            if (null != currentSnapshot && currentSnapshot.getVersion() >= currentVersion) {
+                return currentSnapshot.getOptimizerContext();
+            }
+            ShardingSphereMetaData metaData = metaDataSupplier.get();
+            OptimizerContext result = OptimizerContextFactory.create(metaData.getDatabases(), metaData.getGlobalRuleMetaData());
+            snapshot = new OptimizerContextSnapshot(currentVersion, result);
+            return result;
+        }
+    }
+    
+    /**
+     * Renew meta data version.
+     *
+     * @param event meta data changed event
+     */
+    @Subscribe
+    public void renew(final MetaDataChangedEvent event) {
+        metaDataVersion.incrementAndGet();
+    }
+    
+    /**
+     * Renew meta data version.
+     *
+     * @param event meta data refreshed event
+     */
+    @Subscribe
+    public void renew(final MetaDataRefreshedEvent event) {
+        metaDataVersion.incrementAndGet();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class OptimizerContextSnapshot {
+        
+        private final long version;
+        
+        private final OptimizerContext optimizerContext;
+    }
+}
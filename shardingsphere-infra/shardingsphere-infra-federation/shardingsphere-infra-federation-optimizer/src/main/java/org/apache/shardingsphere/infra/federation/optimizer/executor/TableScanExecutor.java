@@ -25,6 +25,11 @@ import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.
  */
 public interface TableScanExecutor {
     
+    /**
+     * Data context variable name of table scan executor, used by tables which are not bound to any executor.
+     */
+    String DATA_CONTEXT_VARIABLE_NAME = "tableScanExecutor";
+    
     /**
      * Execute.
      *
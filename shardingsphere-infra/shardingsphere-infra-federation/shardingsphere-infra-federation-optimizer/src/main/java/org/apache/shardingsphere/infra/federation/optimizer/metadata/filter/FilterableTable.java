@@ -55,7 +55,11 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     
     @Override
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
-        return executor.execute(table, new TableScanExecutorContext(root, filters, projects));
+        return getExecutor(root).execute(table, new TableScanExecutorContext(root, filters, projects));
+    }
+    
+    private TableScanExecutor getExecutor(final DataContext root) {
+        return null == executor ? (TableScanExecutor) root.get(TableScanExecutor.DATA_CONTEXT_VARIABLE_NAME) : executor;
     }
     
     @Override
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.event.AddSchemaEvent;
+import org.apache.shardingsphere.infra.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class OptimizerContextHolderTest {
+    
+    private final ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.emptyMap(),
+            new ShardingSphereRuleMetaData(Collections.singleton(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()))), new ConfigurationProperties(new Properties()));
+    
+    @Test
+    public void assertGetSameOptimizerContextWithoutMetaDataChanged() {
+        EventBusContext eventBusContext = new EventBusContext();
+        OptimizerContext actual = OptimizerContextHolder.getOptimizerContext(eventBusContext, () -> metaData);
+        assertThat(OptimizerContextHolder.getOptimizerContext(eventBusContext, () -> metaData), is(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetRenewedOptimizerContextAfterMetaDataChanged() {
+        EventBusContext eventBusContext = new EventBusContext();
+        OptimizerContext actual = OptimizerContextHolder.getOptimizerContext(eventBusContext, () -> metaData);
+        eventBusContext.post(new MetaDataChangedEvent("foo_db"));
+        assertThat(OptimizerContextHolder.getOptimizerContext(eventBusContext, () -> metaData), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetRenewedOptimizerContextAfterMetaDataRefreshed() {
+        EventBusContext eventBusContext = new EventBusContext();
+        OptimizerContext actual = OptimizerContextHolder.getOptimizerContext(eventBusContext, () -> metaData);
+        eventBusContext.post(new AddSchemaEvent("foo_db", "foo_schema"));
+        assertThat(OptimizerContextHolder.getOptimizerContext(eventBusContext, () -> metaData), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetDifferentOptimizerContextForDifferentEventBusContext() {
+        OptimizerContext actual = OptimizerContextHolder.getOptimizerContext(new EventBusContext(), () -> metaData);
+        assertThat(OptimizerContextHolder.getOptimizerContext(new EventBusContext(), () -> metaData), not(sameInstance(actual)));
+    }
+}
@@ -78,8 +78,7 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        // TODO implement with calendar
-        Object result = currentResultSetRow.getCell(columnIndex);
+        Object result = currentResultSetRow.getCalendarCell(columnIndex, calendar);
         wasNull = null == result;
         return result;
     }
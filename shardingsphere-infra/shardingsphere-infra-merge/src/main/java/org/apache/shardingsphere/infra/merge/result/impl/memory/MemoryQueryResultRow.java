@@ -22,6 +22,11 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
 
 /**
  * Memory query result row.
@@ -55,6 +60,44 @@ public final class MemoryQueryResultRow {
         return data[columnIndex - 1];
     }
     
+    /**
+     * Get data from cell with calendar.
+     * 
+     * <p>Date and time values are loaded with default time zone, they are converted to the instants which have same date and time fields in time zone of calendar.</p>
+     *
+     * @param columnIndex column index
+     * @param calendar calendar
+     * @return data from cell with calendar
+     */
+    public Object getCalendarCell(final int columnIndex, final Calendar calendar) {
+        Object result = getCell(columnIndex);
+        if (!(result instanceof Date) || null == calendar || TimeZone.getDefault().equals(calendar.getTimeZone())) {
+            return result;
+        }
+        long time = convertTime((Date) result, calendar);
+        if (result instanceof Timestamp) {
+            Timestamp timestamp = new Timestamp(time);
+            timestamp.setNanos(((Timestamp) result).getNanos());
+            return timestamp;
+        }
+        if (result instanceof Time) {
+            return new Time(time);
+        }
+        return result instanceof java.sql.Date ? new java.sql.Date(time) : new Date(time);
+    }
+    
+    private long convertTime(final Date value, final Calendar calendar) {
+        Calendar defaultCalendar = Calendar.getInstance();
+        defaultCalendar.setTime(value);
+        Calendar result = (Calendar) calendar.clone();
+        result.clear();
+        result.set(Calendar.ERA, defaultCalendar.get(Calendar.ERA));
+        result.set(defaultCalendar.get(Calendar.YEAR), defaultCalendar.get(Calendar.MONTH), defaultCalendar.get(Calendar.DAY_OF_MONTH),
+                defaultCalendar.get(Calendar.HOUR_OF_DAY), defaultCalendar.get(Calendar.MINUTE), defaultCalendar.get(Calendar.SECOND));
+        result.set(Calendar.MILLISECOND, defaultCalendar.get(Calendar.MILLISECOND));
+        return result.getTimeInMillis();
+    }
+    
     /**
      * Set data for cell.
      *
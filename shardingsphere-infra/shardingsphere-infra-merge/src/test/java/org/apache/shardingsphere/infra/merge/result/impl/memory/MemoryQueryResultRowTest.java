@@ -22,8 +22,14 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.TimeZone;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -56,6 +62,29 @@ public final class MemoryQueryResultRowTest {
         memoryResultSetRow.getCell(2);
     }
     
+    @Test
+    public void assertGetCalendarCellWithoutDateValue() {
+        assertThat(memoryResultSetRow.getCalendarCell(1, Calendar.getInstance(TimeZone.getTimeZone("GMT+14:00"))).toString(), is("value"));
+    }
+    
+    @Test
+    public void assertGetCalendarCellWithDefaultTimeZone() {
+        Timestamp timestamp = Timestamp.valueOf("2022-01-01 10:00:00.123456789");
+        memoryResultSetRow.setCell(1, timestamp);
+        assertThat(memoryResultSetRow.getCalendarCell(1, Calendar.getInstance()), sameInstance(timestamp));
+        assertThat(memoryResultSetRow.getCalendarCell(1, null), sameInstance(timestamp));
+    }
+    
+    @Test
+    public void assertGetCalendarCellWithOtherTimeZone() {
+        TimeZone timeZone = TimeZone.getTimeZone(TimeZone.getTimeZone("GMT+14:00").equals(TimeZone.getDefault()) ? "GMT-12:00" : "GMT+14:00");
+        memoryResultSetRow.setCell(1, Timestamp.valueOf("2022-01-01 10:00:00.123456789"));
+        Object actual = memoryResultSetRow.getCalendarCell(1, Calendar.getInstance(timeZone));
+        assertThat(actual, instanceOf(Timestamp.class));
+        assertThat(((Timestamp) actual).getTime(), is(LocalDateTime.of(2022, 1, 1, 10, 0, 0, 123000000).atZone(timeZone.toZoneId()).toInstant().toEpochMilli()));
+        assertThat(((Timestamp) actual).getNanos(), is(123456789));
+    }
+    
     @Test
     public void assertSetCell() {
         memoryResultSetRow.setCell(1, "new");
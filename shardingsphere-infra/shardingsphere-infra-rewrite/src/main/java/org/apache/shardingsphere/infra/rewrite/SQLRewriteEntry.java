@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.infra.rewrite;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.context.PreparedSQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecoratorFactory;
@@ -38,9 +42,14 @@ import java.util.Map.Entry;
 
 /**
  * SQL rewrite entry.
+ * 
+ * <p>SQL tokens and rewrite template of a SQL statement context executed with parameters, such as the one held by a prepared statement, are reused by following executions
+ * with same route result, until prepared templates are invalidated because of meta data changed.</p>
  */
 public final class SQLRewriteEntry {
     
+    private static final long PREPARED_TEMPLATES_MAXIMUM_SIZE = 4096L;
+    
     private final ShardingSphereDatabase database;
     
     private final ShardingSphereRuleMetaData globalRuleMetaData;
@@ -50,6 +59,8 @@ public final class SQLRewriteEntry {
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
     
+    private final Cache<SQLStatementContext<?>, PreparedSQLRewriteTemplate> preparedTemplates = Caffeine.newBuilder().weakKeys().softValues().maximumSize(PREPARED_TEMPLATES_MAXIMUM_SIZE).build();
+    
     public SQLRewriteEntry(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
         this.database = database;
         this.globalRuleMetaData = globalRuleMetaData;
@@ -79,14 +90,39 @@ public final class SQLRewriteEntry {
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, parameters);
         decorate(decorators, result, routeContext);
-        result.generateSQLTokens();
+        if (!isPreparedTemplateAvailable(result)) {
+            result.generateSQLTokens();
+            return result;
+        }
+        PreparedSQLRewriteTemplate preparedTemplate = preparedTemplates.getIfPresent(sqlStatementContext);
+        if (null != preparedTemplate && preparedTemplate.isSameRoute(routeContext)) {
+            result.reuseTemplate(preparedTemplate.getTemplate());
+        } else {
+            result.generateSQLTokens();
+            preparedTemplates.put(sqlStatementContext, new PreparedSQLRewriteTemplate(routeContext, result.getTemplate()));
+        }
         return result;
     }
     
+    private boolean isPreparedTemplateAvailable(final SQLRewriteContext sqlRewriteContext) {
+        if (sqlRewriteContext.getParameters().isEmpty() || sqlRewriteContext.isParametersAware()) {
+            return false;
+        }
+        SQLStatementContext<?> sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
+        return !(sqlStatementContext instanceof InsertStatementContext) || ((InsertStatementContext) sqlStatementContext).getGroupedParameters().stream().noneMatch(List::isEmpty);
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void decorate(final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         for (Entry<ShardingSphereRule, SQLRewriteContextDecorator> entry : decorators.entrySet()) {
             entry.getValue().decorate(entry.getKey(), props, sqlRewriteContext, routeContext);
         }
     }
+    
+    /**
+     * Invalidate prepared templates.
+     */
+    public void invalidatePreparedTemplates() {
+        preparedTemplates.invalidateAll();
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.context;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Prepared SQL rewrite template.
+ * 
+ * <p>Holds SQL rewrite template of a prepared SQL statement context with the route result it is generated for.
+ * Executions routed to same route units and data nodes reuse SQL tokens and rewrite template, only parameters are rewritten again.</p>
+ */
+public final class PreparedSQLRewriteTemplate {
+    
+    private final List<RouteUnit> routeUnits;
+    
+    private final List<Collection<DataNode>> originalDataNodes;
+    
+    @Getter
+    private final SQLRewriteTemplate template;
+    
+    public PreparedSQLRewriteTemplate(final RouteContext routeContext, final SQLRewriteTemplate template) {
+        routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        originalDataNodes = createOriginalDataNodes(routeContext);
+        this.template = template;
+    }
+    
+    private List<Collection<DataNode>> createOriginalDataNodes(final RouteContext routeContext) {
+        List<Collection<DataNode>> result = new ArrayList<>(routeContext.getOriginalDataNodes().size());
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            result.add(new ArrayList<>(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether route result is same as the one template generated for.
+     * 
+     * @param routeContext route context
+     * @return route result is same or not
+     */
+    public boolean isSameRoute(final RouteContext routeContext) {
+        return routeUnits.equals(new ArrayList<>(routeContext.getRouteUnits())) && originalDataNodes.equals(createOriginalDataNodes(routeContext));
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerators;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
@@ -58,6 +59,9 @@ public final class SQLRewriteContext {
     @Getter(AccessLevel.NONE)
     private final SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
     
+    @Getter(AccessLevel.NONE)
+    private SQLRewriteTemplate template;
+    
     public SQLRewriteContext(final String databaseName, final Map<String, ShardingSphereSchema> schemas,
                              final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters) {
         this.databaseName = databaseName;
@@ -87,4 +91,35 @@ public final class SQLRewriteContext {
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(databaseName, schemas, sqlStatementContext, parameters));
     }
+    
+    /**
+     * Judge whether SQL tokens are aware of parameters.
+     *
+     * @return SQL tokens are aware of parameters or not
+     */
+    public boolean isParametersAware() {
+        return sqlTokenGenerators.containsParametersAware();
+    }
+    
+    /**
+     * Reuse SQL tokens and rewrite template generated by previous execution instead of generating SQL tokens.
+     *
+     * @param template SQL rewrite template generated by previous execution
+     */
+    public void reuseTemplate(final SQLRewriteTemplate template) {
+        sqlTokens.addAll(template.getSqlTokens());
+        this.template = template;
+    }
+    
+    /**
+     * Get SQL rewrite template, which is compiled from SQL tokens once.
+     *
+     * @return SQL rewrite template
+     */
+    public SQLRewriteTemplate getTemplate() {
+        if (null == template) {
+            template = new SQLRewriteTemplate(this);
+        }
+        return template;
+    }
 }
@@ -45,7 +45,7 @@ public final class GenericSQLRewriteEngine {
      */
     public GenericSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext) {
         String sql = translatorRule.translate(
-                new DefaultSQLBuilder(sqlRewriteContext).toSQL(), sqlRewriteContext.getSqlStatementContext().getSqlStatement(), protocolType, storageType);
+                new DefaultSQLBuilder(sqlRewriteContext.getTemplate()).toSQL(), sqlRewriteContext.getSqlStatementContext().getSqlStatement(), protocolType, storageType);
         return new GenericSQLRewriteResult(new SQLRewriteUnit(sql, sqlRewriteContext.getParameterBuilder().getParameters()));
     }
 }
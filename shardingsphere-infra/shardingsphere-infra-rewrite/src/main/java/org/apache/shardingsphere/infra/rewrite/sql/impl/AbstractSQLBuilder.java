@@ -21,12 +21,11 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -34,53 +33,43 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
-    private final SQLRewriteContext context;
+    private final SQLRewriteTemplate template;
     
     private final RouteUnit routeUnit;
     
+    protected AbstractSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
+        this(new SQLRewriteTemplate(context), routeUnit);
+    }
+    
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
-            return context.getSql();
+        List<String> fragments = template.getFragments();
+        List<SQLToken> slots = template.getSlots();
+        if (slots.isEmpty()) {
+            return fragments.get(0);
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
+        StringBuilder result = new StringBuilder(template.getEstimatedLength());
+        result.append(fragments.get(0));
+        for (int i = 0; i < slots.size(); i++) {
+            SQLToken each = slots.get(i);
             if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
+                appendComposableSQLTokenText(result, (ComposableSQLToken) each);
             } else if (each instanceof SubstitutableColumnNameToken) {
                 result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
             } else {
                 result.append(getSQLTokenText(each));
             }
-            result.append(getConjunctionText(each));
+            result.append(fragments.get(i + 1));
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
+    private void appendComposableSQLTokenText(final StringBuilder builder, final ComposableSQLToken composableSQLToken) {
         for (SQLToken each : composableSQLToken.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            builder.append(getSQLTokenText(each));
+            builder.append(template.getComposedConjunction(each));
         }
-        return result.toString();
-    }
-    
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
     }
 }
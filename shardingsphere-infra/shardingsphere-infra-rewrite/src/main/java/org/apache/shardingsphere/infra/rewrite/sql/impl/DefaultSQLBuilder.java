@@ -29,6 +29,10 @@ public final class DefaultSQLBuilder extends AbstractSQLBuilder {
         super(context, null);
     }
     
+    public DefaultSQLBuilder(final SQLRewriteTemplate template) {
+        super(template, null);
+    }
+    
     @Override
     protected String getSQLTokenText(final SQLToken sqlToken) {
         return sqlToken.toString();
@@ -34,6 +34,11 @@ public final class RouteSQLBuilder extends AbstractSQLBuilder {
         this.routeUnit = routeUnit;
     }
     
+    public RouteSQLBuilder(final SQLRewriteTemplate template, final RouteUnit routeUnit) {
+        super(template, routeUnit);
+        this.routeUnit = routeUnit;
+    }
+    
     @Override
     protected String getSQLTokenText(final SQLToken sqlToken) {
         if (sqlToken instanceof RouteUnitAware) {
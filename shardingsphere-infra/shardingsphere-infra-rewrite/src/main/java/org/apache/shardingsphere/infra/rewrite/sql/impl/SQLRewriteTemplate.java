@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>SQL tokens are sorted and segmented only once per SQL rewrite context: tokens which are not route dependent are rendered into literal fragments,
+ * others are kept as slots which are filled by each SQL builder.</p>
+ */
+@Getter
+public final class SQLRewriteTemplate {
+    
+    private final String sql;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final List<String> fragments;
+    
+    private final List<SQLToken> slots;
+    
+    private final int estimatedLength;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<SQLToken, String> composedConjunctions = new IdentityHashMap<>();
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        sql = context.getSql();
+        sqlTokens = new ArrayList<>(context.getSqlTokens());
+        if (sqlTokens.isEmpty()) {
+            fragments = Collections.singletonList(sql);
+            slots = Collections.emptyList();
+            estimatedLength = sql.length();
+            return;
+        }
+        Collections.sort(sqlTokens);
+        fragments = new ArrayList<>();
+        slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(sql.length());
+        literal.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        int slotSourceLength = 0;
+        int literalLength = 0;
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
+            if (isSlot(each)) {
+                literalLength += literal.length();
+                fragments.add(literal.toString());
+                literal.setLength(0);
+                slots.add(each);
+                slotSourceLength += getSourceLength(each);
+                if (each instanceof ComposableSQLToken) {
+                    compileComposableSQLToken((ComposableSQLToken) each, sqlTokens);
+                }
+            } else {
+                literal.append(each);
+            }
+            literal.append(sql, getStartIndex(each), i == sqlTokens.size() - 1 ? sql.length() : sqlTokens.get(i + 1).getStartIndex());
+        }
+        literalLength += literal.length();
+        fragments.add(literal.toString());
+        estimatedLength = literalLength + slotSourceLength;
+    }
+    
+    private boolean isSlot(final SQLToken sqlToken) {
+        return sqlToken instanceof RouteUnitAware || sqlToken instanceof ComposableSQLToken || sqlToken instanceof SubstitutableColumnNameToken;
+    }
+    
+    private int getSourceLength(final SQLToken sqlToken) {
+        return sqlToken instanceof Substitutable ? Math.max(((Substitutable) sqlToken).getStopIndex() - sqlToken.getStartIndex() + 1, 0) : 0;
+    }
+    
+    private void compileComposableSQLToken(final ComposableSQLToken composableSQLToken, final List<SQLToken> sqlTokens) {
+        for (SQLToken each : composableSQLToken.getSqlTokens()) {
+            int index = sqlTokens.indexOf(each);
+            int stopIndex = sqlTokens.size() - 1 == index ? sql.length() : sqlTokens.get(index + 1).getStartIndex();
+            composedConjunctions.put(each, sql.substring(getStartIndex(each), stopIndex));
+        }
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    /**
+     * Get conjunction text following SQL token composed in composable SQL token.
+     * 
+     * @param sqlToken SQL token composed in composable SQL token
+     * @return conjunction text
+     */
+    public String getComposedConjunction(final SQLToken sqlToken) {
+        return composedConjunctions.get(sqlToken);
+    }
+}
@@ -50,6 +50,20 @@ public final class SQLTokenGenerators {
         }
     }
     
+    /**
+     * Judge whether contains SQL token generators aware of parameters.
+     *
+     * @return contains SQL token generators aware of parameters or not
+     */
+    public boolean containsParametersAware() {
+        for (SQLTokenGenerator each : sqlTokenGenerators.values()) {
+            if (each instanceof ParametersAware) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Generate SQL tokens.
      *
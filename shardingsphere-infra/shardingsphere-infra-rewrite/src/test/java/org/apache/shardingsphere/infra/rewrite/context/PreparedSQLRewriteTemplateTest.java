@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class PreparedSQLRewriteTemplateTest {
+    
+    private PreparedSQLRewriteTemplate preparedTemplate;
+    
+    @Before
+    public void setUp() {
+        preparedTemplate = new PreparedSQLRewriteTemplate(createRouteContext("ds_0", "t_order_0"), mock(SQLRewriteTemplate.class));
+    }
+    
+    @Test
+    public void assertIsSameRoute() {
+        assertThat(preparedTemplate.isSameRoute(createRouteContext("ds_0", "t_order_0")), is(true));
+    }
+    
+    @Test
+    public void assertIsNotSameRouteWithDifferentRouteUnits() {
+        assertThat(preparedTemplate.isSameRoute(createRouteContext("ds_1", "t_order_0")), is(false));
+    }
+    
+    @Test
+    public void assertIsNotSameRouteWithDifferentOriginalDataNodes() {
+        RouteContext routeContext = createRouteContext("ds_0", "t_order_0");
+        routeContext.getOriginalDataNodes().clear();
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t_order_1")));
+        assertThat(preparedTemplate.isSameRoute(routeContext), is(false));
+    }
+    
+    private RouteContext createRouteContext(final String dataSourceName, final String actualTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", dataSourceName), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        result.getOriginalDataNodes().add(Collections.singletonList(new DataNode(dataSourceName, actualTableName)));
+        return result;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
@@ -37,10 +38,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -103,4 +108,19 @@ public final class SQLRewriteContextTest {
         assertFalse(sqlRewriteContext.getSqlTokens().isEmpty());
         assertThat(sqlRewriteContext.getSqlTokens().get(0), instanceOf(SQLToken.class));
     }
+    
+    @Test
+    public void assertReuseTemplate() {
+        SQLRewriteContext previous = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME,
+                Collections.singletonMap("test", mock(ShardingSphereSchema.class)), sqlStatementContext, "INSERT INTO tbl VALUES (?)", Collections.singletonList(1));
+        previous.addSQLTokenGenerators(Collections.singleton(collectionSQLTokenGenerator));
+        previous.generateSQLTokens();
+        SQLRewriteTemplate template = previous.getTemplate();
+        SQLRewriteContext actual = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME,
+                Collections.singletonMap("test", mock(ShardingSphereSchema.class)), sqlStatementContext, "INSERT INTO tbl VALUES (?)", Collections.singletonList(2));
+        actual.reuseTemplate(template);
+        assertThat(actual.getSqlTokens(), is(Collections.singletonList(sqlToken)));
+        assertThat(actual.getTemplate(), sameInstance(template));
+        verify(collectionSQLTokenGenerator, times(1)).generateSQLTokens(sqlStatementContext);
+    }
 }
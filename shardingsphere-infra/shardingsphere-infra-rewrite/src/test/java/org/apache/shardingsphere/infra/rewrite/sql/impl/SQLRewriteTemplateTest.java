@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLRewriteTemplateTest {
+    
+    @Test
+    public void assertNewInstanceWithoutSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(Collections.emptyList());
+        SQLRewriteTemplate actual = new SQLRewriteTemplate(context);
+        assertThat(actual.getFragments(), is(Collections.singletonList("SELECT * FROM tbl WHERE id=?")));
+        assertTrue(actual.getSlots().isEmpty());
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsortedSQLTokens() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        RouteUnitAwareSQLTokenFixture tableToken = new RouteUnitAwareSQLTokenFixture(14, 16);
+        when(context.getSqlTokens()).thenReturn(Arrays.asList(tableToken, new SQLTokenFixture(7, 7)));
+        SQLRewriteTemplate actual = new SQLRewriteTemplate(context);
+        assertThat(actual.getFragments(), is(Arrays.asList("SELECT XXX FROM ", " WHERE id=?")));
+        assertThat(actual.getSlots(), is(Collections.singletonList(tableToken)));
+    }
+    
+    @Test
+    public void assertToSQLWithSharedTemplate() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(Arrays.asList(new SQLTokenFixture(7, 7), new RouteUnitAwareSQLTokenFixture(14, 16)));
+        SQLRewriteTemplate template = new SQLRewriteTemplate(context);
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_0")).toSQL(), is("SELECT XXX FROM tbl_0 WHERE id=?"));
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_1")).toSQL(), is("SELECT XXX FROM tbl_1 WHERE id=?"));
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
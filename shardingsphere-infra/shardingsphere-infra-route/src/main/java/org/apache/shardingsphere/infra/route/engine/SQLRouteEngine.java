@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.route.engine;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -34,12 +33,13 @@ import java.util.Collection;
 /**
  * SQL route engine.
  */
-@RequiredArgsConstructor
 public final class SQLRouteEngine {
     
-    private final Collection<ShardingSphereRule> rules;
+    private final SQLRouteExecutor partialSQLRouteExecutor;
     
-    private final ConfigurationProperties props;
+    public SQLRouteEngine(final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        partialSQLRouteExecutor = new PartialSQLRouteExecutor(rules, props);
+    }
     
     /**
      * Route SQL.
@@ -49,7 +49,7 @@ public final class SQLRouteEngine {
      * @return route context
      */
     public RouteContext route(final LogicSQL logicSQL, final ShardingSphereDatabase database) {
-        SQLRouteExecutor executor = isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
+        SQLRouteExecutor executor = isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : partialSQLRouteExecutor;
         return executor.route(logicSQL, database);
     }
     
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Inline expression evaluator compiled to java.
+ * 
+ * <p>Falls back to groovy evaluator if any variable is absent or its type is not supported, to keep the same result as groovy.</p>
+ */
+@RequiredArgsConstructor
+public final class CompiledInlineExpressionEvaluator implements InlineExpressionEvaluator {
+    
+    private final String[] literals;
+    
+    private final Placeholder[] placeholders;
+    
+    private final InlineExpressionEvaluator fallbackEvaluator;
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        if (!isAllVariablesSupported(variables)) {
+            return fallbackEvaluator.evaluate(variables);
+        }
+        StringBuilder result = new StringBuilder(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            placeholders[i].appendTo(result, variables.get(placeholders[i].variableName));
+            result.append(literals[i + 1]);
+        }
+        return result.toString();
+    }
+    
+    private boolean isAllVariablesSupported(final Map<String, ?> variables) {
+        for (Placeholder each : placeholders) {
+            if (!each.isSupportedValue(variables.get(each.variableName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @RequiredArgsConstructor
+    static final class Placeholder {
+        
+        private final String variableName;
+        
+        private final PlaceholderType type;
+        
+        private final long modulus;
+        
+        private boolean isSupportedValue(final Object value) {
+            boolean integral = value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+            return PlaceholderType.MOD == type ? integral : integral || value instanceof String;
+        }
+        
+        private void appendTo(final StringBuilder builder, final Object value) {
+            switch (type) {
+                case MOD:
+                    builder.append(((Number) value).longValue() % modulus);
+                    break;
+                case HASH_CODE_MOD:
+                    builder.append(value.hashCode() % modulus);
+                    break;
+                default:
+                    builder.append(value);
+                    break;
+            }
+        }
+    }
+    
+    enum PlaceholderType {
+        
+        VARIABLE, MOD, HASH_CODE_MOD
+    }
+}
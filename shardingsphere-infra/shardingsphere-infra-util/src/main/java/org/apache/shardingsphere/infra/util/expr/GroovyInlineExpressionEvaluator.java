@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Inline expression evaluator based on groovy closure.
+ */
+public final class GroovyInlineExpressionEvaluator implements InlineExpressionEvaluator {
+    
+    private final Closure<?> closure;
+    
+    public GroovyInlineExpressionEvaluator(final String inlineExpression) {
+        closure = new InlineExpressionParser(inlineExpression).evaluateClosure();
+    }
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        Closure<?> closure = createClosure();
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result;
+    }
+}
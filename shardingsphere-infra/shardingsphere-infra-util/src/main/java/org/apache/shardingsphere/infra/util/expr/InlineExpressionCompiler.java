@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpressionEvaluator.Placeholder;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpressionEvaluator.PlaceholderType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Expressions only composed by literals and placeholders in shape of {@code ${column}}, {@code ${column % N}} or {@code ${column.hashCode() % N}}
+ * are compiled to java evaluators, others are evaluated by groovy. Placeholders can also be written as {@code $->{column}}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private static final char PLACEHOLDER_SIGN = '$';
+    
+    private static final String PLACEHOLDER_PREFIX = "${";
+    
+    private static final String ARROW_PLACEHOLDER_PREFIX = "$->{";
+    
+    private static final String PLACEHOLDER_SUFFIX = "}";
+    
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*");
+    
+    private static final Pattern MOD_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*%\\s*([1-9][0-9]{0,17})\\s*");
+    
+    private static final Pattern HASH_CODE_MOD_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*\\.\\s*hashCode\\s*\\(\\s*\\)\\s*%\\s*([1-9][0-9]{0,17})\\s*");
+    
+    private static final Collection<String> RESERVED_VARIABLE_NAMES = new HashSet<>(Arrays.asList(
+            "it", "this", "super", "owner", "delegate", "thisObject", "class", "metaClass", "directive", "resolveStrategy", "maximumNumberOfParameters", "parameterTypes", "null", "true", "false"));
+    
+    private static final Collection<Character> UNSUPPORTED_LITERAL_CHARACTERS = Arrays.asList('\\', '"');
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression
+     * @return inline expression evaluator
+     */
+    public static InlineExpressionEvaluator compile(final String inlineExpression) {
+        InlineExpressionEvaluator groovyEvaluator = new GroovyInlineExpressionEvaluator(InlineExpressionParser.handlePlaceHolder(inlineExpression));
+        List<String> literals = new LinkedList<>();
+        List<Placeholder> placeholders = new LinkedList<>();
+        int index = 0;
+        while (index <= inlineExpression.length()) {
+            int placeholderStartIndex = inlineExpression.indexOf(PLACEHOLDER_SIGN, index);
+            String literal = -1 == placeholderStartIndex ? inlineExpression.substring(index) : inlineExpression.substring(index, placeholderStartIndex);
+            if (!isSupportedLiteral(literal)) {
+                return groovyEvaluator;
+            }
+            literals.add(literal);
+            if (-1 == placeholderStartIndex) {
+                break;
+            }
+            int placeholderPrefixLength = getPlaceholderPrefixLength(inlineExpression, placeholderStartIndex);
+            if (0 == placeholderPrefixLength) {
+                return groovyEvaluator;
+            }
+            int placeholderStopIndex = inlineExpression.indexOf(PLACEHOLDER_SUFFIX, placeholderStartIndex);
+            if (-1 == placeholderStopIndex) {
+                return groovyEvaluator;
+            }
+            Optional<Placeholder> placeholder = parsePlaceholder(inlineExpression.substring(placeholderStartIndex + placeholderPrefixLength, placeholderStopIndex));
+            if (!placeholder.isPresent()) {
+                return groovyEvaluator;
+            }
+            placeholders.add(placeholder.get());
+            index = placeholderStopIndex + PLACEHOLDER_SUFFIX.length();
+        }
+        return new CompiledInlineExpressionEvaluator(literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]), groovyEvaluator);
+    }
+    
+    private static int getPlaceholderPrefixLength(final String inlineExpression, final int placeholderStartIndex) {
+        if (inlineExpression.startsWith(PLACEHOLDER_PREFIX, placeholderStartIndex)) {
+            return PLACEHOLDER_PREFIX.length();
+        }
+        return inlineExpression.startsWith(ARROW_PLACEHOLDER_PREFIX, placeholderStartIndex) ? ARROW_PLACEHOLDER_PREFIX.length() : 0;
+    }
+    
+    private static boolean isSupportedLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (UNSUPPORTED_LITERAL_CHARACTERS.contains(literal.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Optional<Placeholder> parsePlaceholder(final String placeholder) {
+        Matcher matcher = VARIABLE_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            return createPlaceholder(matcher.group(1), PlaceholderType.VARIABLE, 0L);
+        }
+        matcher = MOD_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            return createPlaceholder(matcher.group(1), PlaceholderType.MOD, Long.parseLong(matcher.group(2)));
+        }
+        matcher = HASH_CODE_MOD_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            return createPlaceholder(matcher.group(1), PlaceholderType.HASH_CODE_MOD, Long.parseLong(matcher.group(2)));
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<Placeholder> createPlaceholder(final String variableName, final PlaceholderType type, final long modulus) {
+        return RESERVED_VARIABLE_NAMES.contains(variableName) ? Optional.empty() : Optional.of(new Placeholder(variableName, type, modulus));
+    }
+}
@@ -32,6 +32,7 @@ public final class TypedPropertyValue {
         this.value = createTypedValue(key, value);
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
     private Object createTypedValue(final TypedPropertyKey key, final String value) throws TypedPropertyValueException {
         if (boolean.class == key.getType() || Boolean.class == key.getType()) {
             return Boolean.valueOf(value);
@@ -50,6 +51,13 @@ public final class TypedPropertyValue {
                 throw new TypedPropertyValueException(key, value);
             }
         }
+        if (key.getType().isEnum()) {
+            try {
+                return Enum.valueOf((Class<Enum>) key.getType(), value.trim().toUpperCase());
+            } catch (final IllegalArgumentException ex) {
+                throw new TypedPropertyValueException(key, value);
+            }
+        }
         return value;
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileVariable() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${value}");
+        assertThat(actual, instanceOf(CompiledInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("value", 3)), is("t_order_3"));
+        assertThat(actual.evaluate(Collections.singletonMap("value", "foo")), is("t_order_foo"));
+    }
+    
+    @Test
+    public void assertCompileMod() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${ order_id % 4 }_suffix");
+        assertThat(actual, instanceOf(CompiledInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 6)), is("t_order_2_suffix"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 7L)), is("t_order_3_suffix"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", -5L)), is("t_order_-1_suffix"));
+    }
+    
+    @Test
+    public void assertCompileHashCodeMod() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${user_name.hashCode() % 8}");
+        assertThat(actual, instanceOf(CompiledInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("user_name", "foo")), is("t_order_" + "foo".hashCode() % 8));
+    }
+    
+    @Test
+    public void assertCompileMultiplePlaceholders() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${type % 2}_${order_id % 2}");
+        assertThat(actual, instanceOf(CompiledInlineExpressionEvaluator.class));
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("type", 1);
+        variables.put("order_id", 2);
+        assertThat(actual.evaluate(variables), is("t_order_1_0"));
+    }
+    
+    @Test
+    public void assertCompileArrowPlaceholder() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("ds_$->{user_id % 2}.t_order_${order_id}");
+        assertThat(actual, instanceOf(CompiledInlineExpressionEvaluator.class));
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 3);
+        variables.put("order_id", 4);
+        assertThat(actual.evaluate(variables), is("ds_1.t_order_4"));
+    }
+    
+    @Test
+    public void assertCompileUnsupportedArrowPlaceholder() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("ds_$->{(user_id + 1) % 2}");
+        assertThat(actual, instanceOf(GroovyInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", 2)), is("ds_1"));
+    }
+    
+    @Test
+    public void assertCompileDollarSignWithoutPlaceholder() {
+        assertThat(InlineExpressionCompiler.compile("ds_$user_id"), instanceOf(GroovyInlineExpressionEvaluator.class));
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpression() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${(order_id + 1) % 4}");
+        assertThat(actual, instanceOf(GroovyInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 6)), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateUnsupportedValueWithGroovy() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${order_id}");
+        assertThat(actual, instanceOf(CompiledInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", Collections.singletonList(1))), is("t_order_[1]"));
+    }
+    
+    @Test(expected = NullPointerException.class)
+    public void assertEvaluateAbsentVariable() {
+        InlineExpressionCompiler.compile("t_order_${order_id % 4}").evaluate(Collections.singletonMap("user_id", 1));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.util.props;
 
 import org.apache.shardingsphere.infra.util.props.exception.TypedPropertyValueException;
+import org.apache.shardingsphere.infra.util.props.fixture.TypedPropertyEnumFixture;
 import org.apache.shardingsphere.infra.util.props.fixture.TypedPropertyKeyFixture;
 import org.junit.Test;
 
@@ -65,4 +66,14 @@ public final class TypedPropertyValueTest {
     public void assertGetStringValue() throws TypedPropertyValueException {
         assertThat(new TypedPropertyValue(TypedPropertyKeyFixture.STRING_VALUE, "new_value").getValue(), is("new_value"));
     }
+    
+    @Test
+    public void assertGetEnumValue() throws TypedPropertyValueException {
+        assertThat(new TypedPropertyValue(TypedPropertyKeyFixture.ENUM_VALUE, "fixture").getValue(), is(TypedPropertyEnumFixture.FIXTURE));
+    }
+    
+    @Test(expected = TypedPropertyValueException.class)
+    public void assertGetInvalidEnumValue() throws TypedPropertyValueException {
+        new TypedPropertyValue(TypedPropertyKeyFixture.ENUM_VALUE, "test");
+    }
 }
@@ -49,8 +49,6 @@ public final class DriverJDBCExecutor {
     
     private final MetaDataContexts metaDataContexts;
     
-    private final ContextManager contextManager;
-    
     private final JDBCExecutor jdbcExecutor;
     
     private final MetaDataRefreshEngine metadataRefreshEngine;
@@ -59,7 +57,6 @@ public final class DriverJDBCExecutor {
     
     public DriverJDBCExecutor(final String databaseName, final ContextManager contextManager, final JDBCExecutor jdbcExecutor) {
         this.databaseName = databaseName;
-        this.contextManager = contextManager;
         this.jdbcExecutor = jdbcExecutor;
         metaDataContexts = contextManager.getMetaDataContexts();
         eventBusContext = contextManager.getInstanceContext().getEventBusContext();
@@ -78,6 +75,7 @@ public final class DriverJDBCExecutor {
     public List<QueryResult> executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                           final LogicSQL logicSQL, final ExecuteQueryCallback callback) throws SQLException {
         try {
+            executionGroupContext.setDatabaseName(databaseName);
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, eventBusContext);
             List<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback);
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID(), eventBusContext);
@@ -100,6 +98,7 @@ public final class DriverJDBCExecutor {
     public int executeUpdate(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                              final LogicSQL logicSQL, final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Integer> callback) throws SQLException {
         try {
+            executionGroupContext.setDatabaseName(databaseName);
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, eventBusContext);
             SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
             List<Integer> results = doExecute(executionGroupContext, sqlStatementContext, routeUnits, callback);
@@ -141,6 +140,7 @@ public final class DriverJDBCExecutor {
     public boolean execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final LogicSQL logicSQL,
                            final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Boolean> callback) throws SQLException {
         try {
+            executionGroupContext.setDatabaseName(databaseName);
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, eventBusContext);
             List<Boolean> results = doExecute(executionGroupContext, logicSQL.getSqlStatementContext(), routeUnits, callback);
             boolean result = null != results && !results.isEmpty() && null != results.get(0) && results.get(0);
@@ -160,8 +160,6 @@ public final class DriverJDBCExecutor {
     
     private void refreshMetaData(final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits) throws SQLException {
         Optional<MetaDataRefreshedEvent> event = metadataRefreshEngine.refresh(sqlStatementContext, routeUnits);
-        if (contextManager.getInstanceContext().isCluster() && event.isPresent()) {
-            eventBusContext.post(event.get());
-        }
+        event.ifPresent(eventBusContext::post);
     }
 }
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -56,6 +57,18 @@ public final class BatchExecutionUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch to one time of actual call addBatch after route, for rows coalesced into one statement.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     */
+    public void mapAddBatchCount(final Collection<Integer> jdbcAddBatchTimes) {
+        for (Integer each : jdbcAddBatchTimes) {
+            jdbcAndActualAddBatchCallTimesMap.put(each, actualCallAddBatchTimes);
+        }
+        actualCallAddBatchTimes++;
+    }
+    
     /**
      * Get parameter sets.
      * 
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+/**
+ * Batch insert SQL coalescer, which repeats the single values list of INSERT statement to insert multiple rows in one statement.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchInsertSQLCoalescer {
+    
+    /**
+     * Judge whether rows of INSERT statement can be coalesced.
+     * 
+     * <p>Rows can be coalesced if INSERT statement has single values list which holds all parameters, without INSERT SELECT or ON DUPLICATE KEY UPDATE clause.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return rows can be coalesced or not
+     */
+    public static boolean isCoalescible(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        InsertStatement insertStatement = insertStatementContext.getSqlStatement();
+        return 1 == insertStatement.getValues().size() && null == insertStatementContext.getInsertSelectContext()
+                && !InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent()
+                && insertStatementContext.getInsertValueContexts().get(0).getParameterCount() == insertStatement.getParameterCount();
+    }
+    
+    /**
+     * Coalesce INSERT SQL.
+     *
+     * @param sql INSERT SQL with single values list
+     * @param insertStatementContext INSERT statement context of SQL
+     * @param rowCount row count to be coalesced
+     * @return coalesced SQL
+     */
+    public static String coalesce(final String sql, final InsertStatementContext insertStatementContext, final int rowCount) {
+        InsertValuesSegment insertValuesSegment = insertStatementContext.getSqlStatement().getValues().iterator().next();
+        int stopIndex = insertValuesSegment.getStopIndex() + 1;
+        String valuesList = sql.substring(insertValuesSegment.getStartIndex(), stopIndex);
+        StringBuilder result = new StringBuilder(sql.length() + (valuesList.length() + 2) * (rowCount - 1));
+        result.append(sql, 0, stopIndex);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(valuesList);
+        }
+        result.append(sql, stopIndex, sql.length());
+        return result.toString();
+    }
+}
@@ -17,17 +17,22 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -38,6 +43,8 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,8 +62,9 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
+    
+    private final Map<String, Integer> coalescedRowCounts;
     
     private int batchCount;
     
@@ -70,7 +78,8 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         this.eventBusContext = eventBusContext;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
+        coalescedRowCounts = new HashMap<>();
     }
     
     /**
@@ -82,50 +91,109 @@ public final class BatchPreparedStatementExecutor {
         this.executionGroupContext = executionGroupContext;
     }
     
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
+    }
+    
     /**
      * Add batch for execution units.
      *
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
-        for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
+    /**
+     * Judge whether rows of INSERT statement can be coalesced.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return rows can be coalesced or not
+     */
+    public boolean isInsertValuesCoalescible(final SQLStatementContext<?> sqlStatementContext) {
+        return BatchInsertSQLCoalescer.isCoalescible(sqlStatementContext) && isNeedAccumulate(sqlStatementContext);
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Add batch for coalesced execution units, which are routed and rewritten once for multiple rows.
+     * 
+     * <p>Each execution unit carries the rows routed to its actual table as one multi-values INSERT statement, and is added to the actual batch once.</p>
+     *
+     * @param executionContext execution context of coalesced INSERT statement
+     * @param rowCount row count of coalesced INSERT statement
+     */
+    public void addBatchForCoalescedExecutionUnits(final ExecutionContext executionContext, final int rowCount) {
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            List<Integer> addBatchTimes = getAddBatchTimes(each, executionContext.getRouteContext(), rowCount);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(addBatchTimes);
+            if (addBatchTimes.size() > 1) {
+                coalescedRowCounts.put(each.getSqlUnit().getSql(), addBatchTimes.size());
+            }
+        }
+        batchCount += rowCount;
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+    private List<Integer> getAddBatchTimes(final ExecutionUnit executionUnit, final RouteContext routeContext, final int rowCount) {
+        Optional<RouteUnit> routeUnit = findRouteUnit(executionUnit, routeContext);
+        List<Integer> result = new ArrayList<>(rowCount);
+        if (!routeUnit.isPresent() || routeContext.getOriginalDataNodes().size() != rowCount) {
+            for (int i = 0; i < rowCount; i++) {
+                result.add(batchCount + i);
+            }
+            return result;
+        }
+        int rowIndex = 0;
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            if (isRoutedTo(each, routeUnit.get())) {
+                result.add(batchCount + rowIndex);
             }
+            rowIndex++;
         }
+        return result;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private Optional<RouteUnit> findRouteUnit(final ExecutionUnit executionUnit, final RouteContext routeContext) {
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Collection<RouteMapper> tableMappers = null == each.getTableMappers() ? Collections.emptyList() : each.getTableMappers();
+            if (each.getDataSourceMapper().getActualName().equals(executionUnit.getDataSourceName()) && new ArrayList<>(tableMappers).equals(executionUnit.getSqlUnit().getTableRouteMappers())) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+    private boolean isRoutedTo(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
+        if (dataNodes.isEmpty()) {
+            return true;
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        for (DataNode each : dataNodes) {
+            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -172,16 +240,12 @@ public final class BatchPreparedStatementExecutor {
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null == batchExecutionUnit ? Collections.emptyMap() : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
+                Integer coalescedRowCount = coalescedRowCounts.get(eachUnit.getExecutionUnit().getSqlUnit().getSql());
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
+                    result[entry.getKey()] += null == coalescedRowCount ? value : getRowResult(value, coalescedRowCount);
                 }
                 count++;
             }
@@ -189,9 +253,11 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+    private int getRowResult(final int coalescedResult, final int coalescedRowCount) {
+        if (coalescedRowCount == coalescedResult) {
+            return 1;
+        }
+        return Statement.EXECUTE_FAILED == coalescedResult ? Statement.EXECUTE_FAILED : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -236,12 +302,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
-        }
-        throw new IllegalStateException();
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != batchExecutionUnit);
+        return batchExecutionUnit.getParameterSets();
     }
     
     /**
@@ -254,5 +317,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        coalescedRowCounts.clear();
     }
 }
@@ -80,9 +80,20 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            closeMergedResult();
+        } finally {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        }
     }
     
+    /**
+     * Close merged result.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected abstract void closeMergedResult() throws SQLException;
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -25,10 +25,11 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
-import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaDataFactory;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
@@ -65,6 +66,10 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Map<String, DataSource> physicalDataSourceMap = new LinkedHashMap<>();
     
+    private final Map<String, DataSource> trafficDataSourceMap = new LinkedHashMap<>();
+    
+    private final InstanceContext instanceContext;
+    
     @Getter
     private final ConnectionTransaction connectionTransaction;
     
@@ -77,32 +82,35 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     private final Random random = new SecureRandom();
     
     public ConnectionManager(final String databaseName, final ContextManager contextManager) {
+        instanceContext = contextManager.getInstanceContext();
         dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
-        dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
+        trafficDataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
+        dataSourceMap.putAll(trafficDataSourceMap);
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         connectionTransaction = createConnectionTransaction(databaseName, contextManager);
     }
     
     private Map<String, DataSource> getTrafficDataSourceMap(final String databaseName, final ContextManager contextManager) {
         TrafficRule trafficRule = contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TrafficRule.class);
-        MetaDataPersistService persistService = contextManager.getMetaDataContexts().getPersistService();
         if (trafficRule.getStrategyRules().isEmpty()) {
             return Collections.emptyMap();
         }
+        MetaDataPersistService persistService = contextManager.getMetaDataContexts().getPersistService();
         String actualDatabaseName = contextManager.getMetaDataContexts().getMetaData().getActualDatabaseName(databaseName);
+        Collection<InstanceMetaData> instances = instanceContext.getAllClusterInstances(InstanceType.PROXY, trafficRule.getLabels());
+        return instanceContext.getTrafficDataSourceRegistry().borrow(actualDatabaseName, instances,
+                absentInstances -> createDataSourcePropertiesMap(absentInstances, persistService, actualDatabaseName));
+    }
+    
+    private Map<String, DataSourceProperties> createDataSourcePropertiesMap(final Collection<InstanceMetaData> instances,
+                                                                            final MetaDataPersistService persistService, final String actualDatabaseName) {
         Map<String, DataSourceProperties> dataSourcePropsMap = persistService.getDataSourceService().load(actualDatabaseName);
         Preconditions.checkState(!dataSourcePropsMap.isEmpty(), "Can not get data source properties from meta data.");
         DataSourceProperties dataSourcePropsSample = dataSourcePropsMap.values().iterator().next();
         Collection<ShardingSphereUser> users = persistService.getGlobalRuleService().loadUsers();
-        Collection<InstanceMetaData> instances = contextManager.getInstanceContext().getAllClusterInstances(InstanceType.PROXY, trafficRule.getLabels());
-        return DataSourcePoolCreator.create(createDataSourcePropertiesMap(instances, users, dataSourcePropsSample, actualDatabaseName));
-    }
-    
-    private Map<String, DataSourceProperties> createDataSourcePropertiesMap(final Collection<InstanceMetaData> instances, final Collection<ShardingSphereUser> users,
-                                                                            final DataSourceProperties dataSourcePropsSample, final String schema) {
         Map<String, DataSourceProperties> result = new LinkedHashMap<>();
         for (InstanceMetaData each : instances) {
-            result.put(each.getId(), createDataSourceProperties((ProxyInstanceMetaData) each, users, dataSourcePropsSample, schema));
+            result.put(each.getId(), createDataSourceProperties((ProxyInstanceMetaData) each, users, dataSourcePropsSample, actualDatabaseName));
         }
         return result;
     }
@@ -293,6 +301,20 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return getConnections(getRandomPhysicalDataSourceName(), 1, ConnectionMode.MEMORY_STRICTLY).get(0);
     }
     
+    @Override
+    public Optional<Integer> findAvailableConnectionCount(final String dataSourceName) {
+        DataSource dataSource = dataSourceMap.get(dataSourceName);
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        int cachedConnectionSize;
+        synchronized (cachedConnections) {
+            cachedConnectionSize = cachedConnections.get(dataSourceName).size();
+        }
+        return DataSourcePoolMetaDataFactory.findInstance(dataSource.getClass().getName())
+                .flatMap(optional -> optional.findAvailableConnectionCount(dataSource)).map(each -> each + cachedConnectionSize);
+    }
+    
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         DataSource dataSource = dataSourceMap.get(dataSourceName);
@@ -368,6 +390,14 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::close);
         } finally {
             cachedConnections.clear();
+            releaseTrafficDataSources();
+        }
+    }
+    
+    private void releaseTrafficDataSources() {
+        if (!trafficDataSourceMap.isEmpty()) {
+            instanceContext.getTrafficDataSourceRegistry().release(trafficDataSourceMap.values());
+            trafficDataSourceMap.clear();
         }
     }
 }
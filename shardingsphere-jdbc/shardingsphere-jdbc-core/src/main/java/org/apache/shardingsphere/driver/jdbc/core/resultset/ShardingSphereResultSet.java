@@ -118,6 +118,11 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.wasNull();
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
+    
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
         return (boolean) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, boolean.class), boolean.class);
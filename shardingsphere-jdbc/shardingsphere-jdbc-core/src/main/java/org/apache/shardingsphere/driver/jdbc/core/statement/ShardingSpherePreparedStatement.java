@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchInsertSQLCoalescer;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
@@ -117,6 +118,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final List<List<Object>> parameterSets;
     
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
     private final SQLStatement sqlStatement;
     
     private final SQLStatementContext<?> sqlStatementContext;
@@ -144,6 +147,14 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final EventBusContext eventBusContext;
     
+    private final int batchInsertCoalescingSize;
+    
+    private final List<List<Object>> coalescingParameterSets = new ArrayList<>();
+    
+    private String cachedCoalescedSQL;
+    
+    private SQLStatementContext<?> cachedCoalescedSQLStatementContext;
+    
     private ExecutionContext executionContext;
     
     private ResultSet currentResultSet;
@@ -182,7 +193,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         statements = new ArrayList<>();
         parameterSets = new ArrayList<>();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        ShardingSphereSQLParserEngine sqlParserEngine = sqlParserRule.getSQLParserEngine(
+        sqlParserEngine = sqlParserRule.getSQLParserEngine(
                 DatabaseTypeEngine.getTrunkDatabaseTypeName(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getResource().getDatabaseType()));
         sqlStatement = sqlParserEngine.parse(sql, true);
         sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData().getDatabases(), sqlStatement, connection.getDatabaseName());
@@ -195,6 +206,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getRuleMetaData());
         trafficRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(TrafficRule.class);
         statementManager = new StatementManager();
+        batchInsertCoalescingSize = getBatchInsertCoalescingSize();
+    }
+    
+    private int getBatchInsertCoalescingSize() {
+        if (!batchPreparedStatementExecutor.isInsertValuesCoalescible(sqlStatementContext)) {
+            return 0;
+        }
+        int result = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_SIZE);
+        return result > 1 ? result : 0;
     }
     
     private boolean isStatementsCacheable(final ShardingSphereRuleMetaData databaseRuleMetaData) {
@@ -417,7 +437,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits(), executionContext.getSqlStatementContext());
     }
     
     private JDBCExecutorCallback<Boolean> createExecuteCallback() {
@@ -564,6 +584,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
+            if (batchInsertCoalescingSize > 0) {
+                addCoalescingBatch();
+                return;
+            }
             LogicSQL logicSQL = createLogicSQL();
             trafficContext = getTrafficContext(logicSQL);
             executionContext = trafficContext.isMatchTraffic() ? createExecutionContext(logicSQL, trafficContext) : createExecutionContext(logicSQL);
@@ -574,12 +598,51 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
+    private void addCoalescingBatch() {
+        coalescingParameterSets.add(new ArrayList<>(getParameters()));
+        if (coalescingParameterSets.size() == batchInsertCoalescingSize) {
+            addCoalescedBatch();
+        }
+    }
+    
+    private void addCoalescedBatch() {
+        int rowCount = coalescingParameterSets.size();
+        List<Object> parameters = new ArrayList<>(rowCount * coalescingParameterSets.get(0).size());
+        coalescingParameterSets.forEach(parameters::addAll);
+        coalescingParameterSets.clear();
+        LogicSQL logicSQL = createCoalescedLogicSQL(rowCount, parameters);
+        trafficContext = getTrafficContext(logicSQL);
+        executionContext = trafficContext.isMatchTraffic() ? createExecutionContext(logicSQL, trafficContext) : createExecutionContext(logicSQL);
+        batchPreparedStatementExecutor.addBatchForCoalescedExecutionUnits(executionContext, rowCount);
+    }
+    
+    private LogicSQL createCoalescedLogicSQL(final int rowCount, final List<Object> parameters) {
+        String coalescedSQL = BatchInsertSQLCoalescer.coalesce(sql, (InsertStatementContext) sqlStatementContext, rowCount);
+        SQLStatementContext<?> coalescedSQLStatementContext = coalescedSQL.equals(cachedCoalescedSQL) ? cachedCoalescedSQLStatementContext : createCoalescedSQLStatementContext(coalescedSQL, rowCount);
+        ((ParameterAware) coalescedSQLStatementContext).setUpParameters(parameters);
+        return new LogicSQL(coalescedSQLStatementContext, coalescedSQL, parameters);
+    }
+    
+    private SQLStatementContext<?> createCoalescedSQLStatementContext(final String coalescedSQL, final int rowCount) {
+        boolean isFullChunk = batchInsertCoalescingSize == rowCount;
+        SQLStatement sqlStatement = sqlParserEngine.parse(coalescedSQL, isFullChunk);
+        SQLStatementContext<?> result = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData().getDatabases(), sqlStatement, connection.getDatabaseName());
+        if (isFullChunk) {
+            cachedCoalescedSQL = coalescedSQL;
+            cachedCoalescedSQLStatementContext = result;
+        }
+        return result;
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
-        if (null == executionContext) {
+        if (null == executionContext && coalescingParameterSets.isEmpty()) {
             return new int[0];
         }
         try {
+            if (!coalescingParameterSets.isEmpty()) {
+                addCoalescedBatch();
+            }
             // TODO add raw SQL executor
             initBatchPreparedStatementExecutor();
             return batchPreparedStatementExecutor.executeBatch(executionContext.getSqlStatementContext());
@@ -617,6 +680,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void clearBatch() throws SQLException {
         currentResultSet = null;
+        coalescingParameterSets.clear();
         batchPreparedStatementExecutor.clear();
         clearParameters();
     }
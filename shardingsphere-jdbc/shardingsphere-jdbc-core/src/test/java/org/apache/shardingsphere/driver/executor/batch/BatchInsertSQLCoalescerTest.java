@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BatchInsertSQLCoalescerTest {
+    
+    @Test
+    public void assertIsCoalescible() {
+        assertTrue(BatchInsertSQLCoalescer.isCoalescible(createInsertStatementContext(new MySQLInsertStatement(), 2, 48, 55)));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithoutInsertStatement() {
+        assertFalse(BatchInsertSQLCoalescer.isCoalescible(mock(SelectStatementContext.class)));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithMultipleValuesLists() {
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.emptyList()));
+        assertFalse(BatchInsertSQLCoalescer.isCoalescible(createInsertStatementContext(insertStatement, 2, 48, 55)));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithOnDuplicateKeyUpdate() {
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setOnDuplicateKeyColumns(new OnDuplicateKeyColumnsSegment(57, 100, Collections.emptyList()));
+        assertFalse(BatchInsertSQLCoalescer.isCoalescible(createInsertStatementContext(insertStatement, 2, 48, 55)));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithParametersOutOfValuesList() {
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        InsertStatementContext insertStatementContext = createInsertStatementContext(insertStatement, 2, 48, 55);
+        insertStatement.setParameterCount(3);
+        assertFalse(BatchInsertSQLCoalescer.isCoalescible(insertStatementContext));
+    }
+    
+    @Test
+    public void assertCoalesce() {
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        assertThat(BatchInsertSQLCoalescer.coalesce(sql, createInsertStatementContext(new MySQLInsertStatement(), 2, 48, 53), 3),
+                is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    public void assertCoalesceWithTrailingClause() {
+        String sql = "insert into t_order_0 values (?, 'a)?', now()) returning order_id";
+        assertThat(BatchInsertSQLCoalescer.coalesce(sql, createInsertStatementContext(new MySQLInsertStatement(), 1, 29, 45), 2),
+                is("insert into t_order_0 values (?, 'a)?', now()), (?, 'a)?', now()) returning order_id"));
+    }
+    
+    private InsertStatementContext createInsertStatementContext(final MySQLInsertStatement insertStatement, final int parameterCount, final int startIndex, final int stopIndex) {
+        List<ExpressionSegment> values = new LinkedList<>();
+        for (int i = 0; i < parameterCount; i++) {
+            values.add(new ParameterMarkerExpressionSegment(0, 0, i));
+        }
+        values.add(new LiteralExpressionSegment(0, 0, "a"));
+        insertStatement.getValues().add(new InsertValuesSegment(startIndex, stopIndex, values));
+        insertStatement.setParameterCount(parameterCount);
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        when(result.getInsertValueContexts()).thenReturn(Collections.singletonList(new InsertValueContext(values, Collections.emptyList(), 0)));
+        return result;
+    }
+}
@@ -23,13 +23,19 @@ import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.driver.executor.AbstractBaseExecutorTest;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Test;
 import org.mockito.Mock;
 
@@ -38,11 +44,15 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -55,6 +65,8 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
     private BatchPreparedStatementExecutor actual;
     
     @Mock
@@ -129,16 +141,71 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        actual.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 2)));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 3)));
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 1, 3, 3)));
+        assertThat(batchExecutionUnits.get(0).getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(0, 0, 1, 1)));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, 2)));
+        assertThat(batchExecutionUnits.get(1).getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(0, 0)));
+    }
+    
+    @Test
+    public void assertAddBatchForCoalescedExecutionUnitsAndExecuteBatch() throws SQLException {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0.t_order_0")));
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0.t_order_1")));
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0.t_order_0")));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        ExecutionUnit executionUnit0 = createCoalescedExecutionUnit("t_order_0", INSERT_SQL + ", (?, ?)", 0, 0, 2, 2);
+        ExecutionUnit executionUnit1 = createCoalescedExecutionUnit("t_order_1", INSERT_SQL.replace("t_order_0", "t_order_1"), 1, 1);
+        actual.addBatchForCoalescedExecutionUnits(new ExecutionContext(mock(LogicSQL.class), Arrays.asList(executionUnit0, executionUnit1), routeContext), 3);
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(0, 0, 2, 0)));
+        assertThat(batchExecutionUnits.get(1).getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(1, 0)));
+        PreparedStatement preparedStatement0 = getPreparedStatement();
+        when(preparedStatement0.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{1});
+        actual.init(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Arrays.asList(
+                new JDBCExecutionUnit(executionUnit0, ConnectionMode.MEMORY_STRICTLY, preparedStatement0),
+                new JDBCExecutionUnit(executionUnit1, ConnectionMode.MEMORY_STRICTLY, preparedStatement1))))));
+        assertThat(actual.getParameterSet(preparedStatement0), is(Collections.singletonList(Arrays.<Object>asList(0, 0, 2, 2))));
+        assertThat(actual.getParameterSet(preparedStatement1), is(Collections.singletonList(Arrays.<Object>asList(1, 1))));
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[]{Statement.SUCCESS_NO_INFO, 1, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final int parameter) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(INSERT_SQL, new ArrayList<>(Arrays.asList(parameter, parameter))));
+    }
+    
+    private ExecutionUnit createCoalescedExecutionUnit(final String actualTableName, final String sql, final Object... parameters) {
+        return new ExecutionUnit("ds_0", new SQLUnit(sql, new ArrayList<>(Arrays.asList(parameters)), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+    }
+    
+    private Map<Integer, Integer> createAddBatchCallTimesMap(final int... jdbcAndActualAddBatchCallTimes) {
+        Map<Integer, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < jdbcAndActualAddBatchCallTimes.length; i += 2) {
+            result.put(jdbcAndActualAddBatchCallTimes[i], jdbcAndActualAddBatchCallTimes[i + 1]);
+        }
+        return result;
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -146,7 +213,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
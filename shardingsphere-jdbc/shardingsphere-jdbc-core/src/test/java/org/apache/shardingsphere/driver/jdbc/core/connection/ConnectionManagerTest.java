@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
+import org.apache.shardingsphere.infra.instance.traffic.TrafficDataSourceRegistry;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -52,9 +53,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 public final class ConnectionManagerTest {
@@ -86,12 +89,14 @@ public final class ConnectionManagerTest {
         MetaDataPersistService persistService = mockMetaDataPersistService();
         when(result.getDataSourceMap(DefaultDatabase.LOGIC_NAME)).thenReturn(dataSourceMap);
         when(result.getMetaDataContexts().getPersistService()).thenReturn(persistService);
+        when(result.getMetaDataContexts().getMetaData().getActualDatabaseName(DefaultDatabase.LOGIC_NAME)).thenReturn(DefaultDatabase.LOGIC_NAME);
         ShardingSphereRuleMetaData globalRuleMetaData = mock(ShardingSphereRuleMetaData.class);
         when(result.getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         when(globalRuleMetaData.getSingleRule(TransactionRule.class)).thenReturn(mock(TransactionRule.class, RETURNS_DEEP_STUBS));
         when(globalRuleMetaData.getSingleRule(TrafficRule.class)).thenReturn(mock(TrafficRule.class, RETURNS_DEEP_STUBS));
-        when(result.getInstanceContext().getAllClusterInstances(InstanceType.PROXY, Arrays.asList("OLTP", "OLAP"))).thenReturn(
-                Collections.singletonList(new ProxyInstanceMetaData("foo_id", "127.0.0.1@3307")));
+        when(result.getInstanceContext().getAllClusterInstances(eq(InstanceType.PROXY), any())).thenReturn(
+                Collections.singletonList(new ProxyInstanceMetaData("127.0.0.1@3307", "127.0.0.1@3307")));
+        when(result.getInstanceContext().getTrafficDataSourceRegistry()).thenReturn(new TrafficDataSourceRegistry());
         dataSourcePoolCreator = mockStatic(DataSourcePoolCreator.class);
         Map<String, DataSource> trafficDataSourceMap = mockTrafficDataSourceMap();
         when(DataSourcePoolCreator.create((Map) any())).thenReturn(trafficDataSourceMap);
@@ -166,6 +171,12 @@ public final class ConnectionManagerTest {
         assertThat(actual.get(0).getMetaData().getURL(), is("jdbc:mysql://127.0.0.1:3307/logic_db?serverTimezone=UTC&useSSL=false"));
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void assertShareTrafficDataSources() {
+        dataSourcePoolCreator.verify(() -> DataSourcePoolCreator.create((Map) any()), times(1));
+    }
+    
     @Test
     public void assertGetConnectionWhenConfigTrafficRuleInXaTransaction() throws SQLException {
         List<Connection> actual = connectionManagerInXaTransaction.getConnections("127.0.0.1@3307", 1, ConnectionMode.MEMORY_STRICTLY);
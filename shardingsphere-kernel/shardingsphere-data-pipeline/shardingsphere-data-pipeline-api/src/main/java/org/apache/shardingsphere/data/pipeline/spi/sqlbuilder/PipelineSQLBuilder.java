@@ -65,6 +65,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildInsertSQL(String schemaName, DataRecord dataRecord, Map<LogicTableName, Set<String>> shardingColumnsMap);
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record of first row
+     * @param shardingColumnsMap sharding columns map
+     * @param rowCount row count
+     * @return multi-row insert SQL
+     */
+    String buildMultiRowInsertSQL(String schemaName, DataRecord dataRecord, Map<LogicTableName, Set<String>> shardingColumnsMap, int rowCount);
+    
     /**
      * Build update SQL.
      *
@@ -95,6 +106,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildDeleteSQL(String schemaName, DataRecord dataRecord, Collection<Column> conditionColumns);
     
+    /**
+     * Build multi-row delete SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record of first row
+     * @param conditionColumns condition columns
+     * @param rowCount row count
+     * @return multi-row delete SQL
+     */
+    String buildMultiRowDeleteSQL(String schemaName, DataRecord dataRecord, Collection<Column> conditionColumns, int rowCount);
+    
     /**
      * Build truncate SQL.
      *
@@ -113,6 +135,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildCountSQL(String schemaName, String tableName);
     
+    /**
+     * Build estimated count SQL, which reads row count estimated by table statistics instead of scanning table.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return estimated count SQL
+     */
+    default Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
+        return Optional.empty();
+    }
+    
     /**
      * Build query SQL.
      *
@@ -134,14 +167,14 @@ public interface PipelineSQLBuilder extends TypedSPI {
     String buildCheckEmptySQL(String schemaName, String tableName);
     
     /**
-     * Build split by primary key range SQL.
+     * Build unique key minimum and maximum values SQL.
      *
      * @param schemaName schema name
      * @param tableName table name
-     * @param primaryKey primary key
-     * @return split SQL
+     * @param uniqueKey unique key
+     * @return minimum and maximum values SQL
      */
-    String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
+    String buildUniqueKeyMinMaxValuesSQL(String schemaName, String tableName, String uniqueKey);
     
     /**
      * Build CRC32 SQL.
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
+import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
@@ -31,7 +33,6 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressListener;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
-import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
@@ -42,7 +43,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -54,6 +60,8 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -108,27 +116,19 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private void flush(final DataSource dataSource, final List<Record> buffer) {
         List<GroupedDataRecord> groupedDataRecords = MERGER.group(buffer.stream().filter(each -> each instanceof DataRecord).map(each -> (DataRecord) each).collect(Collectors.toList()));
-        groupedDataRecords.forEach(each -> {
-            flushInternal(dataSource, each.getDeleteDataRecords());
-            flushInternal(dataSource, each.getInsertDataRecords());
-            flushInternal(dataSource, each.getUpdateDataRecords());
-        });
-    }
-    
-    private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
-        if (null == buffer || buffer.isEmpty()) {
+        if (groupedDataRecords.isEmpty()) {
             return;
         }
-        boolean success = tryFlush(dataSource, buffer);
+        boolean success = tryFlush(dataSource, groupedDataRecords);
         if (isRunning() && !success) {
             throw new PipelineJobExecutionException("write failed.");
         }
     }
     
-    private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
+    private boolean tryFlush(final DataSource dataSource, final List<GroupedDataRecord> groupedDataRecords) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
-                doFlush(dataSource, buffer);
+                doFlush(dataSource, groupedDataRecords);
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -138,50 +138,72 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         return false;
     }
     
-    private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+    private void doFlush(final DataSource dataSource, final List<GroupedDataRecord> groupedDataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
-                case IngestDataChangeType.INSERT:
-                    executeBatchInsert(connection, buffer);
-                    break;
-                case IngestDataChangeType.UPDATE:
-                    executeUpdate(connection, buffer);
-                    break;
-                case IngestDataChangeType.DELETE:
-                    executeBatchDelete(connection, buffer);
-                    break;
-                default:
-                    break;
+            try {
+                for (GroupedDataRecord each : groupedDataRecords) {
+                    executeBatchDelete(connection, each.getDeleteDataRecords());
+                    executeBatchInsert(connection, each.getInsertDataRecords());
+                    executeUpdate(connection, each.getUpdateDataRecords());
+                }
+                connection.commit();
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
             }
-            connection.commit();
         }
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (null == dataRecords || dataRecords.isEmpty()) {
+            return;
+        }
+        for (List<DataRecord> each : Lists.partition(dataRecords, getMaxRowCount(dataRecords.get(0).getColumnCount()))) {
+            executeMultiRowInsert(connection, each);
+        }
+    }
+    
+    private int getMaxRowCount(final int parameterCountPerRow) {
+        return Math.max(1, MAX_PARAMETER_COUNT / Math.max(1, parameterCountPerRow));
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, importerConfig.getShardingColumnsMap());
+        String insertSql = pipelineSqlBuilder.buildMultiRowInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, importerConfig.getShardingColumnsMap(), dataRecords.size());
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(parameterIndex++, each.getColumn(i).getValue());
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
         }
     }
     
     protected abstract String getSchemaName(String logicTableName);
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (null == dataRecords || dataRecords.isEmpty()) {
+            return;
+        }
+        Map<String, List<UpdateParameters>> updateParametersMap = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            UpdateParameters updateParameters = createUpdateParameters(each);
+            updateParametersMap.computeIfAbsent(updateParameters.getUpdateSql(), key -> new LinkedList<>()).add(updateParameters);
+        }
+        for (Entry<String, List<UpdateParameters>> entry : updateParametersMap.entrySet()) {
+            if (1 == entry.getValue().size()) {
+                executeSingleUpdate(connection, entry.getKey(), entry.getValue().get(0));
+            } else {
+                executeBatchUpdate(connection, entry.getKey(), entry.getValue());
+            }
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
+    private UpdateParameters createUpdateParameters(final DataRecord record) {
         Set<String> shardingColumns = importerConfig.getShardingColumns(record.getTableName());
         if (null == shardingColumns) {
             log.error("executeUpdate, could not get shardingColumns, tableName={}, logicTableNames={}", record.getTableName(), importerConfig.getLogicTableNames());
@@ -189,39 +211,88 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, shardingColumns);
         List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record, importerConfig.getShardingColumnsMap());
         String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(record.getTableName()), record, conditionColumns, importerConfig.getShardingColumnsMap());
+        return new UpdateParameters(updateSql, updatedColumns, conditionColumns);
+    }
+    
+    private void executeSingleUpdate(final Connection connection, final String updateSql, final UpdateParameters updateParameters) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
-            }
+            setUpdateParameters(ps, updateParameters);
             int updateCount = ps.executeUpdate();
             if (1 != updateCount) {
-                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
+                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}",
+                        updateCount, updateSql, updateParameters.getUpdatedColumns(), updateParameters.getConditionColumns());
+            }
+        }
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String updateSql, final List<UpdateParameters> updateParametersList) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
+            ps.setQueryTimeout(30);
+            for (UpdateParameters each : updateParametersList) {
+                setUpdateParameters(ps, each);
+                ps.addBatch();
             }
+            int[] updateCounts = ps.executeBatch();
+            for (int i = 0; null != updateCounts && i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("executeBatchUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}",
+                            updateCounts[i], updateSql, updateParametersList.get(i).getUpdatedColumns(), updateParametersList.get(i).getConditionColumns());
+                }
+            }
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement ps, final UpdateParameters updateParameters) throws SQLException {
+        List<Column> updatedColumns = updateParameters.getUpdatedColumns();
+        List<Column> conditionColumns = updateParameters.getConditionColumns();
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            ps.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
         }
     }
     
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (null == dataRecords || dataRecords.isEmpty()) {
+            return;
+        }
+        DataRecord dataRecord = dataRecords.get(0);
+        int conditionColumnCount = RecordUtil.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())).size();
+        for (List<DataRecord> each : Lists.partition(dataRecords, getMaxRowCount(conditionColumnCount))) {
+            executeMultiRowDelete(connection, each);
+        }
+    }
+    
+    private void executeMultiRowDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
-        String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
+        String deleteSQL = pipelineSqlBuilder.buildMultiRowDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns, dataRecords.size());
         try (PreparedStatement ps = connection.prepareStatement(deleteSQL)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
-                conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    ps.setObject(i + 1, conditionColumns.get(i).getValue());
+                for (Column column : RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()))) {
+                    ps.setObject(parameterIndex++, column.getValue());
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
         }
     }
     
     @Override
     protected void doStop() {
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class UpdateParameters {
+        
+        private final String updateSql;
+        
+        private final List<Column> updatedColumns;
+        
+        private final List<Column> conditionColumns;
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.ring;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multiplex ring buffer pipeline channel.
+ *
+ * <p>Data records are partitioned by unique key hash, so changes of the same row always go through the same ring buffer in order.
+ * Each consumer thread is assigned its own ring buffer, consumer threads more than channel number are rejected.</p>
+ */
+public final class MultiplexRingBufferPipelineChannel implements PipelineChannel {
+    
+    private final RingBufferPipelineChannel[] channels;
+    
+    private final Map<Long, RingBufferPipelineChannel> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger assignedCount = new AtomicInteger();
+    
+    public MultiplexRingBufferPipelineChannel(final int channelNumber, final int bufferSize, final AckCallback ackCallback) {
+        channels = new RingBufferPipelineChannel[channelNumber];
+        for (int i = 0; i < channelNumber; i++) {
+            channels[i] = new RingBufferPipelineChannel(bufferSize, ackCallback);
+        }
+    }
+    
+    @Override
+    public void pushRecord(final Record record) {
+        if (DataRecord.class.equals(record.getClass())) {
+            channels[Math.floorMod(record.hashCode(), channels.length)].pushRecord(record);
+        } else if (PlaceholderRecord.class.equals(record.getClass())) {
+            channels[0].pushRecord(record);
+        } else if (FinishedRecord.class.equals(record.getClass())) {
+            for (RingBufferPipelineChannel each : channels) {
+                each.pushRecord(record);
+            }
+        } else {
+            throw new RuntimeException("Not Support Record Type");
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        return findChannel().fetchRecords(batchSize, timeoutSeconds);
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        findChannel().ack(records);
+    }
+    
+    private RingBufferPipelineChannel findChannel() {
+        return channelAssignment.computeIfAbsent(Thread.currentThread().getId(), unused -> assignChannel());
+    }
+    
+    private RingBufferPipelineChannel assignChannel() {
+        int index = assignedCount.getAndIncrement();
+        Preconditions.checkState(index < channels.length, "Consumer threads exceed channel number `%s`, ring buffer channel can not be shared by consumer threads.", channels.length);
+        return channels[index];
+    }
+    
+    @Override
+    public void close() {
+        for (RingBufferPipelineChannel each : channels) {
+            each.close();
+        }
+    }
+}
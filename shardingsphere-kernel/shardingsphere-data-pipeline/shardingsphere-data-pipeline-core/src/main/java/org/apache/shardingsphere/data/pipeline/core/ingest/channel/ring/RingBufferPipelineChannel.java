@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.ring;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>Preallocated single-producer/single-consumer ring buffer. Slots are released when their records are fetched,
+ * and consumer stops waiting once the buffer is full, so batch size larger than buffer size does not stall until timeout.
+ * Producer and consumer only take the lock to wait when the buffer is full or has not enough records, and are signaled only when the other side is waiting.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final Record[] buffer;
+    
+    private final int mask;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private final Condition enoughRecords = lock.newCondition();
+    
+    private volatile boolean producerWaiting;
+    
+    private volatile long consumerAwaitSequence = Long.MAX_VALUE;
+    
+    private volatile boolean closed;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        buffer = new Record[ceilingPowerOfTwo(bufferSize)];
+        mask = buffer.length - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    private static int ceilingPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        long sequence = producerSequence.get();
+        if (sequence - consumerSequence.get() >= buffer.length && !awaitNotFull(sequence, dataRecord)) {
+            return;
+        }
+        buffer[(int) sequence & mask] = dataRecord;
+        producerSequence.set(sequence + 1);
+        if (sequence + 1 >= consumerAwaitSequence) {
+            signal(enoughRecords);
+        }
+    }
+    
+    private boolean awaitNotFull(final long sequence, final Record dataRecord) {
+        lock.lock();
+        try {
+            producerWaiting = true;
+            while (sequence - consumerSequence.get() >= buffer.length) {
+                if (closed) {
+                    return false;
+                }
+                notFull.await();
+            }
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("put " + dataRecord + " into ring buffer interrupted", ex);
+        } finally {
+            producerWaiting = false;
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        long start = consumerSequence.get();
+        long available = producerSequence.get() - start;
+        if (available < batchSize) {
+            available = awaitRecords(start, Math.min(batchSize, buffer.length), timeoutSeconds);
+        }
+        int count = (int) Math.min(available, batchSize);
+        List<Record> result = new ArrayList<>(count);
+        for (long sequence = start; sequence < start + count; sequence++) {
+            int index = (int) sequence & mask;
+            result.add(buffer[index]);
+            buffer[index] = null;
+        }
+        consumerSequence.set(start + count);
+        if (count > 0 && producerWaiting) {
+            signal(notFull);
+        }
+        return result;
+    }
+    
+    private long awaitRecords(final long start, final int expectedCount, final int timeoutSeconds) {
+        long remainingNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        lock.lock();
+        try {
+            consumerAwaitSequence = start + expectedCount;
+            long result = producerSequence.get() - start;
+            while (result < expectedCount && !closed && remainingNanos > 0L) {
+                remainingNanos = enoughRecords.awaitNanos(remainingNanos);
+                result = producerSequence.get() - start;
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return producerSequence.get() - start;
+        } finally {
+            consumerAwaitSequence = Long.MAX_VALUE;
+            lock.unlock();
+        }
+    }
+    
+    private void signal(final Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        lock.lock();
+        try {
+            notFull.signalAll();
+            enoughRecords.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        long sequence = consumerSequence.get();
+        long end = producerSequence.get();
+        for (; sequence < end; sequence++) {
+            buffer[(int) sequence & mask] = null;
+        }
+    }
+}
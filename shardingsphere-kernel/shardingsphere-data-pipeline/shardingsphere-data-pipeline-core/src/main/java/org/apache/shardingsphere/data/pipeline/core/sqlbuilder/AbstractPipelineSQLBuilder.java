@@ -102,23 +102,53 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+        return buildMultiRowInsertSQL(schemaName, dataRecord, shardingColumnsMap, 1);
+    }
+    
+    @Override
+    public String buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap, final int rowCount) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns()));
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        StringBuilder result = new StringBuilder(sqlCacheMap.get(sqlCacheKey));
+        String valuesHolder = buildValuesHolder(dataRecord.getColumnCount());
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(valuesHolder);
+        }
+        return result.append(buildInsertConflictSQL(dataRecord, shardingColumnsMap)).toString();
     }
     
     private String buildInsertSQLInternal(final String schemaName, final String tableName, final List<Column> columns) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
         for (Column each : columns) {
             columnsLiteral.append(String.format("%s,", quote(each.getName())));
-            holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
-        holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", decorate(schemaName, tableName), columnsLiteral, holder);
+        return String.format("INSERT INTO %s(%s) VALUES", decorate(schemaName, tableName), columnsLiteral);
+    }
+    
+    private String buildValuesHolder(final int columnCount) {
+        StringBuilder result = new StringBuilder(columnCount * 2 + 1).append('(');
+        for (int i = 0; i < columnCount; i++) {
+            result.append("?,");
+        }
+        result.setCharAt(result.length() - 1, ')');
+        return result.toString();
+    }
+    
+    /**
+     * Build conflict clause appended to insert SQL.
+     *
+     * @param dataRecord data record
+     * @param shardingColumnsMap sharding columns map
+     * @return conflict clause, empty if dialect does not support it
+     */
+    protected String buildInsertConflictSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+        return "";
     }
     
     // TODO seems sharding column could be updated for insert statement on conflict by kernel now
@@ -168,6 +198,34 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("DELETE FROM %s WHERE %s", decorate(schemaName, tableName), buildWhereSQL(conditionColumns));
     }
     
+    @Override
+    public String buildMultiRowDeleteSQL(final String schemaName, final DataRecord dataRecord, final Collection<Column> conditionColumns, final int rowCount) {
+        if (1 == rowCount) {
+            return buildDeleteSQL(schemaName, dataRecord, conditionColumns);
+        }
+        StringBuilder result = new StringBuilder(String.format("DELETE FROM %s WHERE ", decorate(schemaName, dataRecord.getTableName())));
+        String valuesHolder;
+        if (1 == conditionColumns.size()) {
+            result.append(quote(conditionColumns.iterator().next().getName()));
+            valuesHolder = "?";
+        } else {
+            result.append('(');
+            for (Column each : conditionColumns) {
+                result.append(quote(each.getName())).append(',');
+            }
+            result.setCharAt(result.length() - 1, ')');
+            valuesHolder = buildValuesHolder(conditionColumns.size());
+        }
+        result.append(" IN (");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(valuesHolder);
+        }
+        return result.append(')').toString();
+    }
+    
     private String buildWhereSQL(final Collection<Column> conditionColumns) {
         StringBuilder where = new StringBuilder();
         for (Column each : conditionColumns) {
@@ -197,8 +255,8 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     }
     
     @Override
-    public String buildSplitByPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String primaryKey) {
-        String quotedKey = quote(primaryKey);
-        return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, decorate(schemaName, tableName), quotedKey, quotedKey);
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedKey = quote(uniqueKey);
+        return String.format("SELECT MIN(%s), MAX(%s) FROM %s", quotedKey, quotedKey, decorate(schemaName, tableName));
     }
 }
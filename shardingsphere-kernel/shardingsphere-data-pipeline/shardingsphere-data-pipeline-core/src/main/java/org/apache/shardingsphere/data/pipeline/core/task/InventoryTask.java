@@ -25,23 +25,17 @@ import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterCo
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
-import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressListener;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.InventoryTaskProgress;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
-import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteCallback;
 import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
-import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.Dumper;
 import org.apache.shardingsphere.scaling.core.job.dumper.DumperFactory;
-import org.apache.shardingsphere.scaling.core.job.importer.ImporterFactory;
 
 import javax.sql.DataSource;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -49,32 +43,35 @@ import java.util.concurrent.Future;
  * Inventory task.
  */
 @Slf4j
-@ToString(exclude = {"importerExecuteEngine", "channel", "dumper", "importer"})
+@ToString(exclude = {"sharedImporter", "channel", "dumper"})
 public final class InventoryTask extends AbstractLifecycleExecutor implements PipelineTask, AutoCloseable {
     
     @Getter
     private final String taskId;
     
-    private final ExecuteEngine importerExecuteEngine;
+    private final SharedInventoryImporter sharedImporter;
     
     private final PipelineChannel channel;
     
     private final Dumper dumper;
     
-    private final Importer importer;
-    
     private volatile IngestPosition<?> position;
     
     public InventoryTask(final InventoryDumperConfiguration inventoryDumperConfig, final ImporterConfiguration importerConfig,
                          final PipelineChannelCreator pipelineChannelCreator, final PipelineDataSourceManager dataSourceManager,
                          final DataSource sourceDataSource, final PipelineTableMetaDataLoader sourceMetaDataLoader,
                          final ExecuteEngine importerExecuteEngine, final PipelineJobProgressListener jobProgressListener) {
-        this.importerExecuteEngine = importerExecuteEngine;
+        this(inventoryDumperConfig, new SharedInventoryImporter(importerConfig, pipelineChannelCreator, dataSourceManager, importerExecuteEngine, jobProgressListener),
+                sourceDataSource, sourceMetaDataLoader);
+    }
+    
+    public InventoryTask(final InventoryDumperConfiguration inventoryDumperConfig, final SharedInventoryImporter sharedImporter,
+                         final DataSource sourceDataSource, final PipelineTableMetaDataLoader sourceMetaDataLoader) {
+        this.sharedImporter = sharedImporter;
         taskId = generateTaskId(inventoryDumperConfig);
-        channel = createChannel(pipelineChannelCreator);
-        dumper = DumperFactory.createInventoryDumper(inventoryDumperConfig, channel, sourceDataSource, sourceMetaDataLoader);
-        importer = ImporterFactory.createImporter(importerConfig, dataSourceManager, channel, jobProgressListener);
         position = inventoryDumperConfig.getPosition();
+        channel = sharedImporter.createRangeChannel(this, position);
+        dumper = DumperFactory.createInventoryDumper(inventoryDumperConfig, channel, sourceDataSource, sourceMetaDataLoader);
     }
     
     private String generateTaskId(final InventoryDumperConfiguration inventoryDumperConfig) {
@@ -84,42 +81,16 @@ public final class InventoryTask extends AbstractLifecycleExecutor implements Pi
     
     @Override
     protected void doStart() {
-        Future<?> future = importerExecuteEngine.submit(importer, new ExecuteCallback() {
-            
-            @Override
-            public void onSuccess() {
-                log.info("importer onSuccess, taskId={}", taskId);
-            }
-            
-            @Override
-            public void onFailure(final Throwable throwable) {
-                log.error("importer onFailure, taskId={}", taskId, throwable);
-                stop();
-            }
-        });
+        Future<?> future = sharedImporter.start();
         dumper.start();
-        waitForResult(future);
-        log.info("importer future done");
-    }
-    
-    private PipelineChannel createChannel(final PipelineChannelCreator pipelineChannelCreator) {
-        return pipelineChannelCreator.createPipelineChannel(1, records -> {
-            Record lastNormalRecord = getLastNormalRecord(records);
-            if (null != lastNormalRecord) {
-                position = lastNormalRecord.getPosition();
-            }
-        });
+        if (isRunning() && sharedImporter.finishRange(channel)) {
+            waitForResult(future);
+            log.info("importer future done");
+        }
     }
     
-    private Record getLastNormalRecord(final List<Record> records) {
-        for (int index = records.size() - 1; index >= 0; index--) {
-            Record record = records.get(index);
-            if (record.getPosition() instanceof PlaceholderPosition) {
-                continue;
-            }
-            return record;
-        }
-        return null;
+    void updatePosition(final IngestPosition<?> position) {
+        this.position = position;
     }
     
     private void waitForResult(final Future<?> future) {
@@ -134,7 +105,7 @@ public final class InventoryTask extends AbstractLifecycleExecutor implements Pi
     @Override
     protected void doStop() {
         dumper.stop();
-        importer.stop();
+        sharedImporter.stop();
     }
     
     @Override
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteCallback;
+import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
+import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.scaling.core.job.importer.ImporterFactory;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared inventory importer.
+ * 
+ * <p>Range inventory tasks of one table push records into one shared channel concurrently, which is consumed by one importer.
+ * Acknowledged positions are dispatched back to range inventory tasks by range end value, so each range keeps its own position for resuming.
+ * A range is marked as finished only after its dumper completed without being stopped, and importer finishes after all ranges finished.</p>
+ */
+@Slf4j
+public final class SharedInventoryImporter {
+    
+    private final ExecuteEngine importerExecuteEngine;
+    
+    private final PipelineChannel channel;
+    
+    private final Importer importer;
+    
+    private final Map<Object, RangeChannel> rangeChannels = new HashMap<>();
+    
+    private final Map<IngestPosition<?>, RangeChannel> rangeFinishedPositions = new IdentityHashMap<>();
+    
+    private final AtomicInteger unfinishedRangeCount = new AtomicInteger();
+    
+    private Future<?> future;
+    
+    public SharedInventoryImporter(final ImporterConfiguration importerConfig, final PipelineChannelCreator pipelineChannelCreator, final PipelineDataSourceManager dataSourceManager,
+                                   final ExecuteEngine importerExecuteEngine, final PipelineJobProgressListener jobProgressListener) {
+        this.importerExecuteEngine = importerExecuteEngine;
+        channel = pipelineChannelCreator.createPipelineChannel(1, this::dispatchPositions);
+        importer = ImporterFactory.createImporter(importerConfig, dataSourceManager, channel, jobProgressListener);
+    }
+    
+    private void dispatchPositions(final List<Record> records) {
+        for (Record each : records) {
+            IngestPosition<?> position = each.getPosition();
+            RangeChannel rangeChannel = position instanceof PrimaryKeyPosition ? rangeChannels.get(((PrimaryKeyPosition<?>) position).getEndValue()) : rangeFinishedPositions.get(position);
+            if (null != rangeChannel) {
+                rangeChannel.rangeTask.updatePosition(position);
+            }
+        }
+    }
+    
+    PipelineChannel createRangeChannel(final InventoryTask rangeTask, final IngestPosition<?> position) {
+        RangeChannel result = new RangeChannel(rangeTask);
+        if (position instanceof PrimaryKeyPosition) {
+            rangeChannels.put(((PrimaryKeyPosition<?>) position).getEndValue(), result);
+        }
+        if (!(position instanceof FinishedPosition)) {
+            unfinishedRangeCount.incrementAndGet();
+        }
+        rangeFinishedPositions.put(result.finishedPosition, result);
+        return result;
+    }
+    
+    synchronized Future<?> start() {
+        if (null == future) {
+            future = importerExecuteEngine.submit(importer, new ExecuteCallback() {
+                
+                @Override
+                public void onSuccess() {
+                    log.info("shared importer onSuccess, rangeCount={}", rangeFinishedPositions.size());
+                }
+                
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    log.error("shared importer onFailure, rangeCount={}", rangeFinishedPositions.size(), throwable);
+                    for (RangeChannel each : rangeFinishedPositions.values()) {
+                        each.rangeTask.stop();
+                    }
+                }
+            });
+        }
+        return future;
+    }
+    
+    boolean finishRange(final PipelineChannel rangeChannel) {
+        pushSharedRecord(new PlaceholderRecord(((RangeChannel) rangeChannel).finishedPosition));
+        if (0 != unfinishedRangeCount.decrementAndGet()) {
+            return false;
+        }
+        pushSharedRecord(new FinishedRecord(new FinishedPosition()));
+        return true;
+    }
+    
+    void stop() {
+        importer.stop();
+    }
+    
+    void close() {
+        channel.close();
+    }
+    
+    private void pushSharedRecord(final Record record) {
+        synchronized (channel) {
+            channel.pushRecord(record);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class RangeChannel implements PipelineChannel {
+        
+        private final IngestPosition<?> finishedPosition = new FinishedPosition();
+        
+        private final InventoryTask rangeTask;
+        
+        @Override
+        public void pushRecord(final Record dataRecord) {
+            if (!(dataRecord instanceof FinishedRecord)) {
+                pushSharedRecord(dataRecord);
+            }
+        }
+        
+        @Override
+        public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+            throw new UnsupportedOperationException("Records of range are fetched from shared channel");
+        }
+        
+        @Override
+        public void ack(final List<Record> records) {
+            throw new UnsupportedOperationException("Records of range are acknowledged by shared channel");
+        }
+        
+        @Override
+        public void close() {
+            SharedInventoryImporter.this.close();
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.data.pipeline.scenario.rulealtered.prepare;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
@@ -41,21 +43,30 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineIndex
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
+import org.apache.shardingsphere.data.pipeline.core.task.SharedInventoryImporter;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredContext;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rule.data.pipeline.PipelineInputConfiguration;
 
 import javax.sql.DataSource;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Inventory data task splitter.
@@ -63,6 +74,14 @@ import java.util.List;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int SAMPLES_PER_RANGE = 4;
+    
+    private static final int MIN_SAMPLE_COUNT = 16;
+    
+    private static final int MAX_SAMPLE_COUNT = 256;
+    
+    private static final long RANGE_DUMP_SECONDS = 600L;
+    
     /**
      * Split inventory data to multi-tasks.
      *
@@ -78,18 +97,16 @@ public final class InventoryTaskSplitter {
         PipelineTableMetaDataLoader metaDataLoader = jobContext.getSourceMetaDataLoader();
         ExecuteEngine importerExecuteEngine = jobContext.getRuleAlteredContext().getImporterExecuteEngine();
         DefaultPipelineJobProgressListener jobProgressListener = new DefaultPipelineJobProgressListener(jobContext.getJobId(), jobContext.getShardingItem());
-        for (InventoryDumperConfiguration each : splitDumperConfig(jobContext, taskConfig.getDumperConfig())) {
-            result.add(new InventoryTask(each, taskConfig.getImporterConfig(), pipelineChannelCreator, dataSourceManager, dataSource, metaDataLoader, importerExecuteEngine, jobProgressListener));
-        }
-        return result;
-    }
-    
-    private Collection<InventoryDumperConfiguration> splitDumperConfig(final RuleAlteredJobContext jobContext, final DumperConfiguration dumperConfig) {
-        Collection<InventoryDumperConfiguration> result = new LinkedList<>();
-        DataSource dataSource = jobContext.getSourceDataSource();
-        PipelineTableMetaDataLoader metaDataLoader = jobContext.getSourceMetaDataLoader();
-        for (InventoryDumperConfiguration each : splitByTable(dumperConfig)) {
-            result.addAll(splitByPrimaryKey(jobContext, dataSource, metaDataLoader, each));
+        int outputWorkerThread = jobContext.getRuleAlteredContext().getPipelineProcessConfig().getOutput().getWorkerThread();
+        for (InventoryDumperConfiguration each : splitByTable(taskConfig.getDumperConfig())) {
+            List<InventoryDumperConfiguration> rangeDumperConfigs = splitByPrimaryKey(jobContext, dataSource, metaDataLoader, each);
+            List<SharedInventoryImporter> sharedImporters = new ArrayList<>(Math.min(rangeDumperConfigs.size(), outputWorkerThread));
+            for (int i = 0; i < rangeDumperConfigs.size(); i++) {
+                if (i < outputWorkerThread) {
+                    sharedImporters.add(new SharedInventoryImporter(taskConfig.getImporterConfig(), pipelineChannelCreator, dataSourceManager, importerExecuteEngine, jobProgressListener));
+                }
+                result.add(new InventoryTask(rangeDumperConfigs.get(i), sharedImporters.get(i % sharedImporters.size()), dataSource, metaDataLoader));
+            }
         }
         return result;
     }
@@ -107,9 +124,9 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
-    private Collection<InventoryDumperConfiguration> splitByPrimaryKey(final RuleAlteredJobContext jobContext, final DataSource dataSource, final PipelineTableMetaDataLoader metaDataLoader,
-                                                                       final InventoryDumperConfiguration dumperConfig) {
-        Collection<InventoryDumperConfiguration> result = new LinkedList<>();
+    private List<InventoryDumperConfiguration> splitByPrimaryKey(final RuleAlteredJobContext jobContext, final DataSource dataSource, final PipelineTableMetaDataLoader metaDataLoader,
+                                                                 final InventoryDumperConfiguration dumperConfig) {
+        List<InventoryDumperConfiguration> result = new ArrayList<>();
         RuleAlteredContext ruleAlteredContext = jobContext.getRuleAlteredContext();
         PipelineInputConfiguration inputConfig = ruleAlteredContext.getPipelineProcessConfig().getInput();
         int batchSize = inputConfig.getBatchSize();
@@ -188,46 +205,163 @@ public final class InventoryTaskSplitter {
     }
     
     private Collection<IngestPosition<?>> getPositionByIntegerPrimaryKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
-        Collection<IngestPosition<?>> result = new LinkedList<>();
         RuleAlteredJobConfiguration jobConfig = jobContext.getJobConfig();
-        String sql = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
-        int shardingSize = jobContext.getRuleAlteredContext().getPipelineProcessConfig().getInput().getShardingSize();
+        PipelineSQLBuilder pipelineSQLBuilder = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String actualTableName = dumperConfig.getActualTableName();
+        Optional<String> estimatedCountSQL = pipelineSQLBuilder.buildEstimatedCountSQL(schemaName, actualTableName);
+        String minMaxValuesSQL = pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, actualTableName, dumperConfig.getUniqueKey());
+        PipelineInputConfiguration inputConfig = jobContext.getRuleAlteredContext().getPipelineProcessConfig().getInput();
+        int shardingSize = inputConfig.getShardingSize();
+        int batchSize = inputConfig.getBatchSize();
         try (
                 Connection connection = dataSource.getConnection();
-                PreparedStatement ps = connection.prepareStatement(sql)) {
-            // TODO query minimum value less than 0
-            long beginId = 0;
-            for (int i = 0; i < Integer.MAX_VALUE; i++) {
-                ps.setLong(1, beginId);
-                ps.setLong(2, shardingSize);
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (!rs.next()) {
-                        log.info("getPositionByPrimaryKeyRange, rs.next false, break");
-                        break;
-                    }
-                    long endId = rs.getLong(1);
-                    if (endId == 0) {
-                        log.info("getPositionByPrimaryKeyRange, endId is 0, break, tableName={}, primaryKey={}, beginId={}", dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), beginId);
-                        break;
-                    }
-                    result.add(new IntegerPrimaryKeyPosition(beginId, endId));
-                    beginId = endId + 1;
+                Statement statement = connection.createStatement()) {
+            long estimatedRowCount = estimatedCountSQL.isPresent() ? getEstimatedRowCount(statement, estimatedCountSQL.get()) : -1L;
+            long minValue;
+            long maxValue;
+            try (ResultSet resultSet = statement.executeQuery(minMaxValuesSQL)) {
+                // fix empty table missing inventory task
+                if (!resultSet.next() || null == resultSet.getObject(1)) {
+                    return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
                 }
+                minValue = resultSet.getLong(1);
+                maxValue = resultSet.getLong(2);
             }
-            // fix empty table missing inventory task
-            if (0 == result.size()) {
-                result.add(new IntegerPrimaryKeyPosition(0, 0));
+            if (minValue == maxValue) {
+                return Collections.singletonList(new IntegerPrimaryKeyPosition(minValue, maxValue));
             }
+            String sampleSQL = pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, actualTableName, dumperConfig.getUniqueKey(), dumperConfig.getUniqueKeyDataType(), true);
+            int sampleCount = getSampleCount(estimatedRowCount, shardingSize, minValue, maxValue);
+            UniqueKeyHistogram histogram = sampleUniqueKeys(connection, sampleSQL, dumperConfig.getUniqueKey(), minValue, maxValue, sampleCount, batchSize);
+            long rowCount = Math.max(estimatedRowCount, Math.round(histogram.getRowCount()));
+            long rowsPerRange = Math.min(shardingSize, Math.max(batchSize, histogram.getRowsPerSecond() * RANGE_DUMP_SECONDS));
+            long rangeCount = Math.max(1L, (rowCount + rowsPerRange - 1) / rowsPerRange);
+            log.info("getPositionByIntegerPrimaryKeyRange, tableName={}, estimatedRowCount={}, sampledRowCount={}, rowsPerSecond={}, rangeCount={}",
+                    actualTableName, estimatedRowCount, Math.round(histogram.getRowCount()), histogram.getRowsPerSecond(), rangeCount);
+            return splitIntegerRange(histogram, minValue, maxValue, rangeCount);
         } catch (final SQLException ex) {
-            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()), ex);
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", actualTableName, dumperConfig.getUniqueKey()), ex);
+        }
+    }
+    
+    private long getEstimatedRowCount(final Statement statement, final String estimatedCountSQL) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(estimatedCountSQL)) {
+            return resultSet.next() ? resultSet.getLong(1) : -1L;
         }
+    }
+    
+    private int getSampleCount(final long estimatedRowCount, final int shardingSize, final long minValue, final long maxValue) {
+        long expectedSampleCount = estimatedRowCount > 0L ? (estimatedRowCount + shardingSize - 1) / shardingSize * SAMPLES_PER_RANGE : 0L;
+        int result = (int) Math.min(MAX_SAMPLE_COUNT, Math.max(MIN_SAMPLE_COUNT, expectedSampleCount));
+        BigInteger span = BigInteger.valueOf(maxValue).subtract(BigInteger.valueOf(minValue)).add(BigInteger.ONE);
+        return span.compareTo(BigInteger.valueOf(result)) < 0 ? span.intValue() : result;
+    }
+    
+    private UniqueKeyHistogram sampleUniqueKeys(final Connection connection, final String sampleSQL, final String uniqueKey,
+                                                final long minValue, final long maxValue, final int sampleCount, final int sampleSize) throws SQLException {
+        BigInteger span = BigInteger.valueOf(maxValue).subtract(BigInteger.valueOf(minValue)).add(BigInteger.ONE);
+        BigInteger[] bucketBeginValues = new BigInteger[sampleCount + 1];
+        for (int i = 0; i <= sampleCount; i++) {
+            bucketBeginValues[i] = BigInteger.valueOf(minValue).add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(sampleCount)));
+        }
+        double[] bucketRowCounts = new double[sampleCount];
+        long[][] bucketSampledValues = new long[sampleCount][];
+        long sampledRowCount = 0L;
+        long startNanos = System.nanoTime();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sampleSQL)) {
+            for (int i = 0; i < sampleCount; i++) {
+                preparedStatement.setLong(1, bucketBeginValues[i].longValue());
+                preparedStatement.setLong(2, maxValue);
+                preparedStatement.setInt(3, sampleSize);
+                int readCount = 0;
+                long[] sampledValues = new long[sampleSize];
+                int bucketCount = 0;
+                long lastValue = bucketBeginValues[i].longValue();
+                boolean bucketEndReached = false;
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        readCount++;
+                        lastValue = resultSet.getLong(uniqueKey);
+                        if (BigInteger.valueOf(lastValue).compareTo(bucketBeginValues[i + 1]) >= 0) {
+                            bucketEndReached = true;
+                            break;
+                        }
+                        sampledValues[bucketCount++] = lastValue;
+                    }
+                }
+                sampledRowCount += readCount;
+                bucketSampledValues[i] = Arrays.copyOf(sampledValues, bucketCount);
+                // bucket is denser than sample size, extrapolate by the density of sampled unique key values
+                bucketRowCounts[i] = bucketEndReached || readCount < sampleSize ? bucketCount
+                        : (double) bucketCount * bucketBeginValues[i + 1].subtract(bucketBeginValues[i]).doubleValue() / (lastValue - bucketBeginValues[i].longValue() + 1);
+            }
+        }
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return new UniqueKeyHistogram(bucketBeginValues, bucketRowCounts, bucketSampledValues, sampledRowCount * 1000L / elapsedMillis);
+    }
+    
+    private Collection<IngestPosition<?>> splitIntegerRange(final UniqueKeyHistogram histogram, final long minValue, final long maxValue, final long rangeCount) {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        double[] bucketRowCounts = histogram.getBucketRowCounts();
+        double rowCount = histogram.getRowCount();
+        long beginValue = minValue;
+        int bucket = 0;
+        double rowCountBeforeBucket = 0D;
+        for (long i = 1L; i < rangeCount; i++) {
+            double targetRowCount = rowCount * i / rangeCount;
+            while (bucket < bucketRowCounts.length - 1 && rowCountBeforeBucket + bucketRowCounts[bucket] <= targetRowCount) {
+                rowCountBeforeBucket += bucketRowCounts[bucket];
+                bucket++;
+            }
+            BigInteger splitValue = getSplitValue(histogram, bucket, targetRowCount - rowCountBeforeBucket);
+            if (splitValue.compareTo(BigInteger.valueOf(beginValue)) <= 0 || splitValue.compareTo(BigInteger.valueOf(maxValue)) > 0) {
+                continue;
+            }
+            result.add(new IntegerPrimaryKeyPosition(beginValue, splitValue.longValue() - 1));
+            beginValue = splitValue.longValue();
+        }
+        result.add(new IntegerPrimaryKeyPosition(beginValue, maxValue));
         return result;
     }
     
+    private BigInteger getSplitValue(final UniqueKeyHistogram histogram, final int bucket, final double offsetRowCount) {
+        double bucketRowCount = histogram.getBucketRowCounts()[bucket];
+        long[] bucketSampledValues = histogram.getBucketSampledValues()[bucket];
+        int offset = (int) offsetRowCount;
+        // bucket is fully sampled, split at the sampled unique key value exactly
+        if (bucketSampledValues.length == bucketRowCount && offset < bucketSampledValues.length) {
+            return BigInteger.valueOf(bucketSampledValues[offset]);
+        }
+        double fraction = bucketRowCount > 0D ? Math.min(1D, offsetRowCount / bucketRowCount) : 0D;
+        BigInteger bucketBeginValue = histogram.getBucketBeginValues()[bucket];
+        return bucketBeginValue.add(BigInteger.valueOf(Math.round(fraction * histogram.getBucketBeginValues()[bucket + 1].subtract(bucketBeginValue).doubleValue())));
+    }
+    
     private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange() {
         Collection<IngestPosition<?>> result = new LinkedList<>();
         result.add(new StringPrimaryKeyPosition("!", "~"));
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class UniqueKeyHistogram {
+        
+        private final BigInteger[] bucketBeginValues;
+        
+        private final double[] bucketRowCounts;
+        
+        private final long[][] bucketSampledValues;
+        
+        private final long rowsPerSecond;
+        
+        double getRowCount() {
+            double result = 0D;
+            for (double each : bucketRowCounts) {
+                result += each;
+            }
+            return result;
+        }
+    }
 }
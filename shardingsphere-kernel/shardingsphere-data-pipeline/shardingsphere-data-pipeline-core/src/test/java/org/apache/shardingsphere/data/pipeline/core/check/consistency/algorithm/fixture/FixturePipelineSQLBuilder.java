@@ -41,6 +41,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap, final int rowCount) {
+        return "";
+    }
+    
     @Override
     public String buildUpdateSQL(final String schemaName, final DataRecord dataRecord, final Collection<Column> conditionColumns, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         return "";
@@ -56,6 +61,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildMultiRowDeleteSQL(final String schemaName, final DataRecord dataRecord, final Collection<Column> conditionColumns, final int rowCount) {
+        return "";
+    }
+    
     @Override
     public String buildTruncateSQL(final String schemaName, final String tableName) {
         return "";
@@ -77,7 +87,7 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
     }
     
     @Override
-    public String buildSplitByPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String primaryKey) {
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
         return "";
     }
     
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.ring;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class MultiplexRingBufferPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsByConsumerThreadsMoreThanChannelNumber() throws Exception {
+        MultiplexRingBufferPipelineChannel channel = new MultiplexRingBufferPipelineChannel(2, 4, new EmptyAckCallback());
+        assertThat(channel.fetchRecords(1, 0).size(), is(0));
+        assertThat(fetchRecordsInNewThread(channel), is(0));
+        try {
+            fetchRecordsInNewThread(channel);
+            fail("Expected consumer thread to be rejected.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(IllegalStateException.class));
+        }
+    }
+    
+    private int fetchRecordsInNewThread(final MultiplexRingBufferPipelineChannel channel) throws Exception {
+        FutureTask<Integer> result = new FutureTask<>(() -> channel.fetchRecords(1, 0).size());
+        new Thread(result).start();
+        return result.get(5L, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.ring;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class RingBufferPipelineChannelCreatorTest {
+    
+    @Test
+    public void assertInitWithRingBufferSize() throws Exception {
+        Properties props = new Properties();
+        props.setProperty("ring-buffer-size", "200");
+        PipelineChannelCreator creator = new RingBufferPipelineChannelCreator();
+        creator.init(props);
+        assertThat(ReflectionUtil.getFieldValue(creator, "ringBufferSize", Integer.class), is(200));
+    }
+    
+    @Test
+    public void assertInitWithoutRingBufferSize() throws Exception {
+        PipelineChannelCreator creator = new RingBufferPipelineChannelCreator();
+        creator.init(new Properties());
+        assertThat(ReflectionUtil.getFieldValue(creator, "ringBufferSize", Integer.class), is(8192));
+    }
+    
+    @Test
+    public void assertCreateRingBufferPipelineChannel() {
+        assertThat(new RingBufferPipelineChannelCreator().createPipelineChannel(1, mock(AckCallback.class)), instanceOf(RingBufferPipelineChannel.class));
+    }
+    
+    @Test
+    public void assertCreateMultiplexRingBufferPipelineChannel() {
+        assertThat(new RingBufferPipelineChannelCreator().createPipelineChannel(2, mock(AckCallback.class)), instanceOf(MultiplexRingBufferPipelineChannel.class));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.ring;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class RingBufferPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsInOrder() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(8, new EmptyAckCallback());
+        List<Record> records = pushRecords(channel, 5);
+        List<Record> actual = channel.fetchRecords(3, 0);
+        assertThat(actual.size(), is(3));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i), sameInstance(records.get(i)));
+        }
+        actual = channel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), sameInstance(records.get(3)));
+    }
+    
+    @Test
+    public void assertFetchReleasesSlots() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new EmptyAckCallback());
+        pushRecords(channel, 4);
+        CompletableFuture<Void> blockedPush = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(blockedPush.isDone());
+        assertThat(channel.fetchRecords(4, 0).size(), is(4));
+        blockedPush.get(5L, TimeUnit.SECONDS);
+        assertThat(channel.fetchRecords(1, 0).size(), is(1));
+    }
+    
+    @Test
+    public void assertFetchBatchLargerThanBufferSize() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new EmptyAckCallback());
+        CompletableFuture<Void> push = CompletableFuture.runAsync(() -> pushRecords(channel, 6));
+        int actual = 0;
+        while (actual < 6) {
+            actual += channel.fetchRecords(8, 1).size();
+        }
+        push.get(5L, TimeUnit.SECONDS);
+        assertThat(actual, is(6));
+    }
+    
+    @Test
+    public void assertFetchWakenUpByEnoughRecords() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(8, new EmptyAckCallback());
+        CompletableFuture<List<Record>> fetch = CompletableFuture.supplyAsync(() -> channel.fetchRecords(2, 10));
+        pushRecords(channel, 2);
+        assertThat(fetch.get(5L, TimeUnit.SECONDS).size(), is(2));
+    }
+    
+    @Test
+    public void assertAck() {
+        AckCallback ackCallback = mock(AckCallback.class);
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, ackCallback);
+        pushRecords(channel, 4);
+        List<Record> records = channel.fetchRecords(4, 0);
+        channel.ack(records);
+        verify(ackCallback).onAck(records);
+    }
+    
+    @Test
+    public void assertCloseReleasesBlockedProducer() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, new EmptyAckCallback());
+        pushRecords(channel, 1);
+        CompletableFuture<Void> blockedPush = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        channel.close();
+        blockedPush.get(5L, TimeUnit.SECONDS);
+        assertTrue(blockedPush.isDone());
+    }
+    
+    private List<Record> pushRecords(final RingBufferPipelineChannel channel, final int count) {
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Record record = new PlaceholderRecord(new PlaceholderPosition());
+            channel.pushRecord(record);
+            result.add(record);
+        }
+        return result;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -51,6 +52,33 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t2"), shardingColumnsMap, 2);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
+    @Test
+    public void assertBuildMultiRowDeleteSQL() {
+        DataRecord dataRecord = mockDataRecord("t2");
+        String actual = sqlBuilder.buildMultiRowDeleteSQL(null, dataRecord, Arrays.asList(dataRecord.getColumn(0), dataRecord.getColumn(1)), 2);
+        assertThat(actual, is("DELETE FROM `t2` WHERE (`id`,`sc`) IN ((?,?),(?,?))"));
+    }
+    
+    @Test
+    public void assertBuildMultiRowDeleteSQLWithSingleConditionColumn() {
+        DataRecord dataRecord = mockDataRecord("t1");
+        String actual = sqlBuilder.buildMultiRowDeleteSQL(null, dataRecord, Collections.singletonList(dataRecord.getColumn(0)), 3);
+        assertThat(actual, is("DELETE FROM `t1` WHERE `id` IN (?,?,?)"));
+    }
+    
+    @Test
+    public void assertBuildEstimatedCountSQL() {
+        Optional<String> actual = sqlBuilder.buildEstimatedCountSQL(null, "t2");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 't2'"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", "id");
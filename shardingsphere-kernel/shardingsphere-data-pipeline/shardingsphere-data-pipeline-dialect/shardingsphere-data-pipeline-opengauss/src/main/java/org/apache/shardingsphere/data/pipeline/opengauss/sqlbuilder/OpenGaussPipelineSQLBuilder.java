@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,21 +48,22 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return "";
     }
     
-    @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
-        return super.buildInsertSQL(schemaName, dataRecord, shardingColumnsMap) + buildConflictSQL(shardingColumnsMap);
-    }
-    
     @Override
     public List<Column> extractUpdatedColumns(final DataRecord record, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         return record.getColumns().stream().filter(each -> !(each.isUniqueKey() || isShardingColumn(shardingColumnsMap, record.getTableName(), each.getName()))).collect(Collectors.toList());
     }
     
-    private String buildConflictSQL(final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+    @Override
+    protected String buildInsertConflictSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         // TODO there need return ON DUPLICATE KEY UPDATE NOTHING after support this syntax.
         return "";
     }
     
+    @Override
+    public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
+        return Optional.of(String.format("SELECT reltuples::bigint FROM pg_class WHERE oid = '%s'::regclass", decorate(schemaName, tableName)));
+    }
+    
     @Override
     public String getType() {
         return "openGauss";
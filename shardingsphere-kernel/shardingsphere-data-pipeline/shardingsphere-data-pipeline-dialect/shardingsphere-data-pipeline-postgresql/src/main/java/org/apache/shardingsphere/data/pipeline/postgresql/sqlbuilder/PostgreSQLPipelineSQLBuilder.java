@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -46,13 +47,9 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return "\"";
     }
     
-    @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
-        return super.buildInsertSQL(schemaName, dataRecord, shardingColumnsMap) + buildConflictSQL(dataRecord, shardingColumnsMap);
-    }
-    
     // Refer to https://www.postgresql.org/docs/current/sql-insert.html
-    private String buildConflictSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+    @Override
+    protected String buildInsertConflictSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
         for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
             result.append(each.getName()).append(",");
@@ -70,6 +67,11 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
+        return Optional.of(String.format("SELECT reltuples::bigint FROM pg_class WHERE oid = '%s'::regclass", decorate(schemaName, tableName)));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
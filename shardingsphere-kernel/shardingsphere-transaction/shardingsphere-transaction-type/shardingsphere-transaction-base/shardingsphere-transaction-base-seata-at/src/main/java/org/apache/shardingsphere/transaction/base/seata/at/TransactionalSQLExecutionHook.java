@@ -32,7 +32,7 @@ public final class TransactionalSQLExecutionHook implements SQLExecutionHook {
     
     private static final String SEATA_TX_XID = "SEATA_TX_XID";
     
-    private boolean seataBranch;
+    private static final ThreadLocal<Boolean> SEATA_BRANCH = new ThreadLocal<>();
     
     @Override
     public void start(final String dataSourceName, final String sql, final List<Object> parameters,
@@ -43,20 +43,23 @@ public final class TransactionalSQLExecutionHook implements SQLExecutionHook {
             }
         } else if (!RootContext.inGlobalTransaction() && shardingExecuteDataMap.containsKey(SEATA_TX_XID)) {
             RootContext.bind((String) shardingExecuteDataMap.get(SEATA_TX_XID));
-            seataBranch = true;
+            SEATA_BRANCH.set(true);
         }
     }
     
     @Override
     public void finishSuccess() {
-        if (seataBranch) {
-            RootContext.unbind();
-        }
+        finish();
     }
     
     @Override
     public void finishFailure(final Exception cause) {
-        if (seataBranch) {
+        finish();
+    }
+    
+    private void finish() {
+        if (null != SEATA_BRANCH.get()) {
+            SEATA_BRANCH.remove();
             RootContext.unbind();
         }
     }
@@ -73,4 +73,11 @@ public final class TransactionalSQLExecutionHookTest {
         executionHook.finishFailure(new RuntimeException(""));
         assertFalse(RootContext.inGlobalTransaction());
     }
+    
+    @Test
+    public void assertFinishWithoutChildThreadStarted() {
+        RootContext.bind("xid");
+        executionHook.finishSuccess();
+        assertTrue(RootContext.inGlobalTransaction());
+    }
 }
@@ -23,11 +23,15 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.ExecutorServiceType;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.bulkhead.StorageNodeBulkheadRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeStrategy;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -38,12 +42,14 @@ import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericS
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.event.MetaDataChangedEvent;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
 import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprintRegistry;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -73,7 +79,9 @@ public final class ContextManager implements AutoCloseable {
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = ExecutorEngine.createExecutorEngineWithSizeAndType(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                metaDataContexts.getMetaData().getProps().<ExecutorServiceType>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE));
+        initExecutionSettings(metaDataContexts.getMetaData().getProps());
     }
     
     /**
@@ -83,6 +91,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
         this.metaDataContexts = metaDataContexts;
+        postMetaDataChangedEvent(null);
     }
     
     /**
@@ -108,6 +117,7 @@ public final class ContextManager implements AutoCloseable {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(Collections.emptyMap(), metaDataContexts.getMetaData().getProps());
         metaDataContexts.getMetaData().addDatabase(databaseName, protocolType);
         metaDataContexts.getPersistService().getDatabaseMetaDataService().persistDatabase(databaseName);
+        postMetaDataChangedEvent(databaseName);
     }
     
     /**
@@ -122,6 +132,9 @@ public final class ContextManager implements AutoCloseable {
         String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
         metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
         metaDataContexts.getPersistService().getDatabaseMetaDataService().deleteDatabase(actualDatabaseName);
+        instanceContext.getTrafficDataSourceRegistry().retireDatabase(actualDatabaseName);
+        JDBCExecutorCallback.clearCachedDataSourceMetaData(actualDatabaseName);
+        postMetaDataChangedEvent(databaseName);
     }
     
     /**
@@ -135,6 +148,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchema());
+        postMetaDataChangedEvent(databaseName);
     }
     
     /**
@@ -147,6 +161,7 @@ public final class ContextManager implements AutoCloseable {
     public synchronized void alterSchema(final String databaseName, final String schemaName, final String toBeDeletedTableName) {
         if (metaDataContexts.getMetaData().containsDatabase(databaseName)) {
             Optional.ofNullable(toBeDeletedTableName).ifPresent(optional -> dropTable(databaseName, schemaName, optional));
+            postMetaDataChangedEvent(databaseName);
         }
     }
     
@@ -160,6 +175,7 @@ public final class ContextManager implements AutoCloseable {
     public synchronized void alterSchema(final String databaseName, final String schemaName, final ShardingSphereTable toBeChangedTable) {
         if (metaDataContexts.getMetaData().containsDatabase(databaseName)) {
             Optional.ofNullable(toBeChangedTable).ifPresent(optional -> alterTable(databaseName, schemaName, optional));
+            postMetaDataChangedEvent(databaseName);
         }
     }
     
@@ -197,6 +213,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         database.removeSchema(schemaName);
+        postMetaDataChangedEvent(databaseName);
     }
     
     /**
@@ -213,6 +230,8 @@ public final class ContextManager implements AutoCloseable {
         persistMetaData(metaDataContexts);
         metaDataContexts.getPersistService().getDataSourceService().append(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeUpdatedDataSourcePropsMap);
         switchingResource.closeStaleDataSources();
+        clearStaleDataSourceCaches(databaseName);
+        postMetaDataChangedEvent(databaseName);
     }
     
     /**
@@ -228,6 +247,8 @@ public final class ContextManager implements AutoCloseable {
             dataSourceMap.remove(each);
         }
         metaDataContexts.getPersistService().getDataSourceService().drop(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeDroppedResourceNames);
+        clearStaleDataSourceCaches(databaseName);
+        postMetaDataChangedEvent(databaseName);
     }
     
     /**
@@ -243,6 +264,7 @@ public final class ContextManager implements AutoCloseable {
             staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
             metaDataContexts = createMetaDataContexts(databaseName, null, ruleConfigs);
             persistMetaData(metaDataContexts);
+            postMetaDataChangedEvent(databaseName);
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
@@ -263,6 +285,8 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts = createMetaDataContexts(databaseName, switchingResource, null);
             persistMetaData(metaDataContexts);
             switchingResource.closeStaleDataSources();
+            clearStaleDataSourceCaches(databaseName);
+            postMetaDataChangedEvent(databaseName);
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source configuration failed", databaseName, ex);
         }
@@ -285,11 +309,19 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts = createMetaDataContexts(databaseName, switchingResource, ruleConfigs);
             persistMetaData(metaDataContexts);
             switchingResource.closeStaleDataSources();
+            clearStaleDataSourceCaches(databaseName);
+            postMetaDataChangedEvent(databaseName);
         } catch (SQLException ex) {
             log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
         }
     }
     
+    private void clearStaleDataSourceCaches(final String databaseName) {
+        String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
+        instanceContext.getTrafficDataSourceRegistry().retireDatabase(actualDatabaseName);
+        JDBCExecutorCallback.clearCachedDataSourceMetaData(actualDatabaseName);
+    }
+    
     @SuppressWarnings("rawtypes")
     private Collection<ResourceHeldRule> getStaleResourceHeldRules(final String databaseName) {
         Collection<ResourceHeldRule> result = new LinkedList<>();
@@ -342,6 +374,8 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), toBeChangedGlobalRuleMetaData, metaDataContexts.getMetaData().getProps());
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+        instanceContext.getTrafficDataSourceRegistry().retireAll();
+        postMetaDataChangedEvent(null);
     }
     
     /**
@@ -353,6 +387,15 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+        initExecutionSettings(toBeChangedMetaData.getProps());
+        postMetaDataChangedEvent(null);
+    }
+    
+    private void initExecutionSettings(final ConfigurationProperties props) {
+        StorageNodeBulkheadRegistry.init(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_NODE),
+                props.<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_STORAGE_NODE_QUEUE_TIMEOUT_MILLISECONDS));
+        AdaptiveConnectionModeStrategy.init(props.<String>getValue(ConfigurationPropertyKey.CONNECTION_MODE_STRATEGY));
+        SQLFingerprintRegistry.init(props.<Integer>getValue(ConfigurationPropertyKey.SQL_FINGERPRINT_CACHE_SIZE));
     }
     
     /**
@@ -369,6 +412,7 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts = reloadedMetaDataContexts;
             toBeDeletedSchemas.keySet().forEach(each -> reloadedMetaDataContexts.getPersistService().getDatabaseMetaDataService().deleteSchema(databaseName, each));
             persistMetaData(reloadedMetaDataContexts);
+            postMetaDataChangedEvent(databaseName);
         } catch (final SQLException ex) {
             log.error("Reload database: {} failed", databaseName, ex);
         }
@@ -401,6 +445,7 @@ public final class ContextManager implements AutoCloseable {
                 metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, reloadedSchema);
                 metaDataContexts.getPersistService().getDatabaseMetaDataService().persistMetaData(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, reloadedSchema);
             }
+            postMetaDataChangedEvent(databaseName);
         } catch (final SQLException ex) {
             log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
         }
@@ -457,12 +502,18 @@ public final class ContextManager implements AutoCloseable {
         if (schema.containsTable(tableName)) {
             database.getSchema(schemaName).put(tableName, schema.get(tableName));
             metaDataContexts.getPersistService().getDatabaseMetaDataService().persistMetaData(database.getName(), schemaName, database.getSchema(schemaName));
+            postMetaDataChangedEvent(databaseName);
         }
     }
     
+    private void postMetaDataChangedEvent(final String databaseName) {
+        instanceContext.getEventBusContext().post(new MetaDataChangedEvent(databaseName));
+    }
+    
     @Override
     public void close() throws Exception {
         executorEngine.close();
         metaDataContexts.close();
+        instanceContext.getTrafficDataSourceRegistry().close();
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.reconciler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.event.SchemaAlteredEvent;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Meta data snapshot reconciler.
+ * 
+ * <p>Databases started from persisted meta data snapshot serve with the snapshot at once,
+ * their actual tables are loaded in background and differences are applied as schema altered events.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MetaDataSnapshotReconciler {
+    
+    private final ContextManager contextManager;
+    
+    /**
+     * Reconcile databases in background.
+     *
+     * @param databaseNames database names started from persisted meta data snapshot
+     */
+    public void reconcileInBackground(final Collection<String> databaseNames) {
+        if (databaseNames.isEmpty()) {
+            return;
+        }
+        ExecutorService executorService = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("MetaDataSnapshotReconciler-%d"));
+        executorService.execute(() -> databaseNames.forEach(this::reconcile));
+        executorService.shutdown();
+    }
+    
+    /**
+     * Reconcile database.
+     *
+     * @param databaseName database name
+     */
+    public void reconcile(final String databaseName) {
+        ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
+        if (!metaData.containsDatabase(databaseName) || !metaData.getDatabase(databaseName).containsDataSource()) {
+            return;
+        }
+        try {
+            for (Entry<String, ShardingSphereSchema> entry : loadSchemas(metaData.getDatabase(databaseName), metaData.getProps()).entrySet()) {
+                reconcileSchema(databaseName, entry.getKey(), entry.getValue());
+            }
+            log.info("Reconcile meta data snapshot of database: {} finished", databaseName);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Reconcile meta data snapshot of database: {} failed", databaseName, ex);
+        }
+    }
+    
+    private Map<String, ShardingSphereSchema> loadSchemas(final ShardingSphereDatabase database, final ConfigurationProperties props) throws SQLException {
+        DatabaseType storageType = database.getResource().getDatabaseType();
+        GenericSchemaBuilderMaterials materials = new GenericSchemaBuilderMaterials(database.getProtocolType(), storageType, database.getResource().getDataSources(),
+                database.getRuleMetaData().getRules(), props, DatabaseTypeEngine.getDefaultSchemaName(storageType, database.getName()));
+        return GenericSchemaBuilder.build(materials);
+    }
+    
+    private void reconcileSchema(final String databaseName, final String schemaName, final ShardingSphereSchema actualSchema) {
+        contextManager.addSchema(databaseName, schemaName);
+        ShardingSphereSchema snapshotSchema = contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName).getSchema(schemaName);
+        SchemaAlteredEvent event = new SchemaAlteredEvent(databaseName, schemaName);
+        for (String each : new ArrayList<>(snapshotSchema.getAllTableNames())) {
+            if (!actualSchema.containsTable(each)) {
+                contextManager.alterSchema(databaseName, schemaName, each);
+                event.getDroppedTables().add(each);
+            }
+        }
+        for (ShardingSphereTable each : actualSchema.getTables().values()) {
+            if (!each.equals(snapshotSchema.get(each.getName()))) {
+                contextManager.alterSchema(databaseName, schemaName, each);
+                event.getAlteredTables().add(each);
+            }
+        }
+        if (!event.getAlteredTables().isEmpty() || !event.getDroppedTables().isEmpty()) {
+            log.info("Meta data snapshot of database: {} schema: {} is stale, altered tables: {}, dropped tables: {}",
+                    databaseName, schemaName, event.getAlteredTables().size(), event.getDroppedTables().size());
+            contextManager.getInstanceContext().getEventBusContext().post(event);
+        }
+    }
+}
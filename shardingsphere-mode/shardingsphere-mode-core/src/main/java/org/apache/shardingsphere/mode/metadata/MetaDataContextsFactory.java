@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.metadata.jdbc.JDBCInstanceMetaData;
@@ -29,12 +30,14 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabasesFactory;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -56,17 +59,61 @@ public final class MetaDataContextsFactory {
      */
     public static MetaDataContexts create(final MetaDataPersistService persistService, final Map<String, DatabaseConfiguration> databaseConfigs,
                                           final InstanceContext instanceContext) throws SQLException {
-        Collection<String> databaseNames = instanceContext.getInstance().getMetaData() instanceof JDBCInstanceMetaData
-                ? databaseConfigs.keySet()
-                : persistService.getDatabaseMetaDataService().loadAllDatabaseNames();
+        return create(persistService, databaseConfigs, Collections.emptyMap(), instanceContext);
+    }
+    
+    /**
+     * Create meta data contexts.
+     *
+     * @param persistService persist service
+     * @param databaseConfigs database configurations
+     * @param persistedSchemasMap persisted schemas map, key is database name, databases in it will not load schemas from actual tables
+     * @param instanceContext instance context
+     * @return meta data contexts
+     * @throws SQLException SQL exception
+     */
+    public static MetaDataContexts create(final MetaDataPersistService persistService, final Map<String, DatabaseConfiguration> databaseConfigs,
+                                          final Map<String, Map<String, ShardingSphereSchema>> persistedSchemasMap, final InstanceContext instanceContext) throws SQLException {
+        Collection<String> databaseNames = getDatabaseNames(persistService, databaseConfigs, instanceContext);
         Map<String, DatabaseConfiguration> effectiveDatabaseConfigs = createEffectiveDatabaseConfigurations(databaseNames, databaseConfigs, persistService);
         Collection<RuleConfiguration> globalRuleConfigs = persistService.getGlobalRuleService().load();
         ConfigurationProperties props = new ConfigurationProperties(persistService.getPropsService().load());
-        Map<String, ShardingSphereDatabase> databases = ShardingSphereDatabasesFactory.create(effectiveDatabaseConfigs, props, instanceContext);
+        Map<String, ShardingSphereDatabase> databases = ShardingSphereDatabasesFactory.create(effectiveDatabaseConfigs, persistedSchemasMap, props, instanceContext);
         ShardingSphereRuleMetaData globalMetaData = new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(globalRuleConfigs, databases, instanceContext));
         return new MetaDataContexts(persistService, new ShardingSphereMetaData(databases, globalMetaData, props));
     }
     
+    /**
+     * Load persisted schemas if meta data snapshot startup enabled.
+     *
+     * @param persistService persist service
+     * @param databaseConfigs database configurations
+     * @param instanceContext instance context
+     * @return persisted schemas map, key is database name
+     */
+    public static Map<String, Map<String, ShardingSphereSchema>> loadPersistedSchemas(final MetaDataPersistService persistService, final Map<String, DatabaseConfiguration> databaseConfigs,
+                                                                                      final InstanceContext instanceContext) {
+        ConfigurationProperties props = new ConfigurationProperties(persistService.getPropsService().load());
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_STARTUP_ENABLED)) {
+            return Collections.emptyMap();
+        }
+        Map<String, Map<String, ShardingSphereSchema>> result = new HashMap<>();
+        for (String each : getDatabaseNames(persistService, databaseConfigs, instanceContext)) {
+            Map<String, ShardingSphereSchema> schemas = persistService.getDatabaseMetaDataService().loadSchemas(each);
+            if (!schemas.isEmpty()) {
+                result.put(each, schemas);
+            }
+        }
+        return result;
+    }
+    
+    private static Collection<String> getDatabaseNames(final MetaDataPersistService persistService, final Map<String, DatabaseConfiguration> databaseConfigs,
+                                                       final InstanceContext instanceContext) {
+        return instanceContext.getInstance().getMetaData() instanceof JDBCInstanceMetaData
+                ? databaseConfigs.keySet()
+                : persistService.getDatabaseMetaDataService().loadAllDatabaseNames();
+    }
+    
     private static Map<String, DatabaseConfiguration> createEffectiveDatabaseConfigurations(final Collection<String> databaseNames,
                                                                                             final Map<String, DatabaseConfiguration> databaseConfigs, final MetaDataPersistService persistService) {
         return databaseNames.stream().collect(
@@ -113,7 +113,7 @@ public final class DatabaseMetaDataNode {
      * @param databaseName database name
      * @return schemas path
      */
-    private static String getMetaDataSchemasPath(final String databaseName) {
+    public static String getMetaDataSchemasPath(final String databaseName) {
         return String.join("/", getDatabaseNamePath(databaseName), SCHEMAS_NODE);
     }
     
@@ -181,6 +181,18 @@ public final class DatabaseMetaDataNode {
         return matcher.find() ? Optional.of(matcher.group(2)) : Optional.empty();
     }
     
+    /**
+     * Get schema name by tables path.
+     *
+     * @param tablesPath tables path
+     * @return schema name
+     */
+    public static Optional<String> getSchemaNameByTablesPath(final String tablesPath) {
+        Pattern pattern = Pattern.compile(getMetaDataNodePath() + "/([\\w\\-]+)/schemas/([\\w\\-]+)/tables$", Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(tablesPath);
+        return matcher.find() ? Optional.of(matcher.group(2)) : Optional.empty();
+    }
+    
     /**
      * Get table meta data path.
      *
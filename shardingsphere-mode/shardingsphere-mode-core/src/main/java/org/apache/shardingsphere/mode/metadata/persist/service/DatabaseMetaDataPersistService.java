@@ -17,27 +17,43 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.service;
 
+import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereSchema;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlSchemaSwapper;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.mode.metadata.persist.service.config.global.PropertiesPersistService;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Database meta data registry service.
+ * 
+ * <p>Table meta data are persisted as one node per table by default.
+ * When compact schema enabled in persisted properties, schemas are persisted as one node with whole schema content in value of tables node.
+ * Encoding of a schema is detected from its stored content, and a schema is migrated to the configured encoding when it is persisted as a whole.
+ * A schema stored in both encodings during migration is loaded by merging them, and its table changes are written to both.</p>
  */
 @RequiredArgsConstructor
 public final class DatabaseMetaDataPersistService {
     
+    private static final int MAX_COMPACT_SCHEMA_UPDATE_RETRIES = 16;
+    
     private final PersistRepository repository;
     
     /**
@@ -48,21 +64,57 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema to be persisted
      */
     public void persistMetaData(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        Optional<ShardingSphereSchema> originalSchema = load(databaseName, schemaName);
-        if (originalSchema.isPresent()) {
-            compareAndPersist(databaseName, schemaName, schema, originalSchema.get());
+        String tablesPath = DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName);
+        boolean compactSchemaStored = !Strings.isNullOrEmpty(repository.get(tablesPath));
+        Collection<String> tableNodes = repository.getChildrenKeys(tablesPath);
+        boolean compactSchemaEnabled = isCompactSchemaEnabled();
+        if (!compactSchemaStored && tableNodes.isEmpty()) {
+            if (compactSchemaEnabled) {
+                persistCompactSchema(databaseName, schemaName, schema);
+            } else {
+                persistMetaData(databaseName, schemaName, schema.getTables());
+            }
             return;
         }
-        persistMetaData(databaseName, schemaName, schema.getTables());
+        if (compactSchemaEnabled && !tableNodes.isEmpty()) {
+            migrateToCompactSchema(databaseName, schemaName, schema, tableNodes);
+            return;
+        }
+        if (!compactSchemaEnabled && compactSchemaStored) {
+            migrateToTableNodes(databaseName, schemaName, schema, tableNodes);
+            return;
+        }
+        load(databaseName, schemaName).ifPresent(optional -> compareAndPersist(databaseName, schemaName, schema, optional));
     }
     
     private void persistMetaData(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
         if (tables.isEmpty()) {
-            persistSchema(databaseName, schemaName);
+            repository.persist(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName), "");
             return;
         }
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
                 YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        repository.batchPersist(keyValues);
+    }
+    
+    private void migrateToCompactSchema(final String databaseName, final String schemaName, final ShardingSphereSchema schema, final Collection<String> tableNodes) {
+        persistCompactSchema(databaseName, schemaName, schema);
+        Collection<String> keys = new LinkedList<>();
+        tableNodes.forEach(each -> keys.add(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each)));
+        repository.batchDelete(keys);
+        // compute nodes drop tables when their table nodes are deleted, publish compact schema again to restore them
+        persistCompactSchema(databaseName, schemaName, schema);
+    }
+    
+    private void migrateToTableNodes(final String databaseName, final String schemaName, final ShardingSphereSchema schema, final Collection<String> tableNodes) {
+        persistMetaData(databaseName, schemaName, schema.getTables());
+        Collection<String> keys = new LinkedList<>();
+        tableNodes.stream().filter(each -> !schema.containsTable(each)).forEach(each -> keys.add(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each)));
+        if (!keys.isEmpty()) {
+            repository.batchDelete(keys);
+        }
+        repository.persist(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName), "");
     }
     
     /**
@@ -73,8 +125,33 @@ public final class DatabaseMetaDataPersistService {
      * @param table table meta data
      */
     public void persistTable(final String databaseName, final String schemaName, final ShardingSphereTable table) {
-        repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, table.getName().toLowerCase()),
-                YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table)));
+        persistTables(databaseName, schemaName, Collections.singleton(table));
+    }
+    
+    /**
+     * Persist tables meta data.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tables tables meta data
+     */
+    public void persistTables(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables) {
+        if (tables.isEmpty()) {
+            return;
+        }
+        if (updateCompactSchema(databaseName, schemaName, schema -> tables.forEach(each -> schema.put(each.getName(), each))) && !hasTableNodes(databaseName, schemaName)) {
+            return;
+        }
+        if (1 == tables.size()) {
+            ShardingSphereTable table = tables.iterator().next();
+            repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, table.getName().toLowerCase()),
+                    YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table)));
+            return;
+        }
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach(each -> keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each.getName().toLowerCase()),
+                YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(each))));
+        repository.batchPersist(keyValues);
     }
     
     /**
@@ -84,25 +161,59 @@ public final class DatabaseMetaDataPersistService {
      * @param schemaName schema name
      */
     public void persistSchema(final String databaseName, final String schemaName) {
+        if (isCompactSchemaEnabled()) {
+            persistCompactSchema(databaseName, schemaName, new ShardingSphereSchema());
+            return;
+        }
         repository.persist(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName), "");
     }
     
+    private boolean isCompactSchemaEnabled() {
+        return new ConfigurationProperties(new PropertiesPersistService(repository).load()).<Boolean>getValue(ConfigurationPropertyKey.METADATA_PERSIST_COMPACT_SCHEMA_ENABLED);
+    }
+    
+    private boolean hasTableNodes(final String databaseName, final String schemaName) {
+        return !repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName)).isEmpty();
+    }
+    
+    private void persistCompactSchema(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
+        repository.persist(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName), YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(schema)));
+    }
+    
+    private boolean updateCompactSchema(final String databaseName, final String schemaName, final Consumer<ShardingSphereSchema> updater) {
+        String tablesPath = DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName);
+        for (int i = 0; i < MAX_COMPACT_SCHEMA_UPDATE_RETRIES; i++) {
+            String content = repository.get(tablesPath);
+            if (Strings.isNullOrEmpty(content)) {
+                return false;
+            }
+            ShardingSphereSchema schema = swapToSchema(content);
+            updater.accept(schema);
+            if (repository.compareAndPersist(tablesPath, content, YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(schema)))) {
+                return true;
+            }
+        }
+        throw new IllegalStateException(String.format("Can not update compact schema `%s.%s` because of concurrent modification", databaseName, schemaName));
+    }
+    
     private void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema, final ShardingSphereSchema originalSchema) {
         Map<String, ShardingSphereTable> cachedLocalTables = new LinkedHashMap<>(schema.getTables());
+        Collection<ShardingSphereTable> toBeChangedTables = new LinkedList<>();
+        Collection<String> toBeDeletedTableNames = new LinkedList<>();
         for (Entry<String, ShardingSphereTable> entry : originalSchema.getTables().entrySet()) {
             String onlineTableName = entry.getKey();
             ShardingSphereTable localTableMetaData = cachedLocalTables.remove(onlineTableName);
             if (null == localTableMetaData) {
-                deleteTable(databaseName, schemaName, onlineTableName);
+                toBeDeletedTableNames.add(onlineTableName);
                 continue;
             }
             if (!localTableMetaData.equals(entry.getValue())) {
-                persistTable(databaseName, schemaName, localTableMetaData);
+                toBeChangedTables.add(localTableMetaData);
             }
         }
-        if (!cachedLocalTables.isEmpty()) {
-            persistMetaData(databaseName, schemaName, cachedLocalTables);
-        }
+        toBeChangedTables.addAll(cachedLocalTables.values());
+        deleteTables(databaseName, schemaName, toBeDeletedTableNames);
+        persistTables(databaseName, schemaName, toBeChangedTables);
     }
     
     /**
@@ -141,7 +252,30 @@ public final class DatabaseMetaDataPersistService {
      * @param tableName table name
      */
     public void deleteTable(final String databaseName, final String schemaName, final String tableName) {
-        repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName));
+        deleteTables(databaseName, schemaName, Collections.singleton(tableName));
+    }
+    
+    /**
+     * Delete tables meta data.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableNames table names
+     */
+    public void deleteTables(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        if (updateCompactSchema(databaseName, schemaName, schema -> tableNames.forEach(schema::remove)) && !hasTableNodes(databaseName, schemaName)) {
+            return;
+        }
+        if (1 == tableNames.size()) {
+            repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableNames.iterator().next()));
+            return;
+        }
+        Collection<String> keys = new LinkedList<>();
+        tableNames.forEach(each -> keys.add(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each)));
+        repository.batchDelete(keys);
     }
     
     /**
@@ -152,17 +286,40 @@ public final class DatabaseMetaDataPersistService {
      * @return Loaded schema
      */
     public Optional<ShardingSphereSchema> load(final String databaseName, final String schemaName) {
-        Collection<String> tables = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
+        String tablesPath = DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName);
+        String compactContent = repository.get(tablesPath);
+        Collection<String> tables = repository.getChildrenKeys(tablesPath);
         if (tables.isEmpty()) {
-            return Optional.empty();
-        }
-        ShardingSphereSchema schema = new ShardingSphereSchema();
-        tables.forEach(each -> {
-            String content = repository.get(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
-            ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(content, YamlShardingSphereTable.class));
-            schema.put(each, table);
-        });
-        return Optional.of(schema);
+            return Strings.isNullOrEmpty(compactContent) ? Optional.empty() : Optional.of(swapToSchema(compactContent));
+        }
+        Map<String, String> tablePaths = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach(each -> tablePaths.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each), each));
+        Map<String, String> contents = repository.batchGet(tablePaths.keySet());
+        ShardingSphereSchema result = Strings.isNullOrEmpty(compactContent) ? new ShardingSphereSchema() : swapToSchema(compactContent);
+        for (Entry<String, String> entry : tablePaths.entrySet()) {
+            String content = contents.get(entry.getKey());
+            if (!Strings.isNullOrEmpty(content)) {
+                result.put(entry.getValue(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(content, YamlShardingSphereTable.class)));
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private ShardingSphereSchema swapToSchema(final String content) {
+        return new YamlSchemaSwapper().swapToObject(YamlEngine.unmarshal(content, YamlShardingSphereSchema.class));
+    }
+    
+    /**
+     * Load schemas.
+     *
+     * @param databaseName database name to be loaded
+     * @return loaded schemas, key is schema name
+     */
+    public Map<String, ShardingSphereSchema> loadSchemas(final String databaseName) {
+        Collection<String> schemaNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSchemasPath(databaseName));
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(schemaNames.size(), 1);
+        schemaNames.forEach(each -> result.put(each, load(databaseName, each).orElseGet(ShardingSphereSchema::new)));
+        return result;
     }
     
     /**
@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.persist;
 
 import org.apache.shardingsphere.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Persist repository.
@@ -41,6 +45,22 @@ public interface PersistRepository extends TypedSPI {
      */
     String get(String key);
     
+    /**
+     * Get data of keys from registry center.
+     *
+     * <p>Repositories which support pipelined reads should override it to avoid one round trip per key.</p>
+     *
+     * @param keys keys of data
+     * @return values of data, key is key of data, absent keys are mapped to null
+     */
+    default Map<String, String> batchGet(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1);
+        for (String each : keys) {
+            result.put(each, get(each));
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -57,6 +77,37 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist batch data.
+     *
+     * <p>Repositories which support transactions should override it to persist data with as few round trips as possible.</p>
+     *
+     * @param keyValues key and value of data
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
+    /**
+     * Persist data only if current value of key is the expected one.
+     *
+     * <p>Repositories which support versioned writes should override it to make the comparison and the write atomic across processes.</p>
+     *
+     * @param key key of data
+     * @param expectedValue expected current value of data, null means key is absent
+     * @param value value of data
+     * @return whether data persisted
+     */
+    default boolean compareAndPersist(final String key, final String expectedValue, final String value) {
+        synchronized (this) {
+            if (!Objects.equals(expectedValue, get(key))) {
+                return false;
+            }
+            persist(key, value);
+            return true;
+        }
+    }
+    
     /**
      * Delete node.
      *
@@ -64,6 +115,17 @@ public interface PersistRepository extends TypedSPI {
      */
     void delete(String key);
     
+    /**
+     * Delete batch nodes.
+     *
+     * <p>Repositories which support transactions should override it to delete nodes with as few round trips as possible.</p>
+     *
+     * @param keys keys of data
+     */
+    default void batchDelete(final Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+    
     /**
      * Close.
      */
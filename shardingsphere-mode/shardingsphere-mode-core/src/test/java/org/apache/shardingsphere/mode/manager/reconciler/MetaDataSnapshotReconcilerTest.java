@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.reconciler;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.event.SchemaAlteredEvent;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MetaDataSnapshotReconcilerTest {
+    
+    @Test
+    public void assertReconcileWithStaleSnapshot() {
+        Map<String, ShardingSphereTable> snapshotTables = new HashMap<>(2, 1);
+        snapshotTables.put("t_order", createTable("t_order", "order_id"));
+        snapshotTables.put("t_dropped", createTable("t_dropped", "id"));
+        ContextManager contextManager = mockContextManager(new ShardingSphereSchema(snapshotTables));
+        ShardingSphereTable alteredTable = createTable("t_order", "user_id");
+        try (MockedStatic<GenericSchemaBuilder> builder = mockStatic(GenericSchemaBuilder.class)) {
+            builder.when(() -> GenericSchemaBuilder.build(any())).thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema(Collections.singletonMap("t_order", alteredTable))));
+            new MetaDataSnapshotReconciler(contextManager).reconcile("foo_db");
+        }
+        verify(contextManager).alterSchema("foo_db", "foo_schema", "t_dropped");
+        verify(contextManager).alterSchema("foo_db", "foo_schema", alteredTable);
+        ArgumentCaptor<SchemaAlteredEvent> event = ArgumentCaptor.forClass(SchemaAlteredEvent.class);
+        verify(contextManager.getInstanceContext().getEventBusContext()).post(event.capture());
+        assertThat(event.getValue().getAlteredTables(), is(Collections.singletonList(alteredTable)));
+        assertThat(event.getValue().getDroppedTables(), is(Collections.singletonList("t_dropped")));
+    }
+    
+    @Test
+    public void assertReconcileWithUpToDateSnapshot() {
+        ContextManager contextManager = mockContextManager(new ShardingSphereSchema(Collections.singletonMap("t_order", createTable("t_order", "order_id"))));
+        try (MockedStatic<GenericSchemaBuilder> builder = mockStatic(GenericSchemaBuilder.class)) {
+            builder.when(() -> GenericSchemaBuilder.build(any())).thenReturn(
+                    Collections.singletonMap("foo_schema", new ShardingSphereSchema(Collections.singletonMap("t_order", createTable("t_order", "order_id")))));
+            new MetaDataSnapshotReconciler(contextManager).reconcile("foo_db");
+        }
+        verify(contextManager, never()).alterSchema(anyString(), anyString(), anyString());
+        verify(contextManager.getInstanceContext().getEventBusContext(), never()).post(any());
+    }
+    
+    private ContextManager mockContextManager(final ShardingSphereSchema snapshotSchema) {
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.containsDataSource()).thenReturn(true);
+        when(database.getResource().getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(database.getSchema("foo_schema")).thenReturn(snapshotSchema);
+        when(result.getMetaDataContexts().getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(result.getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(result.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        return result;
+    }
+    
+    private ShardingSphereTable createTable(final String tableName, final String columnName) {
+        return new ShardingSphereTable(tableName, Collections.singletonList(new ShardingSphereColumn(columnName, Types.INTEGER, true, false, false, true)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+}
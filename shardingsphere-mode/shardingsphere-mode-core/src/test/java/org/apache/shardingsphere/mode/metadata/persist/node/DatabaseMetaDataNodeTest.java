@@ -23,6 +23,7 @@ import org.junit.Test;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -52,6 +53,11 @@ public class DatabaseMetaDataNodeTest {
         assertThat(DatabaseMetaDataNode.getDatabaseNamePath("sharding_db"), is("/metadata/sharding_db"));
     }
     
+    @Test
+    public void assertGetMetaDataSchemasPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSchemasPath("sharding_db"), is("/metadata/sharding_db/schemas"));
+    }
+    
     @Test
     public void assertGetMetaDataTablesPath() {
         assertThat(DatabaseMetaDataNode.getMetaDataTablesPath("sharding_db", "sharding_schema"), is("/metadata/sharding_db/schemas/sharding_schema/tables"));
@@ -64,6 +70,14 @@ public class DatabaseMetaDataNodeTest {
         assertThat(actualSchemaName.get(), is("logic_db"));
     }
     
+    @Test
+    public void assertGetSchemaNameByTablesPath() {
+        Optional<String> actualSchemaName = DatabaseMetaDataNode.getSchemaNameByTablesPath("/metadata/logic_db/schemas/logic_schema/tables");
+        assertTrue(actualSchemaName.isPresent());
+        assertThat(actualSchemaName.get(), is("logic_schema"));
+        assertFalse(DatabaseMetaDataNode.getSchemaNameByTablesPath("/metadata/logic_db/schemas/logic_schema/tables/t_order").isPresent());
+    }
+    
     @Test
     public void assertGetTableName() {
         Optional<String> actualTableName = DatabaseMetaDataNode.getTableName("/metadata/logic_db/schemas/logic_schema/tables/t_order");
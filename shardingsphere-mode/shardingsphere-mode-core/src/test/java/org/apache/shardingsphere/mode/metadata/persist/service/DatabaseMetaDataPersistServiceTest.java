@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.mode.metadata.persist.service;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlSchemaSwapper;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 import org.junit.Test;
@@ -33,9 +35,14 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.hasItems;
@@ -44,6 +51,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,7 +68,32 @@ public final class DatabaseMetaDataPersistServiceTest {
         ShardingSphereSchema schema = new ShardingSphereSchema();
         schema.getTables().put("t_order", table);
         new DatabaseMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
-        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table))));
+    }
+    
+    @Test
+    public void assertPersistWithCompactSchema() {
+        ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", table);
+        mockCompactSchemaEnabled();
+        new DatabaseMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
+        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables", YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(schema)));
+    }
+    
+    @Test
+    public void assertPersistChangedTables() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Arrays.asList("t_order", "t_order_item", "t_user"));
+        Map<String, String> contents = new LinkedHashMap<>(3, 1);
+        contents.put("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML());
+        contents.put("/metadata/foo_db/schemas/foo_schema/tables/t_order_item", readYAML());
+        contents.put("/metadata/foo_db/schemas/foo_schema/tables/t_user", readYAML());
+        when(repository.batchGet(contents.keySet())).thenReturn(contents);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_order", new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class)));
+        new DatabaseMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
+        verify(repository).batchDelete(Arrays.asList("/metadata/foo_db/schemas/foo_schema/tables/t_order_item", "/metadata/foo_db/schemas/foo_schema/tables/t_user"));
+        verify(repository, never()).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
     }
     
     @Test
@@ -78,7 +112,8 @@ public final class DatabaseMetaDataPersistServiceTest {
     public void assertLoad() {
         DatabaseMetaDataPersistService databaseMetaDataPersistService = new DatabaseMetaDataPersistService(repository);
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
-        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        when(repository.batchGet(Collections.singleton("/metadata/foo_db/schemas/foo_schema/tables/t_order")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML()));
         Optional<ShardingSphereSchema> schema = databaseMetaDataPersistService.load("foo_db", "foo_schema");
         assertTrue(schema.isPresent());
         Optional<ShardingSphereSchema> empty = databaseMetaDataPersistService.load("test", "test");
@@ -89,6 +124,29 @@ public final class DatabaseMetaDataPersistServiceTest {
         assertThat(schema.get().get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
     }
     
+    @Test
+    public void assertLoadCompactSchema() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_order", new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class)));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(schema)));
+        Optional<ShardingSphereSchema> actual = new DatabaseMetaDataPersistService(repository).load("foo_db", "foo_schema");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getAllTableNames(), is(Collections.singleton("t_order")));
+        assertThat(actual.get().get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
+    }
+    
+    @Test
+    public void assertLoadSchemas() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas")).thenReturn(Arrays.asList("foo_schema", "empty_schema"));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.batchGet(Collections.singleton("/metadata/foo_db/schemas/foo_schema/tables/t_order")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML()));
+        Map<String, ShardingSphereSchema> actual = new DatabaseMetaDataPersistService(repository).loadSchemas("foo_db");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_schema").getAllTableNames(), is(Collections.singleton("t_order")));
+        assertTrue(actual.get("empty_schema").getAllTableNames().isEmpty());
+    }
+    
     @Test
     public void assertLoadAllDatabaseNames() {
         when(repository.getChildrenKeys("/metadata")).thenReturn(Collections.singletonList("foo_db"));
@@ -104,6 +162,93 @@ public final class DatabaseMetaDataPersistServiceTest {
         verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), anyString());
     }
     
+    @Test
+    public void assertPersistTableMetaDataWithCompactSchema() {
+        String content = YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(new ShardingSphereSchema()));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(content);
+        ShardingSphereTable table = new ShardingSphereTable("FOO_TABLE", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema expected = new ShardingSphereSchema();
+        expected.put("foo_table", table);
+        String expectedContent = YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(expected));
+        when(repository.compareAndPersist("/metadata/foo_db/schemas/foo_schema/tables", content, expectedContent)).thenReturn(true);
+        new DatabaseMetaDataPersistService(repository).persistTable("foo_db", "foo_schema", table);
+        verify(repository).compareAndPersist("/metadata/foo_db/schemas/foo_schema/tables", content, expectedContent);
+        verify(repository, never()).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), anyString());
+    }
+    
+    @Test
+    public void assertPersistTableMetaDataWithMixedSchema() {
+        String content = YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(new ShardingSphereSchema()));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(content);
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.compareAndPersist(eq("/metadata/foo_db/schemas/foo_schema/tables"), eq(content), anyString())).thenReturn(true);
+        ShardingSphereTable table = new ShardingSphereTable("FOO_TABLE", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        new DatabaseMetaDataPersistService(repository).persistTable("foo_db", "foo_schema", table);
+        verify(repository).compareAndPersist(eq("/metadata/foo_db/schemas/foo_schema/tables"), eq(content), anyString());
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), anyString());
+    }
+    
+    @Test
+    public void assertLoadMixedSchema() {
+        ShardingSphereSchema compactSchema = new ShardingSphereSchema();
+        compactSchema.put("t_order", new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        compactSchema.put("bar_table", new ShardingSphereTable("bar_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(compactSchema)));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.batchGet(Collections.singleton("/metadata/foo_db/schemas/foo_schema/tables/t_order")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML()));
+        Optional<ShardingSphereSchema> actual = new DatabaseMetaDataPersistService(repository).load("foo_db", "foo_schema");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getAllTableNames(), is(new HashSet<>(Arrays.asList("t_order", "bar_table"))));
+        assertThat(actual.get().get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
+    }
+    
+    @Test
+    public void assertPersistMetaDataMigratedToCompactSchema() {
+        mockCompactSchemaEnabled();
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_order", new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class)));
+        new DatabaseMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
+        verify(repository, times(2)).persist("/metadata/foo_db/schemas/foo_schema/tables", YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(schema)));
+        verify(repository).batchDelete(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/t_order"));
+    }
+    
+    @Test
+    public void assertPersistMetaDataMigratedToTableNodes() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class));
+        schema.put("t_order", table);
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(schema)));
+        new DatabaseMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table))));
+        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables", "");
+    }
+    
+    @Test
+    public void assertDeleteTableMetaDataWithCompactSchemaRetriedOnConflict() {
+        ShardingSphereSchema originalSchema = new ShardingSphereSchema();
+        originalSchema.put("foo_table", new ShardingSphereTable("foo_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        String originalContent = YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(originalSchema));
+        ShardingSphereSchema concurrentSchema = new ShardingSphereSchema();
+        concurrentSchema.put("foo_table", new ShardingSphereTable("foo_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        concurrentSchema.put("bar_table", new ShardingSphereTable("bar_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        String concurrentContent = YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(concurrentSchema));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(originalContent, concurrentContent);
+        when(repository.compareAndPersist(eq("/metadata/foo_db/schemas/foo_schema/tables"), anyString(), anyString())).thenReturn(false, true);
+        new DatabaseMetaDataPersistService(repository).deleteTable("foo_db", "foo_schema", "foo_table");
+        ShardingSphereSchema expected = new ShardingSphereSchema();
+        expected.put("bar_table", new ShardingSphereTable("bar_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        verify(repository).compareAndPersist("/metadata/foo_db/schemas/foo_schema/tables", concurrentContent, YamlEngine.marshal(new YamlSchemaSwapper().swapToYamlConfiguration(expected)));
+        verify(repository, never()).delete(anyString());
+    }
+    
+    private void mockCompactSchemaEnabled() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.METADATA_PERSIST_COMPACT_SCHEMA_ENABLED.getKey(), Boolean.TRUE.toString());
+        when(repository.get("/props")).thenReturn(YamlEngine.marshal(props));
+    }
+    
     @SneakyThrows({IOException.class, URISyntaxException.class})
     private String readYAML() {
         return Files.readAllLines(Paths.get(ClassLoader.getSystemResource("yaml/schema/schema.yaml").toURI())).stream().map(each -> each + System.lineSeparator()).collect(Collectors.joining());
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.mode.manager.cluster;
 
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.context.kernel.PreparedTemplateSubscriber;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
@@ -27,6 +29,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.ClusterContext
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.RegistryCenter;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.DistributedLockContext;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.workerid.generator.ClusterWorkerIdGenerator;
+import org.apache.shardingsphere.mode.manager.reconciler.MetaDataSnapshotReconciler;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsFactory;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
@@ -36,6 +39,8 @@ import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositor
 import org.apache.shardingsphere.schedule.core.ScheduleContextFactory;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Cluster context manager builder.
@@ -51,10 +56,13 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         RegistryCenter registryCenter = new RegistryCenter(repository, new EventBusContext(), parameter.getInstanceMetaData(), parameter.getDatabaseConfigs());
         InstanceContext instanceContext = buildInstanceContext(registryCenter, parameter);
         registryCenter.getRepository().watchSessionConnection(instanceContext);
-        MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(persistService, parameter.getDatabaseConfigs(), instanceContext);
-        persistMetaData(metaDataContexts);
+        new PreparedTemplateSubscriber(instanceContext.getEventBusContext());
+        Map<String, Map<String, ShardingSphereSchema>> persistedSchemasMap = MetaDataContextsFactory.loadPersistedSchemas(persistService, parameter.getDatabaseConfigs(), instanceContext);
+        MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(persistService, parameter.getDatabaseConfigs(), persistedSchemasMap, instanceContext);
+        persistMetaData(metaDataContexts, persistedSchemasMap.keySet());
         ContextManager result = new ContextManager(metaDataContexts, instanceContext);
         registerOnline(persistService, registryCenter, parameter, result);
+        new MetaDataSnapshotReconciler(result).reconcileInBackground(persistedSchemasMap.keySet());
         return result;
     }
     
@@ -69,8 +77,8 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
                 parameter.getModeConfiguration(), new DistributedLockContext(registryCenter.getRepository()), registryCenter.getEventBusContext());
     }
     
-    private void persistMetaData(final MetaDataContexts metaDataContexts) {
-        metaDataContexts.getMetaData().getDatabases().values().forEach(
+    private void persistMetaData(final MetaDataContexts metaDataContexts, final Collection<String> persistedDatabaseNames) {
+        metaDataContexts.getMetaData().getDatabases().values().stream().filter(each -> !persistedDatabaseNames.contains(each.getName())).forEach(
                 each -> each.getSchemas().forEach((schemaName, tables) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persistMetaData(each.getName(), schemaName, tables)));
     }
     
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYaml
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DynamicDataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StaticDataSourceContainedRule;
@@ -34,6 +36,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.confi
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.GlobalRuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaTablesChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.version.DatabaseVersionChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseAddedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseDeletedEvent;
@@ -136,6 +139,30 @@ public final class ClusterContextManagerCoordinator {
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), event.getDeletedTable());
     }
     
+    /**
+     * Renew meta data of the schema persisted as compact node.
+     *
+     * @param event schema tables changed event
+     */
+    @Subscribe
+    public synchronized void renew(final SchemaTablesChangedEvent event) {
+        if (!contextManager.getMetaDataContexts().getMetaData().containsDatabase(event.getDatabaseName())) {
+            return;
+        }
+        contextManager.addSchema(event.getDatabaseName(), event.getSchemaName());
+        ShardingSphereSchema schema = contextManager.getMetaDataContexts().getMetaData().getDatabase(event.getDatabaseName()).getSchema(event.getSchemaName());
+        for (String each : new LinkedList<>(schema.getAllTableNames())) {
+            if (!event.getSchema().containsTable(each)) {
+                contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), each);
+            }
+        }
+        for (ShardingSphereTable each : event.getSchema().getTables().values()) {
+            if (!each.equals(schema.get(each.getName()))) {
+                contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), each);
+            }
+        }
+    }
+    
     /**
      * Renew rule configurations.
      *
@@ -47,8 +47,8 @@ public final class SchemaMetaDataRegistrySubscriber {
      */
     @Subscribe
     public void update(final SchemaAlteredEvent event) {
-        event.getAlteredTables().forEach(each -> persistService.persistTable(event.getDatabaseName(), event.getSchemaName(), each));
-        event.getDroppedTables().forEach(each -> persistService.deleteTable(event.getDatabaseName(), event.getSchemaName(), each));
+        persistService.persistTables(event.getDatabaseName(), event.getSchemaName(), event.getAlteredTables());
+        persistService.deleteTables(event.getDatabaseName(), event.getSchemaName(), event.getDroppedTables());
     }
     
     /**
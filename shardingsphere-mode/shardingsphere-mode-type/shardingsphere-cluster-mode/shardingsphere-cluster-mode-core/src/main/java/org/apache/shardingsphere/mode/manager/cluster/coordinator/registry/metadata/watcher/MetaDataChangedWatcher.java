@@ -26,13 +26,17 @@ import org.apache.shardingsphere.infra.yaml.config.pojo.rule.YamlRuleConfigurati
 import org.apache.shardingsphere.infra.yaml.config.swapper.resource.YamlDataSourceConfigurationSwapper;
 import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereSchema;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlSchemaSwapper;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcher;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.datasource.DataSourceChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaTablesChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.version.DatabaseVersionChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseAddedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseDeletedEvent;
@@ -81,6 +85,9 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
         if (isTableMetaDataChanged(event)) {
             return createSchemaChangedEvent(event);
         }
+        if (isCompactSchemaChanged(event)) {
+            return createSchemaTablesChangedEvent(event);
+        }
         return createRuleAndDataSourceChangedEvent(event);
     }
     
@@ -100,6 +107,10 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
                 && !SystemSchemaBuilderRule.isSystemTable(databaseName.get(), tableName.get()) && !Strings.isNullOrEmpty(event.getValue());
     }
     
+    private boolean isCompactSchemaChanged(final DataChangedEvent event) {
+        return DatabaseMetaDataNode.getSchemaNameByTablesPath(event.getKey()).isPresent() && Type.DELETED != event.getType() && !Strings.isNullOrEmpty(event.getValue());
+    }
+    
     private Optional<GovernanceEvent> createLogicDatabaseChangedEvent(final DataChangedEvent event) {
         Optional<String> databaseName = DatabaseMetaDataNode.getDatabaseName(event.getKey());
         Preconditions.checkState(databaseName.isPresent());
@@ -176,4 +187,13 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
                 ? new SchemaChangedEvent(databaseName, schemaName, null, tableName)
                 : new SchemaChangedEvent(databaseName, schemaName, new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlShardingSphereTable.class)), null);
     }
+    
+    private Optional<GovernanceEvent> createSchemaTablesChangedEvent(final DataChangedEvent event) {
+        Optional<String> databaseName = DatabaseMetaDataNode.getDatabaseNameByDatabasePath(event.getKey());
+        Preconditions.checkState(databaseName.isPresent());
+        Optional<String> schemaName = DatabaseMetaDataNode.getSchemaNameByTablesPath(event.getKey());
+        Preconditions.checkState(schemaName.isPresent());
+        ShardingSphereSchema schema = new YamlSchemaSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlShardingSphereSchema.class));
+        return Optional.of(new SchemaTablesChangedEvent(databaseName.get(), schemaName.get(), schema));
+    }
 }
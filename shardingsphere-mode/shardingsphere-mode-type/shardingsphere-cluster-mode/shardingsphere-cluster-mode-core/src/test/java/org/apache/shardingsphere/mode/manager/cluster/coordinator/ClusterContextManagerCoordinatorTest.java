@@ -54,6 +54,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.confi
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.GlobalRuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaTablesChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.version.DatabaseVersionChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseAddedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseDeletedEvent;
@@ -202,6 +203,18 @@ public final class ClusterContextManagerCoordinatorTest {
         verify(contextManager.getMetaDataContexts().getMetaData().getDatabase("db").getSchema("db")).put("t_order", event.getChangedTableMetaData());
     }
     
+    @Test
+    public void assertRenewForSchemaTablesChanged() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(schema.getAllTableNames()).thenReturn(Collections.singleton("t_order_item"));
+        when(database.containsSchema("db")).thenReturn(true);
+        when(database.getSchema("db")).thenReturn(schema);
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        coordinator.renew(new SchemaTablesChangedEvent("db", "db", new ShardingSphereSchema(Collections.singletonMap("t_order", table))));
+        verify(schema).remove("t_order_item");
+        verify(schema).put("t_order", table);
+    }
+    
     @Test
     public void assertRenewForRuleConfigurationsChanged() {
         when(persistService.getMetaDataVersionPersistService().isActiveVersion("db", "0")).thenReturn(true);
@@ -61,8 +61,8 @@ public final class SchemaMetaDataRegistrySubscriberTest {
         event.getAlteredTables().add(table);
         event.getDroppedTables().add("foo_table");
         schemaMetaDataRegistrySubscriber.update(event);
-        verify(persistService).persistTable("foo_db", "foo_schema", table);
-        verify(persistService).deleteTable("foo_db", "foo_schema", "foo_table");
+        verify(persistService).persistTables("foo_db", "foo_schema", event.getAlteredTables());
+        verify(persistService).deleteTables("foo_db", "foo_schema", event.getDroppedTables());
     }
     
     @Test
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.meta
 
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaTablesChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 import org.junit.Test;
@@ -118,6 +119,16 @@ public final class MetaDataChangedWatcherTest {
         assertThat(((SchemaChangedEvent) actual.get()).getDeletedTable(), is("t_order"));
     }
     
+    @Test
+    public void assertCreateSchemaTablesChangedEvent() {
+        String key = "/metadata/sharding_db/schemas/sharding_schema/tables";
+        Optional<GovernanceEvent> actual = createEvent(key, "tables:\n  t_order:\n    name: t_order\n", Type.UPDATED);
+        assertTrue(actual.isPresent());
+        assertThat(((SchemaTablesChangedEvent) actual.get()).getSchemaName(), is("sharding_schema"));
+        assertTrue(((SchemaTablesChangedEvent) actual.get()).getSchema().containsTable("t_order"));
+        assertFalse(createEvent(key, "", Type.UPDATED).isPresent());
+    }
+    
     private Optional<GovernanceEvent> createEvent(final String key, final String value, final Type type) {
         DataChangedEvent dataChangedEvent = new DataChangedEvent(key, value, type);
         return new MetaDataChangedWatcher().createGovernanceEvent(dataChangedEvent);
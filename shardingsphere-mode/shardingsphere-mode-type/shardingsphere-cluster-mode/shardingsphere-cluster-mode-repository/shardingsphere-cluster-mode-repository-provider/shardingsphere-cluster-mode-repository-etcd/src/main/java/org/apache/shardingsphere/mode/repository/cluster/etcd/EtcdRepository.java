@@ -18,12 +18,17 @@
 package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
 import com.google.common.base.Splitter;
+import com.google.common.collect.Iterables;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Observers;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.op.Cmp;
+import io.etcd.jetcd.op.CmpTarget;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -42,7 +47,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
@@ -53,6 +63,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPS = 128;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -76,6 +88,21 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchGet(final Collection<String> keys) {
+        Map<String, CompletableFuture<GetResponse>> futures = new LinkedHashMap<>(keys.size(), 1);
+        for (String each : keys) {
+            futures.put(each, client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8)));
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : futures.entrySet()) {
+            List<KeyValue> keyValues = entry.getValue().get().getKvs();
+            result.put(entry.getKey(), keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
@@ -97,6 +124,30 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Collection<Op> ops = keyValues.entrySet().stream().map(entry -> Op.put(
+                ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT)).collect(Collectors.toList());
+        commitTransaction(ops);
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public boolean compareAndPersist(final String key, final String expectedValue, final String value) {
+        ByteSequence keyByteSequence = ByteSequence.from(key, StandardCharsets.UTF_8);
+        Cmp cmp = null == expectedValue
+                ? new Cmp(keyByteSequence, Cmp.Op.EQUAL, CmpTarget.version(0L))
+                : new Cmp(keyByteSequence, Cmp.Op.EQUAL, CmpTarget.value(ByteSequence.from(expectedValue, StandardCharsets.UTF_8)));
+        return client.getKVClient().txn().If(cmp).Then(Op.put(keyByteSequence, ByteSequence.from(value, StandardCharsets.UTF_8), PutOption.DEFAULT)).commit().get().isSucceeded();
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    private void commitTransaction(final Collection<Op> ops) {
+        for (List<Op> each : Iterables.partition(ops, MAX_TRANSACTION_OPS)) {
+            client.getKVClient().txn().Then(each.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void persistEphemeral(final String key, final String value) {
@@ -111,6 +162,13 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8), DeleteOption.newBuilder().withPrefix(ByteSequence.from(key, StandardCharsets.UTF_8)).build());
     }
     
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        Collection<Op> ops = keys.stream().map(each -> Op.delete(
+                ByteSequence.from(each, StandardCharsets.UTF_8), DeleteOption.newBuilder().withPrefix(ByteSequence.from(each, StandardCharsets.UTF_8)).build())).collect(Collectors.toList());
+        commitTransaction(ops);
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
         Watch.Listener listener = Watch.listener(response -> {
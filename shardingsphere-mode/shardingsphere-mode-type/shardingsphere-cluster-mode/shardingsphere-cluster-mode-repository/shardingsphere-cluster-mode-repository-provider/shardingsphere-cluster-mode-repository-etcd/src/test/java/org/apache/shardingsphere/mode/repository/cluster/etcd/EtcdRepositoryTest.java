@@ -23,8 +23,10 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
@@ -45,21 +47,27 @@ import org.mockito.plugins.MemberAccessor;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -213,6 +221,65 @@ public final class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    public void assertBatchGet() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/key1")).setValue(ByteString.copyFromUtf8("value1")).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)));
+        Map<String, String> actual = repository.batchGet(Arrays.asList("/key1", "/key2"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("/key1"), is("value1"));
+        verify(kv).get(ByteSequence.from("/key1", StandardCharsets.UTF_8));
+        verify(kv).get(ByteSequence.from("/key2", StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void assertBatchPersist() {
+        Txn txn = mockTxn();
+        Map<String, String> keyValues = new LinkedHashMap<>(130, 1);
+        for (int i = 0; i < 130; i++) {
+            keyValues.put("/key" + i, "value" + i);
+        }
+        repository.batchPersist(keyValues);
+        verify(kv, times(2)).txn();
+        verify(txn, times(2)).commit();
+    }
+    
+    @Test
+    public void assertBatchDelete() {
+        Txn txn = mockTxn();
+        repository.batchDelete(Arrays.asList("/key1", "/key2"));
+        verify(kv).txn();
+        verify(txn).commit();
+    }
+    
+    @Test
+    public void assertCompareAndPersist() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.If(any())).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        TxnResponse txnResponse = mock(TxnResponse.class);
+        when(txnResponse.isSucceeded()).thenReturn(true);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(txnResponse));
+        assertTrue(repository.compareAndPersist("/key", "value1", "value2"));
+        verify(txn).If(any());
+    }
+    
+    @Test
+    public void assertCompareAndPersistWhenValueChanged() {
+        Txn txn = mockTxn();
+        when(txn.If(any())).thenReturn(txn);
+        assertFalse(repository.compareAndPersist("/key", "value1", "value2"));
+    }
+    
+    private Txn mockTxn() {
+        Txn result = mock(Txn.class);
+        when(kv.txn()).thenReturn(result);
+        when(result.Then(any())).thenReturn(result);
+        when(result.commit()).thenReturn(CompletableFuture.completedFuture(mock(TxnResponse.class)));
+        return result;
+    }
+    
     @Test
     public void assertClose() {
         repository.close();
@@ -18,15 +18,18 @@
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -39,24 +42,38 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.Zookeepe
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.BadVersionException;
+import org.apache.zookeeper.KeeperException.NoNodeException;
+import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 /**
  * Registry repository of ZooKeeper.
  */
+@Slf4j
 public final class CuratorZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new HashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
@@ -125,6 +142,34 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         return getDirectly(key);
     }
     
+    @Override
+    public Map<String, String> batchGet(final Collection<String> keys) {
+        List<String> keyList = new ArrayList<>(keys);
+        String[] values = new String[keyList.size()];
+        CountDownLatch latch = new CountDownLatch(keyList.size());
+        try {
+            for (int i = 0; i < keyList.size(); i++) {
+                int index = i;
+                client.getData().inBackground((framework, event) -> {
+                    if (KeeperException.Code.OK.intValue() == event.getResultCode()) {
+                        values[index] = new String(event.getData(), StandardCharsets.UTF_8);
+                    }
+                    latch.countDown();
+                }).forPath(keyList.get(i));
+            }
+            latch.await();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+        Map<String, String> result = new LinkedHashMap<>(keyList.size(), 1);
+        for (int i = 0; i < keyList.size(); i++) {
+            result.put(keyList.get(i), values[i]);
+        }
+        return result;
+    }
+    
     @Override
     public List<String> getChildrenKeys(final String key) {
         try {
@@ -154,6 +199,109 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        List<String> keys = new ArrayList<>(keyValues.keySet());
+        Collections.sort(keys);
+        boolean[] existed = batchCheckExisted(keys);
+        try {
+            createParentsIfNeeded(keys, existed, keyValues);
+            List<CuratorOp> ops = new LinkedList<>();
+            int transactionBytes = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] value = keyValues.get(keys.get(i)).getBytes(StandardCharsets.UTF_8);
+                int opBytes = getPathBytes(keys.get(i)) + value.length;
+                if (!ops.isEmpty() && transactionBytes + opBytes > MAX_TRANSACTION_BYTES) {
+                    commitTransaction(ops, keyValues);
+                    ops = new LinkedList<>();
+                    transactionBytes = 0;
+                }
+                ops.add(existed[i]
+                        ? client.transactionOp().setData().forPath(keys.get(i), value)
+                        : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(keys.get(i), value));
+                transactionBytes += opBytes;
+            }
+            if (!ops.isEmpty()) {
+                commitTransaction(ops, keyValues);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public boolean compareAndPersist(final String key, final String expectedValue, final String value) {
+        try {
+            if (null == expectedValue) {
+                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+                return true;
+            }
+            Stat stat = new Stat();
+            byte[] currentValue = client.getData().storingStatIn(stat).forPath(key);
+            if (!expectedValue.equals(new String(currentValue, StandardCharsets.UTF_8))) {
+                return false;
+            }
+            client.setData().withVersion(stat.getVersion()).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (final NodeExistsException | NoNodeException | BadVersionException ex) {
+            return false;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+            return false;
+        }
+    }
+    
+    private int getPathBytes(final String key) {
+        return key.getBytes(StandardCharsets.UTF_8).length;
+    }
+    
+    private void createParentsIfNeeded(final List<String> keys, final boolean[] existed, final Map<String, String> keyValues) throws Exception {
+        Collection<String> parents = new LinkedHashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (!existed[i]) {
+                parents.add(ZKPaths.getPathAndNode(keys.get(i)).getPath());
+            }
+        }
+        for (String each : parents) {
+            if (!keyValues.containsKey(each) && !ZKPaths.PATH_SEPARATOR.equals(each) && !isExisted(each)) {
+                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(each, new byte[0]);
+            }
+        }
+    }
+    
+    private void commitTransaction(final List<CuratorOp> ops, final Map<String, String> keyValues) throws Exception {
+        try {
+            client.transaction().forOperations(ops);
+        } catch (final KeeperException ex) {
+            log.debug("Commit transaction failed for: {}, persist one by one", ex.getMessage());
+            ops.forEach(each -> persist(each.getTypeAndPath().getForPath(), keyValues.get(each.getTypeAndPath().getForPath())));
+        }
+    }
+    
+    private boolean[] batchCheckExisted(final List<String> keys) {
+        boolean[] result = new boolean[keys.size()];
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        try {
+            for (int i = 0; i < keys.size(); i++) {
+                int index = i;
+                client.checkExists().inBackground((framework, event) -> {
+                    result[index] = null != event.getStat();
+                    latch.countDown();
+                }).forPath(keys.get(i));
+            }
+            latch.await();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+        return result;
+    }
+    
     private void update(final String key, final String value) {
         try {
             client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
@@ -213,6 +361,49 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        List<String> keyList = new ArrayList<>(keys);
+        boolean[] existed = batchCheckExisted(keyList);
+        Collection<String> existedKeys = new LinkedList<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            if (existed[i]) {
+                existedKeys.add(keyList.get(i));
+            }
+        }
+        if (existedKeys.isEmpty()) {
+            return;
+        }
+        try {
+            List<CuratorOp> ops = new LinkedList<>();
+            int transactionBytes = 0;
+            for (String each : existedKeys) {
+                int opBytes = getPathBytes(each);
+                if (!ops.isEmpty() && transactionBytes + opBytes > MAX_TRANSACTION_BYTES) {
+                    commitDeleteTransaction(ops);
+                    ops = new LinkedList<>();
+                    transactionBytes = 0;
+                }
+                ops.add(client.transactionOp().delete().forPath(each));
+                transactionBytes += opBytes;
+            }
+            commitDeleteTransaction(ops);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private void commitDeleteTransaction(final List<CuratorOp> ops) throws Exception {
+        try {
+            client.transaction().forOperations(ops);
+        } catch (final KeeperException ex) {
+            log.debug("Delete in transaction failed for: {}, delete one by one", ex.getMessage());
+            ops.forEach(each -> delete(each.getTypeAndPath().getForPath()));
+        }
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener listener) {
         CuratorCache cache = caches.get(key);
@@ -28,8 +28,10 @@ import org.apache.curator.framework.api.CreateBuilder;
 import org.apache.curator.framework.api.DeleteBuilder;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.WatchPathable;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
@@ -61,7 +63,9 @@ import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -102,6 +106,12 @@ public final class CuratorZookeeperRepositoryTest {
     @Mock
     private GetChildrenBuilder getChildrenBuilder;
     
+    @Mock
+    private GetDataBuilder getDataBuilder;
+    
+    @Mock
+    private WatchPathable<byte[]> watchPathable;
+    
     @Mock
     private ProtectACLCreateModeStatPathAndBytesable<String> protect;
     
@@ -177,6 +187,24 @@ public final class CuratorZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertCompareAndPersistWhenAbsent() {
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        assertTrue(REPOSITORY.compareAndPersist("/test", null, "value1"));
+        verify(protect).forPath("/test", "value1".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertCompareAndPersistWhenValueChanged() {
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.storingStatIn(any(Stat.class))).thenReturn(watchPathable);
+        when(watchPathable.forPath("/test")).thenReturn("value2".getBytes(StandardCharsets.UTF_8));
+        assertFalse(REPOSITORY.compareAndPersist("/test", "value1", "value3"));
+        verify(client, times(0)).setData();
+    }
+    
     @Test
     @SneakyThrows
     public void assertPersistEphemeralNotExist() {
@@ -19,10 +19,13 @@ package org.apache.shardingsphere.mode.manager.standalone;
 
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.context.kernel.PreparedTemplateSubscriber;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
+import org.apache.shardingsphere.mode.manager.reconciler.MetaDataSnapshotReconciler;
 import org.apache.shardingsphere.mode.manager.standalone.lock.StandaloneLockContext;
 import org.apache.shardingsphere.mode.manager.standalone.subscriber.ProcessStandaloneSubscriber;
 import org.apache.shardingsphere.mode.manager.standalone.workerid.generator.StandaloneWorkerIdGenerator;
@@ -34,6 +37,7 @@ import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRep
 import org.apache.shardingsphere.schedule.core.ScheduleContextFactory;
 
 import java.sql.SQLException;
+import java.util.Map;
 
 /**
  * Standalone context manager builder.
@@ -48,8 +52,12 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         persistConfigurations(persistService, parameter);
         InstanceContext instanceContext = buildInstanceContext(parameter);
         new ProcessStandaloneSubscriber(instanceContext.getEventBusContext());
-        MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(persistService, parameter.getDatabaseConfigs(), instanceContext);
-        return new ContextManager(metaDataContexts, instanceContext);
+        new PreparedTemplateSubscriber(instanceContext.getEventBusContext());
+        Map<String, Map<String, ShardingSphereSchema>> persistedSchemasMap = MetaDataContextsFactory.loadPersistedSchemas(persistService, parameter.getDatabaseConfigs(), instanceContext);
+        MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(persistService, parameter.getDatabaseConfigs(), persistedSchemasMap, instanceContext);
+        ContextManager result = new ContextManager(metaDataContexts, instanceContext);
+        new MetaDataSnapshotReconciler(result).reconcileInBackground(persistedSchemasMap.keySet());
+        return result;
     }
     
     private void persistConfigurations(final MetaDataPersistService persistService, final ContextManagerBuilderParameter parameter) {
@@ -143,9 +143,7 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     
     protected void refreshMetaData(final ExecutionContext executionContext) throws SQLException {
         Optional<MetaDataRefreshedEvent> event = metadataRefreshEngine.refresh(executionContext.getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
-        if (ProxyContext.getInstance().getContextManager().getInstanceContext().isCluster() && event.isPresent()) {
-            ProxyContext.getInstance().getContextManager().getInstanceContext().getEventBusContext().post(event.get());
-        }
+        event.ifPresent(ProxyContext.getInstance().getContextManager().getInstanceContext().getEventBusContext()::post);
     }
     
     protected QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
@@ -239,6 +237,17 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
         return new QueryResponseRow(cells);
     }
     
+    protected Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     protected void checkLockedDatabase(final ExecutionContext executionContext) {
         if (lockJudgeEngine.isLocked(ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext(),
                 backendConnection.getConnectionSession().getDatabaseName(), executionContext.getSqlStatementContext())) {
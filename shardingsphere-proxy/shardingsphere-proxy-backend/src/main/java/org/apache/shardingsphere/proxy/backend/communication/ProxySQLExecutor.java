@@ -180,7 +180,7 @@ public final class ProxySQLExecutor {
                 type, maxConnectionsSizePerQuery, backendConnection, statementManager, new StatementOption(isReturnGeneratedKeys), rules);
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
         try {
-            executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+            executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits(), executionContext.getSqlStatementContext());
         } catch (final SQLException ex) {
             return getSaneExecuteResults(executionContext, ex);
         }
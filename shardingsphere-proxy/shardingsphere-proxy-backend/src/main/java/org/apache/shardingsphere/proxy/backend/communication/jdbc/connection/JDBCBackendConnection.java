@@ -41,6 +41,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -65,6 +66,15 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     private final AtomicBoolean closed = new AtomicBoolean(false);
     
+    @Override
+    public Optional<Integer> findAvailableConnectionCount(final String dataSourceName) {
+        int cachedConnectionSize;
+        synchronized (cachedConnections) {
+            cachedConnectionSize = cachedConnections.get(dataSourceName).size();
+        }
+        return ProxyContext.getInstance().getBackendDataSource().findAvailableConnectionCount(connectionSession.getDatabaseName(), dataSourceName).map(each -> each + cachedConnectionSize);
+    }
+    
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Collection<Connection> connections;
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
@@ -48,6 +49,25 @@ public final class ResourceLock {
         }
     }
     
+    /**
+     * Await until waiting condition is not satisfied.
+     * 
+     * <p>Waiting condition is checked while holding the lock, so a notification sent after condition changed can not be missed.</p>
+     *
+     * @param waitingCondition waiting condition
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void doAwait(final BooleanSupplier waitingCondition) {
+        lock.lock();
+        try {
+            while (waitingCondition.getAsBoolean()) {
+                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Notify.
      */
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaDataFactory;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
@@ -32,6 +33,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Backend data source of JDBC.
@@ -86,6 +88,19 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         }
     }
     
+    /**
+     * Find available connection count of data source pool.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return available connection count, empty if unknown
+     */
+    public Optional<Integer> findAvailableConnectionCount(final String databaseName, final String dataSourceName) {
+        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResource().getDataSources().get(dataSourceName);
+        return null == dataSource ? Optional.empty()
+                : DataSourcePoolMetaDataFactory.findInstance(dataSource.getClass().getName()).flatMap(optional -> optional.findAvailableConnectionCount(dataSource));
+    }
+    
     private List<Connection> createConnections(final String databaseName, final String dataSourceName,
                                                final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
@@ -37,6 +37,8 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.QueryableRALBackendHandler;
 import org.apache.shardingsphere.readwritesplitting.distsql.parser.statement.ShowReadwriteSplittingReadResourcesStatement;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -60,9 +62,17 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
     
     private static final String DELAY_TIME = "delay_time(ms)";
     
+    private static final String IN_FLIGHT_COUNT = "in_flight_count";
+    
+    private static final String EXECUTED_COUNT = "executed_count";
+    
+    private static final String FAILED_COUNT = "failed_count";
+    
+    private static final String AVERAGE_RESPONSE_TIME = "average_response_time(ms)";
+    
     @Override
     protected Collection<String> getColumnNames() {
-        return Arrays.asList(RESOURCE, STATUS, DELAY_TIME);
+        return Arrays.asList(RESOURCE, STATUS, DELAY_TIME, IN_FLIGHT_COUNT, EXECUTED_COUNT, FAILED_COUNT, AVERAGE_RESPONSE_TIME);
     }
     
     @Override
@@ -72,7 +82,7 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         Collection<String> allReadResources = getAllReadResources(database);
         Map<String, StorageNodeDataSource> persistentReadResources = getPersistentReadResources(databaseName, metaDataContexts.getPersistService());
-        return buildRows(allReadResources, persistentReadResources);
+        return buildRows(databaseName, allReadResources, persistentReadResources);
     }
     
     private String getDatabaseName() {
@@ -111,7 +121,7 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
         return result;
     }
     
-    private Collection<LocalDataQueryResultRow> buildRows(final Collection<String> readResources, final Map<String, StorageNodeDataSource> persistentReadResources) {
+    private Collection<LocalDataQueryResultRow> buildRows(final String databaseName, final Collection<String> readResources, final Map<String, StorageNodeDataSource> persistentReadResources) {
         Map<String, Map<String, StorageNodeDataSource>> persistentReadResourceGroup = persistentReadResources.entrySet().stream()
                 .collect(Collectors.groupingBy(each -> each.getValue().getStatus().toUpperCase(), Collectors.toMap(Entry::getKey, Entry::getValue)));
         Map<String, StorageNodeDataSource> disabledReadResources = persistentReadResourceGroup.getOrDefault(StorageNodeStatus.DISABLED.name(), Collections.emptyMap());
@@ -119,19 +129,22 @@ public final class ShowReadwriteSplittingReadResourcesHandler extends QueryableR
         readResources.removeIf(disabledReadResources::containsKey);
         readResources.addAll(enabledReadResources.keySet());
         readResources.addAll(disabledReadResources.keySet());
-        return readResources.stream().map(each -> buildRow(each, disabledReadResources.get(each))).collect(Collectors.toList());
+        return readResources.stream().map(each -> buildRow(databaseName, each, disabledReadResources.get(each))).collect(Collectors.toList());
     }
     
     private LinkedList<String> deconstructString(final String str) {
         return new LinkedList<>(Arrays.asList(str.split(",")));
     }
     
-    private LocalDataQueryResultRow buildRow(final String resource, final StorageNodeDataSource storageNodeDataSource) {
+    private LocalDataQueryResultRow buildRow(final String databaseName, final String resource, final StorageNodeDataSource storageNodeDataSource) {
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.findStatistics(databaseName, resource).orElseGet(ReplicaStatistics::new);
         if (null == storageNodeDataSource) {
-            return new LocalDataQueryResultRow(resource, StorageNodeStatus.ENABLED.name().toLowerCase(), "0");
+            return new LocalDataQueryResultRow(resource, StorageNodeStatus.ENABLED.name().toLowerCase(), "0", statistics.getInFlightCount(), statistics.getExecutedCount(),
+                    statistics.getFailedCount(), String.format("%.3f", statistics.getAverageResponseMilliseconds()));
         }
         long replicationDelayMilliseconds = storageNodeDataSource.getReplicationDelayMilliseconds();
         String status = StorageNodeStatus.valueOf(storageNodeDataSource.getStatus().toUpperCase()).name().toLowerCase();
-        return new LocalDataQueryResultRow(resource, status, Long.toString(replicationDelayMilliseconds));
+        return new LocalDataQueryResultRow(resource, status, Long.toString(replicationDelayMilliseconds), statistics.getInFlightCount(), statistics.getExecutedCount(),
+                statistics.getFailedCount(), String.format("%.3f", statistics.getAverageResponseMilliseconds()));
     }
 }
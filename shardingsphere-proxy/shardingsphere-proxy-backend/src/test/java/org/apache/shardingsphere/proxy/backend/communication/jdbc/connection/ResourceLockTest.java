@@ -21,7 +21,9 @@ import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public final class ResourceLockTest {
@@ -49,4 +51,22 @@ public final class ResourceLockTest {
         resourceLock.doAwait();
         assertTrue(System.currentTimeMillis() > startTime);
     }
+    
+    @Test
+    public void assertDoAwaitWithWaitingCondition() {
+        ResourceLock resourceLock = new ResourceLock();
+        AtomicBoolean waiting = new AtomicBoolean(true);
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        executorService.submit(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException ignored) {
+            }
+            waiting.set(false);
+            resourceLock.doNotify();
+        });
+        resourceLock.doAwait(waiting::get);
+        assertFalse(waiting.get());
+        executorService.shutdown();
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.infra.distsql.constant.ExportableConstants;
+import org.apache.shardingsphere.infra.distsql.constant.ExportableItemConstants;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.identifier.type.exportable.ExportableRule;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
+import org.apache.shardingsphere.readwritesplitting.distsql.parser.statement.ShowReadwriteSplittingReadResourcesStatement;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.DatabaseSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShowReadwriteSplittingReadResourcesHandlerTest extends ProxyContextRestorer {
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        ProxyContext.init(mockContextManager());
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getStatistics("read_resources_db", "read_resources_ds_0");
+        statistics.start();
+        statistics.finish(2000000L, true);
+        statistics.start();
+        statistics.finish(5000000L, false);
+        ReplicaStatistics otherDatabaseStatistics = ReplicaStatisticsRegistry.getStatistics("other_read_resources_db", "read_resources_ds_1");
+        otherDatabaseStatistics.start();
+        otherDatabaseStatistics.finish(1000000L, true);
+        ShowReadwriteSplittingReadResourcesHandler handler = new ShowReadwriteSplittingReadResourcesHandler();
+        handler.init(new ShowReadwriteSplittingReadResourcesStatement(new DatabaseSegment(0, 0, new IdentifierValue("read_resources_db"))), mock(ConnectionSession.class));
+        handler.execute();
+        handler.next();
+        List<Object> data = handler.getRowData().getData();
+        assertThat(data, is(Arrays.asList("read_resources_ds_0", "enabled", "0", 0, 2L, 1L, "2.000")));
+        handler.next();
+        data = handler.getRowData().getData();
+        assertThat(data, is(Arrays.asList("read_resources_ds_1", "enabled", "0", 0, 0L, 0L, "0.000")));
+        assertFalse(handler.next());
+    }
+    
+    private ContextManager mockContextManager() {
+        ExportableRule rule = mock(ExportableRule.class);
+        when(rule.getExportData()).thenReturn(Collections.<String, Object>singletonMap(ExportableConstants.EXPORT_STATIC_READWRITE_SPLITTING_RULE,
+                Collections.singletonMap("readwrite", Collections.singletonMap(ExportableItemConstants.REPLICA_DATA_SOURCE_NAMES, "read_resources_ds_0,read_resources_ds_1"))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.singleton(rule));
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaDataContexts().getMetaData().containsDatabase("read_resources_db")).thenReturn(true);
+        when(result.getMetaDataContexts().getMetaData().getDatabase("read_resources_db")).thenReturn(database);
+        return result;
+    }
+}
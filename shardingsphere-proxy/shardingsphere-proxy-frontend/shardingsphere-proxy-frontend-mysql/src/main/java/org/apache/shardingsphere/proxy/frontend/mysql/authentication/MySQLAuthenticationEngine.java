@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.mysql.authentication;
 import com.google.common.base.Strings;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandsha
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
@@ -61,6 +63,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private byte[] authResponse;
     
+    private int clientCapabilityFlags;
+    
     private AuthenticationResult currentAuthResult;
     
     @Override
@@ -84,6 +88,9 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         }
         Optional<MySQLServerErrorCode> errorCode = authenticationHandler.login(currentAuthResult.getUsername(), getHostAddress(context), authResponse, currentAuthResult.getDatabase());
         context.writeAndFlush(errorCode.isPresent() ? createErrorPacket(errorCode.get(), context) : new MySQLOKPacket(++sequenceId, DEFAULT_STATUS_FLAG));
+        if (!errorCode.isPresent() && isClientCompress()) {
+            context.pipeline().addFirst(new MySQLCompressionCodec(getMinCompressLength()));
+        }
         return AuthenticationResultBuilder.finished(currentAuthResult.getUsername(), getHostAddress(context), currentAuthResult.getDatabase());
     }
     
@@ -91,6 +98,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         MySQLHandshakeResponse41Packet packet = new MySQLHandshakeResponse41Packet((MySQLPacketPayload) payload);
         authResponse = packet.getAuthResponse();
         sequenceId = packet.getSequenceId();
+        clientCapabilityFlags = packet.getCapabilityFlags();
         MySQLCharacterSet mySQLCharacterSet = MySQLCharacterSet.findById(packet.getCharacterSet());
         context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(mySQLCharacterSet.getCharset());
         context.channel().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).set(mySQLCharacterSet);
@@ -111,6 +119,14 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
     }
     
+    private boolean isClientCompress() {
+        return 0 != (clientCapabilityFlags & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue());
+    }
+    
+    private int getMinCompressLength() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MYSQL_COMPRESSION_MIN_LENGTH);
+    }
+    
     private void authenticationMethodMismatch(final MySQLPacketPayload payload) {
         MySQLAuthSwitchResponsePacket packet = new MySQLAuthSwitchResponsePacket(payload);
         sequenceId = packet.getSequenceId();
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketBatchEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketTypeLoader;
@@ -30,12 +33,14 @@ import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryRowWriter;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrPacketFactory;
 
 import java.sql.SQLException;
@@ -46,6 +51,8 @@ import java.util.Optional;
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final int BATCH_SIZE = 16 * 1024;
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
@@ -80,20 +87,51 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         int count = 0;
         int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait();
+        ResourceLock resourceLock = ((JDBCBackendConnection) backendConnection).getResourceLock();
+        MySQLPacketBatchEncoder batchEncoder = new MySQLPacketBatchEncoder(context.alloc(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get(), BATCH_SIZE);
+        try {
+            while (queryCommandExecutor.next()) {
+                count++;
+                currentSequenceId++;
+                encodeQueryRow(batchEncoder, queryCommandExecutor, currentSequenceId + headerPackagesCount);
+                if (flushThreshold == count) {
+                    writeBatch(context, batchEncoder, resourceLock);
+                    context.flush();
+                    count = 0;
+                } else if (batchEncoder.isFull()) {
+                    writeBatch(context, batchEncoder, resourceLock);
+                }
             }
-            DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
+            if (!batchEncoder.isEmpty()) {
+                context.write(batchEncoder.take());
             }
-            currentSequenceId++;
+        } finally {
+            batchEncoder.release();
         }
         context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount, ServerStatusFlagCalculator.calculateFor(backendConnection.getConnectionSession())));
     }
+    
+    private void encodeQueryRow(final MySQLPacketBatchEncoder batchEncoder, final QueryCommandExecutor queryCommandExecutor, final int sequenceId) throws SQLException {
+        if (queryCommandExecutor instanceof MySQLQueryRowWriter) {
+            MySQLPacketPayload payload = batchEncoder.beginPacket();
+            try {
+                ((MySQLQueryRowWriter) queryCommandExecutor).writeQueryRow(payload);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                batchEncoder.replaceWithErrPacket(ex);
+            }
+            batchEncoder.endPacket(sequenceId);
+        } else {
+            batchEncoder.encode((MySQLPacket) queryCommandExecutor.getQueryRowPacket());
+        }
+    }
+    
+    private void writeBatch(final ChannelHandlerContext context, final MySQLPacketBatchEncoder batchEncoder, final ResourceLock resourceLock) {
+        context.write(batchEncoder.take());
+        if (!context.channel().isWritable()) {
+            context.flush();
+            resourceLock.doAwait(() -> !context.channel().isWritable() && context.channel().isActive());
+        }
+    }
 }
@@ -27,6 +27,9 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBo
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
@@ -45,6 +48,7 @@ import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactor
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryRowWriter;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
@@ -57,7 +61,7 @@ import java.util.List;
  * COM_STMT_EXECUTE command executor for MySQL.
  */
 @RequiredArgsConstructor
-public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
+public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor, MySQLQueryRowWriter {
     
     private final MySQLComStmtExecutePacket packet;
     
@@ -70,6 +74,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private int currentSequenceId;
     
+    private MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         MySQLPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -129,6 +135,26 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         return new BinaryRow(result);
     }
     
+    @Override
+    public void writeQueryRow(final MySQLPacketPayload payload) throws SQLException {
+        QueryResponseRow queryResponseRow = proxyBackendHandler.getRowData();
+        MySQLBinaryResultSetRowPacket.writeRow(payload, getBinaryProtocolValues(queryResponseRow.getCells()), queryResponseRow.getData());
+    }
+    
+    private MySQLBinaryProtocolValue[] getBinaryProtocolValues(final List<QueryResponseCell> cells) {
+        if (null == binaryProtocolValues) {
+            binaryProtocolValues = new MySQLBinaryProtocolValue[cells.size()];
+        }
+        int index = 0;
+        for (QueryResponseCell each : cells) {
+            if (null == binaryProtocolValues[index] && null != each.getData()) {
+                binaryProtocolValues[index] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()));
+            }
+            index++;
+        }
+        return binaryProtocolValues;
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.proxy.frontend.mysql.authentication;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import io.netty.util.Attribute;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
@@ -158,6 +160,21 @@ public final class MySQLAuthenticationEngineTest extends ProxyContextRestorer {
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
     }
     
+    @Test
+    public void assertAuthWithCompression() {
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        ChannelHandlerContext context = getContext();
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        when(context.pipeline()).thenReturn(pipeline);
+        when(authenticationHandler.login(anyString(), any(), any(), anyString())).thenReturn(Optional.empty());
+        setMetaDataContexts();
+        MySQLPacketPayload payload = getPayload("root", "sharding_db", authResponse);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB, MySQLCapabilityFlag.CLIENT_COMPRESS));
+        authenticationEngine.authenticate(context, payload);
+        verify(context).writeAndFlush(any(MySQLOKPacket.class));
+        verify(pipeline).addFirst(any(MySQLCompressionCodec.class));
+    }
+    
     private void setMetaDataContexts() {
         ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         Map<String, ShardingSphereDatabase> databases = new LinkedHashMap<>(1, 1);
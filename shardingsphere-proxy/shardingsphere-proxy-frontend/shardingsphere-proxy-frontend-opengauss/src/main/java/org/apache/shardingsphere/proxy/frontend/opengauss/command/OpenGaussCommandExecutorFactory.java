@@ -25,6 +25,8 @@ import org.apache.shardingsphere.db.protocol.opengauss.packet.command.query.exte
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
@@ -37,6 +39,10 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import org.apache.shardingsphere.proxy.frontend.opengauss.command.query.extended.bind.OpenGaussComBatchBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.opengauss.command.query.simple.OpenGaussComQueryExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyExecutorFactory;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
@@ -51,6 +57,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extende
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Command executor factory for openGauss.
@@ -111,7 +118,7 @@ public final class OpenGaussCommandExecutorFactory {
         }
         switch ((PostgreSQLCommandPacketType) commandPacketType) {
             case SIMPLE_QUERY:
-                return new OpenGaussComQueryExecutor(connectionContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+                return getComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, connectionSession, connectionContext);
             case PARSE_COMMAND:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, connectionSession);
             case BIND_COMMAND:
@@ -124,10 +131,22 @@ public final class OpenGaussCommandExecutorFactory {
                 return new PostgreSQLComSyncExecutor(connectionSession);
             case CLOSE_COMMAND:
                 return new PostgreSQLComCloseExecutor(connectionContext, (PostgreSQLComClosePacket) commandPacket, connectionSession);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor(connectionContext, (PostgreSQLComCopyDataPacket) commandPacket);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(connectionContext, connectionSession);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor(connectionContext, (PostgreSQLComCopyFailPacket) commandPacket);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
                 return new PostgreSQLUnsupportedCommandExecutor();
         }
     }
+    
+    private static CommandExecutor getComQueryExecutor(final PostgreSQLComQueryPacket commandPacket, final ConnectionSession connectionSession,
+                                                       final PostgreSQLConnectionContext connectionContext) throws SQLException {
+        Optional<CommandExecutor> copyExecutor = PostgreSQLCopyExecutorFactory.newInstance(commandPacket.getSql(), connectionSession, connectionContext);
+        return copyExecutor.isPresent() ? copyExecutor.get() : new OpenGaussComQueryExecutor(connectionContext, commandPacket, connectionSession);
+    }
 }
@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import lombok.Setter;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyInSession;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.Portal;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * PostgreSQL connection context.
@@ -29,6 +32,9 @@ public final class PostgreSQLConnectionContext {
     
     private final Map<String, Portal<?>> portals = new LinkedHashMap<>();
     
+    @Setter
+    private PostgreSQLCopyInSession copyInSession;
+    
     /**
      * Create a portal.
      *
@@ -77,4 +83,23 @@ public final class PostgreSQLConnectionContext {
         }
         portals.clear();
     }
+    
+    /**
+     * Get copy in session.
+     *
+     * @return copy in session
+     */
+    public Optional<PostgreSQLCopyInSession> getCopyInSession() {
+        return Optional.ofNullable(copyInSession);
+    }
+    
+    /**
+     * Cancel and close copy in session.
+     */
+    public void closeCopyInSession() {
+        if (null != copyInSession) {
+            copyInSession.cancel();
+            copyInSession = null;
+        }
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Command copy to stdout executor for PostgreSQL.
+ * 
+ * <p>Routed actual tables are copied out one after another, only header of the first actual table is kept.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class PostgreSQLComCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Getter
+    private volatile ResponseType responseType;
+    
+    @Getter
+    private long copiedRows;
+    
+    private PostgreSQLCopyRouter router;
+    
+    private Iterator<CopyOutTarget> targets;
+    
+    private Connection connection;
+    
+    private CopyOut copyOut;
+    
+    private boolean headerPending;
+    
+    private boolean headerWritten;
+    
+    private Charset charset;
+    
+    private byte[] currentRow;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        router = new PostgreSQLCopyRouter(connectionSession, copyCommand);
+        Collection<CopyOutTarget> copyOutTargets = new LinkedList<>();
+        for (RouteUnit each : router.routeTable()) {
+            for (String actualTableName : router.getActualTableNames(each, copyCommand.getLogicTableName())) {
+                copyOutTargets.add(new CopyOutTarget(each, actualTableName));
+            }
+        }
+        targets = copyOutTargets.iterator();
+        Charset clientCharset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        charset = copyCommand.getOptions().getEncoding().isPresent() || null == clientCharset || StandardCharsets.UTF_8.equals(clientCharset) ? null : clientCharset;
+        responseType = ResponseType.QUERY;
+        return Collections.singletonList(new PostgreSQLCopyOutResponsePacket(router.getColumnNames().size()));
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (true) {
+            if (null == copyOut) {
+                if (!targets.hasNext()) {
+                    return false;
+                }
+                openCopyOut(targets.next());
+            }
+            byte[] row = copyOut.readFromCopy();
+            if (null == row) {
+                closeCopyOut();
+                continue;
+            }
+            if (headerPending) {
+                headerPending = false;
+                if (headerWritten) {
+                    continue;
+                }
+                headerWritten = true;
+            } else {
+                copiedRows++;
+            }
+            currentRow = null == charset ? row : new String(row, StandardCharsets.UTF_8).getBytes(charset);
+            return true;
+        }
+    }
+    
+    private void openCopyOut(final CopyOutTarget target) throws SQLException {
+        connection = router.getConnection(target.getRouteUnit());
+        copyOut = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(copyCommand.toActualSQL(target.getActualTableName()));
+        headerPending = copyCommand.getOptions().isHeader();
+    }
+    
+    private void closeCopyOut() throws SQLException {
+        copyOut = null;
+        try {
+            connection.close();
+        } finally {
+            connection = null;
+        }
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentRow);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null == connection) {
+            return;
+        }
+        try {
+            if (null != copyOut && copyOut.isActive()) {
+                copyOut.cancelCopy();
+            }
+        } catch (final SQLException ex) {
+            log.warn("Cancel copy out failed", ex);
+        }
+        closeCopyOut();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CopyOutTarget {
+        
+        private final RouteUnit routeUnit;
+        
+        private final String actualTableName;
+    }
+}
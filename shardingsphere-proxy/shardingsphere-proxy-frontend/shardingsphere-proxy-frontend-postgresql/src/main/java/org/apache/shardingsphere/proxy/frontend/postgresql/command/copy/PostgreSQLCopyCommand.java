@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.CopyStatementHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL copy command which streams data between frontend and storage nodes with {@code STDIN} or {@code STDOUT}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyCommand {
+    
+    private static final Pattern STDIO_PATTERN = Pattern.compile("^\\s*(\\((.*?)\\))?\\s*(FROM|TO)\\s+(STDIN|STDOUT)\\b(.*?)[\\s;]*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final Pattern BINARY_PATTERN = Pattern.compile("\\bBINARY\\b", Pattern.CASE_INSENSITIVE);
+    
+    private final SimpleTableSegment tableSegment;
+    
+    private final List<String> columnNames;
+    
+    private final boolean copyIn;
+    
+    private final String optionsText;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    /**
+     * Judge whether SQL may be a copy statement.
+     * 
+     * @param sql SQL
+     * @return may be a copy statement or not
+     */
+    public static boolean isCopySQL(final String sql) {
+        int index = 0;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return sql.regionMatches(true, index, "COPY", 0, 4);
+    }
+    
+    /**
+     * Create new instance of PostgreSQL copy command.
+     * 
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @return PostgreSQL copy command, empty if the statement does not copy a table from {@code STDIN} or to {@code STDOUT}
+     */
+    public static Optional<PostgreSQLCopyCommand> newInstance(final String sql, final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof CopyStatement)) {
+            return Optional.empty();
+        }
+        CopyStatement copyStatement = (CopyStatement) sqlStatement;
+        if (null == copyStatement.getTableSegment() || CopyStatementHandler.getPrepareStatementQuerySegment(copyStatement).isPresent()) {
+            return Optional.empty();
+        }
+        SimpleTableSegment tableSegment = copyStatement.getTableSegment();
+        Matcher matcher = STDIO_PATTERN.matcher(sql.substring(tableSegment.getStopIndex() + 1));
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String optionsText = matcher.group(5).trim();
+        PostgreSQLCopyOptions options = PostgreSQLCopyOptions.parse(optionsText);
+        if (BINARY_PATTERN.matcher(sql.substring(0, tableSegment.getStartIndex())).find()) {
+            options = PostgreSQLCopyOptions.parse("BINARY");
+        }
+        return Optional.of(new PostgreSQLCopyCommand(tableSegment, splitColumnNames(matcher.group(2)), "FROM".equalsIgnoreCase(matcher.group(3)), optionsText, options));
+    }
+    
+    private static List<String> splitColumnNames(final String columnNames) {
+        if (null == columnNames || columnNames.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String each : columnNames.split(",")) {
+            result.add(each.trim());
+        }
+        return result;
+    }
+    
+    /**
+     * Get logic table name.
+     * 
+     * @return logic table name
+     */
+    public String getLogicTableName() {
+        return tableSegment.getTableName().getIdentifier().getValue();
+    }
+    
+    /**
+     * Get schema name specified by copy statement.
+     * 
+     * @return schema name
+     */
+    public Optional<String> getSchemaName() {
+        return tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue());
+    }
+    
+    /**
+     * Get unquoted column names.
+     * 
+     * @return unquoted column names
+     */
+    public List<String> getUnquotedColumnNames() {
+        List<String> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            result.add(new IdentifierValue(each).getValue());
+        }
+        return result;
+    }
+    
+    /**
+     * Create copy SQL for actual table.
+     * 
+     * @param actualTableName actual table name
+     * @return copy SQL for actual table
+     */
+    public String toActualSQL(final String actualTableName) {
+        StringBuilder result = new StringBuilder("COPY ");
+        tableSegment.getOwner().ifPresent(optional -> result.append(optional.getIdentifier().getValueWithQuoteCharacters()).append('.'));
+        result.append(tableSegment.getTableName().getIdentifier().getQuoteCharacter().wrap(actualTableName));
+        if (!columnNames.isEmpty()) {
+            result.append(" (").append(String.join(", ", columnNames)).append(')');
+        }
+        result.append(copyIn ? " FROM STDIN" : " TO STDOUT");
+        if (!optionsText.isEmpty()) {
+            result.append(' ').append(optionsText);
+        }
+        return result.toString();
+    }
+}
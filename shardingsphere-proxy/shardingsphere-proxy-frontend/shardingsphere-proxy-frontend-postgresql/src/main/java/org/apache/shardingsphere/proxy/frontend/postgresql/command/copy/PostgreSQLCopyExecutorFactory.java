@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+
+import java.util.Optional;
+
+/**
+ * Copy executor factory for PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyExecutorFactory {
+    
+    /**
+     * Create new instance of copy executor.
+     *
+     * @param sql SQL
+     * @param connectionSession connection session
+     * @param connectionContext PostgreSQL connection context
+     * @return copy executor, empty if SQL does not copy a table from {@code STDIN} or to {@code STDOUT}
+     */
+    public static Optional<CommandExecutor> newInstance(final String sql, final ConnectionSession connectionSession, final PostgreSQLConnectionContext connectionContext) {
+        if (!PostgreSQLCopyCommand.isCopySQL(sql) || null == connectionSession.getDatabaseName()) {
+            return Optional.empty();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        if (!metaData.containsDatabase(connectionSession.getDatabaseName())) {
+            return Optional.empty();
+        }
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        String databaseType = DatabaseTypeEngine.getTrunkDatabaseTypeName(metaData.getDatabase(connectionSession.getDatabaseName()).getProtocolType());
+        Optional<PostgreSQLCopyCommand> copyCommand = PostgreSQLCopyCommand.newInstance(sql, sqlParserRule.getSQLParserEngine(databaseType).parse(sql, false));
+        if (!copyCommand.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(copyCommand.get().isCopyIn()
+                ? new PostgreSQLComCopyInExecutor(connectionContext, copyCommand.get(), connectionSession)
+                : new PostgreSQLComCopyOutExecutor(copyCommand.get(), connectionSession));
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Copy in session for PostgreSQL, which streams rows from frontend to copy in operations of the routed actual tables.
+ * 
+ * <p>Every actual table owns a storage connection and a bounded buffer, buffer is written to storage once it is full.</p>
+ */
+@Slf4j
+public final class PostgreSQLCopyInSession {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final PostgreSQLCopyRouter router;
+    
+    private final PostgreSQLCopyRowParser rowParser;
+    
+    private final Charset charset;
+    
+    private final boolean transcodingRequired;
+    
+    private final Map<String, CopyInTarget> targets = new LinkedHashMap<>();
+    
+    private boolean headerPending;
+    
+    private byte[] header;
+    
+    @Getter
+    private long copiedRows;
+    
+    public PostgreSQLCopyInSession(final ConnectionSession connectionSession, final PostgreSQLCopyCommand copyCommand) throws SQLException {
+        this.copyCommand = copyCommand;
+        router = new PostgreSQLCopyRouter(connectionSession, copyCommand);
+        Charset clientCharset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        charset = copyCommand.getOptions().getEncoding().orElse(null == clientCharset ? StandardCharsets.UTF_8 : clientCharset);
+        transcodingRequired = !copyCommand.getOptions().getEncoding().isPresent() && !StandardCharsets.UTF_8.equals(charset);
+        rowParser = new PostgreSQLCopyRowParser(copyCommand.getOptions(), charset);
+        headerPending = copyCommand.getOptions().isHeader();
+    }
+    
+    /**
+     * Get column count.
+     * 
+     * @return column count
+     */
+    public int getColumnCount() {
+        return router.getColumnNames().size();
+    }
+    
+    /**
+     * Write copy data.
+     * 
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final ByteBuf data) throws SQLException {
+        for (byte[] each : rowParser.split(data)) {
+            copyRow(each);
+        }
+    }
+    
+    private void copyRow(final byte[] row) throws SQLException {
+        if (headerPending) {
+            headerPending = false;
+            header = encode(row);
+            return;
+        }
+        byte[] encodedRow = encode(row);
+        for (RouteUnit each : router.routeRow(rowParser.parseValues(row))) {
+            getTarget(each).write(encodedRow);
+        }
+        copiedRows++;
+    }
+    
+    private byte[] encode(final byte[] row) {
+        return transcodingRequired ? new String(row, charset).getBytes(StandardCharsets.UTF_8) : row;
+    }
+    
+    private CopyInTarget getTarget(final RouteUnit routeUnit) throws SQLException {
+        String actualTableName = router.getActualTableNames(routeUnit, copyCommand.getLogicTableName()).iterator().next();
+        String key = routeUnit.getDataSourceMapper().getActualName() + "." + actualTableName;
+        CopyInTarget result = targets.get(key);
+        if (null == result) {
+            result = new CopyInTarget(router.getConnection(routeUnit));
+            targets.put(key, result);
+            result.open(copyCommand.toActualSQL(actualTableName), header);
+        }
+        return result;
+    }
+    
+    /**
+     * Finish copy in.
+     * 
+     * @return copied rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        byte[] lastRow = rowParser.finish();
+        if (lastRow.length > 0) {
+            copyRow(lastRow);
+        }
+        try {
+            for (CopyInTarget each : targets.values()) {
+                each.end();
+            }
+        } finally {
+            close();
+        }
+        return copiedRows;
+    }
+    
+    /**
+     * Cancel copy in and release storage connections.
+     */
+    public void cancel() {
+        for (CopyInTarget each : targets.values()) {
+            each.cancel();
+        }
+        close();
+    }
+    
+    private void close() {
+        for (CopyInTarget each : targets.values()) {
+            each.close();
+        }
+        targets.clear();
+    }
+    
+    private static final class CopyInTarget {
+        
+        private final Connection connection;
+        
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        
+        private int position;
+        
+        private CopyIn copyIn;
+        
+        CopyInTarget(final Connection connection) {
+            this.connection = connection;
+        }
+        
+        void open(final String sql, final byte[] header) throws SQLException {
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            if (null != header) {
+                write(header);
+            }
+        }
+        
+        void write(final byte[] row) throws SQLException {
+            if (position + row.length > buffer.length) {
+                flush();
+            }
+            if (row.length > buffer.length) {
+                copyIn.writeToCopy(row, 0, row.length);
+                return;
+            }
+            System.arraycopy(row, 0, buffer, position, row.length);
+            position += row.length;
+        }
+        
+        private void flush() throws SQLException {
+            if (position > 0) {
+                copyIn.writeToCopy(buffer, 0, position);
+                position = 0;
+            }
+        }
+        
+        void end() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+        
+        void cancel() {
+            try {
+                if (null != copyIn && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            } catch (final SQLException ex) {
+                log.warn("Cancel copy in failed", ex);
+            }
+        }
+        
+        void close() {
+            try {
+                connection.close();
+            } catch (final SQLException ex) {
+                log.warn("Close storage connection of copy in failed", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.handler.admin.postgresql.PostgreSQLCharacterSets;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Options of PostgreSQL copy statement.
+ * 
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyOptions {
+    
+    private final boolean binary;
+    
+    private final boolean csv;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    private final boolean header;
+    
+    private final Charset encoding;
+    
+    /**
+     * Get encoding specified by copy statement.
+     * 
+     * @return encoding
+     */
+    public Optional<Charset> getEncoding() {
+        return Optional.ofNullable(encoding);
+    }
+    
+    /**
+     * Parse options from the text following {@code STDIN} or {@code STDOUT}.
+     * 
+     * <p>Both the parenthesized option list and the legacy option syntax are supported.</p>
+     * 
+     * @param optionsText options text
+     * @return copy options
+     */
+    public static PostgreSQLCopyOptions parse(final String optionsText) {
+        return new Builder(tokenize(optionsText)).build();
+    }
+    
+    private static List<String> tokenize(final String text) {
+        List<String> result = new ArrayList<>();
+        int index = 0;
+        while (index < text.length()) {
+            char each = text.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index++;
+            } else if ('\'' == each || isEscapeStringPrefix(text, index)) {
+                int start = index;
+                index = skipStringLiteral(text, '\'' == each ? index : index + 1, '\'' != each);
+                result.add(text.substring(start, index));
+            } else if (Character.isLetterOrDigit(each) || '_' == each) {
+                int start = index;
+                while (index < text.length() && (Character.isLetterOrDigit(text.charAt(index)) || '_' == text.charAt(index))) {
+                    index++;
+                }
+                result.add(text.substring(start, index));
+            } else {
+                result.add(String.valueOf(each));
+                index++;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipStringLiteral(final String text, final int start, final boolean backslashEscaped) {
+        int result = start + 1;
+        while (result < text.length()) {
+            char each = text.charAt(result);
+            if (backslashEscaped && '\\' == each) {
+                result += 2;
+                continue;
+            }
+            result++;
+            if ('\'' == each) {
+                if (result < text.length() && '\'' == text.charAt(result)) {
+                    result++;
+                    continue;
+                }
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isEscapeStringPrefix(final String text, final int index) {
+        return 'E' == Character.toUpperCase(text.charAt(index)) && index + 1 < text.length() && '\'' == text.charAt(index + 1);
+    }
+    
+    private static String unquote(final String literal) {
+        if (null == literal || literal.isEmpty()) {
+            return literal;
+        }
+        boolean backslashEscaped = isEscapeStringPrefix(literal, 0);
+        String quoted = backslashEscaped ? literal.substring(1) : literal;
+        if (quoted.length() < 2 || '\'' != quoted.charAt(0)) {
+            return literal;
+        }
+        String content = quoted.substring(1, quoted.length() - 1).replace("''", "'");
+        if (!backslashEscaped) {
+            return content;
+        }
+        StringBuilder result = new StringBuilder(content.length());
+        int index = 0;
+        while (index < content.length()) {
+            char each = content.charAt(index);
+            if ('\\' == each && index + 1 < content.length()) {
+                index++;
+                result.append(unescape(content.charAt(index)));
+            } else {
+                result.append(each);
+            }
+            index++;
+        }
+        return result.toString();
+    }
+    
+    private static char unescape(final char escaped) {
+        switch (escaped) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            default:
+                return escaped;
+        }
+    }
+    
+    private static final class Builder {
+        
+        private static final Collection<String> LEGACY_VALUED_OPTIONS = new HashSet<>(Arrays.asList("DELIMITER", "DELIMITERS", "NULL", "QUOTE", "ESCAPE"));
+        
+        private final List<String> tokens;
+        
+        private int index;
+        
+        private String format = "text";
+        
+        private String delimiter;
+        
+        private String nullString;
+        
+        private String quote;
+        
+        private String escape;
+        
+        private boolean header;
+        
+        private Charset encoding;
+        
+        Builder(final List<String> tokens) {
+            this.tokens = tokens;
+        }
+        
+        PostgreSQLCopyOptions build() {
+            if (isKeyword("WITH")) {
+                index++;
+            }
+            if (isKeyword("(")) {
+                index++;
+                parseOptionList();
+            } else {
+                parseLegacyOptions();
+            }
+            boolean csv = "csv".equalsIgnoreCase(format);
+            char quoteChar = getFirstChar(quote, '"');
+            return new PostgreSQLCopyOptions(
+                    "binary".equalsIgnoreCase(format), csv, getFirstChar(delimiter, csv ? ',' : '\t'), getNullString(csv), quoteChar, getFirstChar(escape, quoteChar), header, encoding);
+        }
+        
+        private char getFirstChar(final String value, final char defaultValue) {
+            return null == value || value.isEmpty() ? defaultValue : value.charAt(0);
+        }
+        
+        private String getNullString(final boolean csv) {
+            if (null != nullString) {
+                return nullString;
+            }
+            return csv ? "" : "\\N";
+        }
+        
+        private void parseOptionList() {
+            while (index < tokens.size() && !isKeyword(")")) {
+                String name = tokens.get(index++);
+                List<String> values = new ArrayList<>();
+                int depth = 0;
+                while (index < tokens.size() && !(0 == depth && (isKeyword(",") || isKeyword(")")))) {
+                    String each = tokens.get(index++);
+                    depth += "(".equals(each) ? 1 : ")".equals(each) ? -1 : 0;
+                    values.add(each);
+                }
+                setOption(name, values.isEmpty() ? null : values.get(0));
+                if (isKeyword(",")) {
+                    index++;
+                }
+            }
+        }
+        
+        private void parseLegacyOptions() {
+            while (index < tokens.size() && !isKeyword("WHERE") && !isKeyword("FORCE")) {
+                String each = tokens.get(index++);
+                if ("BINARY".equalsIgnoreCase(each) || "CSV".equalsIgnoreCase(each)) {
+                    format = each;
+                } else if ("HEADER".equalsIgnoreCase(each)) {
+                    header = true;
+                } else if (LEGACY_VALUED_OPTIONS.contains(each.toUpperCase())) {
+                    if (isKeyword("AS")) {
+                        index++;
+                    }
+                    setOption(each, index < tokens.size() ? tokens.get(index++) : null);
+                }
+            }
+        }
+        
+        private void setOption(final String name, final String value) {
+            switch (name.toUpperCase()) {
+                case "FORMAT":
+                    format = value;
+                    break;
+                case "DELIMITER":
+                case "DELIMITERS":
+                    delimiter = unquote(value);
+                    break;
+                case "NULL":
+                    nullString = unquote(value);
+                    break;
+                case "QUOTE":
+                    quote = unquote(value);
+                    break;
+                case "ESCAPE":
+                    escape = unquote(value);
+                    break;
+                case "HEADER":
+                    header = null == value || !("false".equalsIgnoreCase(value) || "off".equalsIgnoreCase(value) || "0".equals(value));
+                    break;
+                case "ENCODING":
+                    encoding = PostgreSQLCharacterSets.findCharacterSet(unquote(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        private boolean isKeyword(final String keyword) {
+            return index < tokens.size() && keyword.equalsIgnoreCase(tokens.get(index));
+        }
+    }
+}
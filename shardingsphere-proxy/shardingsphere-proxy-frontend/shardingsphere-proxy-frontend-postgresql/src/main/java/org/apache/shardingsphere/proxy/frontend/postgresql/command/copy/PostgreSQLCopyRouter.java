@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Router of PostgreSQL copy command.
+ * 
+ * <p>Rows copied in are routed as single row insert statements, so that they reach the same data nodes as inserted row by row.
+ * Table copied out is routed as query without condition.</p>
+ */
+public final class PostgreSQLCopyRouter {
+    
+    private final MetaDataContexts metaDataContexts;
+    
+    private final ShardingSphereDatabase database;
+    
+    @Getter
+    private final List<String> columnNames;
+    
+    private final int[] columnTypes;
+    
+    private final String routeSQL;
+    
+    private final SQLStatementContext<?> sqlStatementContext;
+    
+    private final SQLRouteEngine routeEngine;
+    
+    public PostgreSQLCopyRouter(final ConnectionSession connectionSession, final PostgreSQLCopyCommand copyCommand) throws SQLException {
+        metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        checkSupportedCopy(connectionSession, copyCommand);
+        checkSupportedRules(copyCommand.getLogicTableName());
+        ShardingSphereTable table = getTable(copyCommand);
+        columnNames = copyCommand.getColumnNames().isEmpty() ? table.getColumnNames() : copyCommand.getUnquotedColumnNames();
+        columnTypes = getColumnTypes(table);
+        routeSQL = createRouteSQL(copyCommand);
+        List<Object> parameters = copyCommand.isCopyIn() ? new ArrayList<>(Collections.nCopies(columnNames.size(), null)) : Collections.emptyList();
+        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData().getDatabases(), parameters,
+                sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(database.getProtocolType())).parse(routeSQL, false), connectionSession.getDatabaseName());
+        SQLCheckEngine.check(sqlStatementContext, parameters, database.getRuleMetaData().getRules(), connectionSession.getDatabaseName(),
+                metaDataContexts.getMetaData().getDatabases(), connectionSession.getGrantee());
+        checkGeneratedKey();
+        routeEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps());
+    }
+    
+    private void checkSupportedCopy(final ConnectionSession connectionSession, final PostgreSQLCopyCommand copyCommand) throws SQLFeatureNotSupportedException {
+        if (copyCommand.getOptions().isBinary()) {
+            throw new SQLFeatureNotSupportedException("COPY in binary format is not supported", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            throw new SQLFeatureNotSupportedException("COPY is not supported in transaction block", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+    }
+    
+    private void checkSupportedRules(final String logicTableName) throws SQLFeatureNotSupportedException {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (each instanceof TableContainedRule && !(each instanceof DataNodeContainedRule) && ((TableContainedRule) each).getTables().stream().anyMatch(logicTableName::equalsIgnoreCase)) {
+                throw new SQLFeatureNotSupportedException(String.format("COPY is not supported for table `%s` configured by %s", logicTableName, each.getType()),
+                        PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+            }
+        }
+    }
+    
+    private ShardingSphereTable getTable(final PostgreSQLCopyCommand copyCommand) throws SQLException {
+        String schemaName = copyCommand.getSchemaName().orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName()));
+        if (null == database.getSchema(schemaName) || !database.getSchema(schemaName).containsTable(copyCommand.getLogicTableName())) {
+            throw new SQLException(String.format("relation \"%s\" does not exist", copyCommand.getLogicTableName()), PostgreSQLErrorCode.UNDEFINED_TABLE.getErrorCode());
+        }
+        return database.getSchema(schemaName).get(copyCommand.getLogicTableName());
+    }
+    
+    private int[] getColumnTypes(final ShardingSphereTable table) {
+        int[] result = new int[columnNames.size()];
+        for (int i = 0; i < result.length; i++) {
+            ShardingSphereColumn column = table.getColumns().get(columnNames.get(i).toLowerCase());
+            result[i] = null == column ? Types.VARCHAR : column.getDataType();
+        }
+        return result;
+    }
+    
+    private String createRouteSQL(final PostgreSQLCopyCommand copyCommand) {
+        StringBuilder table = new StringBuilder();
+        copyCommand.getTableSegment().getOwner().ifPresent(optional -> table.append(optional.getIdentifier().getValueWithQuoteCharacters()).append('.'));
+        table.append(copyCommand.getTableSegment().getTableName().getIdentifier().getValueWithQuoteCharacters());
+        List<String> quotedColumnNames = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            quotedColumnNames.add(QuoteCharacter.QUOTE.wrap(each));
+        }
+        String columns = String.join(", ", quotedColumnNames);
+        if (!copyCommand.isCopyIn()) {
+            return String.format("SELECT %s FROM %s", columns, table);
+        }
+        return String.format("INSERT INTO %s (%s) VALUES (%s)", table, columns, String.join(", ", Collections.nCopies(columnNames.size(), "?")));
+    }
+    
+    private void checkGeneratedKey() throws SQLFeatureNotSupportedException {
+        if (sqlStatementContext instanceof InsertStatementContext && ((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().filter(GeneratedKeyContext::isGenerated).isPresent()) {
+            throw new SQLFeatureNotSupportedException("COPY FROM STDIN requires values of the generated key column", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+    }
+    
+    /**
+     * Route row copied in.
+     * 
+     * @param values column values of row
+     * @return route units
+     */
+    public Collection<RouteUnit> routeRow(final List<String> values) {
+        List<Object> parameters = new ArrayList<>(columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            parameters.add(i < values.size() ? convertValue(values.get(i), columnTypes[i]) : null);
+        }
+        ((ParameterAware) sqlStatementContext).setUpParameters(parameters);
+        return routeEngine.route(new LogicSQL(sqlStatementContext, routeSQL, parameters), database).getRouteUnits();
+    }
+    
+    private Object convertValue(final String value, final int columnType) {
+        if (null == value) {
+            return null;
+        }
+        try {
+            switch (columnType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return Integer.parseInt(value.trim());
+                case Types.BIGINT:
+                    return Long.parseLong(value.trim());
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return new BigDecimal(value.trim());
+                default:
+                    return value;
+            }
+        } catch (final NumberFormatException ignored) {
+            return value;
+        }
+    }
+    
+    /**
+     * Route table copied out.
+     * 
+     * @return route units
+     */
+    public Collection<RouteUnit> routeTable() {
+        return routeEngine.route(new LogicSQL(sqlStatementContext, routeSQL, Collections.emptyList()), database).getRouteUnits();
+    }
+    
+    /**
+     * Get actual table names of route unit.
+     * 
+     * @param routeUnit route unit
+     * @param logicTableName logic table name
+     * @return actual table names
+     */
+    public Collection<String> getActualTableNames(final RouteUnit routeUnit, final String logicTableName) {
+        Collection<String> result = routeUnit.getActualTableNames(logicTableName);
+        return result.isEmpty() ? Collections.singletonList(logicTableName) : result;
+    }
+    
+    /**
+     * Get storage connection, the connection is owned by caller.
+     * 
+     * @param routeUnit route unit
+     * @return storage connection
+     * @throws SQLException SQL exception
+     */
+    public Connection getConnection(final RouteUnit routeUnit) throws SQLException {
+        return database.getResource().getDataSources().get(routeUnit.getDataSourceMapper().getActualName()).getConnection();
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Row parser of PostgreSQL copy data in text or CSV format.
+ * 
+ * <p>Copy data messages do not need to be aligned with row boundaries, incomplete row is kept until the rest of it arrives.</p>
+ */
+public final class PostgreSQLCopyRowParser {
+    
+    private static final String END_OF_DATA = "\\.";
+    
+    private static final char VERTICAL_TAB = 0x0B;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final Charset charset;
+    
+    private final ByteArrayOutputStream pendingRow = new ByteArrayOutputStream();
+    
+    private boolean escaped;
+    
+    private boolean quoted;
+    
+    private boolean endOfData;
+    
+    public PostgreSQLCopyRowParser(final PostgreSQLCopyOptions options, final Charset charset) {
+        this.options = options;
+        this.charset = charset;
+    }
+    
+    /**
+     * Split complete rows from copy data.
+     * 
+     * @param data copy data
+     * @return complete rows, each one includes its line terminator
+     */
+    public List<byte[]> split(final ByteBuf data) {
+        List<byte[]> result = new LinkedList<>();
+        byte[] bytes = ByteBufUtil.getBytes(data);
+        int rowStart = 0;
+        for (int i = 0; i < bytes.length && !endOfData; i++) {
+            if (isRowTerminator(bytes[i])) {
+                pendingRow.write(bytes, rowStart, i + 1 - rowStart);
+                addRow(result, pendingRow.toByteArray());
+                pendingRow.reset();
+                rowStart = i + 1;
+            }
+        }
+        if (!endOfData) {
+            pendingRow.write(bytes, rowStart, bytes.length - rowStart);
+        }
+        return result;
+    }
+    
+    private boolean isRowTerminator(final byte value) {
+        if (escaped) {
+            escaped = false;
+            return false;
+        }
+        if (options.isCsv()) {
+            if (quoted && options.getEscape() != options.getQuote() && options.getEscape() == value) {
+                escaped = true;
+            } else if (options.getQuote() == value) {
+                quoted = !quoted;
+            }
+            return !quoted && '\n' == value;
+        }
+        if ('\\' == value) {
+            escaped = true;
+        }
+        return '\n' == value;
+    }
+    
+    private void addRow(final List<byte[]> rows, final byte[] row) {
+        if (END_OF_DATA.equals(trimLineTerminator(new String(row, charset)))) {
+            endOfData = true;
+            return;
+        }
+        rows.add(row);
+    }
+    
+    /**
+     * Finish parsing and get the last row which is not terminated.
+     * 
+     * @return last row with line terminator appended, empty array if there is no more row
+     */
+    public byte[] finish() {
+        if (endOfData || 0 == pendingRow.size()) {
+            return new byte[0];
+        }
+        pendingRow.write('\n');
+        byte[] result = pendingRow.toByteArray();
+        pendingRow.reset();
+        return END_OF_DATA.equals(trimLineTerminator(new String(result, charset))) ? new byte[0] : result;
+    }
+    
+    /**
+     * Parse column values of row.
+     * 
+     * @param row row
+     * @return column values, null value is represented as {@code null}
+     */
+    public List<String> parseValues(final byte[] row) {
+        String line = trimLineTerminator(new String(row, charset));
+        return options.isCsv() ? parseCSVValues(line) : parseTextValues(line);
+    }
+    
+    private List<String> parseTextValues(final String line) {
+        List<String> result = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int start = 0;
+        int index = 0;
+        while (index < line.length()) {
+            char each = line.charAt(index);
+            if ('\\' == each && index + 1 < line.length()) {
+                index = appendEscaped(line, index + 1, value);
+            } else if (options.getDelimiter() == each) {
+                result.add(getTextValue(line.substring(start, index), value));
+                value.setLength(0);
+                start = index + 1;
+            } else {
+                value.append(each);
+            }
+            index++;
+        }
+        result.add(getTextValue(line.substring(start), value));
+        return result;
+    }
+    
+    private int appendEscaped(final String line, final int index, final StringBuilder value) {
+        char each = line.charAt(index);
+        switch (each) {
+            case 'b':
+                value.append('\b');
+                return index;
+            case 'f':
+                value.append('\f');
+                return index;
+            case 'n':
+                value.append('\n');
+                return index;
+            case 'r':
+                value.append('\r');
+                return index;
+            case 't':
+                value.append('\t');
+                return index;
+            case 'v':
+                value.append(VERTICAL_TAB);
+                return index;
+            case 'x':
+                return appendNumeric(line, index + 1, 16, 2, value, index);
+            default:
+                if (each >= '0' && each <= '7') {
+                    return appendNumeric(line, index, 8, 3, value, index);
+                }
+                value.append(each);
+                return index;
+        }
+    }
+    
+    private int appendNumeric(final String line, final int start, final int radix, final int maxDigits, final StringBuilder value, final int escapeIndex) {
+        int end = start;
+        while (end < line.length() && end - start < maxDigits && Character.digit(line.charAt(end), radix) >= 0) {
+            end++;
+        }
+        if (end == start) {
+            value.append(line.charAt(escapeIndex));
+            return escapeIndex;
+        }
+        value.append((char) Integer.parseInt(line.substring(start, end), radix));
+        return end - 1;
+    }
+    
+    private String getTextValue(final String rawValue, final StringBuilder value) {
+        return options.getNullString().equals(rawValue) ? null : value.toString();
+    }
+    
+    private List<String> parseCSVValues(final String line) {
+        List<String> result = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quotedValue = false;
+        int start = 0;
+        int index = 0;
+        while (index < line.length()) {
+            char each = line.charAt(index);
+            if (inQuotes) {
+                if (options.getEscape() == each && index + 1 < line.length() && (options.getEscape() != options.getQuote() || options.getQuote() == line.charAt(index + 1))) {
+                    index++;
+                    value.append(line.charAt(index));
+                } else if (options.getQuote() == each) {
+                    inQuotes = false;
+                } else {
+                    value.append(each);
+                }
+            } else if (options.getQuote() == each) {
+                inQuotes = true;
+                quotedValue = true;
+            } else if (options.getDelimiter() == each) {
+                result.add(getCSVValue(line.substring(start, index), value, quotedValue));
+                value.setLength(0);
+                quotedValue = false;
+                start = index + 1;
+            } else {
+                value.append(each);
+            }
+            index++;
+        }
+        result.add(getCSVValue(line.substring(start), value, quotedValue));
+        return result;
+    }
+    
+    private String getCSVValue(final String rawValue, final StringBuilder value, final boolean quotedValue) {
+        return !quotedValue && options.getNullString().equals(rawValue) ? null : value.toString();
+    }
+    
+    private String trimLineTerminator(final String line) {
+        int end = line.length();
+        if (end > 0 && '\n' == line.charAt(end - 1)) {
+            end--;
+        }
+        if (end > 0 && '\r' == line.charAt(end - 1)) {
+            end--;
+        }
+        return line.substring(0, end);
+    }
+}
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyInSession;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.JDBCPortal;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.Portal;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -84,4 +86,14 @@ public final class PostgreSQLConnectionContextTest {
         verify(portal1).close();
         verify(portal2).close();
     }
+    
+    @Test
+    public void assertCloseCopyInSession() {
+        PostgreSQLCopyInSession copyInSession = mock(PostgreSQLCopyInSession.class);
+        connectionContext.setCopyInSession(copyInSession);
+        assertThat(connectionContext.getCopyInSession().orElse(null), is(copyInSession));
+        connectionContext.closeCopyInSession();
+        verify(copyInSession).cancel();
+        assertFalse(connectionContext.getCopyInSession().isPresent());
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComCopyDataExecutorTest {
+    
+    private final PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+    
+    private final ByteBuf data = Unpooled.wrappedBuffer("1\tPAID\n".getBytes(StandardCharsets.UTF_8));
+    
+    @Mock
+    private PostgreSQLCopyInSession copyInSession;
+    
+    @Mock
+    private PostgreSQLComCopyDataPacket packet;
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        connectionContext.setCopyInSession(copyInSession);
+        when(packet.getData()).thenReturn(data);
+        assertTrue(new PostgreSQLComCopyDataExecutor(connectionContext, packet).execute().isEmpty());
+        verify(copyInSession).write(data);
+        assertTrue(connectionContext.getCopyInSession().isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithWriteFailure() throws SQLException {
+        connectionContext.setCopyInSession(copyInSession);
+        when(packet.getData()).thenReturn(data);
+        doThrow(new SQLException("relation \"t_order_1\" does not exist")).when(copyInSession).write(data);
+        try {
+            new PostgreSQLComCopyDataExecutor(connectionContext, packet).execute();
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("relation \"t_order_1\" does not exist"));
+        }
+        verify(copyInSession).cancel();
+        assertFalse(connectionContext.getCopyInSession().isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithoutCopyInSession() throws SQLException {
+        assertTrue(new PostgreSQLComCopyDataExecutor(connectionContext, packet).execute().isEmpty());
+        verifyNoInteractions(packet);
+    }
+}
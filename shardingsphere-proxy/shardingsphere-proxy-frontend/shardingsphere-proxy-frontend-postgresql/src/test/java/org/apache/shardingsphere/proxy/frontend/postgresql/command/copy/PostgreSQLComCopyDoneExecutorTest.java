@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComCopyDoneExecutorTest {
+    
+    private final PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+    
+    @Mock
+    private PostgreSQLCopyInSession copyInSession;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        connectionContext.setCopyInSession(copyInSession);
+        when(copyInSession.getCopiedRows()).thenReturn(3L);
+        List<DatabasePacket<?>> actual = new ArrayList<>(new PostgreSQLComCopyDoneExecutor(connectionContext, connectionSession).execute());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.get(1), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        verify(copyInSession).finish();
+        verify(copyInSession).getCopiedRows();
+        verify(copyInSession, never()).cancel();
+        assertFalse(connectionContext.getCopyInSession().isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithFinishFailure() throws SQLException {
+        connectionContext.setCopyInSession(copyInSession);
+        when(copyInSession.finish()).thenThrow(new SQLException("duplicate key value violates unique constraint"));
+        try {
+            new PostgreSQLComCopyDoneExecutor(connectionContext, connectionSession).execute();
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("duplicate key value violates unique constraint"));
+        }
+        verify(copyInSession).cancel();
+        assertFalse(connectionContext.getCopyInSession().isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithoutCopyInSession() throws SQLException {
+        assertTrue(new PostgreSQLComCopyDoneExecutor(connectionContext, connectionSession).execute().isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComCopyInExecutorTest {
+    
+    private final PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+    
+    @Mock
+    private PostgreSQLCopyCommand copyCommand;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLCopyInSession previousCopyInSession;
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        connectionContext.setCopyInSession(previousCopyInSession);
+        try (MockedConstruction<PostgreSQLCopyInSession> copyInSessions = mockConstruction(PostgreSQLCopyInSession.class, (mock, context) -> when(mock.getColumnCount()).thenReturn(2))) {
+            Collection<DatabasePacket<?>> actual = new PostgreSQLComCopyInExecutor(connectionContext, copyCommand, connectionSession).execute();
+            assertThat(actual.size(), is(1));
+            assertThat(actual.iterator().next(), instanceOf(PostgreSQLCopyInResponsePacket.class));
+            assertThat(copyInSessions.constructed().size(), is(1));
+            assertThat(connectionContext.getCopyInSession().get(), is(copyInSessions.constructed().get(0)));
+            verify(copyInSessions.constructed().get(0)).getColumnCount();
+        }
+        verify(previousCopyInSession).cancel();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedConstruction;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLComCopyOutExecutorTest {
+    
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+    
+    private final List<Connection> connections = new ArrayList<>(2);
+    
+    private final List<PGConnection> pgConnections = new ArrayList<>(2);
+    
+    private final List<CopyOut> copyOuts = new ArrayList<>(2);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        for (int i = 0; i < 2; i++) {
+            Connection connection = mock(Connection.class);
+            PGConnection pgConnection = mock(PGConnection.class, RETURNS_DEEP_STUBS);
+            CopyOut copyOut = mock(CopyOut.class);
+            when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+            when(pgConnection.getCopyAPI().copyOut(anyString())).thenReturn(copyOut);
+            when(copyOut.isActive()).thenReturn(true);
+            connections.add(connection);
+            pgConnections.add(pgConnection);
+            copyOuts.add(copyOut);
+        }
+    }
+    
+    @Test
+    public void assertCopyOutFromShards() throws SQLException {
+        when(copyOuts.get(0).readFromCopy()).thenReturn(toBytes("order_id,status\n"), toBytes("2,INIT\n"), null);
+        when(copyOuts.get(1).readFromCopy()).thenReturn(toBytes("order_id,status\n"), toBytes("1,PAID\n"), toBytes("3,PAID\n"), null);
+        try (MockedConstruction<PostgreSQLCopyRouter> ignored = mockRouter()) {
+            PostgreSQLComCopyOutExecutor executor = new PostgreSQLComCopyOutExecutor(createCopyCommand("COPY t_order TO STDOUT WITH (FORMAT csv, HEADER)"), connectionSession);
+            Collection<DatabasePacket<?>> actual = executor.execute();
+            assertThat(actual.size(), is(1));
+            assertThat(actual.iterator().next(), instanceOf(PostgreSQLCopyOutResponsePacket.class));
+            assertThat(executor.getResponseType(), is(ResponseType.QUERY));
+            List<String> actualRows = new LinkedList<>();
+            while (executor.next()) {
+                actualRows.add(new String(((PostgreSQLCopyDataPacket) executor.getQueryRowPacket()).getData(), StandardCharsets.UTF_8));
+            }
+            assertThat(actualRows, is(Arrays.asList("order_id,status\n", "2,INIT\n", "1,PAID\n", "3,PAID\n")));
+            assertThat(executor.getCopiedRows(), is(3L));
+            for (int i = 0; i < 2; i++) {
+                verify(pgConnections.get(i).getCopyAPI()).copyOut("COPY t_order_" + i + " TO STDOUT WITH (FORMAT csv, HEADER)");
+                verify(connections.get(i)).close();
+            }
+            executor.close();
+            verify(copyOuts.get(1), never()).cancelCopy();
+        }
+    }
+    
+    @Test
+    public void assertCloseWhileCopyingOut() throws SQLException {
+        when(copyOuts.get(0).readFromCopy()).thenReturn(toBytes("2\tINIT\n"));
+        try (MockedConstruction<PostgreSQLCopyRouter> ignored = mockRouter()) {
+            PostgreSQLComCopyOutExecutor executor = new PostgreSQLComCopyOutExecutor(createCopyCommand("COPY t_order TO STDOUT"), connectionSession);
+            executor.execute();
+            assertTrue(executor.next());
+            executor.close();
+            verify(copyOuts.get(0)).cancelCopy();
+            verify(connections.get(0)).close();
+            verify(connections.get(1), never()).close();
+            assertThat(executor.getCopiedRows(), is(1L));
+        }
+    }
+    
+    @Test
+    public void assertCopyOutWithoutRouteUnit() throws SQLException {
+        try (MockedConstruction<PostgreSQLCopyRouter> ignored = mockConstruction(PostgreSQLCopyRouter.class, (mock, context) -> when(mock.routeTable()).thenReturn(Collections.emptyList()))) {
+            PostgreSQLComCopyOutExecutor executor = new PostgreSQLComCopyOutExecutor(createCopyCommand("COPY t_order TO STDOUT"), connectionSession);
+            executor.execute();
+            assertFalse(executor.next());
+            assertThat(executor.getCopiedRows(), is(0L));
+        }
+    }
+    
+    private MockedConstruction<PostgreSQLCopyRouter> mockRouter() {
+        return mockConstruction(PostgreSQLCopyRouter.class, (mock, context) -> {
+            when(mock.getColumnNames()).thenReturn(Arrays.asList("order_id", "status"));
+            when(mock.routeTable()).thenReturn(Arrays.asList(createRouteUnit(0), createRouteUnit(1)));
+            when(mock.getActualTableNames(any(RouteUnit.class), eq("t_order"))).thenAnswer(invocation -> invocation.<RouteUnit>getArgument(0).getActualTableNames("t_order"));
+            when(mock.getConnection(any(RouteUnit.class))).thenAnswer(
+                    invocation -> connections.get(Integer.parseInt(invocation.<RouteUnit>getArgument(0).getDataSourceMapper().getActualName().substring("ds_".length()))));
+        });
+    }
+    
+    private RouteUnit createRouteUnit(final int shard) {
+        return new RouteUnit(new RouteMapper("foo_db", "ds_" + shard), Collections.singletonList(new RouteMapper("t_order", "t_order_" + shard)));
+    }
+    
+    private PostgreSQLCopyCommand createCopyCommand(final String sql) {
+        PostgreSQLCopyStatement copyStatement = new PostgreSQLCopyStatement();
+        copyStatement.setTableSegment(new SimpleTableSegment(new TableNameSegment(5, 11, new IdentifierValue("t_order"))));
+        return PostgreSQLCopyCommand.newInstance(sql, copyStatement).get();
+    }
+    
+    private byte[] toBytes(final String row) {
+        return row.getBytes(StandardCharsets.UTF_8);
+    }
+}
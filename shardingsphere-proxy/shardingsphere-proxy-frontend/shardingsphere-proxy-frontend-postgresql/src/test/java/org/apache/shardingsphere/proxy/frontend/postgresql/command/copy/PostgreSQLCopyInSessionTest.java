@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLCopyInSessionTest {
+    
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+    
+    private final List<Connection> connections = new ArrayList<>(2);
+    
+    private final List<PGConnection> pgConnections = new ArrayList<>(2);
+    
+    private final List<CopyIn> copyIns = new ArrayList<>(2);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        for (int i = 0; i < 2; i++) {
+            Connection connection = mock(Connection.class);
+            PGConnection pgConnection = mock(PGConnection.class, RETURNS_DEEP_STUBS);
+            CopyIn copyIn = mock(CopyIn.class);
+            when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+            when(pgConnection.getCopyAPI().copyIn(anyString())).thenReturn(copyIn);
+            when(copyIn.isActive()).thenReturn(true);
+            connections.add(connection);
+            pgConnections.add(pgConnection);
+            copyIns.add(copyIn);
+        }
+    }
+    
+    @Test
+    public void assertCopyRowsToRoutedShards() throws SQLException {
+        try (MockedConstruction<PostgreSQLCopyRouter> ignored = mockRouter()) {
+            PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(connectionSession, createCopyCommand("COPY t_order FROM STDIN"));
+            assertThat(session.getColumnCount(), is(2));
+            session.write(Unpooled.wrappedBuffer("1\tPAID\n2\tIN".getBytes(StandardCharsets.UTF_8)));
+            session.write(Unpooled.wrappedBuffer("IT\n3\tPAID".getBytes(StandardCharsets.UTF_8)));
+            assertThat(session.finish(), is(3L));
+            verify(pgConnections.get(0).getCopyAPI()).copyIn("COPY t_order_0 FROM STDIN");
+            verify(pgConnections.get(1).getCopyAPI()).copyIn("COPY t_order_1 FROM STDIN");
+            assertThat(getCopiedData(copyIns.get(0)), is("2\tINIT\n"));
+            assertThat(getCopiedData(copyIns.get(1)), is("1\tPAID\n3\tPAID\n"));
+            for (int i = 0; i < 2; i++) {
+                verify(copyIns.get(i)).endCopy();
+                verify(connections.get(i)).close();
+            }
+        }
+    }
+    
+    @Test
+    public void assertCopyWithHeader() throws SQLException {
+        try (MockedConstruction<PostgreSQLCopyRouter> ignored = mockRouter()) {
+            PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(connectionSession, createCopyCommand("COPY t_order FROM STDIN WITH (FORMAT csv, HEADER)"));
+            session.write(Unpooled.wrappedBuffer("order_id,status\n1,PAID\n2,INIT\n".getBytes(StandardCharsets.UTF_8)));
+            assertThat(session.finish(), is(2L));
+            assertThat(session.getCopiedRows(), is(2L));
+            verify(pgConnections.get(0).getCopyAPI()).copyIn("COPY t_order_0 FROM STDIN WITH (FORMAT csv, HEADER)");
+            assertThat(getCopiedData(copyIns.get(0)), is("order_id,status\n2,INIT\n"));
+            assertThat(getCopiedData(copyIns.get(1)), is("order_id,status\n1,PAID\n"));
+        }
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        try (MockedConstruction<PostgreSQLCopyRouter> ignored = mockRouter()) {
+            PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(connectionSession, createCopyCommand("COPY t_order FROM STDIN"));
+            session.write(Unpooled.wrappedBuffer("1\tPAID\n".getBytes(StandardCharsets.UTF_8)));
+            session.cancel();
+            verify(copyIns.get(1)).cancelCopy();
+            verify(copyIns.get(1), never()).endCopy();
+            verify(connections.get(1)).close();
+            verify(connections.get(0), never()).close();
+        }
+    }
+    
+    private MockedConstruction<PostgreSQLCopyRouter> mockRouter() {
+        return mockConstruction(PostgreSQLCopyRouter.class, (mock, context) -> {
+            when(mock.getColumnNames()).thenReturn(Arrays.asList("order_id", "status"));
+            when(mock.routeRow(anyList())).thenAnswer(invocation -> Collections.singletonList(createRouteUnit(Integer.parseInt(invocation.<List<String>>getArgument(0).get(0)) % 2)));
+            when(mock.getActualTableNames(any(RouteUnit.class), eq("t_order"))).thenAnswer(invocation -> invocation.<RouteUnit>getArgument(0).getActualTableNames("t_order"));
+            when(mock.getConnection(any(RouteUnit.class))).thenAnswer(
+                    invocation -> connections.get(Integer.parseInt(invocation.<RouteUnit>getArgument(0).getDataSourceMapper().getActualName().substring("ds_".length()))));
+        });
+    }
+    
+    private RouteUnit createRouteUnit(final int shard) {
+        return new RouteUnit(new RouteMapper("foo_db", "ds_" + shard), Collections.singletonList(new RouteMapper("t_order", "t_order_" + shard)));
+    }
+    
+    private PostgreSQLCopyCommand createCopyCommand(final String sql) {
+        PostgreSQLCopyStatement copyStatement = new PostgreSQLCopyStatement();
+        copyStatement.setTableSegment(new SimpleTableSegment(new TableNameSegment(5, 11, new IdentifierValue("t_order"))));
+        return PostgreSQLCopyCommand.newInstance(sql, copyStatement).get();
+    }
+    
+    private String getCopiedData(final CopyIn copyIn) throws SQLException {
+        ArgumentCaptor<byte[]> data = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<Integer> length = ArgumentCaptor.forClass(Integer.class);
+        verify(copyIn, atLeastOnce()).writeToCopy(data.capture(), eq(0), length.capture());
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < data.getAllValues().size(); i++) {
+            result.append(new String(data.getAllValues().get(i), 0, length.getAllValues().get(i), StandardCharsets.UTF_8));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyOptionsTest {
+    
+    @Test
+    public void assertParseDefaultOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("");
+        assertFalse(actual.isBinary());
+        assertFalse(actual.isCsv());
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertFalse(actual.isHeader());
+        assertFalse(actual.getEncoding().isPresent());
+    }
+    
+    @Test
+    public void assertParseOptionList() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("WITH (FORMAT csv, DELIMITER ';', NULL 'NULL', HEADER, ENCODING 'UTF8')");
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is(';'));
+        assertThat(actual.getNullString(), is("NULL"));
+        assertThat(actual.getQuote(), is('"'));
+        assertThat(actual.getEscape(), is('"'));
+        assertTrue(actual.isHeader());
+        assertThat(actual.getEncoding().orElse(null), is(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void assertParseLegacyOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("CSV HEADER QUOTE '''' ESCAPE E'\\\\'");
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is(','));
+        assertThat(actual.getNullString(), is(""));
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\\'));
+        assertTrue(actual.isHeader());
+    }
+    
+    @Test
+    public void assertParseHeaderFalse() {
+        assertFalse(PostgreSQLCopyOptions.parse("(FORMAT csv, HEADER false)").isHeader());
+    }
+    
+    @Test
+    public void assertParseBinary() {
+        assertTrue(PostgreSQLCopyOptions.parse("(FORMAT binary)").isBinary());
+    }
+}
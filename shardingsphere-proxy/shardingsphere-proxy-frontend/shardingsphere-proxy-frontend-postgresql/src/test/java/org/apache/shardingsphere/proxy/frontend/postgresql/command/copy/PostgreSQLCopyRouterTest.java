@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.ProxyContextRestorer;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLCopyRouterTest extends ProxyContextRestorer {
+    
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+    
+    private final InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+    
+    private final RouteContext routeContext = new RouteContext();
+    
+    private MockedStatic<SQLStatementContextFactory> sqlStatementContextFactory;
+    
+    private MockedStatic<SQLCheckEngine> sqlCheckEngine;
+    
+    private MockedConstruction<SQLRouteEngine> sqlRouteEngine;
+    
+    @Before
+    public void setUp() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ProxyContext.init(contextManager);
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class)).thenReturn(mock(SQLParserRule.class, RETURNS_DEEP_STUBS));
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true)), Collections.emptyList(), Collections.emptyList());
+        when(database.getSchema("public").containsTable("t_order")).thenReturn(true);
+        when(database.getSchema("public").get("t_order")).thenReturn(table);
+        sqlStatementContextFactory = mockStatic(SQLStatementContextFactory.class);
+        sqlStatementContextFactory.when(() -> SQLStatementContextFactory.newInstance(anyMap(), anyList(), any(SQLStatement.class), eq("foo_db"))).thenAnswer(invocation -> sqlStatementContext);
+        sqlCheckEngine = mockStatic(SQLCheckEngine.class);
+        sqlRouteEngine = mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(LogicSQL.class), eq(database))).thenReturn(routeContext));
+    }
+    
+    @After
+    public void tearDown() {
+        sqlRouteEngine.close();
+        sqlCheckEngine.close();
+        sqlStatementContextFactory.close();
+    }
+    
+    @Test
+    public void assertRouteRow() throws SQLException {
+        RouteUnit routeUnit = createRouteUnit(1);
+        routeContext.getRouteUnits().add(routeUnit);
+        PostgreSQLCopyRouter router = new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order FROM STDIN"));
+        assertThat(router.getColumnNames(), is(Arrays.asList("order_id", "status")));
+        Collection<RouteUnit> actual = router.routeRow(Arrays.asList("1", "PAID"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(routeUnit));
+        verify(sqlStatementContext).setUpParameters(Arrays.asList(1, "PAID"));
+        ArgumentCaptor<LogicSQL> logicSQL = ArgumentCaptor.forClass(LogicSQL.class);
+        verify(sqlRouteEngine.constructed().get(0)).route(logicSQL.capture(), eq(database));
+        assertThat(logicSQL.getValue().getSql(), is("INSERT INTO t_order (\"order_id\", \"status\") VALUES (?, ?)"));
+        assertThat(logicSQL.getValue().getParameters(), is(Arrays.asList(1, "PAID")));
+        assertThat(router.getActualTableNames(routeUnit, "t_order"), is(Collections.singleton("t_order_1")));
+    }
+    
+    @Test
+    public void assertRouteRowWithColumnNames() throws SQLException {
+        routeContext.getRouteUnits().add(createRouteUnit(0));
+        PostgreSQLCopyRouter router = new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order (status, order_id) FROM STDIN"));
+        assertThat(router.getColumnNames(), is(Arrays.asList("status", "order_id")));
+        router.routeRow(Arrays.asList("PAID", "foo"));
+        verify(sqlStatementContext).setUpParameters(Arrays.asList("PAID", "foo"));
+        router.routeRow(Collections.singletonList(null));
+        verify(sqlStatementContext).setUpParameters(Arrays.asList(null, null));
+    }
+    
+    @Test
+    public void assertRouteTable() throws SQLException {
+        routeContext.getRouteUnits().add(createRouteUnit(0));
+        routeContext.getRouteUnits().add(createRouteUnit(1));
+        PostgreSQLCopyRouter router = new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order TO STDOUT"));
+        assertThat(router.routeTable().size(), is(2));
+        ArgumentCaptor<LogicSQL> logicSQL = ArgumentCaptor.forClass(LogicSQL.class);
+        verify(sqlRouteEngine.constructed().get(0)).route(logicSQL.capture(), eq(database));
+        assertThat(logicSQL.getValue().getSql(), is("SELECT \"order_id\", \"status\" FROM t_order"));
+        assertThat(logicSQL.getValue().getParameters(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertGetActualTableNamesWithoutTableMapper() throws SQLException {
+        PostgreSQLCopyRouter router = new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order FROM STDIN"));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("foo_db", "ds_0"), Collections.emptyList());
+        assertThat(router.getActualTableNames(routeUnit, "t_order"), is(Collections.singletonList("t_order")));
+    }
+    
+    @Test
+    public void assertGetConnection() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(database.getResource().getDataSources()).thenReturn(Collections.singletonMap("ds_1", dataSource));
+        PostgreSQLCopyRouter router = new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order FROM STDIN"));
+        assertThat(router.getConnection(createRouteUnit(1)), is(connection));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertNewInstanceWithBinaryFormat() throws SQLException {
+        new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order FROM STDIN WITH (FORMAT binary)"));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertNewInstanceInTransaction() throws SQLException {
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order FROM STDIN"));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewInstanceWithUndefinedTable() throws SQLException {
+        when(database.getSchema("public").containsTable("t_order")).thenReturn(false);
+        new PostgreSQLCopyRouter(connectionSession, createCopyCommand("COPY t_order FROM STDIN"));
+    }
+    
+    private RouteUnit createRouteUnit(final int shard) {
+        return new RouteUnit(new RouteMapper("foo_db", "ds_" + shard), Collections.singletonList(new RouteMapper("t_order", "t_order_" + shard)));
+    }
+    
+    private PostgreSQLCopyCommand createCopyCommand(final String sql) {
+        PostgreSQLCopyStatement copyStatement = new PostgreSQLCopyStatement();
+        copyStatement.setTableSegment(new SimpleTableSegment(new TableNameSegment(5, 11, new IdentifierValue("t_order"))));
+        return PostgreSQLCopyCommand.newInstance(sql, copyStatement).get();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLCopyRowParserTest {
+    
+    @Test
+    public void assertSplitRowsAcrossCopyData() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(""), StandardCharsets.UTF_8);
+        List<byte[]> actual = parser.split(Unpooled.wrappedBuffer("1\tfoo\n2\tb".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.size(), is(1));
+        assertThat(new String(actual.get(0), StandardCharsets.UTF_8), is("1\tfoo\n"));
+        actual = parser.split(Unpooled.wrappedBuffer("ar\n3\tbaz".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.size(), is(1));
+        assertThat(new String(actual.get(0), StandardCharsets.UTF_8), is("2\tbar\n"));
+        assertThat(new String(parser.finish(), StandardCharsets.UTF_8), is("3\tbaz\n"));
+    }
+    
+    @Test
+    public void assertSplitWithEndOfData() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(""), StandardCharsets.UTF_8);
+        assertThat(parser.split(Unpooled.wrappedBuffer("1\tfoo\n\\.\n2\tbar\n".getBytes(StandardCharsets.UTF_8))).size(), is(1));
+        assertThat(parser.finish().length, is(0));
+    }
+    
+    @Test
+    public void assertSplitCSVWithQuotedLineTerminator() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("CSV"), StandardCharsets.UTF_8);
+        List<byte[]> actual = parser.split(Unpooled.wrappedBuffer("1,\"foo\nbar\"\n2,baz\n".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.size(), is(2));
+        assertThat(parser.parseValues(actual.get(0)), is(Arrays.asList("1", "foo\nbar")));
+    }
+    
+    @Test
+    public void assertParseTextValues() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(""), StandardCharsets.UTF_8);
+        assertThat(parser.parseValues("1\t\\N\ta\\tb\\\\c\t\\x41\\101\n".getBytes(StandardCharsets.UTF_8)), is(Arrays.asList("1", null, "a\tb\\c", "AA")));
+    }
+    
+    @Test
+    public void assertParseCSVValues() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("CSV"), StandardCharsets.UTF_8);
+        assertThat(parser.parseValues("1,,\"\",\"a,\"\"b\"\"\"\r\n".getBytes(StandardCharsets.UTF_8)), is(Arrays.asList("1", null, "", "a,\"b\"")));
+    }
+}
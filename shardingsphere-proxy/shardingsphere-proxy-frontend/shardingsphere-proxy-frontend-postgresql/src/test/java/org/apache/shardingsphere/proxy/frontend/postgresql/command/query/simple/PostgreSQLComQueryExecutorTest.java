@@ -47,6 +47,7 @@ import java.util.Collections;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -125,4 +126,14 @@ public final class PostgreSQLComQueryExecutorTest {
         PostgreSQLPacket actual = queryExecutor.getQueryRowPacket();
         assertThat(actual, is(instanceOf(PostgreSQLDataRowPacket.class)));
     }
+    
+    @Test
+    public void assertGetQueryRowPacketWithEncodingPlan() throws SQLException {
+        QueryResponseHeader queryResponseHeader = mock(QueryResponseHeader.class);
+        when(queryResponseHeader.getQueryHeaders()).thenReturn(Collections.singletonList(new QueryHeader("schema", "table", "label", "column", 4, "int4", 4, 0, true, true, true, true)));
+        when(proxyBackendHandler.execute()).thenReturn(queryResponseHeader);
+        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Collections.emptyList()));
+        queryExecutor.execute();
+        assertNotNull(((PostgreSQLDataRowPacket) queryExecutor.getQueryRowPacket()).getEncodingPlan());
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Token;
@@ -32,6 +33,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class ParseASTNode implements ASTNode {
     
+    @Getter
     private final ParseTree parseTree;
     
     private final CommonTokenStream tokenStream;
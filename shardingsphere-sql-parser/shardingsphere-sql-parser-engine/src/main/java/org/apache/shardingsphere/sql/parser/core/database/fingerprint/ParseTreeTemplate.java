@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree template, which is parse tree of SQL fingerprint and can be rebound to tokens of SQL with the same fingerprint.
+ * 
+ * <p>Parser decides parse tree by types of tokens only, so SQL with the same fingerprint has the same parse tree,
+ * which is the parse tree of the template with tokens replaced by tokens of the SQL at the same token indexes.
+ * Literal values, start and stop indexes and original text of the SQL are read from the rebound tokens by SQL visitor as if the SQL was parsed.</p>
+ * 
+ * <p>Contexts are cloned by their public constructors and accessors, and labels by public label fields generated by ANTLR.</p>
+ */
+@RequiredArgsConstructor
+public final class ParseTreeTemplate {
+    
+    private static final Map<Class<?>, Constructor<?>> CONTEXT_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final Map<Class<?>, Collection<Field>> CONTEXT_LABEL_FIELDS = new ConcurrentHashMap<>();
+    
+    private final ParseTree parseTree;
+    
+    @Getter
+    private final long parseNanos;
+    
+    /**
+     * Rebind parse tree of template to tokens.
+     *
+     * @param tokens tokens of SQL with the same fingerprint as template
+     * @return parse tree of SQL
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public ParseTree rebind(final List<Token> tokens) {
+        return rebind(parseTree, null, tokens, new IdentityHashMap<>());
+    }
+    
+    private ParseTree rebind(final ParseTree node, final ParserRuleContext parent, final List<Token> tokens, final Map<ParseTree, ParseTree> reboundNodes) throws ReflectiveOperationException {
+        ParseTree result;
+        if (node instanceof ParserRuleContext) {
+            result = rebindContext((ParserRuleContext) node, parent, tokens, reboundNodes);
+        } else if (node instanceof ErrorNode) {
+            result = new ErrorNodeImpl(rebindToken(((ErrorNode) node).getSymbol(), tokens));
+            result.setParent(parent);
+        } else if (node instanceof TerminalNode) {
+            result = new TerminalNodeImpl(rebindToken(((TerminalNode) node).getSymbol(), tokens));
+            result.setParent(parent);
+        } else {
+            throw new IllegalStateException(String.format("Can not rebind parse tree node `%s`", node.getClass().getName()));
+        }
+        reboundNodes.put(node, result);
+        return result;
+    }
+    
+    private ParserRuleContext rebindContext(final ParserRuleContext context, final ParserRuleContext parent,
+                                            final List<Token> tokens, final Map<ParseTree, ParseTree> reboundNodes) throws ReflectiveOperationException {
+        ParserRuleContext result = newContext(context.getClass(), parent, context.invokingState);
+        result.start = rebindToken(context.getStart(), tokens);
+        result.stop = rebindToken(context.getStop(), tokens);
+        result.exception = context.exception;
+        for (int i = 0; i < context.getChildCount(); i++) {
+            result.addAnyChild(rebind(context.getChild(i), result, tokens, reboundNodes));
+        }
+        for (Field each : getLabelFields(context.getClass())) {
+            each.set(result, rebindLabel(each.get(context), tokens, reboundNodes));
+        }
+        return result;
+    }
+    
+    private Token rebindToken(final Token token, final List<Token> tokens) {
+        if (null == token) {
+            return null;
+        }
+        if (token.getTokenIndex() < 0 || token.getTokenIndex() >= tokens.size()) {
+            throw new IllegalStateException(String.format("Can not rebind token `%s`", token));
+        }
+        return tokens.get(token.getTokenIndex());
+    }
+    
+    private Object rebindLabel(final Object label, final List<Token> tokens, final Map<ParseTree, ParseTree> reboundNodes) {
+        if (label instanceof Token) {
+            return rebindToken((Token) label, tokens);
+        }
+        if (label instanceof ParseTree) {
+            ParseTree result = reboundNodes.get(label);
+            if (null == result) {
+                throw new IllegalStateException(String.format("Can not rebind label `%s` which is not a child", label.getClass().getName()));
+            }
+            return result;
+        }
+        if (label instanceof List) {
+            List<Object> result = new ArrayList<>(((List<?>) label).size());
+            for (Object each : (List<?>) label) {
+                result.add(rebindLabel(each, tokens, reboundNodes));
+            }
+            return result;
+        }
+        return label;
+    }
+    
+    private static ParserRuleContext newContext(final Class<?> contextClass, final ParserRuleContext parent, final int invokingState) throws ReflectiveOperationException {
+        Constructor<?> constructor = CONTEXT_CONSTRUCTORS.get(contextClass);
+        if (null == constructor) {
+            constructor = findContextConstructor(contextClass);
+            CONTEXT_CONSTRUCTORS.put(contextClass, constructor);
+        }
+        return (ParserRuleContext) (2 == constructor.getParameterTypes().length
+                ? constructor.newInstance(parent, invokingState)
+                : constructor.newInstance(newContext(constructor.getParameterTypes()[0], parent, invokingState)));
+    }
+    
+    private static Constructor<?> findContextConstructor(final Class<?> contextClass) throws NoSuchMethodException {
+        Constructor<?> result = null;
+        for (Constructor<?> each : contextClass.getConstructors()) {
+            Class<?>[] parameterTypes = each.getParameterTypes();
+            if (2 == parameterTypes.length && ParserRuleContext.class == parameterTypes[0] && int.class == parameterTypes[1]) {
+                return each;
+            }
+            if (1 == parameterTypes.length && ParserRuleContext.class.isAssignableFrom(parameterTypes[0]) && contextClass != parameterTypes[0]) {
+                result = each;
+            }
+        }
+        if (null == result) {
+            throw new NoSuchMethodException(String.format("Can not find constructor of parse tree context `%s`", contextClass.getName()));
+        }
+        return result;
+    }
+    
+    private static Collection<Field> getLabelFields(final Class<?> contextClass) {
+        Collection<Field> result = CONTEXT_LABEL_FIELDS.get(contextClass);
+        if (null == result) {
+            result = findLabelFields(contextClass);
+            CONTEXT_LABEL_FIELDS.put(contextClass, result);
+        }
+        return result;
+    }
+    
+    private static Collection<Field> findLabelFields(final Class<?> contextClass) {
+        Collection<Field> result = new LinkedList<>();
+        for (Field each : contextClass.getFields()) {
+            if (isLabelField(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isLabelField(final Field field) {
+        return ParserRuleContext.class.isAssignableFrom(field.getDeclaringClass()) && ParserRuleContext.class != field.getDeclaringClass()
+                && !Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.Token;
+
+import java.util.List;
+
+/**
+ * SQL fingerprint generator, which generates fingerprint of SQL from types and channels of its lexed tokens.
+ * 
+ * <p>Literals, identifiers and comments are normalized by their token types, so SQL differing only in their texts has the same fingerprint.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprintGenerator {
+    
+    /**
+     * Generate SQL fingerprint.
+     *
+     * @param tokens lexed tokens of SQL
+     * @return SQL fingerprint
+     */
+    public static String generate(final List<Token> tokens) {
+        StringBuilder result = new StringBuilder(tokens.size() * 2);
+        for (Token each : tokens) {
+            result.append((char) each.getType()).append((char) each.getChannel());
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL fingerprint registry.
+ * 
+ * <p>Remembers parse tree templates of SQL fingerprints, so SQL with the same fingerprint but different literals or identifiers,
+ * which is lexed into tokens of the same types, is not parsed but gets parse tree by rebinding the template to its tokens.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprintRegistry {
+    
+    private static final LongAdder LOOKUP_COUNT = new LongAdder();
+    
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    
+    private static final LongAdder SAVED_PARSE_NANOS = new LongAdder();
+    
+    private static volatile Cache<FingerprintKey, ParseTreeTemplate> templates;
+    
+    private static volatile int maximumSize;
+    
+    /**
+     * Initialize SQL fingerprint registry, registry is disabled if maximum size is not positive.
+     *
+     * @param maximumSize maximum size of remembered parse tree templates
+     */
+    public static synchronized void init(final int maximumSize) {
+        if (SQLFingerprintRegistry.maximumSize == maximumSize) {
+            return;
+        }
+        SQLFingerprintRegistry.maximumSize = maximumSize;
+        templates = maximumSize > 0 ? Caffeine.newBuilder().maximumSize(maximumSize).build() : null;
+    }
+    
+    /**
+     * Judge whether SQL fingerprint registry is enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return null != templates;
+    }
+    
+    /**
+     * Find parse tree of SQL by parse tree template of SQL fingerprint.
+     *
+     * @param databaseType database type
+     * @param fingerprint SQL fingerprint
+     * @param tokens tokens of SQL
+     * @return parse tree rebound to tokens of SQL, empty if there is no parse tree template of SQL fingerprint
+     */
+    public static Optional<ParseTree> findParseTree(final String databaseType, final String fingerprint, final List<Token> tokens) {
+        Cache<FingerprintKey, ParseTreeTemplate> cache = templates;
+        if (null == cache) {
+            return Optional.empty();
+        }
+        LOOKUP_COUNT.increment();
+        ParseTreeTemplate template = cache.getIfPresent(new FingerprintKey(databaseType, fingerprint));
+        if (null == template) {
+            return Optional.empty();
+        }
+        long startTime = System.nanoTime();
+        ParseTree result = template.rebind(tokens);
+        HIT_COUNT.increment();
+        SAVED_PARSE_NANOS.add(Math.max(template.getParseNanos() - (System.nanoTime() - startTime), 0L));
+        return Optional.of(result);
+    }
+    
+    /**
+     * Register parse tree template of SQL fingerprint.
+     *
+     * @param databaseType database type
+     * @param fingerprint SQL fingerprint
+     * @param template parse tree template
+     */
+    public static void register(final String databaseType, final String fingerprint, final ParseTreeTemplate template) {
+        Cache<FingerprintKey, ParseTreeTemplate> cache = templates;
+        if (null != cache) {
+            cache.put(new FingerprintKey(databaseType, fingerprint), template);
+        }
+    }
+    
+    /**
+     * Get lookup count.
+     *
+     * @return lookup count
+     */
+    public static long getLookupCount() {
+        return LOOKUP_COUNT.sum();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+    
+    /**
+     * Get saved parse time in nanoseconds, which is parse time of templates minus time of rebinding them.
+     *
+     * @return saved parse nanos
+     */
+    public static long getSavedParseNanos() {
+        return SAVED_PARSE_NANOS.sum();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class FingerprintKey {
+        
+        private final String databaseType;
+        
+        private final String fingerprint;
+    }
+}
@@ -18,16 +18,23 @@
 package org.apache.shardingsphere.sql.parser.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.ParseTreeTemplate;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprintGenerator;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprintRegistry;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
 
+import java.util.Optional;
+
 /**
  * SQL parser executor.
  */
@@ -43,27 +50,51 @@ public final class SQLParserExecutor {
      * @return parse AST node
      */
     public ParseASTNode parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        ParseASTNode result = SQLFingerprintRegistry.isEnabled() ? parseWithTemplate(sql) : twoPhaseParse(createSQLParser(sql));
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException("Unsupported SQL of `%s`", sql);
         }
         return result;
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
+    private ParseASTNode parseWithTemplate(final String sql) {
         DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeFactory.getInstance(databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, sqlParserFacade.getLexerClass());
+        tokenStream.fill();
+        String fingerprint = SQLFingerprintGenerator.generate(tokenStream.getTokens());
+        Optional<ParseTree> parseTree = SQLFingerprintRegistry.findParseTree(databaseType, fingerprint, tokenStream.getTokens());
+        if (parseTree.isPresent()) {
+            return new ParseASTNode(parseTree.get(), tokenStream);
+        }
+        long startTime = System.nanoTime();
+        ParseASTNode result = twoPhaseParse(SQLParserFactory.newInstance(tokenStream, sqlParserFacade.getParserClass()));
+        if (!(result.getRootNode() instanceof ErrorNode)) {
+            SQLFingerprintRegistry.register(databaseType, fingerprint, new ParseTreeTemplate(result.getParseTree(), System.nanoTime() - startTime));
+        }
+        return result;
+    }
+    
+    private ParseASTNode twoPhaseParse(final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
         } catch (final ParseCancellationException ex) {
             ((Parser) sqlParser).reset();
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
-            try {
-                return (ParseASTNode) sqlParser.parse();
-            } catch (final ParseCancellationException e) {
-                throw new SQLParsingException("You have an error in your SQL syntax");
-            }
+            return parseWithLL(sqlParser);
+        }
+    }
+    
+    private SQLParser createSQLParser(final String sql) {
+        DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeFactory.getInstance(databaseType);
+        return SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+    }
+    
+    private ParseASTNode parseWithLL(final SQLParser sqlParser) {
+        try {
+            return (ParseASTNode) sqlParser.parse();
+        } catch (final ParseCancellationException ex) {
+            throw new SQLParsingException("You have an error in your SQL syntax");
         }
     }
 }
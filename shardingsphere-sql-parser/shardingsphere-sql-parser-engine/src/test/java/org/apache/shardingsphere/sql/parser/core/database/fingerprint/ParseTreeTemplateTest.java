@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ParseTreeTemplateTest {
+    
+    private static final int KEYWORD = 1;
+    
+    private static final int NUMBER = 2;
+    
+    private static final int IDENTIFIER = 3;
+    
+    private final ParseTree templateParseTree = createParseTree(createTokens("SELECT 1 FROM t_order", KEYWORD, NUMBER, KEYWORD, IDENTIFIER));
+    
+    private final ParseTreeTemplate template = new ParseTreeTemplate(templateParseTree, 1000L);
+    
+    @Test
+    public void assertRebind() {
+        String sql = "SELECT 100 FROM t_user";
+        ParseTree actual = template.rebind(createTokens(sql, KEYWORD, NUMBER, KEYWORD, IDENTIFIER));
+        assertThat(actual.getText(), is("SELECT100FROMt_user"));
+        SelectContext actualSelect = (SelectContext) actual.getChild(0);
+        assertThat(actualSelect.getParent(), is(actual));
+        assertThat(actualSelect.start.getInputStream().getText(Interval.of(actualSelect.start.getStartIndex(), actualSelect.stop.getStopIndex())), is(sql));
+        assertThat(actualSelect.value.getText(), is("100"));
+        assertThat(actualSelect.value.getStartIndex(), is(7));
+        assertThat(actualSelect.value.getStopIndex(), is(9));
+        assertThat(actualSelect.table, instanceOf(SimpleTableContext.class));
+        assertThat(actualSelect.table, is(actualSelect.getChild(3)));
+        assertThat(actualSelect.table.getParent(), is(actualSelect));
+        assertThat(actualSelect.table.getText(), is("t_user"));
+    }
+    
+    @Test
+    public void assertRebindNotChangeTemplate() {
+        template.rebind(createTokens("SELECT 100 FROM t_user", KEYWORD, NUMBER, KEYWORD, IDENTIFIER));
+        assertThat(templateParseTree.getText(), is("SELECT1FROMt_order"));
+        assertThat(((SelectContext) templateParseTree.getChild(0)).value.getText(), is("1"));
+    }
+    
+    private static List<Token> createTokens(final String sql, final int... tokenTypes) {
+        CharStream charStream = CharStreams.fromString(sql);
+        List<Token> result = new ArrayList<>(tokenTypes.length);
+        int startIndex = 0;
+        for (String each : sql.split(" ")) {
+            CommonToken token = new CommonToken(new Pair<>(null, charStream), tokenTypes[result.size()], Token.DEFAULT_CHANNEL, startIndex, startIndex + each.length() - 1);
+            token.setTokenIndex(result.size());
+            result.add(token);
+            startIndex += each.length() + 1;
+        }
+        return result;
+    }
+    
+    private static ParseTree createParseTree(final List<Token> tokens) {
+        ParserRuleContext result = new ParserRuleContext(null, 0);
+        SelectContext select = new SelectContext(result, 1);
+        select.start = tokens.get(0);
+        select.stop = tokens.get(3);
+        select.addChild(new TerminalNodeImpl(tokens.get(0)));
+        select.addChild(new TerminalNodeImpl(tokens.get(1)));
+        select.value = tokens.get(1);
+        select.addChild(new TerminalNodeImpl(tokens.get(2)));
+        TableContext table = new SimpleTableContext(new TableContext(select, 2));
+        table.start = tokens.get(3);
+        table.stop = tokens.get(3);
+        table.addChild(new TerminalNodeImpl(tokens.get(3)));
+        select.addChild(table);
+        select.table = table;
+        result.addChild(select);
+        return result;
+    }
+    
+    public static final class SelectContext extends ParserRuleContext {
+        
+        // CHECKSTYLE:OFF
+        public Token value;
+        
+        public TableContext table;
+        // CHECKSTYLE:ON
+        
+        public SelectContext(final ParserRuleContext parent, final int invokingState) {
+            super(parent, invokingState);
+        }
+    }
+    
+    public static class TableContext extends ParserRuleContext {
+        
+        public TableContext(final ParserRuleContext parent, final int invokingState) {
+            super(parent, invokingState);
+        }
+    }
+    
+    public static final class SimpleTableContext extends TableContext {
+        
+        public SimpleTableContext(final TableContext context) {
+            super(null, 0);
+            copyFrom(context);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class SQLFingerprintGeneratorTest {
+    
+    private static final int KEYWORD = 1;
+    
+    private static final int NUMBER = 2;
+    
+    private static final int STRING = 3;
+    
+    @Test
+    public void assertGenerateSameFingerprintForDifferentTexts() {
+        assertThat(SQLFingerprintGenerator.generate(createTokens(Token.DEFAULT_CHANNEL, "SELECT", KEYWORD, "1", NUMBER)),
+                is(SQLFingerprintGenerator.generate(createTokens(Token.DEFAULT_CHANNEL, "select", KEYWORD, "1000", NUMBER))));
+    }
+    
+    @Test
+    public void assertGenerateDifferentFingerprintForDifferentTokenTypes() {
+        assertThat(SQLFingerprintGenerator.generate(createTokens(Token.DEFAULT_CHANNEL, "SELECT", KEYWORD, "1", NUMBER)),
+                not(SQLFingerprintGenerator.generate(createTokens(Token.DEFAULT_CHANNEL, "SELECT", KEYWORD, "'1'", STRING))));
+    }
+    
+    @Test
+    public void assertGenerateDifferentFingerprintForDifferentTokenChannels() {
+        assertThat(SQLFingerprintGenerator.generate(createTokens(Token.DEFAULT_CHANNEL, "SELECT", KEYWORD, "1", NUMBER)),
+                not(SQLFingerprintGenerator.generate(createTokens(Token.HIDDEN_CHANNEL, "SELECT", KEYWORD, "1", NUMBER))));
+    }
+    
+    private static List<Token> createTokens(final int lastTokenChannel, final String firstText, final int firstType, final String lastText, final int lastType) {
+        CommonToken lastToken = new CommonToken(lastType, lastText);
+        lastToken.setChannel(lastTokenChannel);
+        return Arrays.asList(new CommonToken(firstType, firstText), lastToken);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLFingerprintRegistryTest {
+    
+    private final List<Token> tokens = Collections.emptyList();
+    
+    private final ParseTree parseTree = mock(ParseTree.class);
+    
+    @Before
+    public void setUp() {
+        SQLFingerprintRegistry.init(16);
+    }
+    
+    @After
+    public void tearDown() {
+        SQLFingerprintRegistry.init(0);
+    }
+    
+    @Test
+    public void assertFindParseTreeWithoutTemplate() {
+        long lookupCount = SQLFingerprintRegistry.getLookupCount();
+        assertFalse(SQLFingerprintRegistry.findParseTree("MySQL", "SELECT ?", tokens).isPresent());
+        assertThat(SQLFingerprintRegistry.getLookupCount() - lookupCount, is(1L));
+    }
+    
+    @Test
+    public void assertFindParseTree() {
+        SQLFingerprintRegistry.register("MySQL", "SELECT ?", mockTemplate());
+        long hitCount = SQLFingerprintRegistry.getHitCount();
+        assertThat(SQLFingerprintRegistry.findParseTree("MySQL", "SELECT ?", tokens), is(Optional.of(parseTree)));
+        assertThat(SQLFingerprintRegistry.getHitCount() - hitCount, is(1L));
+    }
+    
+    @Test
+    public void assertFindParseTreeWithSavedParseNanos() {
+        SQLFingerprintRegistry.register("MySQL", "SELECT ?", mockTemplate());
+        long savedParseNanos = SQLFingerprintRegistry.getSavedParseNanos();
+        assertTrue(SQLFingerprintRegistry.findParseTree("MySQL", "SELECT ?", tokens).isPresent());
+        assertTrue(SQLFingerprintRegistry.getSavedParseNanos() > savedParseNanos);
+    }
+    
+    @Test
+    public void assertFindParseTreeOfOtherDatabaseType() {
+        SQLFingerprintRegistry.register("MySQL", "SELECT ?", mockTemplate());
+        assertFalse(SQLFingerprintRegistry.findParseTree("PostgreSQL", "SELECT ?", tokens).isPresent());
+    }
+    
+    @Test
+    public void assertDisabled() {
+        SQLFingerprintRegistry.init(0);
+        assertFalse(SQLFingerprintRegistry.isEnabled());
+        SQLFingerprintRegistry.register("MySQL", "SELECT ?", mockTemplate());
+        assertFalse(SQLFingerprintRegistry.findParseTree("MySQL", "SELECT ?", tokens).isPresent());
+        SQLFingerprintRegistry.init(16);
+        assertTrue(SQLFingerprintRegistry.isEnabled());
+    }
+    
+    private ParseTreeTemplate mockTemplate() {
+        ParseTreeTemplate result = mock(ParseTreeTemplate.class);
+        when(result.rebind(tokens)).thenReturn(parseTree);
+        when(result.getParseNanos()).thenReturn(1000000000L);
+        return result;
+    }
+}
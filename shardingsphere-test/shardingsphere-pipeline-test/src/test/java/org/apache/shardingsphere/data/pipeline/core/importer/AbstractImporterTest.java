@@ -42,6 +42,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -51,7 +52,9 @@ import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -102,7 +105,19 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    @Test
+    public void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(getDataRecord("INSERT", 1), getDataRecord("INSERT", 2), new FinishedRecord(new PlaceholderPosition())));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, times(2)).setObject(anyInt(), eq(10));
+        verify(preparedStatement).executeUpdate();
+        verify(connection).commit();
     }
     
     @Test
@@ -113,7 +128,7 @@ public final class AbstractImporterTest {
         jdbcImporter.run();
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
     }
     
     @Test
@@ -129,6 +144,17 @@ public final class AbstractImporterTest {
         verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    public void assertBatchUpdateDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(getDataRecord("UPDATE", 1), getDataRecord("UPDATE", 2), new FinishedRecord(new PlaceholderPosition())));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(connection).commit();
+    }
+    
     @Test
     public void assertUpdatePrimaryKeyDataRecord() throws SQLException {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
@@ -166,10 +192,14 @@ public final class AbstractImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -98,6 +98,28 @@ public final class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyPosition) task.getProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithNegativeIntPrimary() throws SQLException {
+        initNegativeIntPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(10));
+        InventoryTask task = actual.get(0);
+        assertThat(((IntegerPrimaryKeyPosition) task.getProgress().getPosition()).getBeginValue(), is(-49L));
+        assertThat(((IntegerPrimaryKeyPosition) task.getProgress().getPosition()).getEndValue(), is(-40L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSkewedIntPrimary() throws SQLException {
+        initSkewedIntPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is(10L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(8).getProgress().getPosition()).getBeginValue(), is(81L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(8).getProgress().getPosition()).getEndValue(), is(99999L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getBeginValue(), is(100000L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(109000L));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
@@ -146,6 +168,35 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initNegativeIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = -49; i <= 50; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+        }
+    }
+    
+    private void initSkewedIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 90; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+            for (int i = 100000; i <= 109000; i += 1000) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (